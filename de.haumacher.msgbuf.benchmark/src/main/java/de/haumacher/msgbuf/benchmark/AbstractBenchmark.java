@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Common configuration of all benchmarks.
+ *
+ * <p>
+ * Each benchmark is measured for throughput and for its latency distribution. The allocation rate is reported when
+ * running with the GC profiler: <code>java -jar target/benchmarks.jar -prof gc</code>.
+ * </p>
+ *
+ * <p>
+ * The settings are fixed to make results of different runs comparable. They can be overridden from the command line,
+ * e.g. <code>-f 3 -wi 10</code>.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public abstract class AbstractBenchmark {
+
+	// Pure configuration holder.
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.haumacher.msgbuf.binary.BinaryDataObject;
+import de.haumacher.msgbuf.binary.ByteArrayDataReader;
+import de.haumacher.msgbuf.binary.OctetDataReader;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
+import de.haumacher.msgbuf.data.DataObject;
+
+/**
+ * Benchmark for the binary codec {@link OctetDataWriter} and {@link OctetDataReader}.
+ */
+public class BinaryBenchmark extends AbstractBenchmark {
+
+	/**
+	 * The kind of message to process.
+	 */
+	@Param
+	public Sample sample;
+
+	private BinaryDataObject _message;
+
+	private byte[] _data;
+
+	/**
+	 * Creates the input message and its serialized form.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		_message = (BinaryDataObject) sample.create();
+		_data = write();
+	}
+
+	/**
+	 * Serializes the message to a byte array.
+	 */
+	@Benchmark
+	public byte[] write() throws IOException {
+		OctetDataWriter out = new OctetDataWriter();
+		_message.writeTo(out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Parses the message from an input stream.
+	 */
+	@Benchmark
+	public DataObject readStream() throws IOException {
+		return sample.readBinary(new OctetDataReader(new ByteArrayInputStream(_data)));
+	}
+
+	/**
+	 * Parses the message directly from a byte array.
+	 */
+	@Benchmark
+	public DataObject readArray() throws IOException {
+		return sample.readBinary(new ByteArrayDataReader(_data));
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.haumacher.msgbuf.binary.ByteArrayDataReader;
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.DataWriter;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
+import de.haumacher.msgbuf.graph.DefaultScope;
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.JsonWriter;
+import test.graph.data.Circle;
+import test.graph.data.Group;
+import test.graph.data.Shape;
+
+/**
+ * Benchmark for shared graph synchronization with {@link DefaultScope#createPatch(JsonWriter)} and
+ * {@link DefaultScope#applyChanges(JsonReader)}, or their binary counterparts {@link DefaultScope#createPatch(DataWriter)}
+ * and {@link DefaultScope#applyChanges(DataReader)}.
+ *
+ * <p>
+ * Each operation modifies all shapes of a group on the server and transmits the resulting patch.
+ * </p>
+ */
+public class GraphBenchmark extends AbstractBenchmark {
+
+	/**
+	 * The number of shapes in the synchronized group.
+	 */
+	@Param({ "10", "1000" })
+	public int size;
+
+	private DefaultScope _server;
+
+	private DefaultScope _client;
+
+	private Group _serverGroup;
+
+	private int _version;
+
+	/**
+	 * Creates a shared graph on the server and transmits it to the client.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		_server = DefaultScope.newServerInstance();
+		_client = DefaultScope.newClientInstance();
+
+		_serverGroup = Group.create();
+		for (int n = 0; n < size; n++) {
+			_serverGroup.addShape(Circle.create().setRadius(n).setXCoordinate(n).setYCoordinate(-n));
+		}
+		_serverGroup.registerListener(_server);
+
+		StringW data = new StringW();
+		_serverGroup.writeTo(_server, new JsonWriter(data));
+		Shape.readShape(_client, new JsonReader(new StringR(data.toString())));
+	}
+
+	/**
+	 * Modifies the server graph and exports the patch.
+	 */
+	@Benchmark
+	public String createPatch() throws IOException {
+		modify();
+		return patch();
+	}
+
+	/**
+	 * Modifies the server graph, exports the patch, and applies it to the client graph.
+	 */
+	@Benchmark
+	public void applyChanges() throws IOException {
+		modify();
+		_client.applyChanges(new JsonReader(new StringR(patch())));
+	}
+
+	/**
+	 * Modifies the server graph and exports a binary patch.
+	 */
+	@Benchmark
+	public byte[] createPatchBinary() throws IOException {
+		modify();
+		return patchBinary();
+	}
+
+	/**
+	 * Modifies the server graph, exports a binary patch, and applies it to the client graph.
+	 */
+	@Benchmark
+	public void applyChangesBinary() throws IOException {
+		modify();
+		_client.applyChanges(new ByteArrayDataReader(patchBinary()));
+	}
+
+	private void modify() {
+		int version = ++_version;
+		for (Shape shape : _serverGroup.getShapes()) {
+			shape.setXCoordinate(version);
+		}
+	}
+
+	private String patch() throws IOException {
+		StringW buffer = new StringW();
+		_server.createPatch(new JsonWriter(buffer));
+		return buffer.toString();
+	}
+
+	private byte[] patchBinary() throws IOException {
+		OctetDataWriter out = new OctetDataWriter();
+		_server.createPatch(out);
+		return out.toByteArray();
+	}
+
+}
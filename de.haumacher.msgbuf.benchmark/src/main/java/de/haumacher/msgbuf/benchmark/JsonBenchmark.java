@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.haumacher.msgbuf.data.DataObject;
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.JsonWriter;
+
+/**
+ * Benchmark for the JSON codec {@link JsonWriter} and {@link JsonReader}.
+ */
+public class JsonBenchmark extends AbstractBenchmark {
+
+	/**
+	 * The kind of message to process.
+	 */
+	@Param
+	public Sample sample;
+
+	private DataObject _message;
+
+	private String _json;
+
+	/**
+	 * Creates the input message and its serialized form.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		_message = sample.create();
+		_json = write();
+	}
+
+	/**
+	 * Serializes the message to a JSON string.
+	 */
+	@Benchmark
+	public String write() throws IOException {
+		StringW buffer = new StringW();
+		_message.writeTo(new JsonWriter(buffer));
+		return buffer.toString();
+	}
+
+	/**
+	 * Parses the message from a JSON string.
+	 */
+	@Benchmark
+	public DataObject read() throws IOException {
+		return sample.readJson(new JsonReader(new StringR(_json)));
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.benchmark;
+
+import test.hierarchy.data.Car;
+import test.hierarchy.data.Circle;
+import test.hierarchy.data.Color;
+import test.hierarchy.data.Group;
+import test.hierarchy.data.Rectangle;
+import test.hierarchy.data.Shape;
+import test.maptype.data.MyMessage;
+import test.maptype.data.Project;
+import test.types.data.SearchRequest;
+
+/**
+ * Representative messages used as benchmark input.
+ *
+ * <p>
+ * All messages are built deterministically, so that measurements of different runs are comparable.
+ * </p>
+ */
+public class Messages {
+
+	/**
+	 * A flat message with only primitive fields.
+	 */
+	public static SearchRequest searchRequest() {
+		return SearchRequest.create()
+			.setQuery("msgbuf benchmark query")
+			.setPageNumber(42)
+			.setResultPerPage(100);
+	}
+
+	/**
+	 * A polymorphic tree with the given number of shapes in each of its groups.
+	 *
+	 * @param depth
+	 *        The nesting depth of groups.
+	 * @param width
+	 *        The number of shapes in each group.
+	 */
+	public static Group shapes(int depth, int width) {
+		Group result = Group.create().setXCoordinate(depth).setYCoordinate(width).setColor(Color.BLUE);
+		for (int n = 0; n < width; n++) {
+			Shape shape;
+			if (depth > 1 && n == 0) {
+				shape = shapes(depth - 1, width);
+			} else {
+				switch (n % 3) {
+					case 0:
+						shape = Circle.create().setRadius(n * 10).setColor(Color.RED);
+						break;
+					case 1:
+						shape = Rectangle.create().setWidth(n * 20).setHeight(n * 15).setColor(Color.GREEN);
+						break;
+					default:
+						shape = Car.create()
+							.setWheel1(Circle.create().setRadius(5).setXCoordinate(n))
+							.setWheel2(Circle.create().setRadius(5).setXCoordinate(n + 40))
+							.setBody(Rectangle.create().setWidth(60).setHeight(20));
+						break;
+				}
+				shape.setXCoordinate(n * 100).setYCoordinate(-n * 50);
+			}
+			result.addShape(shape);
+		}
+		return result;
+	}
+
+	/**
+	 * A message with map fields of the given size.
+	 */
+	public static MyMessage maps(int size) {
+		MyMessage result = MyMessage.create();
+		for (int n = 0; n < size; n++) {
+			result.putProject("project-" + n, Project.create().setName("Project " + n).setCost(n * 1.25));
+			result.putRating(n, "rating-" + n);
+		}
+		return result;
+	}
+
+}
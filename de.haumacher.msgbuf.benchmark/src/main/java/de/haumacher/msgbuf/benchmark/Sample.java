@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.benchmark;
+
+import java.io.IOException;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import de.haumacher.msgbuf.binary.BinaryDataObject;
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.data.DataObject;
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.xml.XmlSerializable;
+import test.hierarchy.data.Shape;
+import test.maptype.data.MyMessage;
+import test.types.data.SearchRequest;
+
+/**
+ * Kinds of benchmark input messages selectable as JMH parameter.
+ *
+ * @see Messages
+ */
+public enum Sample {
+
+	/**
+	 * @see Messages#searchRequest()
+	 */
+	SEARCH {
+		@Override
+		public DataObject create() {
+			return Messages.searchRequest();
+		}
+
+		@Override
+		public DataObject readJson(JsonReader in) throws IOException {
+			return SearchRequest.readSearchRequest(in);
+		}
+
+		@Override
+		public DataObject readBinary(DataReader in) throws IOException {
+			return SearchRequest.readSearchRequest(in);
+		}
+
+		@Override
+		public DataObject readXml(XMLStreamReader in) throws XMLStreamException {
+			return SearchRequest.readSearchRequest(in);
+		}
+	},
+
+	/**
+	 * @see Messages#shapes(int, int)
+	 */
+	SHAPES {
+		@Override
+		public DataObject create() {
+			return Messages.shapes(3, 10);
+		}
+
+		@Override
+		public DataObject readJson(JsonReader in) throws IOException {
+			return Shape.readShape(in);
+		}
+
+		@Override
+		public DataObject readBinary(DataReader in) throws IOException {
+			return Shape.readShape(in);
+		}
+
+		@Override
+		public DataObject readXml(XMLStreamReader in) throws XMLStreamException {
+			return Shape.readShape(in);
+		}
+	},
+
+	/**
+	 * @see Messages#maps(int)
+	 */
+	MAPS {
+		@Override
+		public DataObject create() {
+			return Messages.maps(100);
+		}
+
+		@Override
+		public DataObject readJson(JsonReader in) throws IOException {
+			return MyMessage.readMyMessage(in);
+		}
+
+		@Override
+		public DataObject readBinary(DataReader in) throws IOException {
+			return MyMessage.readMyMessage(in);
+		}
+
+		@Override
+		public DataObject readXml(XMLStreamReader in) throws XMLStreamException {
+			return MyMessage.readMyMessage(in);
+		}
+	},
+
+	;
+
+	/**
+	 * Creates the input message.
+	 *
+	 * <p>
+	 * All messages are generated with default options and therefore also implement {@link BinaryDataObject} and
+	 * {@link XmlSerializable}.
+	 * </p>
+	 */
+	public abstract DataObject create();
+
+	/**
+	 * Reads a message of this kind from JSON.
+	 */
+	public abstract DataObject readJson(JsonReader in) throws IOException;
+
+	/**
+	 * Reads a message of this kind from its binary encoding.
+	 */
+	public abstract DataObject readBinary(DataReader in) throws IOException;
+
+	/**
+	 * Reads a message of this kind from XML.
+	 */
+	public abstract DataObject readXml(XMLStreamReader in) throws XMLStreamException;
+
+}
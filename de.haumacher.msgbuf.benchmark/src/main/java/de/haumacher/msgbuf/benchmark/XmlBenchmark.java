@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.benchmark;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.haumacher.msgbuf.data.DataObject;
+import de.haumacher.msgbuf.xml.XmlSerializable;
+
+/**
+ * Benchmark for the XML serialization generated by the <code>XmlStreamingPlugin</code>.
+ */
+public class XmlBenchmark extends AbstractBenchmark {
+
+	/**
+	 * The kind of message to process.
+	 *
+	 * <p>
+	 * {@link Sample#MAPS} is excluded, since map fields are not supported in XML.
+	 * </p>
+	 */
+	@Param({ "SEARCH", "SHAPES" })
+	public Sample sample;
+
+	private XmlSerializable _message;
+
+	private String _xml;
+
+	private XMLOutputFactory _outputFactory;
+
+	private XMLInputFactory _inputFactory;
+
+	/**
+	 * Creates the input message and its serialized form.
+	 */
+	@Setup
+	public void setup() throws XMLStreamException {
+		_outputFactory = XMLOutputFactory.newDefaultFactory();
+		_inputFactory = XMLInputFactory.newDefaultFactory();
+		_message = (XmlSerializable) sample.create();
+		_xml = write();
+	}
+
+	/**
+	 * Serializes the message to an XML string.
+	 */
+	@Benchmark
+	public String write() throws XMLStreamException {
+		StringWriter buffer = new StringWriter();
+		XMLStreamWriter out = _outputFactory.createXMLStreamWriter(buffer);
+		_message.writeTo(out);
+		out.close();
+		return buffer.toString();
+	}
+
+	/**
+	 * Parses the message from an XML string.
+	 */
+	@Benchmark
+	public DataObject read() throws XMLStreamException {
+		return sample.readXml(_inputFactory.createXMLStreamReader(new StringReader(_xml)));
+	}
+
+}
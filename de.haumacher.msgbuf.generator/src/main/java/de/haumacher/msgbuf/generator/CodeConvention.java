@@ -109,6 +109,10 @@ public class CodeConvention {
 		return allUpperCase(field.getName()) + "__PROP";
 	}
 
+	public static String jsonNameConstant(Field field) {
+		return allUpperCase(field.getName()) + "__NAME";
+	}
+
 	/**
 	 * Name of the factory method for the given {@link MessageDef}.
 	 * 
@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import de.haumacher.msgbuf.binary.BinaryUtil;
 import de.haumacher.msgbuf.generator.ast.Constant;
 import de.haumacher.msgbuf.generator.ast.DefinitionFile;
 import de.haumacher.msgbuf.generator.ast.EnumDef;
@@ -116,6 +117,27 @@ public class EnumGenerator extends AbstractJavaGenerator {
 		}
 		line("}");
 		
+		nl();
+		line("/** The number of bytes written by {@link #writeTo(de.haumacher.msgbuf.binary.DataWriter)}. */");
+		line("public final int binarySize() {");
+		{
+			Set<Integer> sizes = new HashSet<>();
+			for (Constant constant : constants) {
+				sizes.add(Integer.valueOf(BinaryUtil.sizeVarInt(constant.getIndex())));
+			}
+			if (sizes.size() <= 1) {
+				line("return " + (sizes.isEmpty() ? 1 : sizes.iterator().next().intValue()) + ";");
+			} else {
+				line("switch (this) {");
+				for (Constant constant : constants) {
+					line("case " + CodeConvention.classifierName(constant) + ": return " + BinaryUtil.sizeVarInt(constant.getIndex()) + ";");
+				}
+				line("default: return 1;");
+				line("}");
+			}
+		}
+		line("}");
+		
 		nl();
 		line("/** Reads a new instance from the given binary reader. */");
 		line("public static " + CodeConvention.typeName(_def) + " " + CodeConvention.readerName(_def) + "(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {");
@@ -15,6 +15,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import de.haumacher.msgbuf.binary.BinaryUtil;
 import de.haumacher.msgbuf.binary.DataType;
 import de.haumacher.msgbuf.generator.ast.CustomType;
 import de.haumacher.msgbuf.generator.ast.Definition;
@@ -45,6 +46,9 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 	private boolean _graph;
 	private boolean _json;
 	private boolean _binary;
+	private boolean _graphBinary;
+	private boolean _lazyBinary;
+	private boolean _compactJson;
 	private boolean _reflection;
 	private boolean _visitor;
 	private boolean _visitEx;
@@ -66,6 +70,9 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		_graph = isTrue(options.get("SharedGraph"), false);
 		_json = _graph || !isTrue(options.get("NoJson"), false);
 		_binary = !_graph && !isTrue(options.get("NoBinary"), false);
+		_graphBinary = _graph && !isTrue(options.get("NoBinary"), false);
+		_lazyBinary = isTrue(options.get("LazyBinary"), false);
+		_compactJson = _json && !_graph && isTrue(options.get("CompactJson"), false);
 		_listener = _graph || !isTrue(options.get("NoListener"), false);
 		_reflection = _listener || !isTrue(options.get("NoReflection"), false);
 		_visitor = !isTrue(options.get("NoVisitor"), false);
@@ -101,6 +108,24 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		_binary = binary;
 	}
 	
+	/**
+	 * Whether fields read from binary input are decoded on first access.
+	 * 
+	 * <p>
+	 * Shared graph nodes are read through their scope and are always decoded eagerly.
+	 * </p>
+	 */
+	private boolean isLazy() {
+		return _binary && _lazyBinary && !_interface && !_graph;
+	}
+	
+	/**
+	 * Whether the given field is decoded on first access.
+	 */
+	private boolean isLazy(Field field) {
+		return isLazy() && !field.isTransient() && !field.isDerived();
+	}
+	
 	/**
 	 * Whether reflective access should be generated.
 	 */
@@ -128,11 +153,21 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		} else {
 			modifier = _interface ? "" : "static";
 		}
+		String comment;
 		if (_interface || _noInterfaces) {
-			docComment(_def.getComment());
+			comment = _def.getComment();
 		} else {
-			docComment("Implementation of {@link " + qTypeName(_def) + "}.");
+			comment = "Implementation of {@link " + qTypeName(_def) + "}.";
+		}
+		if (isLazy()) {
+			comment = (comment.isEmpty() ? "" : comment + "\n\n")
+				+ "<p>\n"
+				+ "Fields of an instance read from binary input are decoded on first access. Even a getter modifies the\n"
+				+ "instance, when called for the first time. Therefore, an instance must not be shared between threads without\n"
+				+ "synchronization, not even for read-only access.\n"
+				+ "</p>";
 		}
+		docComment(comment);
 		line("public", modifier, mkAbstract(), (_interface ? "interface" : "class"), (_interface || _noInterfaces ? typeName(_def) : implName(_def)), getExtends(), getImplements(), "{");
 		generateClassContents();
 		nl();
@@ -293,6 +328,12 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		
 		if (_binary) {
 			generateBinaryIO();
+		} else if (_compactJson) {
+			binaryTypeId();
+		}
+		
+		if (_graphBinary) {
+			generateGraphBinary();
 		}
 		
 		if (!_interface) {
@@ -430,10 +471,10 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 			}
 		}
 		
-		if (_binary && (_interface || _noInterfaces)) {
-			if (!_def.isAbstract() && getRoot(_def).isAbstract()) {
+		if ((_binary || _json) && (_interface || _noInterfaces)) {
+			if ((_binary || _compactJson) && !_def.isAbstract() && getRoot(_def).isAbstract()) {
 				nl();
-				line("/** Identifier for the {@link " + qTypeName(_def) + "} type in binary format. */");
+				line("/** Identifier for the {@link " + qTypeName(_def) + "} type in " + (_binary ? "binary format" : "compact JSON format") + ". */");
 				line("static final int " + mkBinaryTypeConstant(_def) + " = " + _def.getId() + ";");
 			}
 			
@@ -443,7 +484,11 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				}
 				
 				nl();
-				line("/** Identifier for the property {@link #" + getterCall(field) + "} in binary format. */");
+				if (_binary) {
+					line("/** Identifier for the property {@link #" + getterCall(field) + "} in binary format. */");
+				} else {
+					line("/** Identifier for the property {@link #" + getterCall(field) + "}. */");
+				}
 				line("static final int " + binaryConstant(field) + " = " + field.getIndex() + ";");
 			}
 		}
@@ -574,6 +619,12 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 			
 			line("private" + mkTransient(field) + mkFinal(field) +  " " + mkType(field) + " " + fieldMemberName(field) + mkInitializer(field) + ";");
 		}
+		
+		if (isLazy() && isBaseClass()) {
+			nl();
+			line("/** Binary input of fields that have not yet been decoded. */");
+			line("private de.haumacher.msgbuf.binary.LazyFields _lazy;");
+		}
 	}
 
 	private void generateKindLookup() {
@@ -652,6 +703,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				line("@Override");
 			}
 			line("public final " + mkType(field) + " " + getterName(field) + "()" + " {");
+			lazyLoad(field);
 			line("return " + fieldMemberName(field) + ";");
 			line("}");
 		}
@@ -706,6 +758,10 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 					stringLiteral("Property '" + field.getName() + "' cannot be null.") + ");");
 			}
 			
+			if (isLazy(field)) {
+				line("dropField(" + binaryConstant(field) + ");");
+			}
+			
 			if (field.isRepeated()) {
 				setterReset(field);
 				line(fieldMemberName(field) + ".addAll(value);");
@@ -894,6 +950,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				line("/** Implementation of {@link #" + adderName(field) + "(" + mkType(type) + ")} without chain call utility. */");
 				line("protected final void " + internalAdderName(field) + "(" + mkType(type) + " " + "value" + ")" + " {");
 				{
+					lazyLoad(field);
 					adderInitNullable(field);
 					line(fieldMemberName(field) + ".add(value);");
 				}
@@ -917,6 +974,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				}
 				line(setterModifier(field) + "final void " + removerName(field) + "(" + mkType(type) + " " + "value" + ")" + " {");
 				{
+					lazyLoad(field);
 					adderInitNullable(field);
 					line(fieldMemberName(field) + ".remove(value);");
 				}
@@ -930,6 +988,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				line("/** Implementation of {@link #" + adderName(field) + "(" + mkType(mapType.getKeyType()) + ", " + mkType(mapType.getValueType()) + ")} without chain call utility. */");
 				line("protected final void  " + internalAdderName(field) + "(" + mkType(mapType.getKeyType()) + " key" + ", " + mkType(mapType.getValueType()) + " value" + ")" + " {");
 				{
+					lazyLoad(field);
 					adderInitNullable(field);
 					line("if (" + fieldMemberName(field) + ".containsKey(key)) {");
 					{
@@ -959,6 +1018,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				}
 				line(setterModifier(field) + "final void " + removerName(field) + "(" + mkType(mapType.getKeyType()) + " key" + ")" + " {");
 				{
+					lazyLoad(field);
 					adderInitNullable(field);
 					line(fieldMemberName(field) + ".remove(key);");
 				}
@@ -1009,6 +1069,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				}
 				line("public final " + "boolean" + " " + hasName(field) + "()" + " {");
 				{
+					lazyLoad(field);
 					line("return _" + name(field) + " != null;");
 				}
 				line("}");
@@ -1016,6 +1077,12 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		}
 	}
 
+	private void lazyLoad(Field field) {
+		if (isLazy(field)) {
+			line("loadField(" + binaryConstant(field) + ");");
+		}
+	}
+
 	private void hasValueDoc(Field field) {
 		line("/**");
 		line(" * Checks, whether {@link #" + getterName(field) + "()"+ "} has a value.");
@@ -1231,6 +1298,19 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		line("}");
 	}
 
+	private void jsonTypeSwitch() {
+		line("switch (type) {");
+		for (MessageDef specialization : Util.concreteTransitiveSpecializations(_def)) {
+			if (_graph) {
+				line("case " + jsonTypeConstantRef(specialization) + ": result = " + qTypeName(specialization) + ".create(); break;");
+			} else {
+				line("case " + jsonTypeConstantRef(specialization) + ": result = " + qTypeName(specialization) + "." + readerName(specialization) + "(in); break;");
+			}
+		}
+		line("default: in.skipValue(); result = null; break;");
+		line("}");
+	}
+
 	private void generateJson() {
 		if (_interface || _noInterfaces) {
 			nl();
@@ -1248,20 +1328,29 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				if (_def.isAbstract()) {
 					line(thisType() + " result;");
 					line("in.beginArray();");
-					line("String type = in.nextString();");
-					if (_graph) {
-						line("int id = in.nextInt();");
-					}
-					line("switch (type) {");
-					for (MessageDef specialization : Util.concreteTransitiveSpecializations(_def)) {
+					if (_compactJson) {
+						line("if (in.peek() == de.haumacher.msgbuf.json.JsonToken.NUMBER) {");
+						{
+							line("switch (in.nextInt()) {");
+							for (MessageDef specialization : Util.concreteTransitiveSpecializations(_def)) {
+								line("case " + mkBinaryTypeConstantRef(specialization) + ": result = " + qTypeName(specialization) + "." + readerName(specialization) + "(in); break;");
+							}
+							line("default: in.skipValue(); result = null; break;");
+							line("}");
+						}
+						line("} else {");
+						{
+							line("String type = in.nextString();");
+							jsonTypeSwitch();
+						}
+						line("}");
+					} else {
+						line("String type = in.nextString();");
 						if (_graph) {
-							line("case " + jsonTypeConstantRef(specialization) + ": result = " + qTypeName(specialization) + ".create(); break;");
-						} else {
-							line("case " + jsonTypeConstantRef(specialization) + ": result = " + qTypeName(specialization) + "." + readerName(specialization) + "(in); break;");
+							line("int id = in.nextInt();");
 						}
+						jsonTypeSwitch();
 					}
-					line("default: in.skipValue(); result = null; break;");
-					line("}");
 					if (_graph) {
 						line("if (result != null) {");
 						{
@@ -1298,7 +1387,19 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 					line("public final void writeTo(" + scopeParam() + "de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {");
 					if (_def.isAbstract()) {
 						line("out.beginArray();");
-						line("out.value(jsonType());");
+						if (_compactJson) {
+							line("if (out.isReadable()) {");
+							{
+								line("out.value(jsonType());");
+							}
+							line("} else {");
+							{
+								line("out.value(typeId());");
+							}
+							line("}");
+						} else {
+							line("out.value(jsonType());");
+						}
 						line("writeContent(" + scopeArg() + "out);");
 						line("out.endArray();");
 					} else {
@@ -1309,6 +1410,20 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 			}
 	
 			if (hasFields()) {
+				for (Field field : getFields()) {
+					if (field.isTransient() || field.isDerived()) {
+						continue;
+					}
+					nl();
+					if (_compactJson) {
+						line("/** Pre-encoded JSON name of {@link #" + constant(field) + "} with its compact form {@link #" + binaryConstant(field) + "}. */");
+						line("private static final de.haumacher.msgbuf.json.JsonName " + jsonNameConstant(field) + " = de.haumacher.msgbuf.json.JsonName.of(" + constant(field) + ", " + binaryConstant(field) + ");");
+					} else {
+						line("/** Pre-encoded JSON name of {@link #" + constant(field) + "}. */");
+						line("private static final de.haumacher.msgbuf.json.JsonName " + jsonNameConstant(field) + " = de.haumacher.msgbuf.json.JsonName.of(" + constant(field) + ");");
+					}
+				}
+
 				nl();
 				line("@Override");
 				line("protected void writeFields(" + scopeParam() + "de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {");
@@ -1322,7 +1437,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 						if (nullable) {
 							line("if (" + hasName(field) + "()" + ") {");
 						}
-						line("out.name(" + constant(field) + ");");
+						line("out.name(" + jsonNameConstant(field) + ");");
 						writeFieldValue(field);
 						if (nullable) {
 							line("}");
@@ -1362,9 +1477,35 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 					line("}");
 				}
 				
+				List<Field> names = jsonReadableFields(_def);
+				nl();
+				if (_compactJson) {
+					line("/** Table of all JSON property names and their compact forms of this type including inherited properties. */");
+					line("private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(");
+					{
+						line("new String[] {" + names.stream().map(f -> getFieldNameString(f) + ", " + CodeUtil.stringLiteral(Integer.toString(f.getIndex()))).collect(Collectors.joining(", ")) + "},");
+						line("new int[] {" + names.stream().map(f -> f.getIndex() + ", " + f.getIndex()).collect(Collectors.joining(", ")) + "});");
+					}
+				} else {
+					line("/** Table of all JSON property names of this type including inherited properties. */");
+					line("private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(");
+					{
+						line("new String[] {" + names.stream().map(f -> getFieldNameString(f)).collect(Collectors.joining(", ")) + "},");
+						line("new int[] {" + names.stream().map(f -> Integer.toString(f.getIndex())).collect(Collectors.joining(", ")) + "});");
+					}
+				}
+				
+				nl();
+				line("@Override");
+				line("protected de.haumacher.msgbuf.json.JsonNames jsonNames() {");
+				{
+					line("return JSON_NAMES;");
+				}
+				line("}");
+				
 				nl();
 				line("@Override");
-				line((_graph ? "public" : "protected") + " void readField(" + scopeParam() + "de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {");
+				line("protected void readField(" + scopeParam() + "de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {");
 				{
 					line("switch (field) {");
 					for (Field field : getFields()) {
@@ -1444,6 +1585,21 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		return _graph ? "scope, " : "";
 	}
 
+	/**
+	 * All fields of the given type and its super types that are read from JSON, starting with the fields of the root
+	 * type.
+	 */
+	private static List<Field> jsonReadableFields(MessageDef def) {
+		List<Field> result = def.getExtendedDef() == null ? new ArrayList<>() : jsonReadableFields(def.getExtendedDef());
+		for (Field field : def.getFields()) {
+			if (field.isTransient() || field.isDerived()) {
+				continue;
+			}
+			result.add(field);
+		}
+		return result;
+	}
+
 	private void jsonReadField(Field field) {
 		if (field.isTransient()) {
 			return;
@@ -1454,7 +1610,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		
 		Type type = field.getType();
 		if (field.isRepeated()) {
-			line("case " + constant(field) + ": {");
+			line("case " + binaryConstant(field) + ": {");
 			{
 				line(mkType(field)+ " newValue = new java.util.ArrayList<>();");
 				line("in.beginArray();");
@@ -1470,7 +1626,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 			line("break;");
 		} else if (type instanceof MapType) {
 			MapType mapType = (MapType) type;
-			line("case " + constant(field) + ": {");
+			line("case " + binaryConstant(field) + ": {");
 			{
 				Type keyType = mapType.getKeyType();
 				Type valueType = mapType.getValueType();
@@ -1512,7 +1668,7 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 			line("break;");
 			line("}");
 		} else {
-			line("case " + constant(field) + ": " + setterName(field) + "(" + jsonReadEntry(type) + "); break;");
+			line("case " + binaryConstant(field) + ": " + setterName(field) + "(" + jsonReadEntry(type) + "); break;");
 		}
 	}
 
@@ -1645,10 +1801,287 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		return "java.util.Map.Entry" + "<" + mkTypeWrapped(mapType.getKeyType()) + "," + mkTypeWrapped(mapType.getValueType()) + ">";
 	}
 
+	private void generateGraphBinary() {
+		if (_interface || _noInterfaces) {
+			nl();
+			line("/** Reads a new instance from the given binary reader. */");
+			line((_noInterfaces ? "public " : "") + "static " + thisType() + " " + readerName(_def) + "(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {");
+			{
+				line(thisType() + " result;");
+				line("in.beginObject();");
+				line("int field = in.nextName();");
+				line("if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {");
+				{
+					line("result = (" + thisType() + ") scope.resolveOrFail(in.nextInt());");
+				}
+				line("} else {");
+				{
+					line("assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;");
+					line("String type = in.nextString();");
+					if (_def.isAbstract()) {
+						line("switch (type) {");
+						for (MessageDef specialization : Util.concreteTransitiveSpecializations(_def)) {
+							line("case " + jsonTypeConstantRef(specialization) + ": result = " + qTypeName(specialization) + ".create(); break;");
+						}
+						line("default: result = null; break;");
+						line("}");
+					} else {
+						line("assert " + jsonTypeConstant(_def) + ".equals(type);");
+						line("result = new " + qImplName(_def) + "();");
+					}
+					line("int idField = in.nextName();");
+					line("assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;");
+					line("int id = in.nextInt();");
+					line("int dataField = in.nextName();");
+					line("assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;");
+					line("if (result == null) {");
+					{
+						line("in.skipValue();");
+					}
+					line("} else {");
+					{
+						line("scope.readData(result, id, in);");
+					}
+					line("}");
+				}
+				line("}");
+				line("in.endObject();");
+				line("return result;");
+			}
+			line("}");
+		}
+
+		if (_interface || !hasFields()) {
+			return;
+		}
+
+		List<Field> fields = getFields().stream().filter(field -> !field.isTransient() && !field.isDerived()).collect(Collectors.toList());
+
+		nl();
+		line("@Override");
+		line("protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {");
+		{
+			line("super.writeFields(scope, out);");
+			for (Field field : fields) {
+				boolean nullable = Util.isNullable(field);
+				if (nullable) {
+					line("if (" + hasName(field) + "()" + ") {");
+				}
+				line("out.name(" + binaryConstant(field) + ");");
+				graphBinaryWriteFieldValue(field);
+				if (nullable) {
+					line("}");
+				}
+			}
+		}
+		line("}");
+
+		nl();
+		line("@Override");
+		line("public void writeFieldValue(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field) throws java.io.IOException {");
+		{
+			line("switch (field) {");
+			for (Field field : fields) {
+				line("case " + constant(field) + ": {");
+				{
+					graphBinaryWriteFieldValue(field);
+					line("break;");
+				}
+				line("}");
+			}
+			line("default: super.writeFieldValue(scope, out, field);");
+			line("}");
+		}
+		line("}");
+
+		nl();
+		line("@Override");
+		line("protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {");
+		{
+			line("switch (field) {");
+			for (Field field : fields) {
+				graphBinaryReadField(field);
+			}
+			line("default: super.readField(scope, in, field);");
+			line("}");
+		}
+		line("}");
+
+		List<Field> fieldsWithElements = fields.stream().filter(Field::isRepeated).collect(Collectors.toList());
+		if (!fieldsWithElements.isEmpty()) {
+			nl();
+			line("@Override");
+			line("public void writeElement(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field, Object element) throws java.io.IOException {");
+			{
+				line("switch (field) {");
+				{
+					for (Field field : fieldsWithElements) {
+						line("case " + constant(field) + ": {");
+						{
+							graphBinaryWriteValue(field.getType(), "((" + mkType(field.getType()) + ") element)");
+							line("break;");
+						}
+						line("}");
+					}
+					line("default: super.writeElement(scope, out, field, element);");
+				}
+				line("}");
+			}
+			line("}");
+
+			nl();
+			line("@Override");
+			line("public Object readElement(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, String field) throws java.io.IOException {");
+			{
+				line("switch (field) {");
+				{
+					for (Field field : fieldsWithElements) {
+						line("case " + constant(field) + ": {");
+						{
+							line("return " + graphBinaryReadEntry(field.getType()) + ";");
+						}
+						line("}");
+					}
+					line("default: return super.readElement(scope, in, field);");
+				}
+				line("}");
+			}
+			line("}");
+		}
+	}
+
+	private void graphBinaryWriteFieldValue(Field field) {
+		if (field.isRepeated()) {
+			line("{");
+			{
+				line(mkType(field) + " values = " + getterName(field) + "();");
+				line("out.beginArray(" + "de.haumacher.msgbuf.binary.DataType." + mkBinaryType(field.getType()) + ", values.size());");
+				line("for (" + mkType(field.getType()) +" x : values) {");
+				{
+					graphBinaryWriteValue(field.getType(), "x");
+				}
+				line("}");
+				line("out.endArray();");
+			}
+			line("}");
+		} else {
+			graphBinaryWriteValue(field.getType(), getterCall(field));
+		}
+	}
+
+	private void graphBinaryWriteValue(Type type, String x) {
+		if (type instanceof PrimitiveType) {
+			line("out." + mkBinaryWriteMethod(((PrimitiveType) type).getKind()) + "(" + x + ");");
+		} else if (type instanceof CustomType) {
+			CustomType customType = (CustomType) type;
+			if (customType.getDefinition() == null) {
+				System.err.println("ERROR: No definition found for type '" + type + "'.");
+			} else if (customType.getDefinition().kind() == TypeKind.ENUM_DEF) {
+				line(x + ".writeTo(out);");
+			} else {
+				line(x + ".writeTo(scope, out);");
+			}
+		} else if (type instanceof MapType) {
+			MapType mapType = (MapType) type;
+			line("{");
+			{
+				line(mkType(mapType) + " values = " + x + ";");
+				line("out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());");
+				line("for (" + mkEntryType(mapType) + " entry : values.entrySet()) {");
+				{
+					line("out.beginObject();");
+					line("out.name(1);");
+					graphBinaryWriteValue(mapType.getKeyType(), "entry.getKey()");
+					line("out.name(2);");
+					graphBinaryWriteValue(mapType.getValueType(), "entry.getValue()");
+					line("out.endObject();");
+				}
+				line("}");
+				line("out.endArray();");
+			}
+			line("}");
+		} else {
+			throw new RuntimeException("Unsupported: " + type);
+		}
+	}
+
+	private void graphBinaryReadField(Field field) {
+		Type type = field.getType();
+		if (field.isRepeated()) {
+			line("case " + binaryConstant(field) + ": {");
+			{
+				line(mkType(field)+ " newValue = new java.util.ArrayList<>();");
+				line("in.beginArray();");
+				line("while (in.hasNext()) {");
+				{
+					line("newValue.add(" + graphBinaryReadEntry(type) + ");");
+				}
+				line("}");
+				line("in.endArray();");
+				line(setterName(field) + "(newValue);");
+			}
+			line("}");
+			line("break;");
+		} else if (type instanceof MapType) {
+			MapType mapType = (MapType) type;
+			line("case " + binaryConstant(field) + ": {");
+			{
+				Type keyType = mapType.getKeyType();
+				Type valueType = mapType.getValueType();
+
+				line(mkType(field)+ " newValue = new java.util.LinkedHashMap<>();");
+				line("in.beginArray();");
+				line("while (in.hasNext()) {");
+				{
+					line("in.beginObject();");
+					line(mkType(keyType) + " key = " + mkDefaultValue(keyType) + ";");
+					line(mkType(valueType) + " value = " + mkDefaultValue(valueType) + ";");
+					line("while (in.hasNext()) {");
+					{
+						line("switch (in.nextName()) {");
+						line("case 1: key = " + graphBinaryReadEntry(keyType) + "; break;");
+						line("case 2: value = " + graphBinaryReadEntry(valueType) + "; break;");
+						line("default: in.skipValue(); break;");
+						line("}");
+					}
+					line("}");
+					line("newValue.put(key, value);");
+					line("in.endObject();");
+				}
+				line("}");
+				line("in.endArray();");
+				line(setterName(field) + "(newValue);");
+			}
+			line("break;");
+			line("}");
+		} else {
+			line("case " + binaryConstant(field) + ": " + setterName(field) + "(" + graphBinaryReadEntry(type) + "); break;");
+		}
+	}
+
+	private String graphBinaryReadEntry(Type type) {
+		if (type instanceof PrimitiveType) {
+			return mkBinaryReadValue(((PrimitiveType) type).getKind());
+		} else if (type instanceof CustomType) {
+			CustomType messageType = (CustomType) type;
+			QName name = messageType.getName();
+			if (messageType.getDefinition() == null) {
+				System.err.println("ERROR: No definition found for type '" + type + "'.");
+				return "ERROR";
+			} else if (messageType.getDefinition().kind() == TypeKind.ENUM_DEF) {
+				return qTypeName(messageType) + "." + readerName(Util.last(name)) + "(in)";
+			} else {
+				return qTypeName(messageType) + "." + readerName(Util.last(name)) + "(scope, in)";
+			}
+		}
+		throw new RuntimeException("Unsupported: " + type);
+	}
+
 	private void generateBinaryIO() {
 		binaryTypeId();
 		if (!_interface) {
 			binaryWrite();
+			binarySize();
 		}
 		binaryRead();
 	}
@@ -1723,13 +2156,19 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 						if (field.isTransient() || field.isDerived()) {
 							continue;
 						}
+						boolean lazy = isLazy(field);
+						if (lazy) {
+							line("if (!copyField(out, " + binaryConstant(field) + ")) {");
+						}
 						boolean nullable = Util.isNullable(field);
 						if (nullable) {
 							line("if (" + hasName(field) + "()" + ") {");
 						}
 						{
 							line("out.name(" + binaryConstant(field) + ");");
-							if (field.isRepeated()) {
+							if (field.isRepeated() && isPacked(field.getType())) {
+								binaryWritePacked(((PrimitiveType) field.getType()).getKind(), getterCall(field));
+							} else if (field.isRepeated()) {
 								line("{");
 								{
 									line(mkType(field) + " values = " + getterName(field) + "();");
@@ -1749,6 +2188,9 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 						if (nullable) {
 							line("}");
 						}
+						if (lazy) {
+							line("}");
+						}
 					}
 				}
 			}
@@ -1756,13 +2198,221 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		}
 	}
 
+	private void binarySize() {
+		if (isBaseClass()) {
+			nl();
+			line("@Override");
+			line("public final int binarySize() {");
+			{
+				if (_def.isAbstract()) {
+					line("// Type ID, fields, and end of object.");
+					line("return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;");
+				} else {
+					line("// Fields and end of object.");
+					line("return binaryFieldsSize() + 1;");
+				}
+			}
+			line("}");
+		}
+
+		if (isBaseClass() || hasFields()) {
+			nl();
+			if (isBaseClass()) {
+				line("/**");
+				line(" * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.");
+				line(" */");
+			} else {
+				line("@Override");
+			}
+			line("protected int binaryFieldsSize() {");
+			{
+				if (isBaseClass()) {
+					line("int result = 0;");
+				} else {
+					line("int result = super.binaryFieldsSize();");
+				}
+				for (Field field : getFields()) {
+					if (field.isTransient() || field.isDerived()) {
+						continue;
+					}
+					boolean lazy = isLazy(field);
+					if (lazy) {
+						line("if (isPending(" + binaryConstant(field) + ")) {");
+						line("result += pendingSize(" + binaryConstant(field) + ");");
+						line("} else {");
+					}
+					boolean nullable = Util.isNullable(field);
+					if (nullable) {
+						line("if (" + hasName(field) + "()" + ") {");
+					}
+					{
+						String tagSize = Integer.toString(BinaryUtil.sizeTag(field.getIndex()));
+						if (field.isRepeated() && isPacked(field.getType())) {
+							line("result += " + tagSize + " + " + binarySizePacked(((PrimitiveType) field.getType()).getKind(), getterCall(field)) + ";");
+						} else if (field.isRepeated()) {
+							line("{");
+							{
+								line(mkType(field) + " values = " + getterName(field) + "();");
+								line("result += " + tagSize + " + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());");
+								line("for (" + mkType(field.getType()) +" x : values) {");
+								{
+									binarySizeValue(field.getType(), "x");
+								}
+								line("}");
+							}
+							line("}");
+						} else {
+							line("result += " + tagSize + ";");
+							binarySizeValue(field.getType(), getterCall(field));
+						}
+					}
+					if (nullable) {
+						line("}");
+					}
+					if (lazy) {
+						line("}");
+					}
+				}
+				line("return result;");
+			}
+			line("}");
+		}
+	}
+
+	private void binarySizeValue(Type type, String x) {
+		if (type instanceof MapType) {
+			MapType mapType = (MapType) type;
+			line("{");
+			{
+				line(mkType(mapType) + " values = " + x + ";");
+				line("result += de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());");
+				line("for (" + mkEntryType(mapType) + " entry : values.entrySet()) {");
+				{
+					line("// Key field, value field, and end of object.");
+					line("result += 1 + " + mkBinarySize(mapType.getKeyType(), "entry.getKey()") + " + 1 + " + mkBinarySize(mapType.getValueType(), "entry.getValue()") + " + 1;");
+				}
+				line("}");
+			}
+			line("}");
+		} else {
+			line("result += " + mkBinarySize(type, x) + ";");
+		}
+	}
+
+	private String mkBinarySize(Type type, String x) {
+		if (type instanceof PrimitiveType) {
+			switch (((PrimitiveType) type).getKind()) {
+				case BOOL:
+					return "1";
+				case FLOAT:
+				case FIXED_32:
+				case SFIXED_32:
+					return "4";
+				case DOUBLE:
+				case FIXED_64:
+				case SFIXED_64:
+					return "8";
+				case INT_32:
+				case UINT_32:
+					return "de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(" + x + ")";
+				case INT_64:
+				case UINT_64:
+					return "de.haumacher.msgbuf.binary.BinaryUtil.sizeVarLong(" + x + ")";
+				case SINT_32:
+				case SINT_64:
+					return "de.haumacher.msgbuf.binary.BinaryUtil.sizeSigned(" + x + ")";
+				case STRING:
+					return "de.haumacher.msgbuf.binary.BinaryUtil.sizeString(" + x + ")";
+				case BYTES:
+					return "de.haumacher.msgbuf.binary.BinaryUtil.sizeBinary(" + x + ")";
+			}
+		} else if (type instanceof CustomType) {
+			return x + ".binarySize()";
+		}
+		throw new RuntimeException("Unsupported: " + type);
+	}
+
+	private String binarySizePacked(Kind kind, String values) {
+		switch (kind) {
+			case BOOL:
+				return "de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(" + values + ".size(), 1)";
+			case FLOAT:
+			case FIXED_32:
+			case SFIXED_32:
+				return "de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(" + values + ".size(), 4)";
+			case DOUBLE:
+			case FIXED_64:
+			case SFIXED_64:
+				return "de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(" + values + ".size(), 8)";
+			case INT_32:
+			case UINT_32:
+				return "de.haumacher.msgbuf.binary.BinaryUtil.sizeIntArray(" + values + ")";
+			case SINT_32:
+				return "de.haumacher.msgbuf.binary.BinaryUtil.sizeIntArraySigned(" + values + ")";
+			case INT_64:
+			case UINT_64:
+				return "de.haumacher.msgbuf.binary.BinaryUtil.sizeLongArray(" + values + ")";
+			case SINT_64:
+				return "de.haumacher.msgbuf.binary.BinaryUtil.sizeLongArraySigned(" + values + ")";
+			default:
+				throw new RuntimeException("Not a packed type: " + kind);
+		}
+	}
+
+	private void binaryWritePacked(Kind kind, String values) {
+		switch (kind) {
+			case BOOL:
+				line("out.valueArray(de.haumacher.msgbuf.binary.BinaryUtil.toBooleanArray(" + values + "));");
+				break;
+			default:
+				// Numeric values are written directly from the list.
+				line("out.valueArray(de.haumacher.msgbuf.binary.DataType." + mkBinaryType(kind) + ", " + values + ");");
+				break;
+		}
+	}
+
+	/**
+	 * Whether repeated values of the given type are encoded as packed array of primitive values.
+	 */
+	private static boolean isPacked(Type type) {
+		if (!(type instanceof PrimitiveType)) {
+			return false;
+		}
+		switch (((PrimitiveType) type).getKind()) {
+			case STRING:
+			case BYTES:
+				return false;
+			default:
+				return true;
+		}
+	}
+
 	private void binaryWriteValue(Type type, String x) {
 		if (type instanceof PrimitiveType) {
-			line("out.value(" + x + ");");
+			line("out." + mkBinaryWriteMethod(((PrimitiveType) type).getKind()) + "(" + x + ");");
 		} else if (type instanceof CustomType) {
 			line(x + ".writeTo(out);");
+		} else if (type instanceof MapType) {
+			MapType mapType = (MapType) type;
+			line("{");
+			{
+				line(mkType(mapType) + " values = " + x + ";");
+				line("out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());");
+				line("for (" + mkEntryType(mapType) + " entry : values.entrySet()) {");
+				{
+					line("out.beginObject();");
+					line("out.name(1);");
+					binaryWriteValue(mapType.getKeyType(), "entry.getKey()");
+					line("out.name(2);");
+					binaryWriteValue(mapType.getValueType(), "entry.getValue()");
+					line("out.endObject();");
+				}
+				line("}");
+				line("out.endArray();");
+			}
+			line("}");
 		} else {
-			// TODO
+			throw new RuntimeException("Unsupported: " + type);
 		}
 	}
 
@@ -1811,6 +2461,16 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 				line("/** Helper for reading all fields of this instance. */");
 				line("protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {");
 				{
+					if (isLazy()) {
+						line("if (in instanceof de.haumacher.msgbuf.binary.ByteArrayDataReader) {");
+						{
+							line("// Decode fields on first access.");
+							line("_lazy = de.haumacher.msgbuf.binary.LazyFields.read((de.haumacher.msgbuf.binary.ByteArrayDataReader) in);");
+							line("return;");
+						}
+						line("}");
+						nl();
+					}
 					line("while (in.hasNext()) {");
 					{
 						line("int field = in.nextName();");
@@ -1819,6 +2479,10 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 					line("}");
 				}
 				line("}");
+				
+				if (isLazy()) {
+					binaryLazyAccess();
+				}
 			}
 			
 			if (isBaseClass() || hasFields()) {
@@ -1846,6 +2510,87 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		}
 	}
 
+	private void binaryLazyAccess() {
+		nl();
+		line("/** Decodes the field with the given ID, if it has not yet been read from the binary input. */");
+		line("protected final void loadField(int field) {");
+		{
+			line("de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;");
+			line("if (lazy != null) {");
+			{
+				if (_listener) {
+					line("// Decoding does not change the value, listeners must not observe the assignment.");
+					line("de.haumacher.msgbuf.observer.Listener listener = _listener;");
+					line("_listener = de.haumacher.msgbuf.observer.Listener.NONE;");
+				}
+				line("try {");
+				{
+					line("lazy.load(field, this::readField);");
+				}
+				line("} catch (java.io.IOException ex) {");
+				{
+					line("throw new RuntimeException(ex);");
+				}
+				if (_listener) {
+					line("} finally {");
+					{
+						line("_listener = listener;");
+					}
+				}
+				line("}");
+				line("if (lazy.isComplete()) {");
+				{
+					line("_lazy = null;");
+				}
+				line("}");
+			}
+			line("}");
+		}
+		line("}");
+		
+		nl();
+		line("/** Discards the binary input of the field with the given ID, since a new value is assigned. */");
+		line("protected final void dropField(int field) {");
+		{
+			line("de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;");
+			line("if (lazy != null) {");
+			{
+				line("lazy.drop(field);");
+				line("if (lazy.isComplete()) {");
+				{
+					line("_lazy = null;");
+				}
+				line("}");
+			}
+			line("}");
+		}
+		line("}");
+		
+		nl();
+		line("/** Whether the field with the given ID has not yet been decoded from the binary input. */");
+		line("protected final boolean isPending(int field) {");
+		{
+			line("return _lazy != null && _lazy.isPending(field);");
+		}
+		line("}");
+		
+		nl();
+		line("/** The number of bytes of the binary input of the field with the given ID that has not yet been decoded. */");
+		line("protected final int pendingSize(int field) {");
+		{
+			line("return _lazy == null ? 0 : _lazy.size(field);");
+		}
+		line("}");
+		
+		nl();
+		line("/** Writes the field with the given ID by copying its binary input, if it has not yet been decoded. */");
+		line("protected final boolean copyField(de.haumacher.msgbuf.binary.DataWriter out, int field) throws java.io.IOException {");
+		{
+			line("return _lazy != null && _lazy.copy(out, field);");
+		}
+		line("}");
+	}
+
 	private String thisType() {
 		return qTypeName(_def);
 	}
@@ -1867,7 +2612,22 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		}
 
 		Type type = field.getType();
-		if (field.isRepeated()) {
+		if (field.isRepeated() && isPacked(type)) {
+			Kind kind = ((PrimitiveType) type).getKind();
+			line("case " + binaryConstant(field) + ": {");
+			{
+				line(mkType(type) + "[] values = " + mkBinaryReadArray(kind) + ";");
+				line(mkType(field) + " newValue = new java.util.ArrayList<>(values.length);");
+				line("for (" + mkType(type) + " x : values) {");
+				{
+					line("newValue.add(x);");
+				}
+				line("}");
+				line(setterName(field) + "(newValue);");
+			}
+			line("}");
+			line("break;");
+		} else if (field.isRepeated()) {
 			line("case " + binaryConstant(field) + ": {");
 			{
 				line("in.beginArray();");
@@ -1931,6 +2691,50 @@ public class MessageGenerator extends AbstractMessageGenerator implements Defini
 		return qTypeName(def) + "." + mkBinaryTypeConstant(def);
 	}
 
+	private static String mkBinaryWriteMethod(Kind kind) {
+		switch (kind) {
+			case SINT_32:
+			case SINT_64:
+				return "valueSigned";
+			case FIXED_32:
+			case SFIXED_32:
+			case FIXED_64:
+			case SFIXED_64:
+				return "valueFixed";
+			default:
+				return "value";
+		}
+	}
+
+	private static String mkBinaryReadArray(Kind kind) {
+		switch (kind) {
+			case BOOL:
+				return "in.nextBooleanArray()";
+			case FLOAT:
+				return "in.nextFloatArray()";
+			case DOUBLE:
+				return "in.nextDoubleArray()";
+			case INT_32:
+			case UINT_32:
+				return "in.nextIntArray()";
+			case SINT_32:
+				return "in.nextIntArraySigned()";
+			case FIXED_32:
+			case SFIXED_32:
+				return "in.nextIntArrayFixed()";
+			case INT_64:
+			case UINT_64:
+				return "in.nextLongArray()";
+			case SINT_64:
+				return "in.nextLongArraySigned()";
+			case FIXED_64:
+			case SFIXED_64:
+				return "in.nextLongArrayFixed()";
+			default:
+				throw new RuntimeException("Not a packed type: " + kind);
+		}
+	}
+
 	private String mkBinaryReadValue(Kind kind) {
 		switch (kind) {
 		case BOOL: 
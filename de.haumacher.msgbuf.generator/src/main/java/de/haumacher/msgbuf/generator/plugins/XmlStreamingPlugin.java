@@ -573,7 +573,7 @@ public class XmlStreamingPlugin implements GeneratorPlugin {
 			
 		case FIXED_32:
 		case UINT_32: 
-			return "(int) Long.toString(" + value + ")";
+			return "Integer.toUnsignedString(" + value + ")";
 			
 		case FIXED_64:
 		case INT_64: 
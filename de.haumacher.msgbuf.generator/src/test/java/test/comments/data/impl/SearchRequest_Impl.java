@@ -145,23 +145,42 @@ public class SearchRequest_Impl extends de.haumacher.msgbuf.data.AbstractDataObj
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #QUERY__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName QUERY__NAME = de.haumacher.msgbuf.json.JsonName.of(QUERY__PROP);
+
+	/** Pre-encoded JSON name of {@link #PAGE_NUMBER__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName PAGE_NUMBER__NAME = de.haumacher.msgbuf.json.JsonName.of(PAGE_NUMBER__PROP);
+
+	/** Pre-encoded JSON name of {@link #RESULT_PER_PAGE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName RESULT_PER_PAGE__NAME = de.haumacher.msgbuf.json.JsonName.of(RESULT_PER_PAGE__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(QUERY__PROP);
+		out.name(QUERY__NAME);
 		out.value(getQuery());
-		out.name(PAGE_NUMBER__PROP);
+		out.name(PAGE_NUMBER__NAME);
 		out.value(getPageNumber());
-		out.name(RESULT_PER_PAGE__PROP);
+		out.name(RESULT_PER_PAGE__NAME);
 		out.value(getResultPerPage());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"query", "page_number", "result_per_page"},
+		new int[] {1, 2, 3});
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case QUERY__PROP: setQuery(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case PAGE_NUMBER__PROP: setPageNumber(in.nextInt()); break;
-			case RESULT_PER_PAGE__PROP: setResultPerPage(in.nextInt()); break;
+			case QUERY__ID: setQuery(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case PAGE_NUMBER__ID: setPageNumber(in.nextInt()); break;
+			case RESULT_PER_PAGE__ID: setResultPerPage(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -189,6 +208,26 @@ public class SearchRequest_Impl extends de.haumacher.msgbuf.data.AbstractDataObj
 		out.value(getResultPerPage());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getQuery());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getPageNumber());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getResultPerPage());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.comments.data.SearchRequest} from a polymorphic composition. */
 	public static test.comments.data.SearchRequest readSearchRequest_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.comments.data.impl.SearchRequest_Impl result = new SearchRequest_Impl();
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package test.compact;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.json.JsonProjection;
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.JsonWriter;
+import de.haumacher.msgbuf.server.json.Utf8JsonReader;
+import de.haumacher.msgbuf.server.json.Utf8JsonWriter;
+import junit.framework.TestCase;
+import test.compact.data.Blob;
+import test.compact.data.Envelope;
+import test.compact.data.Text;
+
+/**
+ * Test case for the <code>CompactJson</code> option.
+ */
+@SuppressWarnings("javadoc")
+public class TestCompactJson extends TestCase {
+
+	public void testCompact() throws IOException {
+		Envelope envelope = Envelope.create()
+			.setSender("a")
+			.setPriority(2)
+			.setPayload(Text.create().setId("t").setText("hello"));
+
+		assertEquals("{\"1\":\"a\",\"2\":2,\"3\":[1,{\"1\":\"t\",\"2\":\"hello\"}],\"4\":[]}", write(envelope, false));
+		assertEquals(
+			"{\"sender\":\"a\",\"priority\":2,\"payload\":[\"Text\",{\"id\":\"t\",\"text\":\"hello\"}],\"attachments\":[]}",
+			write(envelope, true));
+		assertEquals(write(envelope, true), envelope.toString());
+	}
+
+	public void testReadBoth() throws IOException {
+		Envelope envelope = Envelope.create()
+			.setSender("sender")
+			.setPriority(42)
+			.setPayload(Text.create().setId("t").setText("hello"))
+			.addAttachment(Blob.create().setId("b").setData(new byte[] { 1, 2, 3 }))
+			.addAttachment(Text.create().setText("x"));
+
+		for (boolean readable : new boolean[] { false, true }) {
+			String json = write(envelope, readable);
+			assertEquals(envelope.toString(), Envelope.readEnvelope(new JsonReader(new StringR(json))).toString());
+
+			Utf8JsonWriter out = new Utf8JsonWriter();
+			out.setReadable(readable);
+			envelope.writeTo(out);
+			byte[] bytes = out.toByteArray();
+			assertEquals(json, new String(bytes, StandardCharsets.UTF_8));
+			assertEquals(envelope.toString(), Envelope.readEnvelope(new Utf8JsonReader(bytes)).toString());
+		}
+	}
+
+	public void testProjection() throws IOException {
+		Envelope envelope = Envelope.create()
+			.setSender("sender")
+			.setPriority(42)
+			.setPayload(Text.create().setId("t").setText("hello"))
+			.addAttachment(Text.create().setText("x"));
+
+		for (boolean readable : new boolean[] { false, true }) {
+			JsonReader in = new JsonReader(new StringR(write(envelope, readable)));
+			in.setProjection(JsonProjection.of("sender", "payload.text"));
+			Envelope result = Envelope.readEnvelope(in);
+
+			assertEquals("sender", result.getSender());
+			assertEquals(0, result.getPriority());
+			assertEquals("", ((Text) result.getPayload()).getId());
+			assertEquals("hello", ((Text) result.getPayload()).getText());
+			assertTrue(result.getAttachments().isEmpty());
+		}
+	}
+
+	public void testSmaller() throws IOException {
+		Envelope envelope = Envelope.create()
+			.setSender("s")
+			.addAttachment(Text.create().setText("x"))
+			.addAttachment(Text.create().setText("y"));
+		assertTrue(write(envelope, false).length() < write(envelope, true).length());
+	}
+
+	private static String write(Envelope envelope, boolean readable) throws IOException {
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.setReadable(readable);
+		envelope.writeTo(json);
+		return buffer.toString();
+	}
+
+}
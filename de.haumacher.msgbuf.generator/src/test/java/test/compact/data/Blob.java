@@ -0,0 +1,49 @@
+package test.compact.data;
+
+public interface Blob extends Payload {
+
+	/**
+	 * Creates a {@link test.compact.data.Blob} instance.
+	 */
+	static test.compact.data.Blob create() {
+		return new test.compact.data.impl.Blob_Impl();
+	}
+
+	/** Identifier for the {@link test.compact.data.Blob} type in JSON format. */
+	String BLOB__TYPE = "Blob";
+
+	/** @see #getData() */
+	String DATA__PROP = "data";
+
+	/** Identifier for the {@link test.compact.data.Blob} type in binary format. */
+	static final int BLOB__TYPE_ID = 2;
+
+	/** Identifier for the property {@link #getData()} in binary format. */
+	static final int DATA__ID = 2;
+
+	byte[] getData();
+
+	/**
+	 * @see #getData()
+	 */
+	test.compact.data.Blob setData(byte[] value);
+
+	@Override
+	test.compact.data.Blob setId(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Blob readBlob(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.compact.data.impl.Blob_Impl result = new test.compact.data.impl.Blob_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Blob readBlob(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.compact.data.Blob result = test.compact.data.impl.Blob_Impl.readBlob_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
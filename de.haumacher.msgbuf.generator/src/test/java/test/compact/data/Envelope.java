@@ -0,0 +1,97 @@
+package test.compact.data;
+
+public interface Envelope extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.data.ReflectiveDataObject {
+
+	/**
+	 * Creates a {@link test.compact.data.Envelope} instance.
+	 */
+	static test.compact.data.Envelope create() {
+		return new test.compact.data.impl.Envelope_Impl();
+	}
+
+	/** Identifier for the {@link test.compact.data.Envelope} type in JSON format. */
+	String ENVELOPE__TYPE = "Envelope";
+
+	/** @see #getSender() */
+	String SENDER__PROP = "sender";
+
+	/** @see #getPriority() */
+	String PRIORITY__PROP = "priority";
+
+	/** @see #getPayload() */
+	String PAYLOAD__PROP = "payload";
+
+	/** @see #getAttachments() */
+	String ATTACHMENTS__PROP = "attachments";
+
+	/** Identifier for the property {@link #getSender()} in binary format. */
+	static final int SENDER__ID = 1;
+
+	/** Identifier for the property {@link #getPriority()} in binary format. */
+	static final int PRIORITY__ID = 2;
+
+	/** Identifier for the property {@link #getPayload()} in binary format. */
+	static final int PAYLOAD__ID = 3;
+
+	/** Identifier for the property {@link #getAttachments()} in binary format. */
+	static final int ATTACHMENTS__ID = 4;
+
+	String getSender();
+
+	/**
+	 * @see #getSender()
+	 */
+	test.compact.data.Envelope setSender(String value);
+
+	int getPriority();
+
+	/**
+	 * @see #getPriority()
+	 */
+	test.compact.data.Envelope setPriority(int value);
+
+	test.compact.data.Payload getPayload();
+
+	/**
+	 * @see #getPayload()
+	 */
+	test.compact.data.Envelope setPayload(test.compact.data.Payload value);
+
+	/**
+	 * Checks, whether {@link #getPayload()} has a value.
+	 */
+	boolean hasPayload();
+
+	java.util.List<test.compact.data.Payload> getAttachments();
+
+	/**
+	 * @see #getAttachments()
+	 */
+	test.compact.data.Envelope setAttachments(java.util.List<? extends test.compact.data.Payload> value);
+
+	/**
+	 * Adds a value to the {@link #getAttachments()} list.
+	 */
+	test.compact.data.Envelope addAttachment(test.compact.data.Payload value);
+
+	/**
+	 * Removes a value from the {@link #getAttachments()} list.
+	 */
+	void removeAttachment(test.compact.data.Payload value);
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Envelope readEnvelope(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.compact.data.impl.Envelope_Impl result = new test.compact.data.impl.Envelope_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Envelope readEnvelope(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.compact.data.Envelope result = test.compact.data.impl.Envelope_Impl.readEnvelope_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
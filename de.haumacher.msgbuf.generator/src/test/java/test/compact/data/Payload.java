@@ -0,0 +1,88 @@
+package test.compact.data;
+
+public interface Payload extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.data.ReflectiveDataObject {
+
+	/** Type codes for the {@link test.compact.data.Payload} hierarchy. */
+	public enum TypeKind {
+
+		/** Type literal for {@link test.compact.data.Text}. */
+		TEXT,
+
+		/** Type literal for {@link test.compact.data.Blob}. */
+		BLOB,
+		;
+
+	}
+
+	/** Visitor interface for the {@link test.compact.data.Payload} hierarchy.*/
+	public interface Visitor<R,A,E extends Throwable> {
+
+		/** Visit case for {@link test.compact.data.Text}.*/
+		R visit(test.compact.data.Text self, A arg) throws E;
+
+		/** Visit case for {@link test.compact.data.Blob}.*/
+		R visit(test.compact.data.Blob self, A arg) throws E;
+
+	}
+
+	/** @see #getId() */
+	String ID__PROP = "id";
+
+	/** Identifier for the property {@link #getId()} in binary format. */
+	static final int ID__ID = 1;
+
+	/** The type code of this instance. */
+	TypeKind kind();
+
+	String getId();
+
+	/**
+	 * @see #getId()
+	 */
+	test.compact.data.Payload setId(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Payload readPayload(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.compact.data.Payload result;
+		in.beginArray();
+		if (in.peek() == de.haumacher.msgbuf.json.JsonToken.NUMBER) {
+			switch (in.nextInt()) {
+				case test.compact.data.Text.TEXT__TYPE_ID: result = test.compact.data.Text.readText(in); break;
+				case test.compact.data.Blob.BLOB__TYPE_ID: result = test.compact.data.Blob.readBlob(in); break;
+				default: in.skipValue(); result = null; break;
+			}
+		} else {
+			String type = in.nextString();
+			switch (type) {
+				case Text.TEXT__TYPE: result = test.compact.data.Text.readText(in); break;
+				case Blob.BLOB__TYPE: result = test.compact.data.Blob.readBlob(in); break;
+				default: in.skipValue(); result = null; break;
+			}
+		}
+		in.endArray();
+		return result;
+	}
+
+	/** The binary identifier for this concrete type in the polymorphic {@link test.compact.data.Payload} hierarchy. */
+	abstract int typeId();
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Payload readPayload(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		int typeField = in.nextName();
+		assert typeField == 0;
+		int type = in.nextInt();
+		test.compact.data.Payload result;
+		switch (type) {
+			case test.compact.data.Text.TEXT__TYPE_ID: result = test.compact.data.impl.Text_Impl.readText_Content(in); break;
+			case test.compact.data.Blob.BLOB__TYPE_ID: result = test.compact.data.impl.Blob_Impl.readBlob_Content(in); break;
+			default: result = null; while (in.hasNext()) {in.skipValue(); }
+		}
+		in.endObject();
+		return result;
+	}
+
+	/** Accepts the given visitor. */
+	public abstract <R,A,E extends Throwable> R visit(Visitor<R,A,E> v, A arg) throws E;
+
+}
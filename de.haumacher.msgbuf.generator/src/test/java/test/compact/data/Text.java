@@ -0,0 +1,49 @@
+package test.compact.data;
+
+public interface Text extends Payload {
+
+	/**
+	 * Creates a {@link test.compact.data.Text} instance.
+	 */
+	static test.compact.data.Text create() {
+		return new test.compact.data.impl.Text_Impl();
+	}
+
+	/** Identifier for the {@link test.compact.data.Text} type in JSON format. */
+	String TEXT__TYPE = "Text";
+
+	/** @see #getText() */
+	String TEXT__PROP = "text";
+
+	/** Identifier for the {@link test.compact.data.Text} type in binary format. */
+	static final int TEXT__TYPE_ID = 1;
+
+	/** Identifier for the property {@link #getText()} in binary format. */
+	static final int TEXT__ID = 2;
+
+	String getText();
+
+	/**
+	 * @see #getText()
+	 */
+	test.compact.data.Text setText(String value);
+
+	@Override
+	test.compact.data.Text setId(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Text readText(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.compact.data.impl.Text_Impl result = new test.compact.data.impl.Text_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.compact.data.Text readText(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.compact.data.Text result = test.compact.data.impl.Text_Impl.readText_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
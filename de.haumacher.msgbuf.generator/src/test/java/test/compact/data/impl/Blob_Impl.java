@@ -0,0 +1,153 @@
+package test.compact.data.impl;
+
+/**
+ * Implementation of {@link test.compact.data.Blob}.
+ */
+public class Blob_Impl extends test.compact.data.impl.Payload_Impl implements test.compact.data.Blob {
+
+	private byte[] _data = null;
+
+	/**
+	 * Creates a {@link Blob_Impl} instance.
+	 *
+	 * @see test.compact.data.Blob#create()
+	 */
+	public Blob_Impl() {
+		super();
+	}
+
+	@Override
+	public TypeKind kind() {
+		return TypeKind.BLOB;
+	}
+
+	@Override
+	public final byte[] getData() {
+		return _data;
+	}
+
+	@Override
+	public test.compact.data.Blob setData(byte[] value) {
+		internalSetData(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getData()} without chain call utility. */
+	protected final void internalSetData(byte[] value) {
+		_data = value;
+	}
+
+	@Override
+	public test.compact.data.Blob setId(String value) {
+		internalSetId(value);
+		return this;
+	}
+
+	@Override
+	public String jsonType() {
+		return BLOB__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			DATA__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case DATA__PROP: return getData();
+			default: return super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case DATA__PROP: internalSetData((byte[]) value); break;
+			default: super.set(field, value); break;
+		}
+	}
+
+	/** Pre-encoded JSON name of {@link #DATA__PROP} with its compact form {@link #DATA__ID}. */
+	private static final de.haumacher.msgbuf.json.JsonName DATA__NAME = de.haumacher.msgbuf.json.JsonName.of(DATA__PROP, DATA__ID);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(DATA__NAME);
+		de.haumacher.msgbuf.json.JsonUtil.writeBinaryOptional(out, getData());
+	}
+
+	/** Table of all JSON property names and their compact forms of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "1", "data", "2"},
+		new int[] {1, 1, 2, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case DATA__ID: setData(de.haumacher.msgbuf.json.JsonUtil.nextBinaryOptional(in)); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public int typeId() {
+		return BLOB__TYPE_ID;
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(DATA__ID);
+		out.value(getData());
+	}
+
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeBinary(getData());
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.compact.data.Blob} from a polymorphic composition. */
+	public static test.compact.data.Blob readBlob_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.compact.data.impl.Blob_Impl result = new Blob_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case DATA__ID: setData(in.nextBinary()); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public <R,A,E extends Throwable> R visit(test.compact.data.Payload.Visitor<R,A,E> v, A arg) throws E {
+		return v.visit(this, arg);
+	}
+
+}
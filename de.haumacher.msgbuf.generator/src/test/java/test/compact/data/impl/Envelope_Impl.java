@@ -0,0 +1,321 @@
+package test.compact.data.impl;
+
+/**
+ * Implementation of {@link test.compact.data.Envelope}.
+ */
+public class Envelope_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.compact.data.Envelope {
+
+	private String _sender = "";
+
+	private int _priority = 0;
+
+	private test.compact.data.Payload _payload = null;
+
+	private final java.util.List<test.compact.data.Payload> _attachments = new java.util.ArrayList<>();
+
+	/**
+	 * Creates a {@link Envelope_Impl} instance.
+	 *
+	 * @see test.compact.data.Envelope#create()
+	 */
+	public Envelope_Impl() {
+		super();
+	}
+
+	@Override
+	public final String getSender() {
+		return _sender;
+	}
+
+	@Override
+	public test.compact.data.Envelope setSender(String value) {
+		internalSetSender(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getSender()} without chain call utility. */
+	protected final void internalSetSender(String value) {
+		_sender = value;
+	}
+
+	@Override
+	public final int getPriority() {
+		return _priority;
+	}
+
+	@Override
+	public test.compact.data.Envelope setPriority(int value) {
+		internalSetPriority(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getPriority()} without chain call utility. */
+	protected final void internalSetPriority(int value) {
+		_priority = value;
+	}
+
+	@Override
+	public final test.compact.data.Payload getPayload() {
+		return _payload;
+	}
+
+	@Override
+	public test.compact.data.Envelope setPayload(test.compact.data.Payload value) {
+		internalSetPayload(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getPayload()} without chain call utility. */
+	protected final void internalSetPayload(test.compact.data.Payload value) {
+		_payload = value;
+	}
+
+	@Override
+	public final boolean hasPayload() {
+		return _payload != null;
+	}
+
+	@Override
+	public final java.util.List<test.compact.data.Payload> getAttachments() {
+		return _attachments;
+	}
+
+	@Override
+	public test.compact.data.Envelope setAttachments(java.util.List<? extends test.compact.data.Payload> value) {
+		internalSetAttachments(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getAttachments()} without chain call utility. */
+	protected final void internalSetAttachments(java.util.List<? extends test.compact.data.Payload> value) {
+		if (value == null) throw new IllegalArgumentException("Property 'attachments' cannot be null.");
+		_attachments.clear();
+		_attachments.addAll(value);
+	}
+
+	@Override
+	public test.compact.data.Envelope addAttachment(test.compact.data.Payload value) {
+		internalAddAttachment(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addAttachment(test.compact.data.Payload)} without chain call utility. */
+	protected final void internalAddAttachment(test.compact.data.Payload value) {
+		_attachments.add(value);
+	}
+
+	@Override
+	public final void removeAttachment(test.compact.data.Payload value) {
+		_attachments.remove(value);
+	}
+
+	@Override
+	public String jsonType() {
+		return ENVELOPE__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			SENDER__PROP, 
+			PRIORITY__PROP, 
+			PAYLOAD__PROP, 
+			ATTACHMENTS__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case SENDER__PROP: return getSender();
+			case PRIORITY__PROP: return getPriority();
+			case PAYLOAD__PROP: return getPayload();
+			case ATTACHMENTS__PROP: return getAttachments();
+			default: return test.compact.data.Envelope.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case SENDER__PROP: internalSetSender((String) value); break;
+			case PRIORITY__PROP: internalSetPriority((int) value); break;
+			case PAYLOAD__PROP: internalSetPayload((test.compact.data.Payload) value); break;
+			case ATTACHMENTS__PROP: internalSetAttachments(de.haumacher.msgbuf.util.Conversions.asList(test.compact.data.Payload.class, value)); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		writeContent(out);
+	}
+
+	/** Pre-encoded JSON name of {@link #SENDER__PROP} with its compact form {@link #SENDER__ID}. */
+	private static final de.haumacher.msgbuf.json.JsonName SENDER__NAME = de.haumacher.msgbuf.json.JsonName.of(SENDER__PROP, SENDER__ID);
+
+	/** Pre-encoded JSON name of {@link #PRIORITY__PROP} with its compact form {@link #PRIORITY__ID}. */
+	private static final de.haumacher.msgbuf.json.JsonName PRIORITY__NAME = de.haumacher.msgbuf.json.JsonName.of(PRIORITY__PROP, PRIORITY__ID);
+
+	/** Pre-encoded JSON name of {@link #PAYLOAD__PROP} with its compact form {@link #PAYLOAD__ID}. */
+	private static final de.haumacher.msgbuf.json.JsonName PAYLOAD__NAME = de.haumacher.msgbuf.json.JsonName.of(PAYLOAD__PROP, PAYLOAD__ID);
+
+	/** Pre-encoded JSON name of {@link #ATTACHMENTS__PROP} with its compact form {@link #ATTACHMENTS__ID}. */
+	private static final de.haumacher.msgbuf.json.JsonName ATTACHMENTS__NAME = de.haumacher.msgbuf.json.JsonName.of(ATTACHMENTS__PROP, ATTACHMENTS__ID);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(SENDER__NAME);
+		out.value(getSender());
+		out.name(PRIORITY__NAME);
+		out.value(getPriority());
+		if (hasPayload()) {
+			out.name(PAYLOAD__NAME);
+			getPayload().writeTo(out);
+		}
+		out.name(ATTACHMENTS__NAME);
+		out.beginArray();
+		for (test.compact.data.Payload x : getAttachments()) {
+			x.writeTo(out);
+		}
+		out.endArray();
+	}
+
+	/** Table of all JSON property names and their compact forms of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"sender", "1", "priority", "2", "payload", "3", "attachments", "4"},
+		new int[] {1, 1, 2, 2, 3, 3, 4, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case SENDER__ID: setSender(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case PRIORITY__ID: setPriority(in.nextInt()); break;
+			case PAYLOAD__ID: setPayload(test.compact.data.Payload.readPayload(in)); break;
+			case ATTACHMENTS__ID: {
+				java.util.List<test.compact.data.Payload> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(test.compact.data.Payload.readPayload(in));
+				}
+				in.endArray();
+				setAttachments(newValue);
+			}
+			break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.name(SENDER__ID);
+		out.value(getSender());
+		out.name(PRIORITY__ID);
+		out.value(getPriority());
+		if (hasPayload()) {
+			out.name(PAYLOAD__ID);
+			getPayload().writeTo(out);
+		}
+		out.name(ATTACHMENTS__ID);
+		{
+			java.util.List<test.compact.data.Payload> values = getAttachments();
+			out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+			for (test.compact.data.Payload x : values) {
+				x.writeTo(out);
+			}
+			out.endArray();
+		}
+	}
+
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getSender());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getPriority());
+		if (hasPayload()) {
+			result += 1;
+			result += getPayload().binarySize();
+		}
+		{
+			java.util.List<test.compact.data.Payload> values = getAttachments();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.compact.data.Payload x : values) {
+				result += x.binarySize();
+			}
+		}
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.compact.data.Envelope} from a polymorphic composition. */
+	public static test.compact.data.Envelope readEnvelope_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.compact.data.impl.Envelope_Impl result = new Envelope_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case SENDER__ID: setSender(in.nextString()); break;
+			case PRIORITY__ID: setPriority(in.nextInt()); break;
+			case PAYLOAD__ID: setPayload(test.compact.data.Payload.readPayload(in)); break;
+			case ATTACHMENTS__ID: {
+				in.beginArray();
+				while (in.hasNext()) {
+					addAttachment(test.compact.data.Payload.readPayload(in));
+				}
+				in.endArray();
+			}
+			break;
+			default: in.skipValue(); 
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+package test.compact.data.impl;
+
+/**
+ * Implementation of {@link test.compact.data.Payload}.
+ */
+public abstract class Payload_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.compact.data.Payload {
+
+	private String _id = "";
+
+	/**
+	 * Creates a {@link Payload_Impl} instance.
+	 */
+	public Payload_Impl() {
+		super();
+	}
+
+	@Override
+	public final String getId() {
+		return _id;
+	}
+
+	@Override
+	public test.compact.data.Payload setId(String value) {
+		internalSetId(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getId()} without chain call utility. */
+	protected final void internalSetId(String value) {
+		_id = value;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			ID__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case ID__PROP: return getId();
+			default: return test.compact.data.Payload.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case ID__PROP: internalSetId((String) value); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		out.beginArray();
+		if (out.isReadable()) {
+			out.value(jsonType());
+		} else {
+			out.value(typeId());
+		}
+		writeContent(out);
+		out.endArray();
+	}
+
+	/** Pre-encoded JSON name of {@link #ID__PROP} with its compact form {@link #ID__ID}. */
+	private static final de.haumacher.msgbuf.json.JsonName ID__NAME = de.haumacher.msgbuf.json.JsonName.of(ID__PROP, ID__ID);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(ID__NAME);
+		out.value(getId());
+	}
+
+	/** Table of all JSON property names and their compact forms of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "1"},
+		new int[] {1, 1});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case ID__ID: setId(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		out.name(0);
+		out.value(typeId());
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.name(ID__ID);
+		out.value(getId());
+	}
+
+	@Override
+	public final int binarySize() {
+		// Type ID, fields, and end of object.
+		return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getId());
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case ID__ID: setId(in.nextString()); break;
+			default: in.skipValue(); 
+		}
+	}
+
+}
@@ -392,26 +392,47 @@ public class MyContainer_Impl extends de.haumacher.msgbuf.data.AbstractDataObjec
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	/** Pre-encoded JSON name of {@link #CONTENT_1__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CONTENT_1__NAME = de.haumacher.msgbuf.json.JsonName.of(CONTENT_1__PROP);
+
+	/** Pre-encoded JSON name of {@link #CONTENT_2__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CONTENT_2__NAME = de.haumacher.msgbuf.json.JsonName.of(CONTENT_2__PROP);
+
+	/** Pre-encoded JSON name of {@link #CONTENT_LIST__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CONTENT_LIST__NAME = de.haumacher.msgbuf.json.JsonName.of(CONTENT_LIST__PROP);
+
+	/** Pre-encoded JSON name of {@link #CONTENT_MAP__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CONTENT_MAP__NAME = de.haumacher.msgbuf.json.JsonName.of(CONTENT_MAP__PROP);
+
+	/** Pre-encoded JSON name of {@link #OTHER__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName OTHER__NAME = de.haumacher.msgbuf.json.JsonName.of(OTHER__PROP);
+
+	/** Pre-encoded JSON name of {@link #OTHERS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName OTHERS__NAME = de.haumacher.msgbuf.json.JsonName.of(OTHERS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(NAME__PROP);
+		out.name(NAME__NAME);
 		out.value(getName());
 		if (hasContent1()) {
-			out.name(CONTENT_1__PROP);
+			out.name(CONTENT_1__NAME);
 			getContent1().writeTo(out);
 		}
 		if (hasContent2()) {
-			out.name(CONTENT_2__PROP);
+			out.name(CONTENT_2__NAME);
 			getContent2().writeTo(out);
 		}
-		out.name(CONTENT_LIST__PROP);
+		out.name(CONTENT_LIST__NAME);
 		out.beginArray();
 		for (test.container.model.MyContent x : getContentList()) {
 			x.writeTo(out);
 		}
 		out.endArray();
-		out.name(CONTENT_MAP__PROP);
+		out.name(CONTENT_MAP__NAME);
 		out.beginObject();
 		for (java.util.Map.Entry<String,test.container.model.MyContent> entry : getContentMap().entrySet()) {
 			out.name(entry.getKey());
@@ -419,10 +440,10 @@ public class MyContainer_Impl extends de.haumacher.msgbuf.data.AbstractDataObjec
 		}
 		out.endObject();
 		if (hasOther()) {
-			out.name(OTHER__PROP);
+			out.name(OTHER__NAME);
 			getOther().writeTo(out);
 		}
-		out.name(OTHERS__PROP);
+		out.name(OTHERS__NAME);
 		out.beginArray();
 		for (test.container.model.MyContent x : getOthers()) {
 			x.writeTo(out);
@@ -430,13 +451,23 @@ public class MyContainer_Impl extends de.haumacher.msgbuf.data.AbstractDataObjec
 		out.endArray();
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name", "content1", "content2", "contentList", "contentMap", "other", "others"},
+		new int[] {1, 2, 3, 4, 5, 6, 7});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case NAME__PROP: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case CONTENT_1__PROP: setContent1(test.container.model.MyContent.readMyContent(in)); break;
-			case CONTENT_2__PROP: setContent2(test.container.model.MyContent.readMyContent(in)); break;
-			case CONTENT_LIST__PROP: {
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case CONTENT_1__ID: setContent1(test.container.model.MyContent.readMyContent(in)); break;
+			case CONTENT_2__ID: setContent2(test.container.model.MyContent.readMyContent(in)); break;
+			case CONTENT_LIST__ID: {
 				java.util.List<test.container.model.MyContent> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -446,7 +477,7 @@ public class MyContainer_Impl extends de.haumacher.msgbuf.data.AbstractDataObjec
 				setContentList(newValue);
 			}
 			break;
-			case CONTENT_MAP__PROP: {
+			case CONTENT_MAP__ID: {
 				java.util.Map<String, test.container.model.MyContent> newValue = new java.util.LinkedHashMap<>();
 				in.beginObject();
 				while (in.hasNext()) {
@@ -456,8 +487,8 @@ public class MyContainer_Impl extends de.haumacher.msgbuf.data.AbstractDataObjec
 				setContentMap(newValue);
 				break;
 			}
-			case OTHER__PROP: setOther(test.container.model.MyContent.readMyContent(in)); break;
-			case OTHERS__PROP: {
+			case OTHER__ID: setOther(test.container.model.MyContent.readMyContent(in)); break;
+			case OTHERS__ID: {
 				java.util.List<test.container.model.MyContent> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -506,6 +537,19 @@ public class MyContainer_Impl extends de.haumacher.msgbuf.data.AbstractDataObjec
 			out.endArray();
 		}
 		out.name(CONTENT_MAP__ID);
+		{
+			java.util.Map<String, test.container.model.MyContent> values = getContentMap();
+			out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+			for (java.util.Map.Entry<String,test.container.model.MyContent> entry : values.entrySet()) {
+				out.beginObject();
+				out.name(1);
+				out.value(entry.getKey());
+				out.name(2);
+				entry.getValue().writeTo(out);
+				out.endObject();
+			}
+			out.endArray();
+		}
 		if (hasOther()) {
 			out.name(OTHER__ID);
 			getOther().writeTo(out);
@@ -521,6 +565,57 @@ public class MyContainer_Impl extends de.haumacher.msgbuf.data.AbstractDataObjec
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		if (hasContent1()) {
+			result += 1;
+			result += getContent1().binarySize();
+		}
+		if (hasContent2()) {
+			result += 1;
+			result += getContent2().binarySize();
+		}
+		{
+			java.util.List<test.container.model.MyContent> values = getContentList();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.container.model.MyContent x : values) {
+				result += x.binarySize();
+			}
+		}
+		result += 1;
+		{
+			java.util.Map<String, test.container.model.MyContent> values = getContentMap();
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (java.util.Map.Entry<String,test.container.model.MyContent> entry : values.entrySet()) {
+				// Key field, value field, and end of object.
+				result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeString(entry.getKey()) + 1 + entry.getValue().binarySize() + 1;
+			}
+		}
+		if (hasOther()) {
+			result += 1;
+			result += getOther().binarySize();
+		}
+		{
+			java.util.List<test.container.model.MyContent> values = getOthers();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.container.model.MyContent x : values) {
+				result += x.binarySize();
+			}
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.container.model.MyContainer} from a polymorphic composition. */
 	public static test.container.model.MyContainer readMyContainer_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.container.model.impl.MyContainer_Impl result = new MyContainer_Impl();
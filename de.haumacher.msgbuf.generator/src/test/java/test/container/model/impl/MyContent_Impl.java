@@ -131,17 +131,30 @@ public class MyContent_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(NAME__PROP);
+		out.name(NAME__NAME);
 		out.value(getName());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name"},
+		new int[] {2});
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case NAME__PROP: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -165,6 +178,22 @@ public class MyContent_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 		out.value(getName());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.container.model.MyContent} from a polymorphic composition. */
 	public static test.container.model.MyContent readMyContent_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.container.model.impl.MyContent_Impl result = new MyContent_Impl();
@@ -168,26 +168,48 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #S__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName S__NAME = de.haumacher.msgbuf.json.JsonName.of(S__PROP);
+
+	/** Pre-encoded JSON name of {@link #X__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName X__NAME = de.haumacher.msgbuf.json.JsonName.of(X__PROP);
+
+	/** Pre-encoded JSON name of {@link #Y__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName Y__NAME = de.haumacher.msgbuf.json.JsonName.of(Y__PROP);
+
+	/** Pre-encoded JSON name of {@link #STATE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName STATE__NAME = de.haumacher.msgbuf.json.JsonName.of(STATE__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(S__PROP);
+		out.name(S__NAME);
 		out.value(getS());
-		out.name(X__PROP);
+		out.name(X__NAME);
 		out.value(getX());
-		out.name(Y__PROP);
+		out.name(Y__NAME);
 		out.value(getY());
-		out.name(STATE__PROP);
+		out.name(STATE__NAME);
 		out.value(isState());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"s", "x", "y", "state"},
+		new int[] {1, 2, 3, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case S__PROP: setS(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case X__PROP: setX(in.nextInt()); break;
-			case Y__PROP: setY(in.nextDouble()); break;
-			case STATE__PROP: setState(in.nextBoolean()); break;
+			case S__ID: setS(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case X__ID: setX(in.nextInt()); break;
+			case Y__ID: setY(in.nextDouble()); break;
+			case STATE__ID: setState(in.nextBoolean()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -217,6 +239,28 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		out.value(isState());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getS());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getX());
+		result += 1;
+		result += 8;
+		result += 1;
+		result += 1;
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.defaultvalue.data.A} from a polymorphic composition. */
 	public static test.defaultvalue.data.A readA_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.defaultvalue.data.impl.A_Impl result = new A_Impl();
@@ -62,6 +62,20 @@ public abstract class Base_Impl extends de.haumacher.msgbuf.data.AbstractDataObj
 		// No fields to write, hook for subclasses.
 	}
 
+	@Override
+	public final int binarySize() {
+		// Type ID, fields, and end of object.
+		return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		return result;
+	}
+
 	/** Helper for reading all fields of this instance. */
 	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		while (in.hasNext()) {
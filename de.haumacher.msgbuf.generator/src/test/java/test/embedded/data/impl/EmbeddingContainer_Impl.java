@@ -153,12 +153,18 @@ public class EmbeddingContainer_Impl extends de.haumacher.msgbuf.data.AbstractDa
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	/** Pre-encoded JSON name of {@link #CONTENTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CONTENTS__NAME = de.haumacher.msgbuf.json.JsonName.of(CONTENTS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(NAME__PROP);
+		out.name(NAME__NAME);
 		out.value(getName());
-		out.name(CONTENTS__PROP);
+		out.name(CONTENTS__NAME);
 		out.beginArray();
 		for (test.embedded.data.Base x : getContents()) {
 			x.writeTo(out);
@@ -166,11 +172,21 @@ public class EmbeddingContainer_Impl extends de.haumacher.msgbuf.data.AbstractDa
 		out.endArray();
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name", "contents"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case NAME__PROP: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case CONTENTS__PROP: {
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case CONTENTS__ID: {
 				java.util.List<test.embedded.data.Base> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -212,6 +228,29 @@ public class EmbeddingContainer_Impl extends de.haumacher.msgbuf.data.AbstractDa
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		{
+			java.util.List<test.embedded.data.Base> values = getContents();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.embedded.data.Base x : values) {
+				result += x.binarySize();
+			}
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.embedded.data.EmbeddingContainer} from a polymorphic composition. */
 	public static test.embedded.data.EmbeddingContainer readEmbeddingContainer_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.embedded.data.impl.EmbeddingContainer_Impl result = new EmbeddingContainer_Impl();
@@ -127,22 +127,38 @@ public class EmbeddingSingleContainer_Impl extends de.haumacher.msgbuf.data.Abst
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	/** Pre-encoded JSON name of {@link #CONTENTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CONTENTS__NAME = de.haumacher.msgbuf.json.JsonName.of(CONTENTS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(NAME__PROP);
+		out.name(NAME__NAME);
 		out.value(getName());
 		if (hasContents()) {
-			out.name(CONTENTS__PROP);
+			out.name(CONTENTS__NAME);
 			getContents().writeTo(out);
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name", "contents"},
+		new int[] {1, 2});
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case NAME__PROP: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case CONTENTS__PROP: setContents(test.embedded.data.Base.readBase(in)); break;
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case CONTENTS__ID: setContents(test.embedded.data.Base.readBase(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -170,6 +186,26 @@ public class EmbeddingSingleContainer_Impl extends de.haumacher.msgbuf.data.Abst
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		if (hasContents()) {
+			result += 1;
+			result += getContents().binarySize();
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.embedded.data.EmbeddingSingleContainer} from a polymorphic composition. */
 	public static test.embedded.data.EmbeddingSingleContainer readEmbeddingSingleContainer_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.embedded.data.impl.EmbeddingSingleContainer_Impl result = new EmbeddingSingleContainer_Impl();
@@ -75,6 +75,11 @@ public interface SearchRequest extends de.haumacher.msgbuf.data.DataObject, de.h
 			}
 		}
 
+		/** The number of bytes written by {@link #writeTo(de.haumacher.msgbuf.binary.DataWriter)}. */
+		public final int binarySize() {
+			return 1;
+		}
+
 		/** Reads a new instance from the given binary reader. */
 		public static Corpus readCorpus(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 			switch (in.nextInt()) {
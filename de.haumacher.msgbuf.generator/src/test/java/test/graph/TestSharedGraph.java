@@ -4,19 +4,28 @@
 package test.graph;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import de.haumacher.msgbuf.binary.ByteArrayDataReader;
+import de.haumacher.msgbuf.binary.DataType;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
 import de.haumacher.msgbuf.graph.DefaultScope;
+import de.haumacher.msgbuf.graph.Patch;
 import de.haumacher.msgbuf.graph.Scope;
 import de.haumacher.msgbuf.io.StringR;
 import de.haumacher.msgbuf.io.StringW;
 import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
+import de.haumacher.msgbuf.server.graph.PatchCompression;
 import junit.framework.TestCase;
 import test.graph.data.Car;
 import test.graph.data.Circle;
 import test.graph.data.Group;
 import test.graph.data.Rectangle;
 import test.graph.data.Shape;
+import test.graph.data.impl.Circle_Impl;
 
 /**
  * Test case for shared graph synchronization.
@@ -25,6 +34,11 @@ public class TestSharedGraph extends TestCase {
 
 	private DefaultScope _server;
 	private DefaultScope _client;
+
+	/**
+	 * Whether to transmit data and patches in binary format.
+	 */
+	private boolean _binary;
 	
 	@Override
 	protected void setUp() throws Exception {
@@ -92,7 +106,383 @@ public class TestSharedGraph extends TestCase {
 		assertSame(clientGroup.getWheel1(), clientGroup.getWheel2());
 	}
 
+	/**
+	 * Test for synchronizing two object graphs via binary patches.
+	 */
+	public void testUpdateBinary() throws IOException {
+		_binary = true;
+		testUpdate();
+	}
+
+	/**
+	 * Test for sharing references in binary format.
+	 */
+	public void testSameTargetBinary() throws IOException {
+		_binary = true;
+		testSameTarget();
+	}
+
+	/**
+	 * Test for removing list elements and clearing references in binary format.
+	 */
+	public void testRemoveBinary() throws IOException {
+		_binary = true;
+
+		Car serverCar = Car.create().setWheel1(Circle.create().setRadius(1)).setBody(Rectangle.create().setWidth(2));
+		Group serverGroup = Group.create().addShape(serverCar).addShape(Circle.create().setRadius(3));
+		serverGroup.registerListener(_server);
+
+		Group clientGroup = transmit(_server, _client, serverGroup);
+		assertEquals(2, clientGroup.getShapes().size());
+		Car clientCar = (Car) clientGroup.getShapes().get(0);
+		assertEquals(1, clientCar.getWheel1().getRadius());
+
+		serverGroup.getShapes().remove(1);
+		serverGroup.addShape(Rectangle.create().setHeight(4));
+		serverCar.setWheel1(null);
+		syncGraph(_server, _client);
+
+		assertEquals(2, clientGroup.getShapes().size());
+		assertSame(clientCar, clientGroup.getShapes().get(0));
+		assertEquals(4, ((Rectangle) clientGroup.getShapes().get(1)).getHeight());
+		assertNull(clientCar.getWheel1());
+		assertEquals(2, clientCar.getBody().getWidth());
+	}
+
+	/**
+	 * Test that a binary patch entry with a value but without command is reported as format error.
+	 */
+	public void testMalformedBinaryPatch() throws IOException {
+		OctetDataWriter out = new OctetDataWriter();
+		out.beginObject();
+		out.name(DefaultScope.PATCH_COMMANDS);
+		out.beginArray(DataType.OBJECT, 1);
+		out.beginObject();
+		out.name(DefaultScope.PATCH_VALUE);
+		out.value(42);
+		out.endObject();
+		out.endArray();
+		out.endObject();
+
+		try {
+			_client.applyChanges(new ByteArrayDataReader(out.toByteArray()));
+			fail("Malformed patch must be reported.");
+		} catch (IOException ex) {
+			// Expected.
+		}
+	}
+
+	/**
+	 * Test that a property without binary format is not silently replaced with placeholder data.
+	 */
+	public void testNoBinaryFormat() throws IOException {
+		Circle circle = Circle.create();
+		try {
+			circle.writeFieldValue(_server, new OctetDataWriter(), "unknown");
+			fail("Missing binary format must be reported.");
+		} catch (IllegalStateException ex) {
+			// Expected.
+		}
+	}
+
+	public void testHandWrittenField() throws IOException {
+		ExtendedCircle circle = new ExtendedCircle();
+		JsonReader in = new JsonReader(new StringR("{\"r\": 5, \"label\": \"c1\", \"other\": [1], \"x\": 2}"));
+		in.beginObject();
+		circle.readFields(_server, in);
+		in.endObject();
+		assertEquals(5, circle.getRadius());
+		assertEquals(2, circle.getXCoordinate());
+		assertEquals("c1", circle._label);
+	}
+
+	/**
+	 * Hand-written subclass of a generated class reading an additional property by name.
+	 */
+	static class ExtendedCircle extends Circle_Impl {
+
+		String _label;
+
+		@Override
+		public void readField(Scope scope, JsonReader in, String field) throws IOException {
+			if ("label".equals(field)) {
+				_label = in.nextString();
+			} else {
+				super.readField(scope, in, field);
+			}
+		}
+	}
+
+	/**
+	 * Test for deleting nodes that are no longer reachable.
+	 */
+	public void testGc() throws IOException {
+		Circle wheel = Circle.create().setRadius(1);
+		Car serverCar = Car.create().setWheel1(wheel).setWheel2(wheel).setBody(Rectangle.create().setWidth(2));
+		Group serverGroup = Group.create().addShape(serverCar).addShape(Circle.create().setRadius(3));
+		serverGroup.registerListener(_server);
+		_server.addRoot(serverGroup);
+
+		Group clientGroup = transmit(_server, _client, serverGroup);
+		Car clientCar = (Car) clientGroup.getShapes().get(0);
+		int carId = _server.id(serverCar);
+		int wheelId = _server.id(wheel);
+		assertSame(clientCar, _client.lookup(carId));
+
+		// Nothing to collect.
+		assertEquals(0, _server.gc());
+		assertFalse(_server.hasChanges());
+
+		// Still referenced as second wheel.
+		serverCar.setWheel1(null);
+		assertEquals(0, _server.gc());
+
+		// Detach the car including its wheel and body.
+		serverGroup.getShapes().remove(0);
+		assertEquals(3, _server.gc());
+		assertNull(_server.lookup(carId));
+		assertNull(_server.lookup(wheelId));
+		assertEquals(0, _server.id(serverCar));
+
+		syncGraph(_server, _client);
+		assertEquals(1, clientGroup.getShapes().size());
+		assertNull(_client.lookup(carId));
+		assertNull(_client.lookup(wheelId));
+		assertNotNull(_client.lookup(_server.id(serverGroup)));
+
+		// Deleted nodes are no longer observed.
+		serverCar.setXCoordinate(42);
+		assertFalse(_server.hasChanges());
+
+		// A deleted node is transmitted as new node, if attached again.
+		serverGroup.addShape(serverCar);
+		syncGraph(_server, _client);
+		assertTrue(_server.id(serverCar) > 0);
+		assertEquals(42, clientGroup.getShapes().get(1).getXCoordinate());
+		assertEquals(1, ((Car) clientGroup.getShapes().get(1)).getWheel2().getRadius());
+	}
+
+	/**
+	 * Test for deleting nodes in binary format.
+	 */
+	public void testGcBinary() throws IOException {
+		_binary = true;
+		testGc();
+	}
+
+	/**
+	 * Test for compacting list updates before creating a patch.
+	 */
+	public void testListCompaction() throws IOException {
+		Group serverGroup = Group.create();
+		for (int n = 0; n < 100; n++) {
+			serverGroup.addShape(Circle.create().setRadius(n));
+		}
+		serverGroup.registerListener(_server);
+		Group clientGroup = transmit(_server, _client, serverGroup);
+
+		// Inverse operations cancel out.
+		serverGroup.getShapes().add(3, Circle.create().setRadius(1000));
+		serverGroup.getShapes().remove(3);
+		assertEquals("[]", syncJson());
+
+		// Adjacent inserts are merged.
+		for (int n = 0; n < 3; n++) {
+			serverGroup.getShapes().add(10 + n, Circle.create().setRadius(1000 + n));
+		}
+		serverGroup.getShapes().remove(50);
+		String patch = syncJson();
+		assertTrue(patch, patch.startsWith("[[[\"R\",{\"id\":1,\"p\":\"shapes\",\"i\":47}]],[[\"M\",{\"id\":1,\"p\":\"shapes\",\"i\":10}],"));
+		assertEquals(radii(serverGroup), radii(clientGroup));
+
+		// Many changes to a short list result in a complete update.
+		for (int n = 0; n < 95; n++) {
+			serverGroup.getShapes().remove(0);
+		}
+		serverGroup.getShapes().add(0, Circle.create().setRadius(2000));
+		patch = syncJson();
+		assertTrue(patch, patch.startsWith("[[[\"S\","));
+		assertEquals(radii(serverGroup), radii(clientGroup));
+	}
+
+	/**
+	 * Test for choosing the smaller patch of a compacted chain of list updates and a complete update.
+	 */
+	public void testListCompactionSize() throws IOException {
+		Group serverGroup = Group.create();
+		for (int n = 0; n < 100; n++) {
+			serverGroup.addShape(Circle.create().setRadius(n));
+		}
+		serverGroup.registerListener(_server);
+		Group clientGroup = transmit(_server, _client, serverGroup);
+
+		// Replacing a few elements is transmitted as updates.
+		for (int n = 0; n < 3; n++) {
+			serverGroup.getShapes().set(5 * n, Circle.create().setRadius(100 + n));
+		}
+		String patch = syncJson();
+		assertTrue(patch, patch.startsWith("[[[\"R\","));
+		assertFalse(patch, patch.contains("[\"S\","));
+		assertEquals(radii(serverGroup), radii(clientGroup));
+
+		// Replacing most elements is transmitted as complete value, since the updates would be larger.
+		for (int n = 0; n < 80; n++) {
+			serverGroup.getShapes().set(n, Circle.create().setRadius(200 + n));
+		}
+		patch = syncJson();
+		assertTrue(patch, patch.startsWith("[[[\"S\","));
+		assertEquals(radii(serverGroup), radii(clientGroup));
+
+		_binary = true;
+		for (int n = 0; n < 3; n++) {
+			serverGroup.getShapes().set(5 * n, Circle.create().setRadius(300 + n));
+		}
+		syncGraph(_server, _client);
+		assertEquals(radii(serverGroup), radii(clientGroup));
+
+		for (int n = 0; n < 80; n++) {
+			serverGroup.getShapes().set(n, Circle.create().setRadius(400 + n));
+		}
+		syncGraph(_server, _client);
+		assertEquals(radii(serverGroup), radii(clientGroup));
+	}
+
+	private String syncJson() throws IOException {
+		StringW patchMessage = new StringW();
+		_server.createPatch(new JsonWriter(patchMessage));
+		String result = patchMessage.toString();
+		_client.applyChanges(new JsonReader(new StringR(result)));
+		return result;
+	}
+
+	/**
+	 * Test that random list updates are transmitted correctly after compaction.
+	 */
+	public void testRandomListUpdates() throws IOException {
+		Random rnd = new Random(42);
+		Group serverGroup = Group.create();
+		for (int n = 0; n < 50; n++) {
+			serverGroup.addShape(Circle.create().setRadius(n));
+		}
+		serverGroup.registerListener(_server);
+		Group clientGroup = transmit(_server, _client, serverGroup);
+
+		int nextRadius = 1000;
+		for (int round = 0; round < 50; round++) {
+			List<Shape> shapes = serverGroup.getShapes();
+			for (int n = 0, cnt = rnd.nextInt(20); n < cnt; n++) {
+				if (shapes.isEmpty() || rnd.nextBoolean()) {
+					shapes.add(rnd.nextInt(shapes.size() + 1), Circle.create().setRadius(nextRadius++));
+				} else {
+					shapes.remove(rnd.nextInt(shapes.size()));
+				}
+			}
+			syncGraph(_server, _client);
+			assertEquals(radii(serverGroup), radii(clientGroup));
+		}
+	}
+
+	/**
+	 * Test for transmitting random list updates in binary format.
+	 */
+	public void testRandomListUpdatesBinary() throws IOException {
+		_binary = true;
+		testRandomListUpdates();
+	}
+
+	private static List<Integer> radii(Group group) {
+		List<Integer> result = new ArrayList<>();
+		for (Shape shape : group.getShapes()) {
+			result.add(((Circle) shape).getRadius());
+		}
+		return result;
+	}
+
+	/**
+	 * Test for delivering the same patch to many subscribers including a late joiner.
+	 */
+	public void testPublish() throws IOException {
+		_binary = true;
+		_server.setRetainedPatches(2);
+
+		Group serverGroup = Group.create();
+		serverGroup.registerListener(_server);
+
+		List<DefaultScope> clientScopes = new ArrayList<>();
+		List<Group> clientGroups = new ArrayList<>();
+		List<Patch> delivered = new ArrayList<>();
+		for (int n = 0; n < 3; n++) {
+			DefaultScope clientScope = DefaultScope.newClientInstance();
+			clientScopes.add(clientScope);
+			clientGroups.add((Group) Shape.readShape(clientScope, new ByteArrayDataReader(snapshot(serverGroup))));
+			_server.subscribe(patch -> {
+				delivered.add(patch);
+				try {
+					clientScope.applyChanges(PatchCompression.inflate(patch.derive(PatchCompression.DEFLATE)));
+				} catch (IOException ex) {
+					throw new RuntimeException(ex);
+				}
+			});
+		}
+		assertNull(_server.publish());
+
+		serverGroup.addShape(Circle.create().setRadius(1));
+		Patch first = _server.publish();
+		assertEquals(1, first.getSequence());
+		assertEquals(3, delivered.size());
+		for (Patch patch : delivered) {
+			assertSame(first, patch);
+		}
+		for (Group clientGroup : clientGroups) {
+			assertEquals(1, ((Circle) clientGroup.getShapes().get(0)).getRadius());
+		}
+		assertSame(first.derive(PatchCompression.DEFLATE), first.derive(PatchCompression.DEFLATE));
+
+		// A late joiner that has seen the state before the first patch.
+		DefaultScope lateScope = DefaultScope.newClientInstance();
+		Group lateGroup = (Group) Shape.readShape(lateScope, new ByteArrayDataReader(snapshot(serverGroup)));
+		long lateSequence = _server.getSequence();
+
+		serverGroup.getShapes().get(0).setXCoordinate(5);
+		Patch second = _server.publish();
+		assertEquals(2, second.getSequence());
+
+		serverGroup.getShapes().get(0).setYCoordinate(6);
+		_server.publish();
+		assertNull(_server.patchesSince(0));
+		assertEquals(1, _server.patchesSince(2).size());
+		assertTrue(_server.patchesSince(3).isEmpty());
+
+		assertTrue(_server.subscribe(patch -> apply(lateScope, patch), lateSequence));
+		assertEquals(5, lateGroup.getShapes().get(0).getXCoordinate());
+		assertEquals(6, lateGroup.getShapes().get(0).getYCoordinate());
+		assertFalse(_server.subscribe(patch -> fail(), 0));
+	}
+
+	private byte[] snapshot(Shape shape) throws IOException {
+		OctetDataWriter out = new OctetDataWriter();
+		_server.writeSnapshot(out, shape);
+		return out.toByteArray();
+	}
+
+	private static void apply(DefaultScope scope, Patch patch) {
+		try {
+			scope.applyChanges(patch);
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
 	private <S extends Shape> S transmit(Scope server, Scope client, S shape) throws IOException {
+		if (_binary) {
+			OctetDataWriter out = new OctetDataWriter();
+			shape.writeTo(server, out);
+
+			@SuppressWarnings("unchecked")
+			S clientShape = (S) Shape.readShape(client, new ByteArrayDataReader(out.toByteArray()));
+			return clientShape;
+		}
+
 		StringW dataMessage = new StringW();
 		shape.writeTo(server, new JsonWriter(dataMessage));
 
@@ -103,6 +493,13 @@ public class TestSharedGraph extends TestCase {
 	}
 	
 	private void syncGraph(DefaultScope source, DefaultScope target) throws IOException {
+		if (_binary) {
+			OctetDataWriter out = new OctetDataWriter();
+			source.createPatch(out);
+			target.applyChanges(new ByteArrayDataReader(out.toByteArray()));
+			return;
+		}
+
 		StringW patchMessage = new StringW();
 		source.createPatch(new JsonWriter(patchMessage));
 		target.applyChanges(new JsonReader(new StringR(patchMessage.toString())));
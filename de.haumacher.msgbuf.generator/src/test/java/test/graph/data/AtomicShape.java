@@ -43,6 +43,36 @@ public interface AtomicShape extends Shape {
 		return result;
 	}
 
+	/** Reads a new instance from the given binary reader. */
+	static test.graph.data.AtomicShape readAtomicShape(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.graph.data.AtomicShape result;
+		in.beginObject();
+		int field = in.nextName();
+		if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {
+			result = (test.graph.data.AtomicShape) scope.resolveOrFail(in.nextInt());
+		} else {
+			assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;
+			String type = in.nextString();
+			switch (type) {
+				case Circle.CIRCLE__TYPE: result = test.graph.data.Circle.create(); break;
+				case Rectangle.RECTANGLE__TYPE: result = test.graph.data.Rectangle.create(); break;
+				default: result = null; break;
+			}
+			int idField = in.nextName();
+			assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;
+			int id = in.nextInt();
+			int dataField = in.nextName();
+			assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;
+			if (result == null) {
+				in.skipValue();
+			} else {
+				scope.readData(result, id, in);
+			}
+		}
+		in.endObject();
+		return result;
+	}
+
 	/** Creates a new {@link AtomicShape} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
 	public static AtomicShape readAtomicShape(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
 		in.nextTag();
@@ -24,6 +24,15 @@ public interface Car extends Shape {
 	/** @see #getBody() */
 	String BODY__PROP = "body";
 
+	/** Identifier for the property {@link #getWheel1()}. */
+	static final int WHEEL_1__ID = 3;
+
+	/** Identifier for the property {@link #getWheel2()}. */
+	static final int WHEEL_2__ID = 4;
+
+	/** Identifier for the property {@link #getBody()}. */
+	static final int BODY__ID = 5;
+
 	/**
 	 * The front wheel.
 	 */
@@ -90,6 +99,33 @@ public interface Car extends Shape {
 		return result;
 	}
 
+	/** Reads a new instance from the given binary reader. */
+	static test.graph.data.Car readCar(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.graph.data.Car result;
+		in.beginObject();
+		int field = in.nextName();
+		if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {
+			result = (test.graph.data.Car) scope.resolveOrFail(in.nextInt());
+		} else {
+			assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;
+			String type = in.nextString();
+			assert CAR__TYPE.equals(type);
+			result = new test.graph.data.impl.Car_Impl();
+			int idField = in.nextName();
+			assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;
+			int id = in.nextInt();
+			int dataField = in.nextName();
+			assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;
+			if (result == null) {
+				in.skipValue();
+			} else {
+				scope.readData(result, id, in);
+			}
+		}
+		in.endObject();
+		return result;
+	}
+
 	/** Creates a new {@link Car} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
 	public static Car readCar(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
 		in.nextTag();
@@ -18,6 +18,9 @@ public interface Circle extends AtomicShape {
 	/** @see #getRadius() */
 	String RADIUS__PROP = "r";
 
+	/** Identifier for the property {@link #getRadius()}. */
+	static final int RADIUS__ID = 3;
+
 	/**
 	 * The radius of this {@link Circle} around its coordinate origin at ({@link #getXCoordinate()}, {@link #getYCoordinate()}).
 	 */
@@ -49,6 +52,33 @@ public interface Circle extends AtomicShape {
 		return result;
 	}
 
+	/** Reads a new instance from the given binary reader. */
+	static test.graph.data.Circle readCircle(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.graph.data.Circle result;
+		in.beginObject();
+		int field = in.nextName();
+		if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {
+			result = (test.graph.data.Circle) scope.resolveOrFail(in.nextInt());
+		} else {
+			assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;
+			String type = in.nextString();
+			assert CIRCLE__TYPE.equals(type);
+			result = new test.graph.data.impl.Circle_Impl();
+			int idField = in.nextName();
+			assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;
+			int id = in.nextInt();
+			int dataField = in.nextName();
+			assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;
+			if (result == null) {
+				in.skipValue();
+			} else {
+				scope.readData(result, id, in);
+			}
+		}
+		in.endObject();
+		return result;
+	}
+
 	/** Creates a new {@link Circle} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
 	public static Circle readCircle(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
 		in.nextTag();
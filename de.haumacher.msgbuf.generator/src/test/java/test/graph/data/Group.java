@@ -18,6 +18,9 @@ public interface Group extends Shape {
 	/** @see #getShapes() */
 	String SHAPES__PROP = "shapes";
 
+	/** Identifier for the property {@link #getShapes()}. */
+	static final int SHAPES__ID = 3;
+
 	/**
 	 * All {@link Shape}s in this {@link Group}.
 	 *
@@ -63,6 +66,33 @@ public interface Group extends Shape {
 		return result;
 	}
 
+	/** Reads a new instance from the given binary reader. */
+	static test.graph.data.Group readGroup(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.graph.data.Group result;
+		in.beginObject();
+		int field = in.nextName();
+		if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {
+			result = (test.graph.data.Group) scope.resolveOrFail(in.nextInt());
+		} else {
+			assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;
+			String type = in.nextString();
+			assert GROUP__TYPE.equals(type);
+			result = new test.graph.data.impl.Group_Impl();
+			int idField = in.nextName();
+			assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;
+			int id = in.nextInt();
+			int dataField = in.nextName();
+			assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;
+			if (result == null) {
+				in.skipValue();
+			} else {
+				scope.readData(result, id, in);
+			}
+		}
+		in.endObject();
+		return result;
+	}
+
 	/** Creates a new {@link Group} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
 	public static Group readGroup(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
 		in.nextTag();
@@ -21,6 +21,12 @@ public interface Rectangle extends AtomicShape {
 	/** @see #getHeight() */
 	String HEIGHT__PROP = "h";
 
+	/** Identifier for the property {@link #getWidth()}. */
+	static final int WIDTH__ID = 3;
+
+	/** Identifier for the property {@link #getHeight()}. */
+	static final int HEIGHT__ID = 4;
+
 	/**
 	 * The width of this {@link Rectangle}.
 	 *
@@ -70,6 +76,33 @@ public interface Rectangle extends AtomicShape {
 		return result;
 	}
 
+	/** Reads a new instance from the given binary reader. */
+	static test.graph.data.Rectangle readRectangle(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.graph.data.Rectangle result;
+		in.beginObject();
+		int field = in.nextName();
+		if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {
+			result = (test.graph.data.Rectangle) scope.resolveOrFail(in.nextInt());
+		} else {
+			assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;
+			String type = in.nextString();
+			assert RECTANGLE__TYPE.equals(type);
+			result = new test.graph.data.impl.Rectangle_Impl();
+			int idField = in.nextName();
+			assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;
+			int id = in.nextInt();
+			int dataField = in.nextName();
+			assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;
+			if (result == null) {
+				in.skipValue();
+			} else {
+				scope.readData(result, id, in);
+			}
+		}
+		in.endObject();
+		return result;
+	}
+
 	/** Creates a new {@link Rectangle} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
 	public static Rectangle readRectangle(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
 		in.nextTag();
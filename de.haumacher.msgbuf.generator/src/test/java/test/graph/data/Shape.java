@@ -40,6 +40,12 @@ public interface Shape extends de.haumacher.msgbuf.graph.SharedGraphNode, de.hau
 	/** @see #getYCoordinate() */
 	String Y_COORDINATE__PROP = "y";
 
+	/** Identifier for the property {@link #getXCoordinate()}. */
+	static final int X_COORDINATE__ID = 1;
+
+	/** Identifier for the property {@link #getYCoordinate()}. */
+	static final int Y_COORDINATE__ID = 2;
+
 	/** The type code of this instance. */
 	TypeKind kind();
 
@@ -86,6 +92,38 @@ public interface Shape extends de.haumacher.msgbuf.graph.SharedGraphNode, de.hau
 		return result;
 	}
 
+	/** Reads a new instance from the given binary reader. */
+	static test.graph.data.Shape readShape(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.graph.data.Shape result;
+		in.beginObject();
+		int field = in.nextName();
+		if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {
+			result = (test.graph.data.Shape) scope.resolveOrFail(in.nextInt());
+		} else {
+			assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;
+			String type = in.nextString();
+			switch (type) {
+				case Group.GROUP__TYPE: result = test.graph.data.Group.create(); break;
+				case Car.CAR__TYPE: result = test.graph.data.Car.create(); break;
+				case Circle.CIRCLE__TYPE: result = test.graph.data.Circle.create(); break;
+				case Rectangle.RECTANGLE__TYPE: result = test.graph.data.Rectangle.create(); break;
+				default: result = null; break;
+			}
+			int idField = in.nextName();
+			assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;
+			int id = in.nextInt();
+			int dataField = in.nextName();
+			assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;
+			if (result == null) {
+				in.skipValue();
+			} else {
+				scope.readData(result, id, in);
+			}
+		}
+		in.endObject();
+		return result;
+	}
+
 	/** Creates a new {@link Shape} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
 	public static Shape readShape(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
 		in.nextTag();
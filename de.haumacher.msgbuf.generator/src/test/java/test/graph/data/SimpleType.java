@@ -21,6 +21,12 @@ public interface SimpleType extends de.haumacher.msgbuf.graph.SharedGraphNode, d
 	/** @see #getX() */
 	String X__PROP = "x";
 
+	/** Identifier for the property {@link #getStr()}. */
+	static final int STR__ID = 1;
+
+	/** Identifier for the property {@link #getX()}. */
+	static final int X__ID = 2;
+
 	/**
 	 * A string property
 	 */
@@ -56,6 +62,33 @@ public interface SimpleType extends de.haumacher.msgbuf.graph.SharedGraphNode, d
 		return result;
 	}
 
+	/** Reads a new instance from the given binary reader. */
+	static test.graph.data.SimpleType readSimpleType(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.graph.data.SimpleType result;
+		in.beginObject();
+		int field = in.nextName();
+		if (field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID) {
+			result = (test.graph.data.SimpleType) scope.resolveOrFail(in.nextInt());
+		} else {
+			assert field == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_TYPE;
+			String type = in.nextString();
+			assert SIMPLE_TYPE__TYPE.equals(type);
+			result = new test.graph.data.impl.SimpleType_Impl();
+			int idField = in.nextName();
+			assert idField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_ID;
+			int id = in.nextInt();
+			int dataField = in.nextName();
+			assert dataField == de.haumacher.msgbuf.graph.SharedGraphNode.BINARY_DATA;
+			if (result == null) {
+				in.skipValue();
+			} else {
+				scope.readData(result, id, in);
+			}
+		}
+		in.endObject();
+		return result;
+	}
+
 	/** Creates a new {@link SimpleType} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
 	public static SimpleType readSimpleType(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
 		in.nextTag();
@@ -151,19 +151,28 @@ public class Car_Impl extends test.graph.data.impl.Shape_Impl implements test.gr
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #WHEEL_1__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WHEEL_1__NAME = de.haumacher.msgbuf.json.JsonName.of(WHEEL_1__PROP);
+
+	/** Pre-encoded JSON name of {@link #WHEEL_2__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WHEEL_2__NAME = de.haumacher.msgbuf.json.JsonName.of(WHEEL_2__PROP);
+
+	/** Pre-encoded JSON name of {@link #BODY__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName BODY__NAME = de.haumacher.msgbuf.json.JsonName.of(BODY__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(scope, out);
 		if (hasWheel1()) {
-			out.name(WHEEL_1__PROP);
+			out.name(WHEEL_1__NAME);
 			getWheel1().writeTo(scope, out);
 		}
 		if (hasWheel2()) {
-			out.name(WHEEL_2__PROP);
+			out.name(WHEEL_2__NAME);
 			getWheel2().writeTo(scope, out);
 		}
 		if (hasBody()) {
-			out.name(BODY__PROP);
+			out.name(BODY__NAME);
 			getBody().writeTo(scope, out);
 		}
 	}
@@ -199,12 +208,68 @@ public class Car_Impl extends test.graph.data.impl.Shape_Impl implements test.gr
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "wheel1", "wheel2", "body"},
+		new int[] {1, 2, 3, 4, 5});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case WHEEL_1__ID: setWheel1(test.graph.data.Circle.readCircle(scope, in)); break;
+			case WHEEL_2__ID: setWheel2(test.graph.data.Circle.readCircle(scope, in)); break;
+			case BODY__ID: setBody(test.graph.data.Rectangle.readRectangle(scope, in)); break;
+			default: super.readField(scope, in, field);
+		}
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(scope, out);
+		if (hasWheel1()) {
+			out.name(WHEEL_1__ID);
+			getWheel1().writeTo(scope, out);
+		}
+		if (hasWheel2()) {
+			out.name(WHEEL_2__ID);
+			getWheel2().writeTo(scope, out);
+		}
+		if (hasBody()) {
+			out.name(BODY__ID);
+			getBody().writeTo(scope, out);
+		}
+	}
+
+	@Override
+	public void writeFieldValue(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field) throws java.io.IOException {
+		switch (field) {
+			case WHEEL_1__PROP: {
+				getWheel1().writeTo(scope, out);
+				break;
+			}
+			case WHEEL_2__PROP: {
+				getWheel2().writeTo(scope, out);
+				break;
+			}
+			case BODY__PROP: {
+				getBody().writeTo(scope, out);
+				break;
+			}
+			default: super.writeFieldValue(scope, out, field);
+		}
+	}
+
 	@Override
-	public void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case WHEEL_1__PROP: setWheel1(test.graph.data.Circle.readCircle(scope, in)); break;
-			case WHEEL_2__PROP: setWheel2(test.graph.data.Circle.readCircle(scope, in)); break;
-			case BODY__PROP: setBody(test.graph.data.Rectangle.readRectangle(scope, in)); break;
+			case WHEEL_1__ID: setWheel1(test.graph.data.Circle.readCircle(scope, in)); break;
+			case WHEEL_2__ID: setWheel2(test.graph.data.Circle.readCircle(scope, in)); break;
+			case BODY__ID: setBody(test.graph.data.Rectangle.readRectangle(scope, in)); break;
 			default: super.readField(scope, in, field);
 		}
 	}
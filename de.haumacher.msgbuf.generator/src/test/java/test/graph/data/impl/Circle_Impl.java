@@ -90,10 +90,13 @@ public class Circle_Impl extends test.graph.data.impl.AtomicShape_Impl implement
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #RADIUS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName RADIUS__NAME = de.haumacher.msgbuf.json.JsonName.of(RADIUS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(scope, out);
-		out.name(RADIUS__PROP);
+		out.name(RADIUS__NAME);
 		out.value(getRadius());
 	}
 
@@ -108,10 +111,46 @@ public class Circle_Impl extends test.graph.data.impl.AtomicShape_Impl implement
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "r"},
+		new int[] {1, 2, 3});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case RADIUS__ID: setRadius(in.nextInt()); break;
+			default: super.readField(scope, in, field);
+		}
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(scope, out);
+		out.name(RADIUS__ID);
+		out.value(getRadius());
+	}
+
+	@Override
+	public void writeFieldValue(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field) throws java.io.IOException {
+		switch (field) {
+			case RADIUS__PROP: {
+				out.value(getRadius());
+				break;
+			}
+			default: super.writeFieldValue(scope, out, field);
+		}
+	}
+
 	@Override
-	public void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case RADIUS__PROP: setRadius(in.nextInt()); break;
+			case RADIUS__ID: setRadius(in.nextInt()); break;
 			default: super.readField(scope, in, field);
 		}
 	}
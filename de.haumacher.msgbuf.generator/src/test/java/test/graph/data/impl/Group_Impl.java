@@ -121,10 +121,13 @@ public class Group_Impl extends test.graph.data.impl.Shape_Impl implements test.
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #SHAPES__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SHAPES__NAME = de.haumacher.msgbuf.json.JsonName.of(SHAPES__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(scope, out);
-		out.name(SHAPES__PROP);
+		out.name(SHAPES__NAME);
 		out.beginArray();
 		for (test.graph.data.Shape x : getShapes()) {
 			x.writeTo(scope, out);
@@ -147,10 +150,20 @@ public class Group_Impl extends test.graph.data.impl.Shape_Impl implements test.
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "shapes"},
+		new int[] {1, 2, 3});
+
 	@Override
-	public void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case SHAPES__PROP: {
+			case SHAPES__ID: {
 				java.util.List<test.graph.data.Shape> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -185,6 +198,76 @@ public class Group_Impl extends test.graph.data.impl.Shape_Impl implements test.
 		}
 	}
 
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(scope, out);
+		out.name(SHAPES__ID);
+		{
+			java.util.List<test.graph.data.Shape> values = getShapes();
+			out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+			for (test.graph.data.Shape x : values) {
+				x.writeTo(scope, out);
+			}
+			out.endArray();
+		}
+	}
+
+	@Override
+	public void writeFieldValue(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field) throws java.io.IOException {
+		switch (field) {
+			case SHAPES__PROP: {
+				{
+					java.util.List<test.graph.data.Shape> values = getShapes();
+					out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+					for (test.graph.data.Shape x : values) {
+						x.writeTo(scope, out);
+					}
+					out.endArray();
+				}
+				break;
+			}
+			default: super.writeFieldValue(scope, out, field);
+		}
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case SHAPES__ID: {
+				java.util.List<test.graph.data.Shape> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(test.graph.data.Shape.readShape(scope, in));
+				}
+				in.endArray();
+				setShapes(newValue);
+			}
+			break;
+			default: super.readField(scope, in, field);
+		}
+	}
+
+	@Override
+	public void writeElement(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field, Object element) throws java.io.IOException {
+		switch (field) {
+			case SHAPES__PROP: {
+				((test.graph.data.Shape) element).writeTo(scope, out);
+				break;
+			}
+			default: super.writeElement(scope, out, field, element);
+		}
+	}
+
+	@Override
+	public Object readElement(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, String field) throws java.io.IOException {
+		switch (field) {
+			case SHAPES__PROP: {
+				return test.graph.data.Shape.readShape(scope, in);
+			}
+			default: return super.readElement(scope, in, field);
+		}
+	}
+
 	/** XML element name representing a {@link test.graph.data.Group} type. */
 	public static final String GROUP__XML_ELEMENT = "group";
 
@@ -113,12 +113,18 @@ public class Rectangle_Impl extends test.graph.data.impl.AtomicShape_Impl implem
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #WIDTH__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WIDTH__NAME = de.haumacher.msgbuf.json.JsonName.of(WIDTH__PROP);
+
+	/** Pre-encoded JSON name of {@link #HEIGHT__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName HEIGHT__NAME = de.haumacher.msgbuf.json.JsonName.of(HEIGHT__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(scope, out);
-		out.name(WIDTH__PROP);
+		out.name(WIDTH__NAME);
 		out.value(getWidth());
-		out.name(HEIGHT__PROP);
+		out.name(HEIGHT__NAME);
 		out.value(getHeight());
 	}
 
@@ -137,11 +143,54 @@ public class Rectangle_Impl extends test.graph.data.impl.AtomicShape_Impl implem
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "w", "h"},
+		new int[] {1, 2, 3, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case WIDTH__ID: setWidth(in.nextInt()); break;
+			case HEIGHT__ID: setHeight(in.nextInt()); break;
+			default: super.readField(scope, in, field);
+		}
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(scope, out);
+		out.name(WIDTH__ID);
+		out.value(getWidth());
+		out.name(HEIGHT__ID);
+		out.value(getHeight());
+	}
+
+	@Override
+	public void writeFieldValue(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field) throws java.io.IOException {
+		switch (field) {
+			case WIDTH__PROP: {
+				out.value(getWidth());
+				break;
+			}
+			case HEIGHT__PROP: {
+				out.value(getHeight());
+				break;
+			}
+			default: super.writeFieldValue(scope, out, field);
+		}
+	}
+
 	@Override
-	public void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case WIDTH__PROP: setWidth(in.nextInt()); break;
-			case HEIGHT__PROP: setHeight(in.nextInt()); break;
+			case WIDTH__ID: setWidth(in.nextInt()); break;
+			case HEIGHT__ID: setHeight(in.nextInt()); break;
 			default: super.readField(scope, in, field);
 		}
 	}
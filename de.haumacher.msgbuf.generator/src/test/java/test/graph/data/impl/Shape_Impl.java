@@ -88,12 +88,18 @@ public abstract class Shape_Impl extends de.haumacher.msgbuf.graph.AbstractShare
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #X_COORDINATE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName X_COORDINATE__NAME = de.haumacher.msgbuf.json.JsonName.of(X_COORDINATE__PROP);
+
+	/** Pre-encoded JSON name of {@link #Y_COORDINATE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName Y_COORDINATE__NAME = de.haumacher.msgbuf.json.JsonName.of(Y_COORDINATE__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(scope, out);
-		out.name(X_COORDINATE__PROP);
+		out.name(X_COORDINATE__NAME);
 		out.value(getXCoordinate());
-		out.name(Y_COORDINATE__PROP);
+		out.name(Y_COORDINATE__NAME);
 		out.value(getYCoordinate());
 	}
 
@@ -112,11 +118,54 @@ public abstract class Shape_Impl extends de.haumacher.msgbuf.graph.AbstractShare
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case X_COORDINATE__ID: setXCoordinate(in.nextInt()); break;
+			case Y_COORDINATE__ID: setYCoordinate(in.nextInt()); break;
+			default: super.readField(scope, in, field);
+		}
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(scope, out);
+		out.name(X_COORDINATE__ID);
+		out.value(getXCoordinate());
+		out.name(Y_COORDINATE__ID);
+		out.value(getYCoordinate());
+	}
+
+	@Override
+	public void writeFieldValue(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field) throws java.io.IOException {
+		switch (field) {
+			case X_COORDINATE__PROP: {
+				out.value(getXCoordinate());
+				break;
+			}
+			case Y_COORDINATE__PROP: {
+				out.value(getYCoordinate());
+				break;
+			}
+			default: super.writeFieldValue(scope, out, field);
+		}
+	}
+
 	@Override
-	public void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case X_COORDINATE__PROP: setXCoordinate(in.nextInt()); break;
-			case Y_COORDINATE__PROP: setYCoordinate(in.nextInt()); break;
+			case X_COORDINATE__ID: setXCoordinate(in.nextInt()); break;
+			case Y_COORDINATE__ID: setYCoordinate(in.nextInt()); break;
 			default: super.readField(scope, in, field);
 		}
 	}
@@ -95,12 +95,18 @@ public class SimpleType_Impl extends de.haumacher.msgbuf.graph.AbstractSharedGra
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #STR__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName STR__NAME = de.haumacher.msgbuf.json.JsonName.of(STR__PROP);
+
+	/** Pre-encoded JSON name of {@link #X__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName X__NAME = de.haumacher.msgbuf.json.JsonName.of(X__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(scope, out);
-		out.name(STR__PROP);
+		out.name(STR__NAME);
 		out.value(getStr());
-		out.name(X__PROP);
+		out.name(X__NAME);
 		out.value(getX());
 	}
 
@@ -119,11 +125,54 @@ public class SimpleType_Impl extends de.haumacher.msgbuf.graph.AbstractSharedGra
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"str", "x"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case STR__ID: setStr(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case X__ID: setX(in.nextInt()); break;
+			default: super.readField(scope, in, field);
+		}
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(scope, out);
+		out.name(STR__ID);
+		out.value(getStr());
+		out.name(X__ID);
+		out.value(getX());
+	}
+
+	@Override
+	public void writeFieldValue(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataWriter out, String field) throws java.io.IOException {
+		switch (field) {
+			case STR__PROP: {
+				out.value(getStr());
+				break;
+			}
+			case X__PROP: {
+				out.value(getX());
+				break;
+			}
+			default: super.writeFieldValue(scope, out, field);
+		}
+	}
+
 	@Override
-	public void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.graph.Scope scope, de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case STR__PROP: setStr(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case X__PROP: setX(in.nextInt()); break;
+			case STR__ID: setStr(in.nextString()); break;
+			case X__ID: setX(in.nextInt()); break;
 			default: super.readField(scope, in, field);
 		}
 	}
@@ -7,6 +7,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -18,7 +20,11 @@ import javax.xml.stream.XMLStreamReader;
 import de.haumacher.msgbuf.binary.OctetDataReader;
 import de.haumacher.msgbuf.binary.OctetDataWriter;
 import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.json.JsonProjection;
 import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.server.json.Utf8JsonAssembler;
+import de.haumacher.msgbuf.server.json.Utf8JsonReader;
+import de.haumacher.msgbuf.server.json.Utf8JsonWriter;
 import junit.framework.TestCase;
 import test.hierarchy.data.Car;
 import test.hierarchy.data.Circle;
@@ -27,6 +33,7 @@ import test.hierarchy.data.Group;
 import test.hierarchy.data.Optional;
 import test.hierarchy.data.Rectangle;
 import test.hierarchy.data.Shape;
+import test.hierarchy.data.impl.Circle_Impl;
 
 /**
  * Test case for polymorphic data class inheritance hierarchies.
@@ -70,8 +77,62 @@ public class TestHierarchy extends TestCase {
 		assertEquals(20, ((Car) copy).getBody().getXCoordinate());
 	}
 	
+	public void testProjection() throws IOException {
+		Shape shape = Group.create()
+			.setXCoordinate(1)
+			.addShape(Car.create()
+				.setWheel1(Circle.create().setRadius(10).setXCoordinate(30))
+				.setWheel2(Circle.create().setRadius(10).setXCoordinate(50))
+				.setBody(Rectangle.create().setWidth(40).setHeight(20)));
+		String data = shape.toString();
+
+		for (JsonReader in : new JsonReader[] { new JsonReader(new StringR(data)),
+			new Utf8JsonReader(data.getBytes(StandardCharsets.UTF_8)) }) {
+			in.setFastSkip(true);
+			in.setProjection(JsonProjection.of("shapes.wheel1.r", "shapes.body"));
+			Group copy = (Group) Shape.readShape(in);
+			assertEquals(0, copy.getXCoordinate());
+
+			Car car = (Car) copy.getShapes().get(0);
+			assertEquals(10, car.getWheel1().getRadius());
+			assertEquals(0, car.getWheel1().getXCoordinate());
+			assertNull(car.getWheel2());
+			assertEquals(40, car.getBody().getWidth());
+			assertEquals(20, car.getBody().getHeight());
+		}
+	}
+
+	public void testAssembleChunks() throws IOException {
+		Shape car = Car.create().setWheel1(Circle.create().setRadius(10)).setBody(Rectangle.create().setWidth(40));
+		Shape circle = Circle.create().setRadius(5).setColor(Color.BLUE);
+		byte[] input = (car.toString() + "\n" + circle.toString()).getBytes(StandardCharsets.UTF_8);
+
+		List<Shape> result = new ArrayList<>();
+		Utf8JsonAssembler<Shape> assembler = new Utf8JsonAssembler<>(Shape::readShape, result::add);
+		for (int n = 0; n < input.length; n += 7) {
+			assembler.feed(input, n, Math.min(7, input.length - n));
+		}
+		assembler.end();
+
+		assertEquals(2, result.size());
+		assertEquals(car.toString(), result.get(0).toString());
+		assertEquals(circle.toString(), result.get(1).toString());
+	}
+
+	public void testJsonBytes() throws IOException {
+		Shape shape = Car.create().setWheel1(Circle.create().setRadius(10)).setBody(Rectangle.create().setWidth(40));
+		byte[] bytes = shape.toJsonBytes();
+		assertEquals(shape.toString(), new String(bytes, StandardCharsets.UTF_8));
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		shape.writeJson(buffer);
+		assertEquals(shape.toString(), new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+		assertEquals(shape.toString(), Shape.readShape(new Utf8JsonReader(bytes)).toString());
+	}
+
 	private void assertCopy(Shape shape, Consumer<Shape> check) throws IOException {
 		check.accept(writeAndReadBackJson(shape));
+		check.accept(writeAndReadBackUtf8Json(shape));
 		check.accept(writeAndReadBackBinary(shape));
 	}
 
@@ -80,12 +141,56 @@ public class TestHierarchy extends TestCase {
 		return Shape.readShape(new JsonReader(new StringR(data)));
 	}
 	
+	private Shape writeAndReadBackUtf8Json(Shape shape) throws IOException {
+		Utf8JsonWriter out = new Utf8JsonWriter();
+		shape.writeTo(out);
+		byte[] data = out.toByteArray();
+		assertEquals(shape.toString(), new String(data, StandardCharsets.UTF_8));
+		return Shape.readShape(new Utf8JsonReader(data));
+	}
+
 	private Shape writeAndReadBackBinary(Shape shape) throws IOException {
 		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-		shape.writeTo(new OctetDataWriter(buffer));
+		OctetDataWriter out = new OctetDataWriter(buffer);
+		shape.writeTo(out);
+		out.flush();
+		assertEquals(buffer.size(), shape.binarySize());
 		return Shape.readShape(new OctetDataReader(new ByteArrayInputStream(buffer.toByteArray())));
 	}
 	
+	public void testHandWrittenField() throws IOException {
+		ExtendedCircle circle = new ExtendedCircle();
+		circle.readContent(new JsonReader(new StringR("{\"r\": 5, \"label\": \"c1\", \"other\": [1], \"x\": 2}")));
+		assertEquals(5, circle.getRadius());
+		assertEquals(2, circle.getXCoordinate());
+		assertEquals("c1", circle._label);
+
+		ExtendedCircle projected = new ExtendedCircle();
+		JsonReader in = new JsonReader(new StringR("{\"r\": 5, \"label\": \"c2\", \"x\": 2}"));
+		in.setProjection(JsonProjection.of("r", "label"));
+		projected.readContent(in);
+		assertEquals(5, projected.getRadius());
+		assertEquals(0, projected.getXCoordinate());
+		assertEquals("c2", projected._label);
+	}
+
+	/**
+	 * Hand-written subclass of a generated class reading an additional property by name.
+	 */
+	static class ExtendedCircle extends Circle_Impl {
+
+		String _label;
+
+		@Override
+		protected void readField(JsonReader in, String field) throws IOException {
+			if ("label".equals(field)) {
+				_label = in.nextString();
+			} else {
+				super.readField(in, field);
+			}
+		}
+	}
+
 	public void testXmlRead() throws XMLStreamException, FactoryConfigurationError {
 		checkShape("<group x='10' y='20'><shapes><circle radius='50' color='blue'/><optional hidden='true'><shape><circle radius='100'/></shape></optional><car><wheel-1 radius='75'/></car></shapes></group>");
 		checkShape("<group> <x>10</x> <y>20</y> <circle><radius>50</radius><color>blue</color></circle> <optional><hidden>true</hidden> <circle radius='100'/></optional> <car><wheel-1><radius>75</radius></wheel-1></car> </group>");
@@ -68,6 +68,11 @@ public enum Color implements de.haumacher.msgbuf.data.ProtocolEnum {
 		}
 	}
 
+	/** The number of bytes written by {@link #writeTo(de.haumacher.msgbuf.binary.DataWriter)}. */
+	public final int binarySize() {
+		return 1;
+	}
+
 	/** Reads a new instance from the given binary reader. */
 	public static Color readColor(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		switch (in.nextInt()) {
@@ -157,29 +157,48 @@ public class Car_Impl extends test.hierarchy.data.impl.Shape_Impl implements tes
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #WHEEL_1__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WHEEL_1__NAME = de.haumacher.msgbuf.json.JsonName.of(WHEEL_1__PROP);
+
+	/** Pre-encoded JSON name of {@link #WHEEL_2__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WHEEL_2__NAME = de.haumacher.msgbuf.json.JsonName.of(WHEEL_2__PROP);
+
+	/** Pre-encoded JSON name of {@link #BODY__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName BODY__NAME = de.haumacher.msgbuf.json.JsonName.of(BODY__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
 		if (hasWheel1()) {
-			out.name(WHEEL_1__PROP);
+			out.name(WHEEL_1__NAME);
 			getWheel1().writeContent(out);
 		}
 		if (hasWheel2()) {
-			out.name(WHEEL_2__PROP);
+			out.name(WHEEL_2__NAME);
 			getWheel2().writeContent(out);
 		}
 		if (hasBody()) {
-			out.name(BODY__PROP);
+			out.name(BODY__NAME);
 			getBody().writeContent(out);
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "color", "wheel1", "wheel2", "body"},
+		new int[] {1, 2, 3, 4, 5, 6});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case WHEEL_1__PROP: setWheel1(test.hierarchy.data.Circle.readCircle(in)); break;
-			case WHEEL_2__PROP: setWheel2(test.hierarchy.data.Circle.readCircle(in)); break;
-			case BODY__PROP: setBody(test.hierarchy.data.Rectangle.readRectangle(in)); break;
+			case WHEEL_1__ID: setWheel1(test.hierarchy.data.Circle.readCircle(in)); break;
+			case WHEEL_2__ID: setWheel2(test.hierarchy.data.Circle.readCircle(in)); break;
+			case BODY__ID: setBody(test.hierarchy.data.Rectangle.readRectangle(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -206,6 +225,24 @@ public class Car_Impl extends test.hierarchy.data.impl.Shape_Impl implements tes
 		}
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		if (hasWheel1()) {
+			result += 1;
+			result += getWheel1().binarySize();
+		}
+		if (hasWheel2()) {
+			result += 1;
+			result += getWheel2().binarySize();
+		}
+		if (hasBody()) {
+			result += 1;
+			result += getBody().binarySize();
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.hierarchy.data.Car} from a polymorphic composition. */
 	public static test.hierarchy.data.Car readCar_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.hierarchy.data.impl.Car_Impl result = new Car_Impl();
@@ -127,10 +127,13 @@ public class Group_Impl extends test.hierarchy.data.impl.Shape_Impl implements t
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #SHAPES__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SHAPES__NAME = de.haumacher.msgbuf.json.JsonName.of(SHAPES__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(SHAPES__PROP);
+		out.name(SHAPES__NAME);
 		out.beginArray();
 		for (test.hierarchy.data.Shape x : getShapes()) {
 			x.writeTo(out);
@@ -138,10 +141,20 @@ public class Group_Impl extends test.hierarchy.data.impl.Shape_Impl implements t
 		out.endArray();
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "color", "shapes"},
+		new int[] {1, 2, 3, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case SHAPES__PROP: {
+			case SHAPES__ID: {
 				java.util.List<test.hierarchy.data.Shape> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -174,6 +187,19 @@ public class Group_Impl extends test.hierarchy.data.impl.Shape_Impl implements t
 		}
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		{
+			java.util.List<test.hierarchy.data.Shape> values = getShapes();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.hierarchy.data.Shape x : values) {
+				result += x.binarySize();
+			}
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.hierarchy.data.Group} from a polymorphic composition. */
 	public static test.hierarchy.data.Group readGroup_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.hierarchy.data.impl.Group_Impl result = new Group_Impl();
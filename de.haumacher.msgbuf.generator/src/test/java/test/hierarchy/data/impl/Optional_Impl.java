@@ -124,22 +124,38 @@ public class Optional_Impl extends test.hierarchy.data.impl.Shape_Impl implement
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #HIDDEN__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName HIDDEN__NAME = de.haumacher.msgbuf.json.JsonName.of(HIDDEN__PROP);
+
+	/** Pre-encoded JSON name of {@link #SHAPE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SHAPE__NAME = de.haumacher.msgbuf.json.JsonName.of(SHAPE__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(HIDDEN__PROP);
+		out.name(HIDDEN__NAME);
 		out.value(isHidden());
 		if (hasShape()) {
-			out.name(SHAPE__PROP);
+			out.name(SHAPE__NAME);
 			getShape().writeTo(out);
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "color", "hidden", "shape"},
+		new int[] {1, 2, 3, 4, 5});
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case HIDDEN__PROP: setHidden(in.nextBoolean()); break;
-			case SHAPE__PROP: setShape(test.hierarchy.data.Shape.readShape(in)); break;
+			case HIDDEN__ID: setHidden(in.nextBoolean()); break;
+			case SHAPE__ID: setShape(test.hierarchy.data.Shape.readShape(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -160,6 +176,18 @@ public class Optional_Impl extends test.hierarchy.data.impl.Shape_Impl implement
 		}
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += 1;
+		if (hasShape()) {
+			result += 1;
+			result += getShape().binarySize();
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.hierarchy.data.Optional} from a polymorphic composition. */
 	public static test.hierarchy.data.Optional readOptional_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.hierarchy.data.impl.Optional_Impl result = new Optional_Impl();
@@ -142,23 +142,42 @@ public abstract class Shape_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		out.endArray();
 	}
 
+	/** Pre-encoded JSON name of {@link #X_COORDINATE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName X_COORDINATE__NAME = de.haumacher.msgbuf.json.JsonName.of(X_COORDINATE__PROP);
+
+	/** Pre-encoded JSON name of {@link #Y_COORDINATE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName Y_COORDINATE__NAME = de.haumacher.msgbuf.json.JsonName.of(Y_COORDINATE__PROP);
+
+	/** Pre-encoded JSON name of {@link #COLOR__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName COLOR__NAME = de.haumacher.msgbuf.json.JsonName.of(COLOR__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(X_COORDINATE__PROP);
+		out.name(X_COORDINATE__NAME);
 		out.value(getXCoordinate());
-		out.name(Y_COORDINATE__PROP);
+		out.name(Y_COORDINATE__NAME);
 		out.value(getYCoordinate());
-		out.name(COLOR__PROP);
+		out.name(COLOR__NAME);
 		getColor().writeTo(out);
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "color"},
+		new int[] {1, 2, 3});
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case X_COORDINATE__PROP: setXCoordinate(in.nextInt()); break;
-			case Y_COORDINATE__PROP: setYCoordinate(in.nextInt()); break;
-			case COLOR__PROP: setColor(test.hierarchy.data.Color.readColor(in)); break;
+			case X_COORDINATE__ID: setXCoordinate(in.nextInt()); break;
+			case Y_COORDINATE__ID: setYCoordinate(in.nextInt()); break;
+			case COLOR__ID: setColor(test.hierarchy.data.Color.readColor(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -188,6 +207,26 @@ public abstract class Shape_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		getColor().writeTo(out);
 	}
 
+	@Override
+	public final int binarySize() {
+		// Type ID, fields, and end of object.
+		return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getXCoordinate());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getYCoordinate());
+		result += 1;
+		result += getColor().binarySize();
+		return result;
+	}
+
 	/** Helper for reading all fields of this instance. */
 	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		while (in.hasNext()) {
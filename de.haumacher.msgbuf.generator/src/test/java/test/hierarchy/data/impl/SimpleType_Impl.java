@@ -122,20 +122,36 @@ public class SimpleType_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #STR__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName STR__NAME = de.haumacher.msgbuf.json.JsonName.of(STR__PROP);
+
+	/** Pre-encoded JSON name of {@link #X__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName X__NAME = de.haumacher.msgbuf.json.JsonName.of(X__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(STR__PROP);
+		out.name(STR__NAME);
 		out.value(getStr());
-		out.name(X__PROP);
+		out.name(X__NAME);
 		out.value(getX());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"str", "x"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case STR__PROP: setStr(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case X__PROP: setX(in.nextInt()); break;
+			case STR__ID: setStr(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case X__ID: setX(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -161,6 +177,24 @@ public class SimpleType_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 		out.value(getX());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getStr());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getX());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.hierarchy.data.SimpleType} from a polymorphic composition. */
 	public static test.hierarchy.data.SimpleType readSimpleType_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.hierarchy.data.impl.SimpleType_Impl result = new SimpleType_Impl();
@@ -68,6 +68,20 @@ public class B_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 			// No fields to write, hook for subclasses.
 		}
 
+		@Override
+		public final int binarySize() {
+			// Fields and end of object.
+			return binaryFieldsSize() + 1;
+		}
+
+		/**
+		 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+		 */
+		protected int binaryFieldsSize() {
+			int result = 0;
+			return result;
+		}
+
 		/** Helper for creating an object of type {@link test.innertypeclash.B.C} from a polymorphic composition. */
 		public static test.innertypeclash.B.C readC_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 			test.innertypeclash.impl.B_Impl.C_Impl result = new C_Impl();
@@ -325,29 +339,48 @@ public class B_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #AC__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName AC__NAME = de.haumacher.msgbuf.json.JsonName.of(AC__PROP);
+
+	/** Pre-encoded JSON name of {@link #BC__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName BC__NAME = de.haumacher.msgbuf.json.JsonName.of(BC__PROP);
+
+	/** Pre-encoded JSON name of {@link #C__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName C__NAME = de.haumacher.msgbuf.json.JsonName.of(C__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
 		if (hasAc()) {
-			out.name(AC__PROP);
+			out.name(AC__NAME);
 			getAc().writeTo(out);
 		}
 		if (hasBc()) {
-			out.name(BC__PROP);
+			out.name(BC__NAME);
 			getBc().writeTo(out);
 		}
 		if (hasC()) {
-			out.name(C__PROP);
+			out.name(C__NAME);
 			getC().writeTo(out);
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"ac", "bc", "c"},
+		new int[] {1, 2, 3});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case AC__PROP: setAc(test.innertypeclash.A.C.readC(in)); break;
-			case BC__PROP: setBc(test.innertypeclash.B.C.readC(in)); break;
-			case C__PROP: setC(test.innertypeclash.B.C.readC(in)); break;
+			case AC__ID: setAc(test.innertypeclash.A.C.readC(in)); break;
+			case BC__ID: setBc(test.innertypeclash.B.C.readC(in)); break;
+			case C__ID: setC(test.innertypeclash.B.C.readC(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -381,6 +414,32 @@ public class B_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (hasAc()) {
+			result += 1;
+			result += getAc().binarySize();
+		}
+		if (hasBc()) {
+			result += 1;
+			result += getBc().binarySize();
+		}
+		if (hasC()) {
+			result += 1;
+			result += getC().binarySize();
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.innertypeclash.B} from a polymorphic composition. */
 	public static test.innertypeclash.B readB_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.innertypeclash.impl.B_Impl result = new B_Impl();
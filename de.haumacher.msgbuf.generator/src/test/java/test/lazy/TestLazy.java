@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package test.lazy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.haumacher.msgbuf.binary.ByteArrayDataReader;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
+import de.haumacher.msgbuf.observer.Listener;
+import de.haumacher.msgbuf.observer.Observable;
+import junit.framework.TestCase;
+import test.lazy.data.Blob;
+import test.lazy.data.Envelope;
+import test.lazy.data.Header;
+import test.lazy.data.Text;
+import test.lazy.observed.data.Document;
+import test.lazy.observed.data.Section;
+
+/**
+ * Test case for messages generated with option <code>LazyBinary</code>.
+ */
+@SuppressWarnings("javadoc")
+public class TestLazy extends TestCase {
+
+	public void testRead() throws IOException {
+		doTestRead(false);
+		doTestRead(true);
+	}
+
+	private void doTestRead(boolean framed) throws IOException {
+		Envelope message = createMessage();
+		
+		Envelope copy = Envelope.readEnvelope(new ByteArrayDataReader(encode(message, framed)));
+		
+		assertEquals(message.toString(), copy.toString());
+		assertEquals("Hello world!", ((Text) copy.getPayload()).getText());
+		assertEquals(2, copy.getHeaders().size());
+		assertEquals(Integer.valueOf(3), copy.getCounters().get("b"));
+	}
+
+	public void testCopyUntouched() throws IOException {
+		Envelope message = createMessage();
+		message.setPayload(Blob.create().setId("b1").setData(new byte[] {1, 2, 3}).setSamples(Arrays.asList(1.0, 2.5)));
+		
+		byte[] data = encode(message, true);
+		Envelope copy = Envelope.readEnvelope(new ByteArrayDataReader(data));
+		
+		// Encoded input is copied, even though the writer is not framed.
+		assertTrue(Arrays.equals(data, encode(copy, false)));
+		
+		// Only touch a single field.
+		assertEquals("alice", copy.getSender());
+		copy.setPriority(7);
+		message.setPriority(7);
+		assertTrue(Arrays.equals(encode(message, true), encode(copy, true)));
+		assertEquals(message.toString(), copy.toString());
+	}
+	
+	public void testDecodeOnAccess() throws IOException {
+		byte[] data = encode(createMessage(), false);
+		
+		Envelope copy = Envelope.readEnvelope(new ByteArrayDataReader(data));
+		assertEquals("alice", copy.getSender());
+		
+		// Modify the input, the receiver has not yet been decoded.
+		int pos = indexOf(data, "bob");
+		data[pos] = 'r';
+		
+		assertEquals("rob", copy.getReceiver());
+		assertEquals("alice", copy.getSender());
+	}
+	
+	public void testBinarySize() throws IOException {
+		Envelope message = createMessage();
+		byte[] data = encode(message, false);
+		assertEquals(data.length, message.binarySize());
+		
+		// Size of undecoded fields is taken from the input.
+		Envelope copy = Envelope.readEnvelope(new ByteArrayDataReader(data));
+		assertEquals(data.length, copy.binarySize());
+		
+		assertEquals("alice", copy.getSender());
+		copy.setReceiver("robert");
+		assertEquals(encode(copy, false).length, copy.binarySize());
+	}
+	
+	public void testModifyLazyList() throws IOException {
+		Envelope copy = Envelope.readEnvelope(new ByteArrayDataReader(encode(createMessage(), false)));
+		copy.addHeader(Header.create().setName("c").setValue("3"));
+		
+		assertEquals(3, copy.getHeaders().size());
+		assertEquals("a", copy.getHeaders().get(0).getName());
+		
+		copy.setHeaders(Arrays.asList(Header.create().setName("d")));
+		Envelope reread = Envelope.readEnvelope(new ByteArrayDataReader(encode(copy, false)));
+		assertEquals(1, reread.getHeaders().size());
+		assertEquals("d", reread.getHeaders().get(0).getName());
+	}
+
+	public void testDecodeObserved() throws IOException {
+		Document message = Document.create()
+			.setTitle("Report")
+			.setVersion(3)
+			.setMain(Section.create().setName("main"))
+			.addSection(Section.create().setName("a"))
+			.addSection(Section.create().setName("b"))
+			.setTags(Arrays.asList(1, 2, 3));
+		OctetDataWriter out = new OctetDataWriter();
+		message.writeTo(out);
+		
+		Document copy = Document.readDocument(new ByteArrayDataReader(out.toByteArray()));
+		List<String> events = new ArrayList<>();
+		copy.registerListener(new Listener() {
+			@Override
+			public void beforeSet(Observable obj, String property, Object value) {
+				events.add("set " + property);
+			}
+			
+			@Override
+			public void beforeAdd(Observable obj, String property, int index, Object element) {
+				events.add("add " + property);
+			}
+			
+			@Override
+			public void afterChanged(Observable obj, String property) {
+				events.add("changed " + property);
+			}
+		});
+		
+		// Decoding on access is not a modification.
+		assertEquals("Report", copy.getTitle());
+		assertEquals(3, copy.getVersion());
+		assertEquals("main", copy.getMain().getName());
+		assertEquals(2, copy.getSections().size());
+		assertEquals(Arrays.asList(1, 2, 3), copy.getTags());
+		assertEquals(Collections.emptyList(), events);
+		
+		copy.setTitle("Summary");
+		copy.addSection(Section.create().setName("c"));
+		assertEquals(Arrays.asList("set title", "changed title", "add sections", "changed sections"), events);
+	}
+
+	private static Envelope createMessage() {
+		return Envelope.create()
+			.setSender("alice")
+			.setReceiver("bob")
+			.setPriority(2)
+			.setPayload(Text.create().setId("t1").setText("Hello world!"))
+			.addHeader(Header.create().setName("a").setValue("1"))
+			.addHeader(Header.create().setName("b").setValue("2"))
+			.setNote("Note")
+			.putCounter("a", 1)
+			.putCounter("b", 3);
+	}
+
+	private static byte[] encode(Envelope message, boolean framed) throws IOException {
+		OctetDataWriter out = new OctetDataWriter().setFramed(framed);
+		message.writeTo(out);
+		return out.toByteArray();
+	}
+
+	private static int indexOf(byte[] data, String text) {
+		byte[] pattern = text.getBytes(StandardCharsets.UTF_8);
+		search:
+		for (int n = 0, cnt = data.length - pattern.length; n <= cnt; n++) {
+			for (int k = 0; k < pattern.length; k++) {
+				if (data[n + k] != pattern[k]) {
+					continue search;
+				}
+			}
+			return n;
+		}
+		throw new AssertionError("Not found: " + text);
+	}
+
+}
@@ -0,0 +1,72 @@
+package test.lazy.data;
+
+public interface Blob extends Payload {
+
+	/**
+	 * Creates a {@link test.lazy.data.Blob} instance.
+	 */
+	static test.lazy.data.Blob create() {
+		return new test.lazy.data.impl.Blob_Impl();
+	}
+
+	/** Identifier for the {@link test.lazy.data.Blob} type in JSON format. */
+	String BLOB__TYPE = "Blob";
+
+	/** @see #getData() */
+	String DATA__PROP = "data";
+
+	/** @see #getSamples() */
+	String SAMPLES__PROP = "samples";
+
+	/** Identifier for the {@link test.lazy.data.Blob} type in binary format. */
+	static final int BLOB__TYPE_ID = 2;
+
+	/** Identifier for the property {@link #getData()} in binary format. */
+	static final int DATA__ID = 2;
+
+	/** Identifier for the property {@link #getSamples()} in binary format. */
+	static final int SAMPLES__ID = 3;
+
+	byte[] getData();
+
+	/**
+	 * @see #getData()
+	 */
+	test.lazy.data.Blob setData(byte[] value);
+
+	java.util.List<Double> getSamples();
+
+	/**
+	 * @see #getSamples()
+	 */
+	test.lazy.data.Blob setSamples(java.util.List<? extends Double> value);
+
+	/**
+	 * Adds a value to the {@link #getSamples()} list.
+	 */
+	test.lazy.data.Blob addSample(double value);
+
+	/**
+	 * Removes a value from the {@link #getSamples()} list.
+	 */
+	void removeSample(double value);
+
+	@Override
+	test.lazy.data.Blob setId(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Blob readBlob(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.lazy.data.impl.Blob_Impl result = new test.lazy.data.impl.Blob_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Blob readBlob(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.lazy.data.Blob result = test.lazy.data.impl.Blob_Impl.readBlob_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
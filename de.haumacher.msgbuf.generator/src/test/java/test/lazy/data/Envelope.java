@@ -0,0 +1,151 @@
+package test.lazy.data;
+
+public interface Envelope extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.data.ReflectiveDataObject {
+
+	/**
+	 * Creates a {@link test.lazy.data.Envelope} instance.
+	 */
+	static test.lazy.data.Envelope create() {
+		return new test.lazy.data.impl.Envelope_Impl();
+	}
+
+	/** Identifier for the {@link test.lazy.data.Envelope} type in JSON format. */
+	String ENVELOPE__TYPE = "Envelope";
+
+	/** @see #getSender() */
+	String SENDER__PROP = "sender";
+
+	/** @see #getReceiver() */
+	String RECEIVER__PROP = "receiver";
+
+	/** @see #getPriority() */
+	String PRIORITY__PROP = "priority";
+
+	/** @see #getPayload() */
+	String PAYLOAD__PROP = "payload";
+
+	/** @see #getHeaders() */
+	String HEADERS__PROP = "headers";
+
+	/** @see #getNote() */
+	String NOTE__PROP = "note";
+
+	/** @see #getCounters() */
+	String COUNTERS__PROP = "counters";
+
+	/** Identifier for the property {@link #getSender()} in binary format. */
+	static final int SENDER__ID = 1;
+
+	/** Identifier for the property {@link #getReceiver()} in binary format. */
+	static final int RECEIVER__ID = 2;
+
+	/** Identifier for the property {@link #getPriority()} in binary format. */
+	static final int PRIORITY__ID = 3;
+
+	/** Identifier for the property {@link #getPayload()} in binary format. */
+	static final int PAYLOAD__ID = 4;
+
+	/** Identifier for the property {@link #getHeaders()} in binary format. */
+	static final int HEADERS__ID = 5;
+
+	/** Identifier for the property {@link #getNote()} in binary format. */
+	static final int NOTE__ID = 6;
+
+	/** Identifier for the property {@link #getCounters()} in binary format. */
+	static final int COUNTERS__ID = 7;
+
+	String getSender();
+
+	/**
+	 * @see #getSender()
+	 */
+	test.lazy.data.Envelope setSender(String value);
+
+	String getReceiver();
+
+	/**
+	 * @see #getReceiver()
+	 */
+	test.lazy.data.Envelope setReceiver(String value);
+
+	int getPriority();
+
+	/**
+	 * @see #getPriority()
+	 */
+	test.lazy.data.Envelope setPriority(int value);
+
+	test.lazy.data.Payload getPayload();
+
+	/**
+	 * @see #getPayload()
+	 */
+	test.lazy.data.Envelope setPayload(test.lazy.data.Payload value);
+
+	/**
+	 * Checks, whether {@link #getPayload()} has a value.
+	 */
+	boolean hasPayload();
+
+	java.util.List<test.lazy.data.Header> getHeaders();
+
+	/**
+	 * @see #getHeaders()
+	 */
+	test.lazy.data.Envelope setHeaders(java.util.List<? extends test.lazy.data.Header> value);
+
+	/**
+	 * Adds a value to the {@link #getHeaders()} list.
+	 */
+	test.lazy.data.Envelope addHeader(test.lazy.data.Header value);
+
+	/**
+	 * Removes a value from the {@link #getHeaders()} list.
+	 */
+	void removeHeader(test.lazy.data.Header value);
+
+	String getNote();
+
+	/**
+	 * @see #getNote()
+	 */
+	test.lazy.data.Envelope setNote(String value);
+
+	/**
+	 * Checks, whether {@link #getNote()} has a value.
+	 */
+	boolean hasNote();
+
+	java.util.Map<String, Integer> getCounters();
+
+	/**
+	 * @see #getCounters()
+	 */
+	test.lazy.data.Envelope setCounters(java.util.Map<String, Integer> value);
+
+	/**
+	 * Adds a key value pair to the {@link #getCounters()} map.
+	 */
+	test.lazy.data.Envelope putCounter(String key, int value);
+
+	/**
+	 * Removes a key from the {@link #getCounters()} map.
+	 */
+	void removeCounter(String key);
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Envelope readEnvelope(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.lazy.data.impl.Envelope_Impl result = new test.lazy.data.impl.Envelope_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Envelope readEnvelope(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.lazy.data.Envelope result = test.lazy.data.impl.Envelope_Impl.readEnvelope_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
@@ -0,0 +1,56 @@
+package test.lazy.data;
+
+public interface Header extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.data.ReflectiveDataObject {
+
+	/**
+	 * Creates a {@link test.lazy.data.Header} instance.
+	 */
+	static test.lazy.data.Header create() {
+		return new test.lazy.data.impl.Header_Impl();
+	}
+
+	/** Identifier for the {@link test.lazy.data.Header} type in JSON format. */
+	String HEADER__TYPE = "Header";
+
+	/** @see #getName() */
+	String NAME__PROP = "name";
+
+	/** @see #getValue() */
+	String VALUE__PROP = "value";
+
+	/** Identifier for the property {@link #getName()} in binary format. */
+	static final int NAME__ID = 1;
+
+	/** Identifier for the property {@link #getValue()} in binary format. */
+	static final int VALUE__ID = 2;
+
+	String getName();
+
+	/**
+	 * @see #getName()
+	 */
+	test.lazy.data.Header setName(String value);
+
+	String getValue();
+
+	/**
+	 * @see #getValue()
+	 */
+	test.lazy.data.Header setValue(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Header readHeader(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.lazy.data.impl.Header_Impl result = new test.lazy.data.impl.Header_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Header readHeader(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.lazy.data.Header result = test.lazy.data.impl.Header_Impl.readHeader_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
@@ -0,0 +1,80 @@
+package test.lazy.data;
+
+public interface Payload extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.data.ReflectiveDataObject {
+
+	/** Type codes for the {@link test.lazy.data.Payload} hierarchy. */
+	public enum TypeKind {
+
+		/** Type literal for {@link test.lazy.data.Text}. */
+		TEXT,
+
+		/** Type literal for {@link test.lazy.data.Blob}. */
+		BLOB,
+		;
+
+	}
+
+	/** Visitor interface for the {@link test.lazy.data.Payload} hierarchy.*/
+	public interface Visitor<R,A,E extends Throwable> {
+
+		/** Visit case for {@link test.lazy.data.Text}.*/
+		R visit(test.lazy.data.Text self, A arg) throws E;
+
+		/** Visit case for {@link test.lazy.data.Blob}.*/
+		R visit(test.lazy.data.Blob self, A arg) throws E;
+
+	}
+
+	/** @see #getId() */
+	String ID__PROP = "id";
+
+	/** Identifier for the property {@link #getId()} in binary format. */
+	static final int ID__ID = 1;
+
+	/** The type code of this instance. */
+	TypeKind kind();
+
+	String getId();
+
+	/**
+	 * @see #getId()
+	 */
+	test.lazy.data.Payload setId(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Payload readPayload(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.lazy.data.Payload result;
+		in.beginArray();
+		String type = in.nextString();
+		switch (type) {
+			case Text.TEXT__TYPE: result = test.lazy.data.Text.readText(in); break;
+			case Blob.BLOB__TYPE: result = test.lazy.data.Blob.readBlob(in); break;
+			default: in.skipValue(); result = null; break;
+		}
+		in.endArray();
+		return result;
+	}
+
+	/** The binary identifier for this concrete type in the polymorphic {@link test.lazy.data.Payload} hierarchy. */
+	abstract int typeId();
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Payload readPayload(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		int typeField = in.nextName();
+		assert typeField == 0;
+		int type = in.nextInt();
+		test.lazy.data.Payload result;
+		switch (type) {
+			case test.lazy.data.Text.TEXT__TYPE_ID: result = test.lazy.data.impl.Text_Impl.readText_Content(in); break;
+			case test.lazy.data.Blob.BLOB__TYPE_ID: result = test.lazy.data.impl.Blob_Impl.readBlob_Content(in); break;
+			default: result = null; while (in.hasNext()) {in.skipValue(); }
+		}
+		in.endObject();
+		return result;
+	}
+
+	/** Accepts the given visitor. */
+	public abstract <R,A,E extends Throwable> R visit(Visitor<R,A,E> v, A arg) throws E;
+
+}
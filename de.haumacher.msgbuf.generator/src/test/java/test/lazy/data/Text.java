@@ -0,0 +1,49 @@
+package test.lazy.data;
+
+public interface Text extends Payload {
+
+	/**
+	 * Creates a {@link test.lazy.data.Text} instance.
+	 */
+	static test.lazy.data.Text create() {
+		return new test.lazy.data.impl.Text_Impl();
+	}
+
+	/** Identifier for the {@link test.lazy.data.Text} type in JSON format. */
+	String TEXT__TYPE = "Text";
+
+	/** @see #getText() */
+	String TEXT__PROP = "text";
+
+	/** Identifier for the {@link test.lazy.data.Text} type in binary format. */
+	static final int TEXT__TYPE_ID = 1;
+
+	/** Identifier for the property {@link #getText()} in binary format. */
+	static final int TEXT__ID = 2;
+
+	String getText();
+
+	/**
+	 * @see #getText()
+	 */
+	test.lazy.data.Text setText(String value);
+
+	@Override
+	test.lazy.data.Text setId(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Text readText(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.lazy.data.impl.Text_Impl result = new test.lazy.data.impl.Text_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.data.Text readText(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.lazy.data.Text result = test.lazy.data.impl.Text_Impl.readText_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
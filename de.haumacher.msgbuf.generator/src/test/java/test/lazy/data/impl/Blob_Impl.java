@@ -0,0 +1,246 @@
+package test.lazy.data.impl;
+
+/**
+ * Implementation of {@link test.lazy.data.Blob}.
+ *
+ * <p>
+ * Fields of an instance read from binary input are decoded on first access. Even a getter modifies the
+ * instance, when called for the first time. Therefore, an instance must not be shared between threads without
+ * synchronization, not even for read-only access.
+ * </p>
+ */
+public class Blob_Impl extends test.lazy.data.impl.Payload_Impl implements test.lazy.data.Blob {
+
+	private byte[] _data = null;
+
+	private final java.util.List<Double> _samples = new java.util.ArrayList<>();
+
+	/**
+	 * Creates a {@link Blob_Impl} instance.
+	 *
+	 * @see test.lazy.data.Blob#create()
+	 */
+	public Blob_Impl() {
+		super();
+	}
+
+	@Override
+	public TypeKind kind() {
+		return TypeKind.BLOB;
+	}
+
+	@Override
+	public final byte[] getData() {
+		loadField(DATA__ID);
+		return _data;
+	}
+
+	@Override
+	public test.lazy.data.Blob setData(byte[] value) {
+		internalSetData(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getData()} without chain call utility. */
+	protected final void internalSetData(byte[] value) {
+		dropField(DATA__ID);
+		_data = value;
+	}
+
+	@Override
+	public final java.util.List<Double> getSamples() {
+		loadField(SAMPLES__ID);
+		return _samples;
+	}
+
+	@Override
+	public test.lazy.data.Blob setSamples(java.util.List<? extends Double> value) {
+		internalSetSamples(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getSamples()} without chain call utility. */
+	protected final void internalSetSamples(java.util.List<? extends Double> value) {
+		dropField(SAMPLES__ID);
+		_samples.clear();
+		_samples.addAll(value);
+	}
+
+	@Override
+	public test.lazy.data.Blob addSample(double value) {
+		internalAddSample(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addSample(double)} without chain call utility. */
+	protected final void internalAddSample(double value) {
+		loadField(SAMPLES__ID);
+		_samples.add(value);
+	}
+
+	@Override
+	public final void removeSample(double value) {
+		loadField(SAMPLES__ID);
+		_samples.remove(value);
+	}
+
+	@Override
+	public test.lazy.data.Blob setId(String value) {
+		internalSetId(value);
+		return this;
+	}
+
+	@Override
+	public String jsonType() {
+		return BLOB__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			DATA__PROP, 
+			SAMPLES__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case DATA__PROP: return getData();
+			case SAMPLES__PROP: return getSamples();
+			default: return super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case DATA__PROP: internalSetData((byte[]) value); break;
+			case SAMPLES__PROP: internalSetSamples(de.haumacher.msgbuf.util.Conversions.asList(Double.class, value)); break;
+			default: super.set(field, value); break;
+		}
+	}
+
+	/** Pre-encoded JSON name of {@link #DATA__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName DATA__NAME = de.haumacher.msgbuf.json.JsonName.of(DATA__PROP);
+
+	/** Pre-encoded JSON name of {@link #SAMPLES__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SAMPLES__NAME = de.haumacher.msgbuf.json.JsonName.of(SAMPLES__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(DATA__NAME);
+		de.haumacher.msgbuf.json.JsonUtil.writeBinaryOptional(out, getData());
+		out.name(SAMPLES__NAME);
+		out.beginArray();
+		for (double x : getSamples()) {
+			out.value(x);
+		}
+		out.endArray();
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "data", "samples"},
+		new int[] {1, 2, 3});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case DATA__ID: setData(de.haumacher.msgbuf.json.JsonUtil.nextBinaryOptional(in)); break;
+			case SAMPLES__ID: {
+				java.util.List<Double> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextDouble());
+				}
+				in.endArray();
+				setSamples(newValue);
+			}
+			break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public int typeId() {
+		return BLOB__TYPE_ID;
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		if (!copyField(out, DATA__ID)) {
+			out.name(DATA__ID);
+			out.value(getData());
+		}
+		if (!copyField(out, SAMPLES__ID)) {
+			out.name(SAMPLES__ID);
+			out.valueArray(de.haumacher.msgbuf.binary.DataType.DOUBLE, getSamples());
+		}
+	}
+
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		if (isPending(DATA__ID)) {
+			result += pendingSize(DATA__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeBinary(getData());
+		}
+		if (isPending(SAMPLES__ID)) {
+			result += pendingSize(SAMPLES__ID);
+		} else {
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(getSamples().size(), 8);
+		}
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.lazy.data.Blob} from a polymorphic composition. */
+	public static test.lazy.data.Blob readBlob_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.lazy.data.impl.Blob_Impl result = new Blob_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case DATA__ID: setData(in.nextBinary()); break;
+			case SAMPLES__ID: {
+				double[] values = in.nextDoubleArray();
+				java.util.List<Double> newValue = new java.util.ArrayList<>(values.length);
+				for (double x : values) {
+					newValue.add(x);
+				}
+				setSamples(newValue);
+			}
+			break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public <R,A,E extends Throwable> R visit(test.lazy.data.Payload.Visitor<R,A,E> v, A arg) throws E {
+		return v.visit(this, arg);
+	}
+
+}
@@ -0,0 +1,618 @@
+package test.lazy.data.impl;
+
+/**
+ * Implementation of {@link test.lazy.data.Envelope}.
+ *
+ * <p>
+ * Fields of an instance read from binary input are decoded on first access. Even a getter modifies the
+ * instance, when called for the first time. Therefore, an instance must not be shared between threads without
+ * synchronization, not even for read-only access.
+ * </p>
+ */
+public class Envelope_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.lazy.data.Envelope {
+
+	private String _sender = "";
+
+	private String _receiver = "";
+
+	private int _priority = 0;
+
+	private test.lazy.data.Payload _payload = null;
+
+	private final java.util.List<test.lazy.data.Header> _headers = new java.util.ArrayList<>();
+
+	private String _note = null;
+
+	private final java.util.Map<String, Integer> _counters = new java.util.HashMap<>();
+
+	/** Binary input of fields that have not yet been decoded. */
+	private de.haumacher.msgbuf.binary.LazyFields _lazy;
+
+	/**
+	 * Creates a {@link Envelope_Impl} instance.
+	 *
+	 * @see test.lazy.data.Envelope#create()
+	 */
+	public Envelope_Impl() {
+		super();
+	}
+
+	@Override
+	public final String getSender() {
+		loadField(SENDER__ID);
+		return _sender;
+	}
+
+	@Override
+	public test.lazy.data.Envelope setSender(String value) {
+		internalSetSender(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getSender()} without chain call utility. */
+	protected final void internalSetSender(String value) {
+		dropField(SENDER__ID);
+		_sender = value;
+	}
+
+	@Override
+	public final String getReceiver() {
+		loadField(RECEIVER__ID);
+		return _receiver;
+	}
+
+	@Override
+	public test.lazy.data.Envelope setReceiver(String value) {
+		internalSetReceiver(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getReceiver()} without chain call utility. */
+	protected final void internalSetReceiver(String value) {
+		dropField(RECEIVER__ID);
+		_receiver = value;
+	}
+
+	@Override
+	public final int getPriority() {
+		loadField(PRIORITY__ID);
+		return _priority;
+	}
+
+	@Override
+	public test.lazy.data.Envelope setPriority(int value) {
+		internalSetPriority(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getPriority()} without chain call utility. */
+	protected final void internalSetPriority(int value) {
+		dropField(PRIORITY__ID);
+		_priority = value;
+	}
+
+	@Override
+	public final test.lazy.data.Payload getPayload() {
+		loadField(PAYLOAD__ID);
+		return _payload;
+	}
+
+	@Override
+	public test.lazy.data.Envelope setPayload(test.lazy.data.Payload value) {
+		internalSetPayload(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getPayload()} without chain call utility. */
+	protected final void internalSetPayload(test.lazy.data.Payload value) {
+		dropField(PAYLOAD__ID);
+		_payload = value;
+	}
+
+	@Override
+	public final boolean hasPayload() {
+		loadField(PAYLOAD__ID);
+		return _payload != null;
+	}
+
+	@Override
+	public final java.util.List<test.lazy.data.Header> getHeaders() {
+		loadField(HEADERS__ID);
+		return _headers;
+	}
+
+	@Override
+	public test.lazy.data.Envelope setHeaders(java.util.List<? extends test.lazy.data.Header> value) {
+		internalSetHeaders(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getHeaders()} without chain call utility. */
+	protected final void internalSetHeaders(java.util.List<? extends test.lazy.data.Header> value) {
+		if (value == null) throw new IllegalArgumentException("Property 'headers' cannot be null.");
+		dropField(HEADERS__ID);
+		_headers.clear();
+		_headers.addAll(value);
+	}
+
+	@Override
+	public test.lazy.data.Envelope addHeader(test.lazy.data.Header value) {
+		internalAddHeader(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addHeader(test.lazy.data.Header)} without chain call utility. */
+	protected final void internalAddHeader(test.lazy.data.Header value) {
+		loadField(HEADERS__ID);
+		_headers.add(value);
+	}
+
+	@Override
+	public final void removeHeader(test.lazy.data.Header value) {
+		loadField(HEADERS__ID);
+		_headers.remove(value);
+	}
+
+	@Override
+	public final String getNote() {
+		loadField(NOTE__ID);
+		return _note;
+	}
+
+	@Override
+	public test.lazy.data.Envelope setNote(String value) {
+		internalSetNote(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getNote()} without chain call utility. */
+	protected final void internalSetNote(String value) {
+		dropField(NOTE__ID);
+		_note = value;
+	}
+
+	@Override
+	public final boolean hasNote() {
+		loadField(NOTE__ID);
+		return _note != null;
+	}
+
+	@Override
+	public final java.util.Map<String, Integer> getCounters() {
+		loadField(COUNTERS__ID);
+		return _counters;
+	}
+
+	@Override
+	public test.lazy.data.Envelope setCounters(java.util.Map<String, Integer> value) {
+		internalSetCounters(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getCounters()} without chain call utility. */
+	protected final void internalSetCounters(java.util.Map<String, Integer> value) {
+		if (value == null) throw new IllegalArgumentException("Property 'counters' cannot be null.");
+		dropField(COUNTERS__ID);
+		_counters.clear();
+		_counters.putAll(value);
+	}
+
+	@Override
+	public test.lazy.data.Envelope putCounter(String key, int value) {
+		internalPutCounter(key, value);
+		return this;
+	}
+
+	/** Implementation of {@link #putCounter(String, int)} without chain call utility. */
+	protected final void  internalPutCounter(String key, int value) {
+		loadField(COUNTERS__ID);
+		if (_counters.containsKey(key)) {
+			throw new IllegalArgumentException("Property 'counters' already contains a value for key '" + key + "'.");
+		}
+		_counters.put(key, value);
+	}
+
+	@Override
+	public final void removeCounter(String key) {
+		loadField(COUNTERS__ID);
+		_counters.remove(key);
+	}
+
+	@Override
+	public String jsonType() {
+		return ENVELOPE__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			SENDER__PROP, 
+			RECEIVER__PROP, 
+			PRIORITY__PROP, 
+			PAYLOAD__PROP, 
+			HEADERS__PROP, 
+			NOTE__PROP, 
+			COUNTERS__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case SENDER__PROP: return getSender();
+			case RECEIVER__PROP: return getReceiver();
+			case PRIORITY__PROP: return getPriority();
+			case PAYLOAD__PROP: return getPayload();
+			case HEADERS__PROP: return getHeaders();
+			case NOTE__PROP: return getNote();
+			case COUNTERS__PROP: return getCounters();
+			default: return test.lazy.data.Envelope.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case SENDER__PROP: internalSetSender((String) value); break;
+			case RECEIVER__PROP: internalSetReceiver((String) value); break;
+			case PRIORITY__PROP: internalSetPriority((int) value); break;
+			case PAYLOAD__PROP: internalSetPayload((test.lazy.data.Payload) value); break;
+			case HEADERS__PROP: internalSetHeaders(de.haumacher.msgbuf.util.Conversions.asList(test.lazy.data.Header.class, value)); break;
+			case NOTE__PROP: internalSetNote((String) value); break;
+			case COUNTERS__PROP: internalSetCounters((java.util.Map<String, Integer>) value); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		writeContent(out);
+	}
+
+	/** Pre-encoded JSON name of {@link #SENDER__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SENDER__NAME = de.haumacher.msgbuf.json.JsonName.of(SENDER__PROP);
+
+	/** Pre-encoded JSON name of {@link #RECEIVER__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName RECEIVER__NAME = de.haumacher.msgbuf.json.JsonName.of(RECEIVER__PROP);
+
+	/** Pre-encoded JSON name of {@link #PRIORITY__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName PRIORITY__NAME = de.haumacher.msgbuf.json.JsonName.of(PRIORITY__PROP);
+
+	/** Pre-encoded JSON name of {@link #PAYLOAD__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName PAYLOAD__NAME = de.haumacher.msgbuf.json.JsonName.of(PAYLOAD__PROP);
+
+	/** Pre-encoded JSON name of {@link #HEADERS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName HEADERS__NAME = de.haumacher.msgbuf.json.JsonName.of(HEADERS__PROP);
+
+	/** Pre-encoded JSON name of {@link #NOTE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NOTE__NAME = de.haumacher.msgbuf.json.JsonName.of(NOTE__PROP);
+
+	/** Pre-encoded JSON name of {@link #COUNTERS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName COUNTERS__NAME = de.haumacher.msgbuf.json.JsonName.of(COUNTERS__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(SENDER__NAME);
+		out.value(getSender());
+		out.name(RECEIVER__NAME);
+		out.value(getReceiver());
+		out.name(PRIORITY__NAME);
+		out.value(getPriority());
+		if (hasPayload()) {
+			out.name(PAYLOAD__NAME);
+			getPayload().writeTo(out);
+		}
+		out.name(HEADERS__NAME);
+		out.beginArray();
+		for (test.lazy.data.Header x : getHeaders()) {
+			x.writeTo(out);
+		}
+		out.endArray();
+		if (hasNote()) {
+			out.name(NOTE__NAME);
+			out.value(getNote());
+		}
+		out.name(COUNTERS__NAME);
+		out.beginObject();
+		for (java.util.Map.Entry<String,Integer> entry : getCounters().entrySet()) {
+			out.name(entry.getKey());
+			out.value(entry.getValue());
+		}
+		out.endObject();
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"sender", "receiver", "priority", "payload", "headers", "note", "counters"},
+		new int[] {1, 2, 3, 4, 5, 6, 7});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case SENDER__ID: setSender(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case RECEIVER__ID: setReceiver(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case PRIORITY__ID: setPriority(in.nextInt()); break;
+			case PAYLOAD__ID: setPayload(test.lazy.data.Payload.readPayload(in)); break;
+			case HEADERS__ID: {
+				java.util.List<test.lazy.data.Header> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(test.lazy.data.Header.readHeader(in));
+				}
+				in.endArray();
+				setHeaders(newValue);
+			}
+			break;
+			case NOTE__ID: setNote(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case COUNTERS__ID: {
+				java.util.Map<String, Integer> newValue = new java.util.LinkedHashMap<>();
+				in.beginObject();
+				while (in.hasNext()) {
+					newValue.put(in.nextName(), in.nextInt());
+				}
+				in.endObject();
+				setCounters(newValue);
+				break;
+			}
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		if (!copyField(out, SENDER__ID)) {
+			out.name(SENDER__ID);
+			out.value(getSender());
+		}
+		if (!copyField(out, RECEIVER__ID)) {
+			out.name(RECEIVER__ID);
+			out.value(getReceiver());
+		}
+		if (!copyField(out, PRIORITY__ID)) {
+			out.name(PRIORITY__ID);
+			out.value(getPriority());
+		}
+		if (!copyField(out, PAYLOAD__ID)) {
+			if (hasPayload()) {
+				out.name(PAYLOAD__ID);
+				getPayload().writeTo(out);
+			}
+		}
+		if (!copyField(out, HEADERS__ID)) {
+			out.name(HEADERS__ID);
+			{
+				java.util.List<test.lazy.data.Header> values = getHeaders();
+				out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+				for (test.lazy.data.Header x : values) {
+					x.writeTo(out);
+				}
+				out.endArray();
+			}
+		}
+		if (!copyField(out, NOTE__ID)) {
+			if (hasNote()) {
+				out.name(NOTE__ID);
+				out.value(getNote());
+			}
+		}
+		if (!copyField(out, COUNTERS__ID)) {
+			out.name(COUNTERS__ID);
+			{
+				java.util.Map<String, Integer> values = getCounters();
+				out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+				for (java.util.Map.Entry<String,Integer> entry : values.entrySet()) {
+					out.beginObject();
+					out.name(1);
+					out.value(entry.getKey());
+					out.name(2);
+					out.value(entry.getValue());
+					out.endObject();
+				}
+				out.endArray();
+			}
+		}
+	}
+
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (isPending(SENDER__ID)) {
+			result += pendingSize(SENDER__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getSender());
+		}
+		if (isPending(RECEIVER__ID)) {
+			result += pendingSize(RECEIVER__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getReceiver());
+		}
+		if (isPending(PRIORITY__ID)) {
+			result += pendingSize(PRIORITY__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getPriority());
+		}
+		if (isPending(PAYLOAD__ID)) {
+			result += pendingSize(PAYLOAD__ID);
+		} else {
+			if (hasPayload()) {
+				result += 1;
+				result += getPayload().binarySize();
+			}
+		}
+		if (isPending(HEADERS__ID)) {
+			result += pendingSize(HEADERS__ID);
+		} else {
+			{
+				java.util.List<test.lazy.data.Header> values = getHeaders();
+				result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+				for (test.lazy.data.Header x : values) {
+					result += x.binarySize();
+				}
+			}
+		}
+		if (isPending(NOTE__ID)) {
+			result += pendingSize(NOTE__ID);
+		} else {
+			if (hasNote()) {
+				result += 1;
+				result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getNote());
+			}
+		}
+		if (isPending(COUNTERS__ID)) {
+			result += pendingSize(COUNTERS__ID);
+		} else {
+			result += 1;
+			{
+				java.util.Map<String, Integer> values = getCounters();
+				result += de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+				for (java.util.Map.Entry<String,Integer> entry : values.entrySet()) {
+					// Key field, value field, and end of object.
+					result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeString(entry.getKey()) + 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(entry.getValue()) + 1;
+				}
+			}
+		}
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.lazy.data.Envelope} from a polymorphic composition. */
+	public static test.lazy.data.Envelope readEnvelope_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.lazy.data.impl.Envelope_Impl result = new Envelope_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		if (in instanceof de.haumacher.msgbuf.binary.ByteArrayDataReader) {
+			// Decode fields on first access.
+			_lazy = de.haumacher.msgbuf.binary.LazyFields.read((de.haumacher.msgbuf.binary.ByteArrayDataReader) in);
+			return;
+		}
+
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Decodes the field with the given ID, if it has not yet been read from the binary input. */
+	protected final void loadField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			try {
+				lazy.load(field, this::readField);
+			} catch (java.io.IOException ex) {
+				throw new RuntimeException(ex);
+			}
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Discards the binary input of the field with the given ID, since a new value is assigned. */
+	protected final void dropField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			lazy.drop(field);
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Whether the field with the given ID has not yet been decoded from the binary input. */
+	protected final boolean isPending(int field) {
+		return _lazy != null && _lazy.isPending(field);
+	}
+
+	/** The number of bytes of the binary input of the field with the given ID that has not yet been decoded. */
+	protected final int pendingSize(int field) {
+		return _lazy == null ? 0 : _lazy.size(field);
+	}
+
+	/** Writes the field with the given ID by copying its binary input, if it has not yet been decoded. */
+	protected final boolean copyField(de.haumacher.msgbuf.binary.DataWriter out, int field) throws java.io.IOException {
+		return _lazy != null && _lazy.copy(out, field);
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case SENDER__ID: setSender(in.nextString()); break;
+			case RECEIVER__ID: setReceiver(in.nextString()); break;
+			case PRIORITY__ID: setPriority(in.nextInt()); break;
+			case PAYLOAD__ID: setPayload(test.lazy.data.Payload.readPayload(in)); break;
+			case HEADERS__ID: {
+				in.beginArray();
+				while (in.hasNext()) {
+					addHeader(test.lazy.data.Header.readHeader(in));
+				}
+				in.endArray();
+			}
+			break;
+			case NOTE__ID: setNote(in.nextString()); break;
+			case COUNTERS__ID: {
+				in.beginArray();
+				while (in.hasNext()) {
+					in.beginObject();
+					String key = "";
+					int value = 0;
+					while (in.hasNext()) {
+						switch (in.nextName()) {
+							case 1: key = in.nextString(); break;
+							case 2: value = in.nextInt(); break;
+							default: in.skipValue(); break;
+						}
+					}
+					putCounter(key, value);
+					in.endObject();
+				}
+				in.endArray();
+				break;
+			}
+			default: in.skipValue(); 
+		}
+	}
+
+}
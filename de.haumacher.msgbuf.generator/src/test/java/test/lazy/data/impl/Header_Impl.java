@@ -0,0 +1,268 @@
+package test.lazy.data.impl;
+
+/**
+ * Implementation of {@link test.lazy.data.Header}.
+ *
+ * <p>
+ * Fields of an instance read from binary input are decoded on first access. Even a getter modifies the
+ * instance, when called for the first time. Therefore, an instance must not be shared between threads without
+ * synchronization, not even for read-only access.
+ * </p>
+ */
+public class Header_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.lazy.data.Header {
+
+	private String _name = "";
+
+	private String _value = "";
+
+	/** Binary input of fields that have not yet been decoded. */
+	private de.haumacher.msgbuf.binary.LazyFields _lazy;
+
+	/**
+	 * Creates a {@link Header_Impl} instance.
+	 *
+	 * @see test.lazy.data.Header#create()
+	 */
+	public Header_Impl() {
+		super();
+	}
+
+	@Override
+	public final String getName() {
+		loadField(NAME__ID);
+		return _name;
+	}
+
+	@Override
+	public test.lazy.data.Header setName(String value) {
+		internalSetName(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getName()} without chain call utility. */
+	protected final void internalSetName(String value) {
+		dropField(NAME__ID);
+		_name = value;
+	}
+
+	@Override
+	public final String getValue() {
+		loadField(VALUE__ID);
+		return _value;
+	}
+
+	@Override
+	public test.lazy.data.Header setValue(String value) {
+		internalSetValue(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getValue()} without chain call utility. */
+	protected final void internalSetValue(String value) {
+		dropField(VALUE__ID);
+		_value = value;
+	}
+
+	@Override
+	public String jsonType() {
+		return HEADER__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			NAME__PROP, 
+			VALUE__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case NAME__PROP: return getName();
+			case VALUE__PROP: return getValue();
+			default: return test.lazy.data.Header.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case NAME__PROP: internalSetName((String) value); break;
+			case VALUE__PROP: internalSetValue((String) value); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		writeContent(out);
+	}
+
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	/** Pre-encoded JSON name of {@link #VALUE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName VALUE__NAME = de.haumacher.msgbuf.json.JsonName.of(VALUE__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(NAME__NAME);
+		out.value(getName());
+		out.name(VALUE__NAME);
+		out.value(getValue());
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name", "value"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case VALUE__ID: setValue(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		if (!copyField(out, NAME__ID)) {
+			out.name(NAME__ID);
+			out.value(getName());
+		}
+		if (!copyField(out, VALUE__ID)) {
+			out.name(VALUE__ID);
+			out.value(getValue());
+		}
+	}
+
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (isPending(NAME__ID)) {
+			result += pendingSize(NAME__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		}
+		if (isPending(VALUE__ID)) {
+			result += pendingSize(VALUE__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getValue());
+		}
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.lazy.data.Header} from a polymorphic composition. */
+	public static test.lazy.data.Header readHeader_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.lazy.data.impl.Header_Impl result = new Header_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		if (in instanceof de.haumacher.msgbuf.binary.ByteArrayDataReader) {
+			// Decode fields on first access.
+			_lazy = de.haumacher.msgbuf.binary.LazyFields.read((de.haumacher.msgbuf.binary.ByteArrayDataReader) in);
+			return;
+		}
+
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Decodes the field with the given ID, if it has not yet been read from the binary input. */
+	protected final void loadField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			try {
+				lazy.load(field, this::readField);
+			} catch (java.io.IOException ex) {
+				throw new RuntimeException(ex);
+			}
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Discards the binary input of the field with the given ID, since a new value is assigned. */
+	protected final void dropField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			lazy.drop(field);
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Whether the field with the given ID has not yet been decoded from the binary input. */
+	protected final boolean isPending(int field) {
+		return _lazy != null && _lazy.isPending(field);
+	}
+
+	/** The number of bytes of the binary input of the field with the given ID that has not yet been decoded. */
+	protected final int pendingSize(int field) {
+		return _lazy == null ? 0 : _lazy.size(field);
+	}
+
+	/** Writes the field with the given ID by copying its binary input, if it has not yet been decoded. */
+	protected final boolean copyField(de.haumacher.msgbuf.binary.DataWriter out, int field) throws java.io.IOException {
+		return _lazy != null && _lazy.copy(out, field);
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case NAME__ID: setName(in.nextString()); break;
+			case VALUE__ID: setValue(in.nextString()); break;
+			default: in.skipValue(); 
+		}
+	}
+
+}
@@ -0,0 +1,219 @@
+package test.lazy.data.impl;
+
+/**
+ * Implementation of {@link test.lazy.data.Payload}.
+ *
+ * <p>
+ * Fields of an instance read from binary input are decoded on first access. Even a getter modifies the
+ * instance, when called for the first time. Therefore, an instance must not be shared between threads without
+ * synchronization, not even for read-only access.
+ * </p>
+ */
+public abstract class Payload_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.lazy.data.Payload {
+
+	private String _id = "";
+
+	/** Binary input of fields that have not yet been decoded. */
+	private de.haumacher.msgbuf.binary.LazyFields _lazy;
+
+	/**
+	 * Creates a {@link Payload_Impl} instance.
+	 */
+	public Payload_Impl() {
+		super();
+	}
+
+	@Override
+	public final String getId() {
+		loadField(ID__ID);
+		return _id;
+	}
+
+	@Override
+	public test.lazy.data.Payload setId(String value) {
+		internalSetId(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getId()} without chain call utility. */
+	protected final void internalSetId(String value) {
+		dropField(ID__ID);
+		_id = value;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			ID__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case ID__PROP: return getId();
+			default: return test.lazy.data.Payload.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case ID__PROP: internalSetId((String) value); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		out.beginArray();
+		out.value(jsonType());
+		writeContent(out);
+		out.endArray();
+	}
+
+	/** Pre-encoded JSON name of {@link #ID__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName ID__NAME = de.haumacher.msgbuf.json.JsonName.of(ID__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(ID__NAME);
+		out.value(getId());
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id"},
+		new int[] {1});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case ID__ID: setId(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		out.name(0);
+		out.value(typeId());
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		if (!copyField(out, ID__ID)) {
+			out.name(ID__ID);
+			out.value(getId());
+		}
+	}
+
+	@Override
+	public final int binarySize() {
+		// Type ID, fields, and end of object.
+		return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (isPending(ID__ID)) {
+			result += pendingSize(ID__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getId());
+		}
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		if (in instanceof de.haumacher.msgbuf.binary.ByteArrayDataReader) {
+			// Decode fields on first access.
+			_lazy = de.haumacher.msgbuf.binary.LazyFields.read((de.haumacher.msgbuf.binary.ByteArrayDataReader) in);
+			return;
+		}
+
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Decodes the field with the given ID, if it has not yet been read from the binary input. */
+	protected final void loadField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			try {
+				lazy.load(field, this::readField);
+			} catch (java.io.IOException ex) {
+				throw new RuntimeException(ex);
+			}
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Discards the binary input of the field with the given ID, since a new value is assigned. */
+	protected final void dropField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			lazy.drop(field);
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Whether the field with the given ID has not yet been decoded from the binary input. */
+	protected final boolean isPending(int field) {
+		return _lazy != null && _lazy.isPending(field);
+	}
+
+	/** The number of bytes of the binary input of the field with the given ID that has not yet been decoded. */
+	protected final int pendingSize(int field) {
+		return _lazy == null ? 0 : _lazy.size(field);
+	}
+
+	/** Writes the field with the given ID by copying its binary input, if it has not yet been decoded. */
+	protected final boolean copyField(de.haumacher.msgbuf.binary.DataWriter out, int field) throws java.io.IOException {
+		return _lazy != null && _lazy.copy(out, field);
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case ID__ID: setId(in.nextString()); break;
+			default: in.skipValue(); 
+		}
+	}
+
+}
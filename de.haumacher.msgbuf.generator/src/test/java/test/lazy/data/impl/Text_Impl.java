@@ -0,0 +1,167 @@
+package test.lazy.data.impl;
+
+/**
+ * Implementation of {@link test.lazy.data.Text}.
+ *
+ * <p>
+ * Fields of an instance read from binary input are decoded on first access. Even a getter modifies the
+ * instance, when called for the first time. Therefore, an instance must not be shared between threads without
+ * synchronization, not even for read-only access.
+ * </p>
+ */
+public class Text_Impl extends test.lazy.data.impl.Payload_Impl implements test.lazy.data.Text {
+
+	private String _text = "";
+
+	/**
+	 * Creates a {@link Text_Impl} instance.
+	 *
+	 * @see test.lazy.data.Text#create()
+	 */
+	public Text_Impl() {
+		super();
+	}
+
+	@Override
+	public TypeKind kind() {
+		return TypeKind.TEXT;
+	}
+
+	@Override
+	public final String getText() {
+		loadField(TEXT__ID);
+		return _text;
+	}
+
+	@Override
+	public test.lazy.data.Text setText(String value) {
+		internalSetText(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getText()} without chain call utility. */
+	protected final void internalSetText(String value) {
+		dropField(TEXT__ID);
+		_text = value;
+	}
+
+	@Override
+	public test.lazy.data.Text setId(String value) {
+		internalSetId(value);
+		return this;
+	}
+
+	@Override
+	public String jsonType() {
+		return TEXT__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			TEXT__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case TEXT__PROP: return getText();
+			default: return super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case TEXT__PROP: internalSetText((String) value); break;
+			default: super.set(field, value); break;
+		}
+	}
+
+	/** Pre-encoded JSON name of {@link #TEXT__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName TEXT__NAME = de.haumacher.msgbuf.json.JsonName.of(TEXT__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(TEXT__NAME);
+		out.value(getText());
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "text"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case TEXT__ID: setText(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public int typeId() {
+		return TEXT__TYPE_ID;
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		if (!copyField(out, TEXT__ID)) {
+			out.name(TEXT__ID);
+			out.value(getText());
+		}
+	}
+
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		if (isPending(TEXT__ID)) {
+			result += pendingSize(TEXT__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getText());
+		}
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.lazy.data.Text} from a polymorphic composition. */
+	public static test.lazy.data.Text readText_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.lazy.data.impl.Text_Impl result = new Text_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case TEXT__ID: setText(in.nextString()); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public <R,A,E extends Throwable> R visit(test.lazy.data.Payload.Visitor<R,A,E> v, A arg) throws E {
+		return v.visit(this, arg);
+	}
+
+}
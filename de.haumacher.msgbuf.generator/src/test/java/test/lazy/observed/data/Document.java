@@ -0,0 +1,126 @@
+package test.lazy.observed.data;
+
+public interface Document extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.observer.Observable {
+
+	/**
+	 * Creates a {@link test.lazy.observed.data.Document} instance.
+	 */
+	static test.lazy.observed.data.Document create() {
+		return new test.lazy.observed.data.impl.Document_Impl();
+	}
+
+	/** Identifier for the {@link test.lazy.observed.data.Document} type in JSON format. */
+	String DOCUMENT__TYPE = "Document";
+
+	/** @see #getTitle() */
+	String TITLE__PROP = "title";
+
+	/** @see #getVersion() */
+	String VERSION__PROP = "version";
+
+	/** @see #getMain() */
+	String MAIN__PROP = "main";
+
+	/** @see #getSections() */
+	String SECTIONS__PROP = "sections";
+
+	/** @see #getTags() */
+	String TAGS__PROP = "tags";
+
+	/** Identifier for the property {@link #getTitle()} in binary format. */
+	static final int TITLE__ID = 1;
+
+	/** Identifier for the property {@link #getVersion()} in binary format. */
+	static final int VERSION__ID = 2;
+
+	/** Identifier for the property {@link #getMain()} in binary format. */
+	static final int MAIN__ID = 3;
+
+	/** Identifier for the property {@link #getSections()} in binary format. */
+	static final int SECTIONS__ID = 4;
+
+	/** Identifier for the property {@link #getTags()} in binary format. */
+	static final int TAGS__ID = 5;
+
+	String getTitle();
+
+	/**
+	 * @see #getTitle()
+	 */
+	test.lazy.observed.data.Document setTitle(String value);
+
+	int getVersion();
+
+	/**
+	 * @see #getVersion()
+	 */
+	test.lazy.observed.data.Document setVersion(int value);
+
+	test.lazy.observed.data.Section getMain();
+
+	/**
+	 * @see #getMain()
+	 */
+	test.lazy.observed.data.Document setMain(test.lazy.observed.data.Section value);
+
+	/**
+	 * Checks, whether {@link #getMain()} has a value.
+	 */
+	boolean hasMain();
+
+	java.util.List<test.lazy.observed.data.Section> getSections();
+
+	/**
+	 * @see #getSections()
+	 */
+	test.lazy.observed.data.Document setSections(java.util.List<? extends test.lazy.observed.data.Section> value);
+
+	/**
+	 * Adds a value to the {@link #getSections()} list.
+	 */
+	test.lazy.observed.data.Document addSection(test.lazy.observed.data.Section value);
+
+	/**
+	 * Removes a value from the {@link #getSections()} list.
+	 */
+	void removeSection(test.lazy.observed.data.Section value);
+
+	java.util.List<Integer> getTags();
+
+	/**
+	 * @see #getTags()
+	 */
+	test.lazy.observed.data.Document setTags(java.util.List<? extends Integer> value);
+
+	/**
+	 * Adds a value to the {@link #getTags()} list.
+	 */
+	test.lazy.observed.data.Document addTag(int value);
+
+	/**
+	 * Removes a value from the {@link #getTags()} list.
+	 */
+	void removeTag(int value);
+
+	@Override
+	public test.lazy.observed.data.Document registerListener(de.haumacher.msgbuf.observer.Listener l);
+
+	@Override
+	public test.lazy.observed.data.Document unregisterListener(de.haumacher.msgbuf.observer.Listener l);
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.observed.data.Document readDocument(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.lazy.observed.data.impl.Document_Impl result = new test.lazy.observed.data.impl.Document_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.observed.data.Document readDocument(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.lazy.observed.data.Document result = test.lazy.observed.data.impl.Document_Impl.readDocument_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
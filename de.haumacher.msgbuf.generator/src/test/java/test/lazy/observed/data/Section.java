@@ -0,0 +1,49 @@
+package test.lazy.observed.data;
+
+public interface Section extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.observer.Observable {
+
+	/**
+	 * Creates a {@link test.lazy.observed.data.Section} instance.
+	 */
+	static test.lazy.observed.data.Section create() {
+		return new test.lazy.observed.data.impl.Section_Impl();
+	}
+
+	/** Identifier for the {@link test.lazy.observed.data.Section} type in JSON format. */
+	String SECTION__TYPE = "Section";
+
+	/** @see #getName() */
+	String NAME__PROP = "name";
+
+	/** Identifier for the property {@link #getName()} in binary format. */
+	static final int NAME__ID = 1;
+
+	String getName();
+
+	/**
+	 * @see #getName()
+	 */
+	test.lazy.observed.data.Section setName(String value);
+
+	@Override
+	public test.lazy.observed.data.Section registerListener(de.haumacher.msgbuf.observer.Listener l);
+
+	@Override
+	public test.lazy.observed.data.Section unregisterListener(de.haumacher.msgbuf.observer.Listener l);
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.observed.data.Section readSection(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.lazy.observed.data.impl.Section_Impl result = new test.lazy.observed.data.impl.Section_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.lazy.observed.data.Section readSection(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.lazy.observed.data.Section result = test.lazy.observed.data.impl.Section_Impl.readSection_Content(in);
+		in.endObject();
+		return result;
+	}
+
+}
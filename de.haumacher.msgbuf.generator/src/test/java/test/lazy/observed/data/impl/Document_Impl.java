@@ -0,0 +1,554 @@
+package test.lazy.observed.data.impl;
+
+/**
+ * Implementation of {@link test.lazy.observed.data.Document}.
+ *
+ * <p>
+ * Fields of an instance read from binary input are decoded on first access. Even a getter modifies the
+ * instance, when called for the first time. Therefore, an instance must not be shared between threads without
+ * synchronization, not even for read-only access.
+ * </p>
+ */
+public class Document_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.lazy.observed.data.Document {
+
+	private String _title = "";
+
+	private int _version = 0;
+
+	private test.lazy.observed.data.Section _main = null;
+
+	private final java.util.List<test.lazy.observed.data.Section> _sections = new de.haumacher.msgbuf.util.ReferenceList<test.lazy.observed.data.Section>() {
+		@Override
+		protected void beforeAdd(int index, test.lazy.observed.data.Section element) {
+			_listener.beforeAdd(Document_Impl.this, SECTIONS__PROP, index, element);
+		}
+
+		@Override
+		protected void afterRemove(int index, test.lazy.observed.data.Section element) {
+			_listener.afterRemove(Document_Impl.this, SECTIONS__PROP, index, element);
+		}
+
+		@Override
+		protected void afterChanged() {
+			_listener.afterChanged(Document_Impl.this, SECTIONS__PROP);
+		}
+	};
+
+	private final java.util.List<Integer> _tags = new de.haumacher.msgbuf.util.ReferenceList<Integer>() {
+		@Override
+		protected void beforeAdd(int index, Integer element) {
+			_listener.beforeAdd(Document_Impl.this, TAGS__PROP, index, element);
+		}
+
+		@Override
+		protected void afterRemove(int index, Integer element) {
+			_listener.afterRemove(Document_Impl.this, TAGS__PROP, index, element);
+		}
+
+		@Override
+		protected void afterChanged() {
+			_listener.afterChanged(Document_Impl.this, TAGS__PROP);
+		}
+	};
+
+	/** Binary input of fields that have not yet been decoded. */
+	private de.haumacher.msgbuf.binary.LazyFields _lazy;
+
+	/**
+	 * Creates a {@link Document_Impl} instance.
+	 *
+	 * @see test.lazy.observed.data.Document#create()
+	 */
+	public Document_Impl() {
+		super();
+	}
+
+	@Override
+	public final String getTitle() {
+		loadField(TITLE__ID);
+		return _title;
+	}
+
+	@Override
+	public test.lazy.observed.data.Document setTitle(String value) {
+		internalSetTitle(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getTitle()} without chain call utility. */
+	protected final void internalSetTitle(String value) {
+		dropField(TITLE__ID);
+		_listener.beforeSet(this, TITLE__PROP, value);
+		_title = value;
+		_listener.afterChanged(this, TITLE__PROP);
+	}
+
+	@Override
+	public final int getVersion() {
+		loadField(VERSION__ID);
+		return _version;
+	}
+
+	@Override
+	public test.lazy.observed.data.Document setVersion(int value) {
+		internalSetVersion(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getVersion()} without chain call utility. */
+	protected final void internalSetVersion(int value) {
+		dropField(VERSION__ID);
+		_listener.beforeSet(this, VERSION__PROP, value);
+		_version = value;
+		_listener.afterChanged(this, VERSION__PROP);
+	}
+
+	@Override
+	public final test.lazy.observed.data.Section getMain() {
+		loadField(MAIN__ID);
+		return _main;
+	}
+
+	@Override
+	public test.lazy.observed.data.Document setMain(test.lazy.observed.data.Section value) {
+		internalSetMain(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getMain()} without chain call utility. */
+	protected final void internalSetMain(test.lazy.observed.data.Section value) {
+		dropField(MAIN__ID);
+		_listener.beforeSet(this, MAIN__PROP, value);
+		_main = value;
+		_listener.afterChanged(this, MAIN__PROP);
+	}
+
+	@Override
+	public final boolean hasMain() {
+		loadField(MAIN__ID);
+		return _main != null;
+	}
+
+	@Override
+	public final java.util.List<test.lazy.observed.data.Section> getSections() {
+		loadField(SECTIONS__ID);
+		return _sections;
+	}
+
+	@Override
+	public test.lazy.observed.data.Document setSections(java.util.List<? extends test.lazy.observed.data.Section> value) {
+		internalSetSections(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getSections()} without chain call utility. */
+	protected final void internalSetSections(java.util.List<? extends test.lazy.observed.data.Section> value) {
+		if (value == null) throw new IllegalArgumentException("Property 'sections' cannot be null.");
+		dropField(SECTIONS__ID);
+		_sections.clear();
+		_sections.addAll(value);
+	}
+
+	@Override
+	public test.lazy.observed.data.Document addSection(test.lazy.observed.data.Section value) {
+		internalAddSection(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addSection(test.lazy.observed.data.Section)} without chain call utility. */
+	protected final void internalAddSection(test.lazy.observed.data.Section value) {
+		loadField(SECTIONS__ID);
+		_sections.add(value);
+	}
+
+	@Override
+	public final void removeSection(test.lazy.observed.data.Section value) {
+		loadField(SECTIONS__ID);
+		_sections.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Integer> getTags() {
+		loadField(TAGS__ID);
+		return _tags;
+	}
+
+	@Override
+	public test.lazy.observed.data.Document setTags(java.util.List<? extends Integer> value) {
+		internalSetTags(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getTags()} without chain call utility. */
+	protected final void internalSetTags(java.util.List<? extends Integer> value) {
+		dropField(TAGS__ID);
+		_tags.clear();
+		_tags.addAll(value);
+	}
+
+	@Override
+	public test.lazy.observed.data.Document addTag(int value) {
+		internalAddTag(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addTag(int)} without chain call utility. */
+	protected final void internalAddTag(int value) {
+		loadField(TAGS__ID);
+		_tags.add(value);
+	}
+
+	@Override
+	public final void removeTag(int value) {
+		loadField(TAGS__ID);
+		_tags.remove(value);
+	}
+
+	protected de.haumacher.msgbuf.observer.Listener _listener = de.haumacher.msgbuf.observer.Listener.NONE;
+
+	@Override
+	public test.lazy.observed.data.Document registerListener(de.haumacher.msgbuf.observer.Listener l) {
+		internalRegisterListener(l);
+		return this;
+	}
+
+	protected final void internalRegisterListener(de.haumacher.msgbuf.observer.Listener l) {
+		_listener = de.haumacher.msgbuf.observer.Listener.register(_listener, l);
+	}
+
+	@Override
+	public test.lazy.observed.data.Document unregisterListener(de.haumacher.msgbuf.observer.Listener l) {
+		internalUnregisterListener(l);
+		return this;
+	}
+
+	protected final void internalUnregisterListener(de.haumacher.msgbuf.observer.Listener l) {
+		_listener = de.haumacher.msgbuf.observer.Listener.unregister(_listener, l);
+	}
+
+	@Override
+	public String jsonType() {
+		return DOCUMENT__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			TITLE__PROP, 
+			VERSION__PROP, 
+			MAIN__PROP, 
+			SECTIONS__PROP, 
+			TAGS__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case TITLE__PROP: return getTitle();
+			case VERSION__PROP: return getVersion();
+			case MAIN__PROP: return getMain();
+			case SECTIONS__PROP: return getSections();
+			case TAGS__PROP: return getTags();
+			default: return test.lazy.observed.data.Document.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case TITLE__PROP: internalSetTitle((String) value); break;
+			case VERSION__PROP: internalSetVersion((int) value); break;
+			case MAIN__PROP: internalSetMain((test.lazy.observed.data.Section) value); break;
+			case SECTIONS__PROP: internalSetSections(de.haumacher.msgbuf.util.Conversions.asList(test.lazy.observed.data.Section.class, value)); break;
+			case TAGS__PROP: internalSetTags(de.haumacher.msgbuf.util.Conversions.asList(Integer.class, value)); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		writeContent(out);
+	}
+
+	/** Pre-encoded JSON name of {@link #TITLE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName TITLE__NAME = de.haumacher.msgbuf.json.JsonName.of(TITLE__PROP);
+
+	/** Pre-encoded JSON name of {@link #VERSION__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName VERSION__NAME = de.haumacher.msgbuf.json.JsonName.of(VERSION__PROP);
+
+	/** Pre-encoded JSON name of {@link #MAIN__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName MAIN__NAME = de.haumacher.msgbuf.json.JsonName.of(MAIN__PROP);
+
+	/** Pre-encoded JSON name of {@link #SECTIONS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SECTIONS__NAME = de.haumacher.msgbuf.json.JsonName.of(SECTIONS__PROP);
+
+	/** Pre-encoded JSON name of {@link #TAGS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName TAGS__NAME = de.haumacher.msgbuf.json.JsonName.of(TAGS__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(TITLE__NAME);
+		out.value(getTitle());
+		out.name(VERSION__NAME);
+		out.value(getVersion());
+		if (hasMain()) {
+			out.name(MAIN__NAME);
+			getMain().writeTo(out);
+		}
+		out.name(SECTIONS__NAME);
+		out.beginArray();
+		for (test.lazy.observed.data.Section x : getSections()) {
+			x.writeTo(out);
+		}
+		out.endArray();
+		out.name(TAGS__NAME);
+		out.beginArray();
+		for (int x : getTags()) {
+			out.value(x);
+		}
+		out.endArray();
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"title", "version", "main", "sections", "tags"},
+		new int[] {1, 2, 3, 4, 5});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case TITLE__ID: setTitle(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case VERSION__ID: setVersion(in.nextInt()); break;
+			case MAIN__ID: setMain(test.lazy.observed.data.Section.readSection(in)); break;
+			case SECTIONS__ID: {
+				java.util.List<test.lazy.observed.data.Section> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(test.lazy.observed.data.Section.readSection(in));
+				}
+				in.endArray();
+				setSections(newValue);
+			}
+			break;
+			case TAGS__ID: {
+				java.util.List<Integer> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextInt());
+				}
+				in.endArray();
+				setTags(newValue);
+			}
+			break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		if (!copyField(out, TITLE__ID)) {
+			out.name(TITLE__ID);
+			out.value(getTitle());
+		}
+		if (!copyField(out, VERSION__ID)) {
+			out.name(VERSION__ID);
+			out.value(getVersion());
+		}
+		if (!copyField(out, MAIN__ID)) {
+			if (hasMain()) {
+				out.name(MAIN__ID);
+				getMain().writeTo(out);
+			}
+		}
+		if (!copyField(out, SECTIONS__ID)) {
+			out.name(SECTIONS__ID);
+			{
+				java.util.List<test.lazy.observed.data.Section> values = getSections();
+				out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+				for (test.lazy.observed.data.Section x : values) {
+					x.writeTo(out);
+				}
+				out.endArray();
+			}
+		}
+		if (!copyField(out, TAGS__ID)) {
+			out.name(TAGS__ID);
+			out.valueArray(de.haumacher.msgbuf.binary.DataType.INT, getTags());
+		}
+	}
+
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (isPending(TITLE__ID)) {
+			result += pendingSize(TITLE__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getTitle());
+		}
+		if (isPending(VERSION__ID)) {
+			result += pendingSize(VERSION__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getVersion());
+		}
+		if (isPending(MAIN__ID)) {
+			result += pendingSize(MAIN__ID);
+		} else {
+			if (hasMain()) {
+				result += 1;
+				result += getMain().binarySize();
+			}
+		}
+		if (isPending(SECTIONS__ID)) {
+			result += pendingSize(SECTIONS__ID);
+		} else {
+			{
+				java.util.List<test.lazy.observed.data.Section> values = getSections();
+				result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+				for (test.lazy.observed.data.Section x : values) {
+					result += x.binarySize();
+				}
+			}
+		}
+		if (isPending(TAGS__ID)) {
+			result += pendingSize(TAGS__ID);
+		} else {
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeIntArray(getTags());
+		}
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.lazy.observed.data.Document} from a polymorphic composition. */
+	public static test.lazy.observed.data.Document readDocument_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.lazy.observed.data.impl.Document_Impl result = new Document_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		if (in instanceof de.haumacher.msgbuf.binary.ByteArrayDataReader) {
+			// Decode fields on first access.
+			_lazy = de.haumacher.msgbuf.binary.LazyFields.read((de.haumacher.msgbuf.binary.ByteArrayDataReader) in);
+			return;
+		}
+
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Decodes the field with the given ID, if it has not yet been read from the binary input. */
+	protected final void loadField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			// Decoding does not change the value, listeners must not observe the assignment.
+			de.haumacher.msgbuf.observer.Listener listener = _listener;
+			_listener = de.haumacher.msgbuf.observer.Listener.NONE;
+			try {
+				lazy.load(field, this::readField);
+			} catch (java.io.IOException ex) {
+				throw new RuntimeException(ex);
+			} finally {
+				_listener = listener;
+			}
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Discards the binary input of the field with the given ID, since a new value is assigned. */
+	protected final void dropField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			lazy.drop(field);
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Whether the field with the given ID has not yet been decoded from the binary input. */
+	protected final boolean isPending(int field) {
+		return _lazy != null && _lazy.isPending(field);
+	}
+
+	/** The number of bytes of the binary input of the field with the given ID that has not yet been decoded. */
+	protected final int pendingSize(int field) {
+		return _lazy == null ? 0 : _lazy.size(field);
+	}
+
+	/** Writes the field with the given ID by copying its binary input, if it has not yet been decoded. */
+	protected final boolean copyField(de.haumacher.msgbuf.binary.DataWriter out, int field) throws java.io.IOException {
+		return _lazy != null && _lazy.copy(out, field);
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case TITLE__ID: setTitle(in.nextString()); break;
+			case VERSION__ID: setVersion(in.nextInt()); break;
+			case MAIN__ID: setMain(test.lazy.observed.data.Section.readSection(in)); break;
+			case SECTIONS__ID: {
+				in.beginArray();
+				while (in.hasNext()) {
+					addSection(test.lazy.observed.data.Section.readSection(in));
+				}
+				in.endArray();
+			}
+			break;
+			case TAGS__ID: {
+				int[] values = in.nextIntArray();
+				java.util.List<Integer> newValue = new java.util.ArrayList<>(values.length);
+				for (int x : values) {
+					newValue.add(x);
+				}
+				setTags(newValue);
+			}
+			break;
+			default: in.skipValue(); 
+		}
+	}
+
+}
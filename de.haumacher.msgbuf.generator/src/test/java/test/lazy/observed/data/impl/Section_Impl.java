@@ -0,0 +1,257 @@
+package test.lazy.observed.data.impl;
+
+/**
+ * Implementation of {@link test.lazy.observed.data.Section}.
+ *
+ * <p>
+ * Fields of an instance read from binary input are decoded on first access. Even a getter modifies the
+ * instance, when called for the first time. Therefore, an instance must not be shared between threads without
+ * synchronization, not even for read-only access.
+ * </p>
+ */
+public class Section_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.lazy.observed.data.Section {
+
+	private String _name = "";
+
+	/** Binary input of fields that have not yet been decoded. */
+	private de.haumacher.msgbuf.binary.LazyFields _lazy;
+
+	/**
+	 * Creates a {@link Section_Impl} instance.
+	 *
+	 * @see test.lazy.observed.data.Section#create()
+	 */
+	public Section_Impl() {
+		super();
+	}
+
+	@Override
+	public final String getName() {
+		loadField(NAME__ID);
+		return _name;
+	}
+
+	@Override
+	public test.lazy.observed.data.Section setName(String value) {
+		internalSetName(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getName()} without chain call utility. */
+	protected final void internalSetName(String value) {
+		dropField(NAME__ID);
+		_listener.beforeSet(this, NAME__PROP, value);
+		_name = value;
+		_listener.afterChanged(this, NAME__PROP);
+	}
+
+	protected de.haumacher.msgbuf.observer.Listener _listener = de.haumacher.msgbuf.observer.Listener.NONE;
+
+	@Override
+	public test.lazy.observed.data.Section registerListener(de.haumacher.msgbuf.observer.Listener l) {
+		internalRegisterListener(l);
+		return this;
+	}
+
+	protected final void internalRegisterListener(de.haumacher.msgbuf.observer.Listener l) {
+		_listener = de.haumacher.msgbuf.observer.Listener.register(_listener, l);
+	}
+
+	@Override
+	public test.lazy.observed.data.Section unregisterListener(de.haumacher.msgbuf.observer.Listener l) {
+		internalUnregisterListener(l);
+		return this;
+	}
+
+	protected final void internalUnregisterListener(de.haumacher.msgbuf.observer.Listener l) {
+		_listener = de.haumacher.msgbuf.observer.Listener.unregister(_listener, l);
+	}
+
+	@Override
+	public String jsonType() {
+		return SECTION__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			NAME__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case NAME__PROP: return getName();
+			default: return test.lazy.observed.data.Section.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case NAME__PROP: internalSetName((String) value); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		writeContent(out);
+	}
+
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(NAME__NAME);
+		out.value(getName());
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name"},
+		new int[] {1});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		if (!copyField(out, NAME__ID)) {
+			out.name(NAME__ID);
+			out.value(getName());
+		}
+	}
+
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (isPending(NAME__ID)) {
+			result += pendingSize(NAME__ID);
+		} else {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		}
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.lazy.observed.data.Section} from a polymorphic composition. */
+	public static test.lazy.observed.data.Section readSection_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.lazy.observed.data.impl.Section_Impl result = new Section_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		if (in instanceof de.haumacher.msgbuf.binary.ByteArrayDataReader) {
+			// Decode fields on first access.
+			_lazy = de.haumacher.msgbuf.binary.LazyFields.read((de.haumacher.msgbuf.binary.ByteArrayDataReader) in);
+			return;
+		}
+
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Decodes the field with the given ID, if it has not yet been read from the binary input. */
+	protected final void loadField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			// Decoding does not change the value, listeners must not observe the assignment.
+			de.haumacher.msgbuf.observer.Listener listener = _listener;
+			_listener = de.haumacher.msgbuf.observer.Listener.NONE;
+			try {
+				lazy.load(field, this::readField);
+			} catch (java.io.IOException ex) {
+				throw new RuntimeException(ex);
+			} finally {
+				_listener = listener;
+			}
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Discards the binary input of the field with the given ID, since a new value is assigned. */
+	protected final void dropField(int field) {
+		de.haumacher.msgbuf.binary.LazyFields lazy = _lazy;
+		if (lazy != null) {
+			lazy.drop(field);
+			if (lazy.isComplete()) {
+				_lazy = null;
+			}
+		}
+	}
+
+	/** Whether the field with the given ID has not yet been decoded from the binary input. */
+	protected final boolean isPending(int field) {
+		return _lazy != null && _lazy.isPending(field);
+	}
+
+	/** The number of bytes of the binary input of the field with the given ID that has not yet been decoded. */
+	protected final int pendingSize(int field) {
+		return _lazy == null ? 0 : _lazy.size(field);
+	}
+
+	/** Writes the field with the given ID by copying its binary input, if it has not yet been decoded. */
+	protected final boolean copyField(de.haumacher.msgbuf.binary.DataWriter out, int field) throws java.io.IOException {
+		return _lazy != null && _lazy.copy(out, field);
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case NAME__ID: setName(in.nextString()); break;
+			default: in.skipValue(); 
+		}
+	}
+
+}
@@ -136,24 +136,40 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 			writeContent(out);
 		}
 
+		/** Pre-encoded JSON name of {@link #A_1__PROP}. */
+		private static final de.haumacher.msgbuf.json.JsonName A_1__NAME = de.haumacher.msgbuf.json.JsonName.of(A_1__PROP);
+
+		/** Pre-encoded JSON name of {@link #B_1__PROP}. */
+		private static final de.haumacher.msgbuf.json.JsonName B_1__NAME = de.haumacher.msgbuf.json.JsonName.of(B_1__PROP);
+
 		@Override
 		protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 			super.writeFields(out);
 			if (hasA1()) {
-				out.name(A_1__PROP);
+				out.name(A_1__NAME);
 				getA1().writeTo(out);
 			}
 			if (hasB1()) {
-				out.name(B_1__PROP);
+				out.name(B_1__NAME);
 				getB1().writeTo(out);
 			}
 		}
 
+		/** Table of all JSON property names of this type including inherited properties. */
+		private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+			new String[] {"a1", "b1"},
+			new int[] {1, 2});
+
+		@Override
+		protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+			return JSON_NAMES;
+		}
+
 		@Override
-		protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+		protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 			switch (field) {
-				case A_1__PROP: setA1(test.lowercasemessage.A.reada(in)); break;
-				case B_1__PROP: setB1(test.lowercasemessage.A.B.readb(in)); break;
+				case A_1__ID: setA1(test.lowercasemessage.A.reada(in)); break;
+				case B_1__ID: setB1(test.lowercasemessage.A.B.readb(in)); break;
 				default: super.readField(in, field);
 			}
 		}
@@ -183,6 +199,28 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 			}
 		}
 
+		@Override
+		public final int binarySize() {
+			// Fields and end of object.
+			return binaryFieldsSize() + 1;
+		}
+
+		/**
+		 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+		 */
+		protected int binaryFieldsSize() {
+			int result = 0;
+			if (hasA1()) {
+				result += 1;
+				result += getA1().binarySize();
+			}
+			if (hasB1()) {
+				result += 1;
+				result += getB1().binarySize();
+			}
+			return result;
+		}
+
 		/** Helper for creating an object of type {@link test.lowercasemessage.A.B} from a polymorphic composition. */
 		public static test.lowercasemessage.A.B readb_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 			test.lowercasemessage.impl.A_Impl.B_Impl result = new B_Impl();
@@ -437,24 +475,40 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #A_1__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName A_1__NAME = de.haumacher.msgbuf.json.JsonName.of(A_1__PROP);
+
+	/** Pre-encoded JSON name of {@link #B_1__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName B_1__NAME = de.haumacher.msgbuf.json.JsonName.of(B_1__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
 		if (hasA1()) {
-			out.name(A_1__PROP);
+			out.name(A_1__NAME);
 			getA1().writeTo(out);
 		}
 		if (hasB1()) {
-			out.name(B_1__PROP);
+			out.name(B_1__NAME);
 			getB1().writeTo(out);
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"a1", "b1"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case A_1__PROP: setA1(test.lowercasemessage.A.reada(in)); break;
-			case B_1__PROP: setB1(test.lowercasemessage.A.B.readb(in)); break;
+			case A_1__ID: setA1(test.lowercasemessage.A.reada(in)); break;
+			case B_1__ID: setB1(test.lowercasemessage.A.B.readb(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -484,6 +538,28 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (hasA1()) {
+			result += 1;
+			result += getA1().binarySize();
+		}
+		if (hasB1()) {
+			result += 1;
+			result += getB1().binarySize();
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.lowercasemessage.A} from a polymorphic composition. */
 	public static test.lowercasemessage.A reada_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.lowercasemessage.impl.A_Impl result = new A_Impl();
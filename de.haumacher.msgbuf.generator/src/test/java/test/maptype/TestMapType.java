@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package test.maptype;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import de.haumacher.msgbuf.binary.OctetDataReader;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.json.JsonReader;
+import junit.framework.TestCase;
+import test.maptype.data.MyMessage;
+import test.maptype.data.Project;
+
+/**
+ * Test case for map fields in {@link MyMessage}.
+ */
+@SuppressWarnings("javadoc")
+public class TestMapType extends TestCase {
+
+	public void testBinary() throws IOException {
+		MyMessage message = createMessage();
+		
+		OctetDataWriter out = new OctetDataWriter();
+		message.writeTo(out);
+		assertEquals(out.size(), message.binarySize());
+		MyMessage copy = MyMessage.readMyMessage(new OctetDataReader(new ByteArrayInputStream(out.toByteArray())));
+		
+		assertEquals(message.toString(), copy.toString());
+		assertEquals(2, copy.getProjects().size());
+		assertEquals(1.5, copy.getProjects().get("b").getCost());
+		assertEquals("good", copy.getRating().get(3));
+	}
+
+	public void testJson() throws IOException {
+		MyMessage message = createMessage();
+		
+		MyMessage copy = MyMessage.readMyMessage(new JsonReader(new StringR(message.toString())));
+		
+		assertEquals(message.toString(), copy.toString());
+	}
+
+	private static MyMessage createMessage() {
+		return MyMessage.create()
+			.putProject("a", Project.create().setName("A").setCost(10))
+			.putProject("b", Project.create().setName("B").setCost(1.5))
+			.putRating(3, "good")
+			.putRating(-1, "bad");
+	}
+
+}
@@ -190,17 +190,23 @@ public class MyMessage_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #PROJECTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName PROJECTS__NAME = de.haumacher.msgbuf.json.JsonName.of(PROJECTS__PROP);
+
+	/** Pre-encoded JSON name of {@link #RATING__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName RATING__NAME = de.haumacher.msgbuf.json.JsonName.of(RATING__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(PROJECTS__PROP);
+		out.name(PROJECTS__NAME);
 		out.beginObject();
 		for (java.util.Map.Entry<String,test.maptype.data.Project> entry : getProjects().entrySet()) {
 			out.name(entry.getKey());
 			entry.getValue().writeTo(out);
 		}
 		out.endObject();
-		out.name(RATING__PROP);
+		out.name(RATING__NAME);
 		out.beginArray();
 		for (java.util.Map.Entry<Integer,String> entry : getRating().entrySet()) {
 			out.beginObject();
@@ -213,10 +219,20 @@ public class MyMessage_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 		out.endArray();
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"projects", "rating"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case PROJECTS__PROP: {
+			case PROJECTS__ID: {
 				java.util.Map<String, test.maptype.data.Project> newValue = new java.util.LinkedHashMap<>();
 				in.beginObject();
 				while (in.hasNext()) {
@@ -226,7 +242,7 @@ public class MyMessage_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 				setProjects(newValue);
 				break;
 			}
-			case RATING__PROP: {
+			case RATING__ID: {
 				java.util.Map<Integer, String> newValue = new java.util.LinkedHashMap<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -267,7 +283,65 @@ public class MyMessage_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 	 */
 	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
 		out.name(PROJECTS__ID);
+		{
+			java.util.Map<String, test.maptype.data.Project> values = getProjects();
+			out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+			for (java.util.Map.Entry<String,test.maptype.data.Project> entry : values.entrySet()) {
+				out.beginObject();
+				out.name(1);
+				out.value(entry.getKey());
+				out.name(2);
+				entry.getValue().writeTo(out);
+				out.endObject();
+			}
+			out.endArray();
+		}
 		out.name(RATING__ID);
+		{
+			java.util.Map<Integer, String> values = getRating();
+			out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+			for (java.util.Map.Entry<Integer,String> entry : values.entrySet()) {
+				out.beginObject();
+				out.name(1);
+				out.value(entry.getKey());
+				out.name(2);
+				out.value(entry.getValue());
+				out.endObject();
+			}
+			out.endArray();
+		}
+	}
+
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		{
+			java.util.Map<String, test.maptype.data.Project> values = getProjects();
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (java.util.Map.Entry<String,test.maptype.data.Project> entry : values.entrySet()) {
+				// Key field, value field, and end of object.
+				result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeString(entry.getKey()) + 1 + entry.getValue().binarySize() + 1;
+			}
+		}
+		result += 1;
+		{
+			java.util.Map<Integer, String> values = getRating();
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (java.util.Map.Entry<Integer,String> entry : values.entrySet()) {
+				// Key field, value field, and end of object.
+				result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(entry.getKey()) + 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeString(entry.getValue()) + 1;
+			}
+		}
+		return result;
 	}
 
 	/** Helper for creating an object of type {@link test.maptype.data.MyMessage} from a polymorphic composition. */
@@ -122,20 +122,36 @@ public class Project_Impl extends de.haumacher.msgbuf.data.AbstractDataObject im
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	/** Pre-encoded JSON name of {@link #COST__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName COST__NAME = de.haumacher.msgbuf.json.JsonName.of(COST__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(NAME__PROP);
+		out.name(NAME__NAME);
 		out.value(getName());
-		out.name(COST__PROP);
+		out.name(COST__NAME);
 		out.value(getCost());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name", "cost"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case NAME__PROP: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case COST__PROP: setCost(in.nextDouble()); break;
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case COST__ID: setCost(in.nextDouble()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -161,6 +177,24 @@ public class Project_Impl extends de.haumacher.msgbuf.data.AbstractDataObject im
 		out.value(getCost());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		result += 1;
+		result += 8;
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.maptype.data.Project} from a polymorphic composition. */
 	public static test.maptype.data.Project readProject_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.maptype.data.impl.Project_Impl result = new Project_Impl();
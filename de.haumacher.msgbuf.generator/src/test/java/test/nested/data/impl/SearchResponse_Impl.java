@@ -179,14 +179,23 @@ public class SearchResponse_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 			writeContent(out);
 		}
 
+		/** Pre-encoded JSON name of {@link #URL__PROP}. */
+		private static final de.haumacher.msgbuf.json.JsonName URL__NAME = de.haumacher.msgbuf.json.JsonName.of(URL__PROP);
+
+		/** Pre-encoded JSON name of {@link #TITLE__PROP}. */
+		private static final de.haumacher.msgbuf.json.JsonName TITLE__NAME = de.haumacher.msgbuf.json.JsonName.of(TITLE__PROP);
+
+		/** Pre-encoded JSON name of {@link #SNIPPETS__PROP}. */
+		private static final de.haumacher.msgbuf.json.JsonName SNIPPETS__NAME = de.haumacher.msgbuf.json.JsonName.of(SNIPPETS__PROP);
+
 		@Override
 		protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 			super.writeFields(out);
-			out.name(URL__PROP);
+			out.name(URL__NAME);
 			out.value(getUrl());
-			out.name(TITLE__PROP);
+			out.name(TITLE__NAME);
 			out.value(getTitle());
-			out.name(SNIPPETS__PROP);
+			out.name(SNIPPETS__NAME);
 			out.beginArray();
 			for (String x : getSnippets()) {
 				out.value(x);
@@ -194,12 +203,22 @@ public class SearchResponse_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 			out.endArray();
 		}
 
+		/** Table of all JSON property names of this type including inherited properties. */
+		private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+			new String[] {"url", "title", "snippets"},
+			new int[] {1, 2, 3});
+
+		@Override
+		protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+			return JSON_NAMES;
+		}
+
 		@Override
-		protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+		protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 			switch (field) {
-				case URL__PROP: setUrl(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-				case TITLE__PROP: setTitle(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-				case SNIPPETS__PROP: {
+				case URL__ID: setUrl(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+				case TITLE__ID: setTitle(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+				case SNIPPETS__ID: {
 					java.util.List<String> newValue = new java.util.ArrayList<>();
 					in.beginArray();
 					while (in.hasNext()) {
@@ -243,6 +262,31 @@ public class SearchResponse_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 			}
 		}
 
+		@Override
+		public final int binarySize() {
+			// Fields and end of object.
+			return binaryFieldsSize() + 1;
+		}
+
+		/**
+		 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+		 */
+		protected int binaryFieldsSize() {
+			int result = 0;
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getUrl());
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getTitle());
+			{
+				java.util.List<String> values = getSnippets();
+				result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+				for (String x : values) {
+					result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(x);
+				}
+			}
+			return result;
+		}
+
 		/** Helper for creating an object of type {@link test.nested.data.SearchResponse.Result} from a polymorphic composition. */
 		public static test.nested.data.SearchResponse.Result readResult_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 			test.nested.data.impl.SearchResponse_Impl.Result_Impl result = new Result_Impl();
@@ -516,10 +560,13 @@ public class SearchResponse_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #RESULTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName RESULTS__NAME = de.haumacher.msgbuf.json.JsonName.of(RESULTS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(RESULTS__PROP);
+		out.name(RESULTS__NAME);
 		out.beginArray();
 		for (test.nested.data.SearchResponse.Result x : getResults()) {
 			x.writeTo(out);
@@ -527,10 +574,20 @@ public class SearchResponse_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		out.endArray();
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"results"},
+		new int[] {1});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case RESULTS__PROP: {
+			case RESULTS__ID: {
 				java.util.List<test.nested.data.SearchResponse.Result> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -570,6 +627,27 @@ public class SearchResponse_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		{
+			java.util.List<test.nested.data.SearchResponse.Result> values = getResults();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.nested.data.SearchResponse.Result x : values) {
+				result += x.binarySize();
+			}
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nested.data.SearchResponse} from a polymorphic composition. */
 	public static test.nested.data.SearchResponse readSearchResponse_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nested.data.impl.SearchResponse_Impl result = new SearchResponse_Impl();
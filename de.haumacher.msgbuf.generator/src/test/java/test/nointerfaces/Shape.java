@@ -186,20 +186,36 @@ public abstract class Shape extends de.haumacher.msgbuf.data.AbstractDataObject
 		out.endArray();
 	}
 
+	/** Pre-encoded JSON name of {@link #X_COORDINATE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName X_COORDINATE__NAME = de.haumacher.msgbuf.json.JsonName.of(X_COORDINATE__PROP);
+
+	/** Pre-encoded JSON name of {@link #Y_COORDINATE__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName Y_COORDINATE__NAME = de.haumacher.msgbuf.json.JsonName.of(Y_COORDINATE__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(X_COORDINATE__PROP);
+		out.name(X_COORDINATE__NAME);
 		out.value(getXCoordinate());
-		out.name(Y_COORDINATE__PROP);
+		out.name(Y_COORDINATE__NAME);
 		out.value(getYCoordinate());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case X_COORDINATE__PROP: setXCoordinate(in.nextInt()); break;
-			case Y_COORDINATE__PROP: setYCoordinate(in.nextInt()); break;
+			case X_COORDINATE__ID: setXCoordinate(in.nextInt()); break;
+			case Y_COORDINATE__ID: setYCoordinate(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -230,6 +246,24 @@ public abstract class Shape extends de.haumacher.msgbuf.data.AbstractDataObject
 		out.value(getYCoordinate());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Type ID, fields, and end of object.
+		return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getXCoordinate());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getYCoordinate());
+		return result;
+	}
+
 	/** Reads a new instance from the given reader. */
 	public static test.nointerfaces.Shape readShape(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		in.beginObject();
@@ -173,6 +173,24 @@ public class Car_Impl extends test.nojson.impl.Shape_Impl implements test.nojson
 		}
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		if (hasWheel1()) {
+			result += 1;
+			result += getWheel1().binarySize();
+		}
+		if (hasWheel2()) {
+			result += 1;
+			result += getWheel2().binarySize();
+		}
+		if (hasBody()) {
+			result += 1;
+			result += getBody().binarySize();
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nojson.Car} from a polymorphic composition. */
 	public static test.nojson.Car readCar_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nojson.impl.Car_Impl result = new Car_Impl();
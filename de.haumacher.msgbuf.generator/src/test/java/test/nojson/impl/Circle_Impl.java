@@ -102,6 +102,14 @@ public class Circle_Impl extends test.nojson.impl.AtomicShape_Impl implements te
 		out.value(getRadius());
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getRadius());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nojson.Circle} from a polymorphic composition. */
 	public static test.nojson.Circle readCircle_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nojson.impl.Circle_Impl result = new Circle_Impl();
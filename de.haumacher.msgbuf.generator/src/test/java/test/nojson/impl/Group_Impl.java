@@ -140,6 +140,19 @@ public class Group_Impl extends test.nojson.impl.Shape_Impl implements test.nojs
 		}
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		{
+			java.util.List<test.nojson.Shape> values = getShapes();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.nojson.Shape x : values) {
+				result += x.binarySize();
+			}
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nojson.Group} from a polymorphic composition. */
 	public static test.nojson.Group readGroup_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nojson.impl.Group_Impl result = new Group_Impl();
@@ -127,6 +127,16 @@ public class Rectangle_Impl extends test.nojson.impl.AtomicShape_Impl implements
 		out.value(getHeight());
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getWidth());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getHeight());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nojson.Rectangle} from a polymorphic composition. */
 	public static test.nojson.Rectangle readRectangle_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nojson.impl.Rectangle_Impl result = new Rectangle_Impl();
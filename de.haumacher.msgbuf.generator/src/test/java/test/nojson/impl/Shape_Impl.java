@@ -133,6 +133,24 @@ public abstract class Shape_Impl implements test.nojson.Shape {
 		out.value(getYCoordinate());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Type ID, fields, and end of object.
+		return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getXCoordinate());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getYCoordinate());
+		return result;
+	}
+
 	/** Helper for reading all fields of this instance. */
 	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		while (in.hasNext()) {
@@ -138,6 +138,24 @@ public class SimpleType_Impl implements test.nojson.SimpleType {
 		out.value(getX());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getStr());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getX());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nojson.SimpleType} from a polymorphic composition. */
 	public static test.nojson.SimpleType readSimpleType_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nojson.impl.SimpleType_Impl result = new SimpleType_Impl();
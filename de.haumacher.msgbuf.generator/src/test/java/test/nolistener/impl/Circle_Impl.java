@@ -88,17 +88,30 @@ public class Circle_Impl extends test.nolistener.impl.AtomicShape_Impl implement
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #RADIUS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName RADIUS__NAME = de.haumacher.msgbuf.json.JsonName.of(RADIUS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(RADIUS__PROP);
+		out.name(RADIUS__NAME);
 		out.value(getRadius());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "r"},
+		new int[] {1, 2, 3});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case RADIUS__PROP: setRadius(in.nextInt()); break;
+			case RADIUS__ID: setRadius(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -115,6 +128,14 @@ public class Circle_Impl extends test.nolistener.impl.AtomicShape_Impl implement
 		out.value(getRadius());
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getRadius());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nolistener.Circle} from a polymorphic composition. */
 	public static test.nolistener.Circle readCircle_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nolistener.impl.Circle_Impl result = new Circle_Impl();
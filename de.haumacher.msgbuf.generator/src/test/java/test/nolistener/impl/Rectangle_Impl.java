@@ -109,20 +109,36 @@ public class Rectangle_Impl extends test.nolistener.impl.AtomicShape_Impl implem
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #WIDTH__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WIDTH__NAME = de.haumacher.msgbuf.json.JsonName.of(WIDTH__PROP);
+
+	/** Pre-encoded JSON name of {@link #HEIGHT__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName HEIGHT__NAME = de.haumacher.msgbuf.json.JsonName.of(HEIGHT__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(WIDTH__PROP);
+		out.name(WIDTH__NAME);
 		out.value(getWidth());
-		out.name(HEIGHT__PROP);
+		out.name(HEIGHT__NAME);
 		out.value(getHeight());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "w", "h"},
+		new int[] {1, 2, 3, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case WIDTH__PROP: setWidth(in.nextInt()); break;
-			case HEIGHT__PROP: setHeight(in.nextInt()); break;
+			case WIDTH__ID: setWidth(in.nextInt()); break;
+			case HEIGHT__ID: setHeight(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -141,6 +157,16 @@ public class Rectangle_Impl extends test.nolistener.impl.AtomicShape_Impl implem
 		out.value(getHeight());
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getWidth());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getHeight());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nolistener.Rectangle} from a polymorphic composition. */
 	public static test.nolistener.Rectangle readRectangle_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nolistener.impl.Rectangle_Impl result = new Rectangle_Impl();
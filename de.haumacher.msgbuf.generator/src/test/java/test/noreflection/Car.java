@@ -24,6 +24,15 @@ public class Car extends Shape {
 	/** @see #getBody() */
 	private static final String BODY__PROP = "body";
 
+	/** Identifier for the property {@link #getWheel1()}. */
+	static final int WHEEL_1__ID = 3;
+
+	/** Identifier for the property {@link #getWheel2()}. */
+	static final int WHEEL_2__ID = 4;
+
+	/** Identifier for the property {@link #getBody()}. */
+	static final int BODY__ID = 5;
+
 	private test.noreflection.Circle _wheel1 = null;
 
 	private test.noreflection.Circle _wheel2 = null;
@@ -144,29 +153,48 @@ public class Car extends Shape {
 		return result;
 	}
 
+	/** Pre-encoded JSON name of {@link #WHEEL_1__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WHEEL_1__NAME = de.haumacher.msgbuf.json.JsonName.of(WHEEL_1__PROP);
+
+	/** Pre-encoded JSON name of {@link #WHEEL_2__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WHEEL_2__NAME = de.haumacher.msgbuf.json.JsonName.of(WHEEL_2__PROP);
+
+	/** Pre-encoded JSON name of {@link #BODY__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName BODY__NAME = de.haumacher.msgbuf.json.JsonName.of(BODY__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
 		if (hasWheel1()) {
-			out.name(WHEEL_1__PROP);
+			out.name(WHEEL_1__NAME);
 			getWheel1().writeContent(out);
 		}
 		if (hasWheel2()) {
-			out.name(WHEEL_2__PROP);
+			out.name(WHEEL_2__NAME);
 			getWheel2().writeContent(out);
 		}
 		if (hasBody()) {
-			out.name(BODY__PROP);
+			out.name(BODY__NAME);
 			getBody().writeContent(out);
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "wheel1", "wheel2", "body"},
+		new int[] {1, 2, 3, 4, 5});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case WHEEL_1__PROP: setWheel1(test.noreflection.Circle.readCircle(in)); break;
-			case WHEEL_2__PROP: setWheel2(test.noreflection.Circle.readCircle(in)); break;
-			case BODY__PROP: setBody(test.noreflection.Rectangle.readRectangle(in)); break;
+			case WHEEL_1__ID: setWheel1(test.noreflection.Circle.readCircle(in)); break;
+			case WHEEL_2__ID: setWheel2(test.noreflection.Circle.readCircle(in)); break;
+			case BODY__ID: setBody(test.noreflection.Rectangle.readRectangle(in)); break;
 			default: super.readField(in, field);
 		}
 	}
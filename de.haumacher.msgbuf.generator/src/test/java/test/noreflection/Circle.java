@@ -18,6 +18,9 @@ public class Circle extends AtomicShape {
 	/** @see #getRadius() */
 	private static final String RADIUS__PROP = "r";
 
+	/** Identifier for the property {@link #getRadius()}. */
+	static final int RADIUS__ID = 3;
+
 	private int _radius = 0;
 
 	/**
@@ -73,17 +76,30 @@ public class Circle extends AtomicShape {
 		return result;
 	}
 
+	/** Pre-encoded JSON name of {@link #RADIUS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName RADIUS__NAME = de.haumacher.msgbuf.json.JsonName.of(RADIUS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(RADIUS__PROP);
+		out.name(RADIUS__NAME);
 		out.value(getRadius());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "r"},
+		new int[] {1, 2, 3});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case RADIUS__PROP: setRadius(in.nextInt()); break;
+			case RADIUS__ID: setRadius(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -18,6 +18,9 @@ public class Group extends Shape {
 	/** @see #getShapes() */
 	private static final String SHAPES__PROP = "shapes";
 
+	/** Identifier for the property {@link #getShapes()}. */
+	static final int SHAPES__ID = 3;
+
 	private final java.util.List<test.noreflection.Shape> _shapes = new java.util.ArrayList<>();
 
 	/**
@@ -99,10 +102,13 @@ public class Group extends Shape {
 		return result;
 	}
 
+	/** Pre-encoded JSON name of {@link #SHAPES__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SHAPES__NAME = de.haumacher.msgbuf.json.JsonName.of(SHAPES__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(SHAPES__PROP);
+		out.name(SHAPES__NAME);
 		out.beginArray();
 		for (test.noreflection.Shape x : getShapes()) {
 			x.writeTo(out);
@@ -110,10 +116,20 @@ public class Group extends Shape {
 		out.endArray();
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "shapes"},
+		new int[] {1, 2, 3});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case SHAPES__PROP: {
+			case SHAPES__ID: {
 				java.util.List<test.noreflection.Shape> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -21,6 +21,12 @@ public class Rectangle extends AtomicShape {
 	/** @see #getHeight() */
 	private static final String HEIGHT__PROP = "h";
 
+	/** Identifier for the property {@link #getWidth()}. */
+	static final int WIDTH__ID = 3;
+
+	/** Identifier for the property {@link #getHeight()}. */
+	static final int HEIGHT__ID = 4;
+
 	private int _width = 0;
 
 	private int _height = 0;
@@ -106,20 +112,36 @@ public class Rectangle extends AtomicShape {
 		return result;
 	}
 
+	/** Pre-encoded JSON name of {@link #WIDTH__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName WIDTH__NAME = de.haumacher.msgbuf.json.JsonName.of(WIDTH__PROP);
+
+	/** Pre-encoded JSON name of {@link #HEIGHT__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName HEIGHT__NAME = de.haumacher.msgbuf.json.JsonName.of(HEIGHT__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(WIDTH__PROP);
+		out.name(WIDTH__NAME);
 		out.value(getWidth());
-		out.name(HEIGHT__PROP);
+		out.name(HEIGHT__NAME);
 		out.value(getHeight());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y", "w", "h"},
+		new int[] {1, 2, 3, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case WIDTH__PROP: setWidth(in.nextInt()); break;
-			case HEIGHT__PROP: setHeight(in.nextInt()); break;
+			case WIDTH__ID: setWidth(in.nextInt()); break;
+			case HEIGHT__ID: setHeight(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
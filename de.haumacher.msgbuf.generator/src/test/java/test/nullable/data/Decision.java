@@ -53,6 +53,11 @@ public enum Decision implements de.haumacher.msgbuf.data.ProtocolEnum {
 		}
 	}
 
+	/** The number of bytes written by {@link #writeTo(de.haumacher.msgbuf.binary.DataWriter)}. */
+	public final int binarySize() {
+		return 1;
+	}
+
 	/** Reads a new instance from the given binary reader. */
 	public static Decision readDecision(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		switch (in.nextInt()) {
@@ -325,27 +325,51 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #INT__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName INT__NAME = de.haumacher.msgbuf.json.JsonName.of(INT__PROP);
+
+	/** Pre-encoded JSON name of {@link #LONG__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName LONG__NAME = de.haumacher.msgbuf.json.JsonName.of(LONG__PROP);
+
+	/** Pre-encoded JSON name of {@link #BOOLEAN__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName BOOLEAN__NAME = de.haumacher.msgbuf.json.JsonName.of(BOOLEAN__PROP);
+
+	/** Pre-encoded JSON name of {@link #STRING__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName STRING__NAME = de.haumacher.msgbuf.json.JsonName.of(STRING__PROP);
+
+	/** Pre-encoded JSON name of {@link #INT_LIST__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName INT_LIST__NAME = de.haumacher.msgbuf.json.JsonName.of(INT_LIST__PROP);
+
+	/** Pre-encoded JSON name of {@link #STRING_LIST__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName STRING_LIST__NAME = de.haumacher.msgbuf.json.JsonName.of(STRING_LIST__PROP);
+
+	/** Pre-encoded JSON name of {@link #STRING_INT_MAP__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName STRING_INT_MAP__NAME = de.haumacher.msgbuf.json.JsonName.of(STRING_INT_MAP__PROP);
+
+	/** Pre-encoded JSON name of {@link #OPTIONAL_DECISION__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName OPTIONAL_DECISION__NAME = de.haumacher.msgbuf.json.JsonName.of(OPTIONAL_DECISION__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
 		if (hasInt()) {
-			out.name(INT__PROP);
+			out.name(INT__NAME);
 			out.value(getInt());
 		}
 		if (hasLong()) {
-			out.name(LONG__PROP);
+			out.name(LONG__NAME);
 			out.value(getLong());
 		}
 		if (hasBoolean()) {
-			out.name(BOOLEAN__PROP);
+			out.name(BOOLEAN__NAME);
 			out.value(getBoolean());
 		}
 		if (hasString()) {
-			out.name(STRING__PROP);
+			out.name(STRING__NAME);
 			out.value(getString());
 		}
 		if (hasIntList()) {
-			out.name(INT_LIST__PROP);
+			out.name(INT_LIST__NAME);
 			out.beginArray();
 			for (int x : getIntList()) {
 				out.value(x);
@@ -353,7 +377,7 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 			out.endArray();
 		}
 		if (hasStringList()) {
-			out.name(STRING_LIST__PROP);
+			out.name(STRING_LIST__NAME);
 			out.beginArray();
 			for (String x : getStringList()) {
 				out.value(x);
@@ -361,7 +385,7 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 			out.endArray();
 		}
 		if (hasStringIntMap()) {
-			out.name(STRING_INT_MAP__PROP);
+			out.name(STRING_INT_MAP__NAME);
 			out.beginObject();
 			for (java.util.Map.Entry<String,Integer> entry : getStringIntMap().entrySet()) {
 				out.name(entry.getKey());
@@ -370,19 +394,29 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 			out.endObject();
 		}
 		if (hasOptionalDecision()) {
-			out.name(OPTIONAL_DECISION__PROP);
+			out.name(OPTIONAL_DECISION__NAME);
 			getOptionalDecision().writeTo(out);
 		}
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"int", "long", "boolean", "string", "intList", "stringList", "stringIntMap", "optionalDecision"},
+		new int[] {1, 2, 3, 4, 5, 6, 7, 8});
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case INT__PROP: setInt(in.nextInt()); break;
-			case LONG__PROP: setLong(in.nextLong()); break;
-			case BOOLEAN__PROP: setBoolean(in.nextBoolean()); break;
-			case STRING__PROP: setString(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case INT_LIST__PROP: {
+			case INT__ID: setInt(in.nextInt()); break;
+			case LONG__ID: setLong(in.nextLong()); break;
+			case BOOLEAN__ID: setBoolean(in.nextBoolean()); break;
+			case STRING__ID: setString(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case INT_LIST__ID: {
 				java.util.List<Integer> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -392,7 +426,7 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 				setIntList(newValue);
 			}
 			break;
-			case STRING_LIST__PROP: {
+			case STRING_LIST__ID: {
 				java.util.List<String> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -402,7 +436,7 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 				setStringList(newValue);
 			}
 			break;
-			case STRING_INT_MAP__PROP: {
+			case STRING_INT_MAP__ID: {
 				java.util.Map<String, Integer> newValue = new java.util.LinkedHashMap<>();
 				in.beginObject();
 				while (in.hasNext()) {
@@ -412,7 +446,7 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 				setStringIntMap(newValue);
 				break;
 			}
-			case OPTIONAL_DECISION__PROP: setOptionalDecision(test.nullable.data.Decision.readDecision(in)); break;
+			case OPTIONAL_DECISION__ID: setOptionalDecision(test.nullable.data.Decision.readDecision(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -450,14 +484,7 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		}
 		if (hasIntList()) {
 			out.name(INT_LIST__ID);
-			{
-				java.util.List<Integer> values = getIntList();
-				out.beginArray(de.haumacher.msgbuf.binary.DataType.INT, values.size());
-				for (int x : values) {
-					out.value(x);
-				}
-				out.endArray();
-			}
+			out.valueArray(de.haumacher.msgbuf.binary.DataType.INT, getIntList());
 		}
 		if (hasStringList()) {
 			out.name(STRING_LIST__ID);
@@ -472,6 +499,19 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		}
 		if (hasStringIntMap()) {
 			out.name(STRING_INT_MAP__ID);
+			{
+				java.util.Map<String, Integer> values = getStringIntMap();
+				out.beginArray(de.haumacher.msgbuf.binary.DataType.OBJECT, values.size());
+				for (java.util.Map.Entry<String,Integer> entry : values.entrySet()) {
+					out.beginObject();
+					out.name(1);
+					out.value(entry.getKey());
+					out.name(2);
+					out.value(entry.getValue());
+					out.endObject();
+				}
+				out.endArray();
+			}
 		}
 		if (hasOptionalDecision()) {
 			out.name(OPTIONAL_DECISION__ID);
@@ -479,6 +519,63 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		if (hasInt()) {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getInt());
+		}
+		if (hasLong()) {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarLong(getLong());
+		}
+		if (hasBoolean()) {
+			result += 1;
+			result += 1;
+		}
+		if (hasString()) {
+			result += 1;
+			result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getString());
+		}
+		if (hasIntList()) {
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeIntArray(getIntList());
+		}
+		if (hasStringList()) {
+			{
+				java.util.List<String> values = getStringList();
+				result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+				for (String x : values) {
+					result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(x);
+				}
+			}
+		}
+		if (hasStringIntMap()) {
+			result += 1;
+			{
+				java.util.Map<String, Integer> values = getStringIntMap();
+				result += de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+				for (java.util.Map.Entry<String,Integer> entry : values.entrySet()) {
+					// Key field, value field, and end of object.
+					result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeString(entry.getKey()) + 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(entry.getValue()) + 1;
+				}
+			}
+		}
+		if (hasOptionalDecision()) {
+			result += 1;
+			result += getOptionalDecision().binarySize();
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.nullable.data.NullableValues} from a polymorphic composition. */
 	public static test.nullable.data.NullableValues readNullableValues_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.nullable.data.impl.NullableValues_Impl result = new NullableValues_Impl();
@@ -502,11 +599,12 @@ public class NullableValues_Impl extends de.haumacher.msgbuf.data.AbstractDataOb
 			case BOOLEAN__ID: setBoolean(in.nextBoolean()); break;
 			case STRING__ID: setString(in.nextString()); break;
 			case INT_LIST__ID: {
-				in.beginArray();
-				while (in.hasNext()) {
-					addIntList(in.nextInt());
+				int[] values = in.nextIntArray();
+				java.util.List<Integer> newValue = new java.util.ArrayList<>(values.length);
+				for (int x : values) {
+					newValue.add(x);
 				}
-				in.endArray();
+				setIntList(newValue);
 			}
 			break;
 			case STRING_LIST__ID: {
@@ -64,6 +64,20 @@ public class SampleMessage_Impl extends de.haumacher.msgbuf.data.AbstractDataObj
 		// No fields to write, hook for subclasses.
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.oneoffield.data.SampleMessage} from a polymorphic composition. */
 	public static test.oneoffield.data.SampleMessage readSampleMessage_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.oneoffield.data.impl.SampleMessage_Impl result = new SampleMessage_Impl();
@@ -30,6 +30,9 @@ public interface Data extends de.haumacher.msgbuf.data.DataObject, test.operatio
 	/** @see #getX() */
 	String X__PROP = "x";
 
+	/** Identifier for the property {@link #getX()}. */
+	static final int X__ID = 1;
+
 	/** The type code of this instance. */
 	TypeKind kind();
 
@@ -15,6 +15,9 @@ public interface ExtendedData extends Data, test.operations.ExtendedOperations {
 	/** @see #getY() */
 	String Y__PROP = "y";
 
+	/** Identifier for the property {@link #getY()}. */
+	static final int Y__ID = 2;
+
 	/**
 	 * Some other integer data field.
 	 */
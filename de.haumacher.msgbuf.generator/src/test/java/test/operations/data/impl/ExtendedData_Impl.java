@@ -48,17 +48,30 @@ public class ExtendedData_Impl extends test.operations.data.impl.Data_Impl imple
 		return EXTENDED_DATA__TYPE;
 	}
 
+	/** Pre-encoded JSON name of {@link #Y__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName Y__NAME = de.haumacher.msgbuf.json.JsonName.of(Y__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(Y__PROP);
+		out.name(Y__NAME);
 		out.value(getY());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"x", "y"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case Y__PROP: setY(in.nextInt()); break;
+			case Y__ID: setY(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
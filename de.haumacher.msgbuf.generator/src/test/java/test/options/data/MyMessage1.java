@@ -59,6 +59,11 @@ public interface MyMessage1 extends de.haumacher.msgbuf.data.DataObject, de.haum
 			}
 		}
 
+		/** The number of bytes written by {@link #writeTo(de.haumacher.msgbuf.binary.DataWriter)}. */
+		public final int binarySize() {
+			return 1;
+		}
+
 		/** Reads a new instance from the given binary reader. */
 		public static EnumAllowingAlias readEnumAllowingAlias(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 			switch (in.nextInt()) {
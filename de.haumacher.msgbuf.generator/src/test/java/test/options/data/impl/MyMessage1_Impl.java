@@ -64,6 +64,20 @@ public class MyMessage1_Impl extends de.haumacher.msgbuf.data.AbstractDataObject
 		// No fields to write, hook for subclasses.
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.options.data.MyMessage1} from a polymorphic composition. */
 	public static test.options.data.MyMessage1 readMyMessage1_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.options.data.impl.MyMessage1_Impl result = new MyMessage1_Impl();
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package test.packed;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+
+import de.haumacher.msgbuf.binary.BinaryUtil;
+import de.haumacher.msgbuf.binary.OctetDataReader;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.json.JsonReader;
+import junit.framework.TestCase;
+import test.packed.data.Samples;
+
+/**
+ * Test case for packed encoding of repeated primitive values in {@link Samples}.
+ */
+@SuppressWarnings("javadoc")
+public class TestPacked extends TestCase {
+
+	public void testBinary() throws IOException {
+		Samples samples = createSamples();
+		
+		OctetDataWriter out = new OctetDataWriter();
+		samples.writeTo(out);
+		Samples copy = Samples.readSamples(new OctetDataReader(new ByteArrayInputStream(out.toByteArray())));
+		
+		assertEquals(samples.toString(), copy.toString());
+		assertEquals(Arrays.asList(-1, 0, 1, 300, Integer.MAX_VALUE, Integer.MIN_VALUE), copy.getSignedInts());
+		assertEquals(-42, copy.getOffset());
+		assertEquals(Long.MIN_VALUE, copy.getStamp());
+	}
+
+	public void testBinarySize() throws IOException {
+		Samples samples = createSamples();
+		
+		OctetDataWriter out = new OctetDataWriter();
+		samples.writeTo(out);
+		assertEquals(out.size(), samples.binarySize());
+		assertTrue(Arrays.equals(out.toByteArray(), BinaryUtil.toByteArray(samples)));
+		
+		Samples empty = Samples.create();
+		assertTrue(Arrays.equals(out(empty), BinaryUtil.toByteArray(empty)));
+	}
+
+	public void testEmpty() throws IOException {
+		Samples samples = Samples.create();
+		
+		OctetDataWriter out = new OctetDataWriter();
+		samples.writeTo(out);
+		Samples copy = Samples.readSamples(new OctetDataReader(new ByteArrayInputStream(out.toByteArray())));
+		
+		assertEquals(samples.toString(), copy.toString());
+	}
+
+	public void testJson() throws IOException {
+		Samples samples = createSamples();
+		
+		Samples copy = Samples.readSamples(new JsonReader(new StringR(samples.toString())));
+		
+		assertEquals(samples.toString(), copy.toString());
+	}
+
+	public void testXml() throws XMLStreamException {
+		Samples samples = createSamples();
+		
+		StringWriter buffer = new StringWriter();
+		samples.writeTo(XMLOutputFactory.newDefaultFactory().createXMLStreamWriter(buffer));
+		String xml = buffer.toString();
+		assertTrue(xml, xml.contains("mask=\"4294901760\""));
+		assertTrue(xml, xml.contains("fixed-ints=\"3405691582, 7\""));
+		
+		Samples copy = Samples.readSamples(XMLInputFactory.newDefaultFactory().createXMLStreamReader(new StringReader(xml)));
+		assertEquals(samples.toString(), copy.toString());
+	}
+
+	private static byte[] out(Samples samples) throws IOException {
+		OctetDataWriter out = new OctetDataWriter();
+		samples.writeTo(out);
+		return out.toByteArray();
+	}
+
+	private static Samples createSamples() {
+		return Samples.create()
+			.setInts(Arrays.asList(0, 1, 127, 128, 300, -1))
+			.setSignedInts(Arrays.asList(-1, 0, 1, 300, Integer.MAX_VALUE, Integer.MIN_VALUE))
+			.setFixedInts(Arrays.asList(0xCAFEBABE, 7))
+			.setLongs(Arrays.asList(0L, 1L << 40, -1L))
+			.setSignedLongs(Arrays.asList(-1L, Long.MIN_VALUE, Long.MAX_VALUE))
+			.setFixedLongs(Arrays.asList(0x0123456789ABCDEFL, -2L))
+			.setFloats(Arrays.asList(1.5f, -0.25f, Float.MAX_VALUE))
+			.setDoubles(Arrays.asList(Math.PI, -1e300, 0.0))
+			.setFlags(Arrays.asList(true, false, true))
+			.setOffset(-42)
+			.setMask(0xFFFF0000)
+			.setDelta(-1234567890123L)
+			.setStamp(Long.MIN_VALUE)
+			.setName("samples");
+	}
+
+}
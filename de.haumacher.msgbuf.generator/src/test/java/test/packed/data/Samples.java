@@ -0,0 +1,308 @@
+package test.packed.data;
+
+public interface Samples extends de.haumacher.msgbuf.data.DataObject, de.haumacher.msgbuf.binary.BinaryDataObject, de.haumacher.msgbuf.data.ReflectiveDataObject, de.haumacher.msgbuf.xml.XmlSerializable {
+
+	/**
+	 * Creates a {@link test.packed.data.Samples} instance.
+	 */
+	static test.packed.data.Samples create() {
+		return new test.packed.data.impl.Samples_Impl();
+	}
+
+	/** Identifier for the {@link test.packed.data.Samples} type in JSON format. */
+	String SAMPLES__TYPE = "Samples";
+
+	/** @see #getInts() */
+	String INTS__PROP = "ints";
+
+	/** @see #getSignedInts() */
+	String SIGNED_INTS__PROP = "signedInts";
+
+	/** @see #getFixedInts() */
+	String FIXED_INTS__PROP = "fixedInts";
+
+	/** @see #getLongs() */
+	String LONGS__PROP = "longs";
+
+	/** @see #getSignedLongs() */
+	String SIGNED_LONGS__PROP = "signedLongs";
+
+	/** @see #getFixedLongs() */
+	String FIXED_LONGS__PROP = "fixedLongs";
+
+	/** @see #getFloats() */
+	String FLOATS__PROP = "floats";
+
+	/** @see #getDoubles() */
+	String DOUBLES__PROP = "doubles";
+
+	/** @see #isFlags() */
+	String FLAGS__PROP = "flags";
+
+	/** @see #getOffset() */
+	String OFFSET__PROP = "offset";
+
+	/** @see #getMask() */
+	String MASK__PROP = "mask";
+
+	/** @see #getDelta() */
+	String DELTA__PROP = "delta";
+
+	/** @see #getStamp() */
+	String STAMP__PROP = "stamp";
+
+	/** @see #getName() */
+	String NAME__PROP = "name";
+
+	/** Identifier for the property {@link #getInts()} in binary format. */
+	static final int INTS__ID = 1;
+
+	/** Identifier for the property {@link #getSignedInts()} in binary format. */
+	static final int SIGNED_INTS__ID = 2;
+
+	/** Identifier for the property {@link #getFixedInts()} in binary format. */
+	static final int FIXED_INTS__ID = 3;
+
+	/** Identifier for the property {@link #getLongs()} in binary format. */
+	static final int LONGS__ID = 4;
+
+	/** Identifier for the property {@link #getSignedLongs()} in binary format. */
+	static final int SIGNED_LONGS__ID = 5;
+
+	/** Identifier for the property {@link #getFixedLongs()} in binary format. */
+	static final int FIXED_LONGS__ID = 6;
+
+	/** Identifier for the property {@link #getFloats()} in binary format. */
+	static final int FLOATS__ID = 7;
+
+	/** Identifier for the property {@link #getDoubles()} in binary format. */
+	static final int DOUBLES__ID = 8;
+
+	/** Identifier for the property {@link #isFlags()} in binary format. */
+	static final int FLAGS__ID = 9;
+
+	/** Identifier for the property {@link #getOffset()} in binary format. */
+	static final int OFFSET__ID = 10;
+
+	/** Identifier for the property {@link #getMask()} in binary format. */
+	static final int MASK__ID = 11;
+
+	/** Identifier for the property {@link #getDelta()} in binary format. */
+	static final int DELTA__ID = 12;
+
+	/** Identifier for the property {@link #getStamp()} in binary format. */
+	static final int STAMP__ID = 13;
+
+	/** Identifier for the property {@link #getName()} in binary format. */
+	static final int NAME__ID = 14;
+
+	java.util.List<Integer> getInts();
+
+	/**
+	 * @see #getInts()
+	 */
+	test.packed.data.Samples setInts(java.util.List<? extends Integer> value);
+
+	/**
+	 * Adds a value to the {@link #getInts()} list.
+	 */
+	test.packed.data.Samples addInt(int value);
+
+	/**
+	 * Removes a value from the {@link #getInts()} list.
+	 */
+	void removeInt(int value);
+
+	java.util.List<Integer> getSignedInts();
+
+	/**
+	 * @see #getSignedInts()
+	 */
+	test.packed.data.Samples setSignedInts(java.util.List<? extends Integer> value);
+
+	/**
+	 * Adds a value to the {@link #getSignedInts()} list.
+	 */
+	test.packed.data.Samples addSignedInt(int value);
+
+	/**
+	 * Removes a value from the {@link #getSignedInts()} list.
+	 */
+	void removeSignedInt(int value);
+
+	java.util.List<Integer> getFixedInts();
+
+	/**
+	 * @see #getFixedInts()
+	 */
+	test.packed.data.Samples setFixedInts(java.util.List<? extends Integer> value);
+
+	/**
+	 * Adds a value to the {@link #getFixedInts()} list.
+	 */
+	test.packed.data.Samples addFixedInt(int value);
+
+	/**
+	 * Removes a value from the {@link #getFixedInts()} list.
+	 */
+	void removeFixedInt(int value);
+
+	java.util.List<Long> getLongs();
+
+	/**
+	 * @see #getLongs()
+	 */
+	test.packed.data.Samples setLongs(java.util.List<? extends Long> value);
+
+	/**
+	 * Adds a value to the {@link #getLongs()} list.
+	 */
+	test.packed.data.Samples addLong(long value);
+
+	/**
+	 * Removes a value from the {@link #getLongs()} list.
+	 */
+	void removeLong(long value);
+
+	java.util.List<Long> getSignedLongs();
+
+	/**
+	 * @see #getSignedLongs()
+	 */
+	test.packed.data.Samples setSignedLongs(java.util.List<? extends Long> value);
+
+	/**
+	 * Adds a value to the {@link #getSignedLongs()} list.
+	 */
+	test.packed.data.Samples addSignedLong(long value);
+
+	/**
+	 * Removes a value from the {@link #getSignedLongs()} list.
+	 */
+	void removeSignedLong(long value);
+
+	java.util.List<Long> getFixedLongs();
+
+	/**
+	 * @see #getFixedLongs()
+	 */
+	test.packed.data.Samples setFixedLongs(java.util.List<? extends Long> value);
+
+	/**
+	 * Adds a value to the {@link #getFixedLongs()} list.
+	 */
+	test.packed.data.Samples addFixedLong(long value);
+
+	/**
+	 * Removes a value from the {@link #getFixedLongs()} list.
+	 */
+	void removeFixedLong(long value);
+
+	java.util.List<Float> getFloats();
+
+	/**
+	 * @see #getFloats()
+	 */
+	test.packed.data.Samples setFloats(java.util.List<? extends Float> value);
+
+	/**
+	 * Adds a value to the {@link #getFloats()} list.
+	 */
+	test.packed.data.Samples addFloat(float value);
+
+	/**
+	 * Removes a value from the {@link #getFloats()} list.
+	 */
+	void removeFloat(float value);
+
+	java.util.List<Double> getDoubles();
+
+	/**
+	 * @see #getDoubles()
+	 */
+	test.packed.data.Samples setDoubles(java.util.List<? extends Double> value);
+
+	/**
+	 * Adds a value to the {@link #getDoubles()} list.
+	 */
+	test.packed.data.Samples addDouble(double value);
+
+	/**
+	 * Removes a value from the {@link #getDoubles()} list.
+	 */
+	void removeDouble(double value);
+
+	java.util.List<Boolean> isFlags();
+
+	/**
+	 * @see #isFlags()
+	 */
+	test.packed.data.Samples setFlags(java.util.List<? extends Boolean> value);
+
+	/**
+	 * Adds a value to the {@link #isFlags()} list.
+	 */
+	test.packed.data.Samples addFlag(boolean value);
+
+	/**
+	 * Removes a value from the {@link #isFlags()} list.
+	 */
+	void removeFlag(boolean value);
+
+	int getOffset();
+
+	/**
+	 * @see #getOffset()
+	 */
+	test.packed.data.Samples setOffset(int value);
+
+	int getMask();
+
+	/**
+	 * @see #getMask()
+	 */
+	test.packed.data.Samples setMask(int value);
+
+	long getDelta();
+
+	/**
+	 * @see #getDelta()
+	 */
+	test.packed.data.Samples setDelta(long value);
+
+	long getStamp();
+
+	/**
+	 * @see #getStamp()
+	 */
+	test.packed.data.Samples setStamp(long value);
+
+	String getName();
+
+	/**
+	 * @see #getName()
+	 */
+	test.packed.data.Samples setName(String value);
+
+	/** Reads a new instance from the given reader. */
+	static test.packed.data.Samples readSamples(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		test.packed.data.impl.Samples_Impl result = new test.packed.data.impl.Samples_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	static test.packed.data.Samples readSamples(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		test.packed.data.Samples result = test.packed.data.impl.Samples_Impl.readSamples_Content(in);
+		in.endObject();
+		return result;
+	}
+
+	/** Creates a new {@link Samples} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
+	public static Samples readSamples(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
+		in.nextTag();
+		return test.packed.data.impl.Samples_Impl.readSamples_XmlContent(in);
+	}
+
+}
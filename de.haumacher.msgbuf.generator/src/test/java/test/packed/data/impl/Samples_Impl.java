@@ -0,0 +1,1159 @@
+package test.packed.data.impl;
+
+/**
+ * Implementation of {@link test.packed.data.Samples}.
+ */
+public class Samples_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implements test.packed.data.Samples {
+
+	private final java.util.List<Integer> _ints = new java.util.ArrayList<>();
+
+	private final java.util.List<Integer> _signedInts = new java.util.ArrayList<>();
+
+	private final java.util.List<Integer> _fixedInts = new java.util.ArrayList<>();
+
+	private final java.util.List<Long> _longs = new java.util.ArrayList<>();
+
+	private final java.util.List<Long> _signedLongs = new java.util.ArrayList<>();
+
+	private final java.util.List<Long> _fixedLongs = new java.util.ArrayList<>();
+
+	private final java.util.List<Float> _floats = new java.util.ArrayList<>();
+
+	private final java.util.List<Double> _doubles = new java.util.ArrayList<>();
+
+	private final java.util.List<Boolean> _flags = new java.util.ArrayList<>();
+
+	private int _offset = 0;
+
+	private int _mask = 0;
+
+	private long _delta = 0L;
+
+	private long _stamp = 0L;
+
+	private String _name = "";
+
+	/**
+	 * Creates a {@link Samples_Impl} instance.
+	 *
+	 * @see test.packed.data.Samples#create()
+	 */
+	public Samples_Impl() {
+		super();
+	}
+
+	@Override
+	public final java.util.List<Integer> getInts() {
+		return _ints;
+	}
+
+	@Override
+	public test.packed.data.Samples setInts(java.util.List<? extends Integer> value) {
+		internalSetInts(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getInts()} without chain call utility. */
+	protected final void internalSetInts(java.util.List<? extends Integer> value) {
+		_ints.clear();
+		_ints.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addInt(int value) {
+		internalAddInt(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addInt(int)} without chain call utility. */
+	protected final void internalAddInt(int value) {
+		_ints.add(value);
+	}
+
+	@Override
+	public final void removeInt(int value) {
+		_ints.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Integer> getSignedInts() {
+		return _signedInts;
+	}
+
+	@Override
+	public test.packed.data.Samples setSignedInts(java.util.List<? extends Integer> value) {
+		internalSetSignedInts(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getSignedInts()} without chain call utility. */
+	protected final void internalSetSignedInts(java.util.List<? extends Integer> value) {
+		_signedInts.clear();
+		_signedInts.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addSignedInt(int value) {
+		internalAddSignedInt(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addSignedInt(int)} without chain call utility. */
+	protected final void internalAddSignedInt(int value) {
+		_signedInts.add(value);
+	}
+
+	@Override
+	public final void removeSignedInt(int value) {
+		_signedInts.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Integer> getFixedInts() {
+		return _fixedInts;
+	}
+
+	@Override
+	public test.packed.data.Samples setFixedInts(java.util.List<? extends Integer> value) {
+		internalSetFixedInts(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getFixedInts()} without chain call utility. */
+	protected final void internalSetFixedInts(java.util.List<? extends Integer> value) {
+		_fixedInts.clear();
+		_fixedInts.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addFixedInt(int value) {
+		internalAddFixedInt(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addFixedInt(int)} without chain call utility. */
+	protected final void internalAddFixedInt(int value) {
+		_fixedInts.add(value);
+	}
+
+	@Override
+	public final void removeFixedInt(int value) {
+		_fixedInts.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Long> getLongs() {
+		return _longs;
+	}
+
+	@Override
+	public test.packed.data.Samples setLongs(java.util.List<? extends Long> value) {
+		internalSetLongs(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getLongs()} without chain call utility. */
+	protected final void internalSetLongs(java.util.List<? extends Long> value) {
+		_longs.clear();
+		_longs.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addLong(long value) {
+		internalAddLong(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addLong(long)} without chain call utility. */
+	protected final void internalAddLong(long value) {
+		_longs.add(value);
+	}
+
+	@Override
+	public final void removeLong(long value) {
+		_longs.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Long> getSignedLongs() {
+		return _signedLongs;
+	}
+
+	@Override
+	public test.packed.data.Samples setSignedLongs(java.util.List<? extends Long> value) {
+		internalSetSignedLongs(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getSignedLongs()} without chain call utility. */
+	protected final void internalSetSignedLongs(java.util.List<? extends Long> value) {
+		_signedLongs.clear();
+		_signedLongs.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addSignedLong(long value) {
+		internalAddSignedLong(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addSignedLong(long)} without chain call utility. */
+	protected final void internalAddSignedLong(long value) {
+		_signedLongs.add(value);
+	}
+
+	@Override
+	public final void removeSignedLong(long value) {
+		_signedLongs.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Long> getFixedLongs() {
+		return _fixedLongs;
+	}
+
+	@Override
+	public test.packed.data.Samples setFixedLongs(java.util.List<? extends Long> value) {
+		internalSetFixedLongs(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getFixedLongs()} without chain call utility. */
+	protected final void internalSetFixedLongs(java.util.List<? extends Long> value) {
+		_fixedLongs.clear();
+		_fixedLongs.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addFixedLong(long value) {
+		internalAddFixedLong(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addFixedLong(long)} without chain call utility. */
+	protected final void internalAddFixedLong(long value) {
+		_fixedLongs.add(value);
+	}
+
+	@Override
+	public final void removeFixedLong(long value) {
+		_fixedLongs.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Float> getFloats() {
+		return _floats;
+	}
+
+	@Override
+	public test.packed.data.Samples setFloats(java.util.List<? extends Float> value) {
+		internalSetFloats(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getFloats()} without chain call utility. */
+	protected final void internalSetFloats(java.util.List<? extends Float> value) {
+		_floats.clear();
+		_floats.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addFloat(float value) {
+		internalAddFloat(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addFloat(float)} without chain call utility. */
+	protected final void internalAddFloat(float value) {
+		_floats.add(value);
+	}
+
+	@Override
+	public final void removeFloat(float value) {
+		_floats.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Double> getDoubles() {
+		return _doubles;
+	}
+
+	@Override
+	public test.packed.data.Samples setDoubles(java.util.List<? extends Double> value) {
+		internalSetDoubles(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getDoubles()} without chain call utility. */
+	protected final void internalSetDoubles(java.util.List<? extends Double> value) {
+		_doubles.clear();
+		_doubles.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addDouble(double value) {
+		internalAddDouble(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addDouble(double)} without chain call utility. */
+	protected final void internalAddDouble(double value) {
+		_doubles.add(value);
+	}
+
+	@Override
+	public final void removeDouble(double value) {
+		_doubles.remove(value);
+	}
+
+	@Override
+	public final java.util.List<Boolean> isFlags() {
+		return _flags;
+	}
+
+	@Override
+	public test.packed.data.Samples setFlags(java.util.List<? extends Boolean> value) {
+		internalSetFlags(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #isFlags()} without chain call utility. */
+	protected final void internalSetFlags(java.util.List<? extends Boolean> value) {
+		_flags.clear();
+		_flags.addAll(value);
+	}
+
+	@Override
+	public test.packed.data.Samples addFlag(boolean value) {
+		internalAddFlag(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addFlag(boolean)} without chain call utility. */
+	protected final void internalAddFlag(boolean value) {
+		_flags.add(value);
+	}
+
+	@Override
+	public final void removeFlag(boolean value) {
+		_flags.remove(value);
+	}
+
+	@Override
+	public final int getOffset() {
+		return _offset;
+	}
+
+	@Override
+	public test.packed.data.Samples setOffset(int value) {
+		internalSetOffset(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getOffset()} without chain call utility. */
+	protected final void internalSetOffset(int value) {
+		_offset = value;
+	}
+
+	@Override
+	public final int getMask() {
+		return _mask;
+	}
+
+	@Override
+	public test.packed.data.Samples setMask(int value) {
+		internalSetMask(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getMask()} without chain call utility. */
+	protected final void internalSetMask(int value) {
+		_mask = value;
+	}
+
+	@Override
+	public final long getDelta() {
+		return _delta;
+	}
+
+	@Override
+	public test.packed.data.Samples setDelta(long value) {
+		internalSetDelta(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getDelta()} without chain call utility. */
+	protected final void internalSetDelta(long value) {
+		_delta = value;
+	}
+
+	@Override
+	public final long getStamp() {
+		return _stamp;
+	}
+
+	@Override
+	public test.packed.data.Samples setStamp(long value) {
+		internalSetStamp(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getStamp()} without chain call utility. */
+	protected final void internalSetStamp(long value) {
+		_stamp = value;
+	}
+
+	@Override
+	public final String getName() {
+		return _name;
+	}
+
+	@Override
+	public test.packed.data.Samples setName(String value) {
+		internalSetName(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getName()} without chain call utility. */
+	protected final void internalSetName(String value) {
+		_name = value;
+	}
+
+	@Override
+	public String jsonType() {
+		return SAMPLES__TYPE;
+	}
+
+	private static java.util.List<String> PROPERTIES = java.util.Collections.unmodifiableList(
+		java.util.Arrays.asList(
+			INTS__PROP, 
+			SIGNED_INTS__PROP, 
+			FIXED_INTS__PROP, 
+			LONGS__PROP, 
+			SIGNED_LONGS__PROP, 
+			FIXED_LONGS__PROP, 
+			FLOATS__PROP, 
+			DOUBLES__PROP, 
+			FLAGS__PROP, 
+			OFFSET__PROP, 
+			MASK__PROP, 
+			DELTA__PROP, 
+			STAMP__PROP, 
+			NAME__PROP));
+
+	private static java.util.Set<String> TRANSIENT_PROPERTIES = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(
+			java.util.Arrays.asList(
+				)));
+
+	@Override
+	public java.util.List<String> properties() {
+		return PROPERTIES;
+	}
+
+	@Override
+	public java.util.Set<String> transientProperties() {
+		return TRANSIENT_PROPERTIES;
+	}
+
+	@Override
+	public Object get(String field) {
+		switch (field) {
+			case INTS__PROP: return getInts();
+			case SIGNED_INTS__PROP: return getSignedInts();
+			case FIXED_INTS__PROP: return getFixedInts();
+			case LONGS__PROP: return getLongs();
+			case SIGNED_LONGS__PROP: return getSignedLongs();
+			case FIXED_LONGS__PROP: return getFixedLongs();
+			case FLOATS__PROP: return getFloats();
+			case DOUBLES__PROP: return getDoubles();
+			case FLAGS__PROP: return isFlags();
+			case OFFSET__PROP: return getOffset();
+			case MASK__PROP: return getMask();
+			case DELTA__PROP: return getDelta();
+			case STAMP__PROP: return getStamp();
+			case NAME__PROP: return getName();
+			default: return test.packed.data.Samples.super.get(field);
+		}
+	}
+
+	@Override
+	public void set(String field, Object value) {
+		switch (field) {
+			case INTS__PROP: internalSetInts(de.haumacher.msgbuf.util.Conversions.asList(Integer.class, value)); break;
+			case SIGNED_INTS__PROP: internalSetSignedInts(de.haumacher.msgbuf.util.Conversions.asList(Integer.class, value)); break;
+			case FIXED_INTS__PROP: internalSetFixedInts(de.haumacher.msgbuf.util.Conversions.asList(Integer.class, value)); break;
+			case LONGS__PROP: internalSetLongs(de.haumacher.msgbuf.util.Conversions.asList(Long.class, value)); break;
+			case SIGNED_LONGS__PROP: internalSetSignedLongs(de.haumacher.msgbuf.util.Conversions.asList(Long.class, value)); break;
+			case FIXED_LONGS__PROP: internalSetFixedLongs(de.haumacher.msgbuf.util.Conversions.asList(Long.class, value)); break;
+			case FLOATS__PROP: internalSetFloats(de.haumacher.msgbuf.util.Conversions.asList(Float.class, value)); break;
+			case DOUBLES__PROP: internalSetDoubles(de.haumacher.msgbuf.util.Conversions.asList(Double.class, value)); break;
+			case FLAGS__PROP: internalSetFlags(de.haumacher.msgbuf.util.Conversions.asList(Boolean.class, value)); break;
+			case OFFSET__PROP: internalSetOffset((int) value); break;
+			case MASK__PROP: internalSetMask((int) value); break;
+			case DELTA__PROP: internalSetDelta((long) value); break;
+			case STAMP__PROP: internalSetStamp((long) value); break;
+			case NAME__PROP: internalSetName((String) value); break;
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		writeContent(out);
+	}
+
+	/** Pre-encoded JSON name of {@link #INTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName INTS__NAME = de.haumacher.msgbuf.json.JsonName.of(INTS__PROP);
+
+	/** Pre-encoded JSON name of {@link #SIGNED_INTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SIGNED_INTS__NAME = de.haumacher.msgbuf.json.JsonName.of(SIGNED_INTS__PROP);
+
+	/** Pre-encoded JSON name of {@link #FIXED_INTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName FIXED_INTS__NAME = de.haumacher.msgbuf.json.JsonName.of(FIXED_INTS__PROP);
+
+	/** Pre-encoded JSON name of {@link #LONGS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName LONGS__NAME = de.haumacher.msgbuf.json.JsonName.of(LONGS__PROP);
+
+	/** Pre-encoded JSON name of {@link #SIGNED_LONGS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName SIGNED_LONGS__NAME = de.haumacher.msgbuf.json.JsonName.of(SIGNED_LONGS__PROP);
+
+	/** Pre-encoded JSON name of {@link #FIXED_LONGS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName FIXED_LONGS__NAME = de.haumacher.msgbuf.json.JsonName.of(FIXED_LONGS__PROP);
+
+	/** Pre-encoded JSON name of {@link #FLOATS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName FLOATS__NAME = de.haumacher.msgbuf.json.JsonName.of(FLOATS__PROP);
+
+	/** Pre-encoded JSON name of {@link #DOUBLES__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName DOUBLES__NAME = de.haumacher.msgbuf.json.JsonName.of(DOUBLES__PROP);
+
+	/** Pre-encoded JSON name of {@link #FLAGS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName FLAGS__NAME = de.haumacher.msgbuf.json.JsonName.of(FLAGS__PROP);
+
+	/** Pre-encoded JSON name of {@link #OFFSET__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName OFFSET__NAME = de.haumacher.msgbuf.json.JsonName.of(OFFSET__PROP);
+
+	/** Pre-encoded JSON name of {@link #MASK__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName MASK__NAME = de.haumacher.msgbuf.json.JsonName.of(MASK__PROP);
+
+	/** Pre-encoded JSON name of {@link #DELTA__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName DELTA__NAME = de.haumacher.msgbuf.json.JsonName.of(DELTA__PROP);
+
+	/** Pre-encoded JSON name of {@link #STAMP__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName STAMP__NAME = de.haumacher.msgbuf.json.JsonName.of(STAMP__PROP);
+
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+		out.name(INTS__NAME);
+		out.beginArray();
+		for (int x : getInts()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(SIGNED_INTS__NAME);
+		out.beginArray();
+		for (int x : getSignedInts()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(FIXED_INTS__NAME);
+		out.beginArray();
+		for (int x : getFixedInts()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(LONGS__NAME);
+		out.beginArray();
+		for (long x : getLongs()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(SIGNED_LONGS__NAME);
+		out.beginArray();
+		for (long x : getSignedLongs()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(FIXED_LONGS__NAME);
+		out.beginArray();
+		for (long x : getFixedLongs()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(FLOATS__NAME);
+		out.beginArray();
+		for (float x : getFloats()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(DOUBLES__NAME);
+		out.beginArray();
+		for (double x : getDoubles()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(FLAGS__NAME);
+		out.beginArray();
+		for (boolean x : isFlags()) {
+			out.value(x);
+		}
+		out.endArray();
+		out.name(OFFSET__NAME);
+		out.value(getOffset());
+		out.name(MASK__NAME);
+		out.value(getMask());
+		out.name(DELTA__NAME);
+		out.value(getDelta());
+		out.name(STAMP__NAME);
+		out.value(getStamp());
+		out.name(NAME__NAME);
+		out.value(getName());
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"ints", "signedInts", "fixedInts", "longs", "signedLongs", "fixedLongs", "floats", "doubles", "flags", "offset", "mask", "delta", "stamp", "name"},
+		new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case INTS__ID: {
+				java.util.List<Integer> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextInt());
+				}
+				in.endArray();
+				setInts(newValue);
+			}
+			break;
+			case SIGNED_INTS__ID: {
+				java.util.List<Integer> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextInt());
+				}
+				in.endArray();
+				setSignedInts(newValue);
+			}
+			break;
+			case FIXED_INTS__ID: {
+				java.util.List<Integer> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextInt());
+				}
+				in.endArray();
+				setFixedInts(newValue);
+			}
+			break;
+			case LONGS__ID: {
+				java.util.List<Long> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextLong());
+				}
+				in.endArray();
+				setLongs(newValue);
+			}
+			break;
+			case SIGNED_LONGS__ID: {
+				java.util.List<Long> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextLong());
+				}
+				in.endArray();
+				setSignedLongs(newValue);
+			}
+			break;
+			case FIXED_LONGS__ID: {
+				java.util.List<Long> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextLong());
+				}
+				in.endArray();
+				setFixedLongs(newValue);
+			}
+			break;
+			case FLOATS__ID: {
+				java.util.List<Float> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add((float) in.nextDouble());
+				}
+				in.endArray();
+				setFloats(newValue);
+			}
+			break;
+			case DOUBLES__ID: {
+				java.util.List<Double> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextDouble());
+				}
+				in.endArray();
+				setDoubles(newValue);
+			}
+			break;
+			case FLAGS__ID: {
+				java.util.List<Boolean> newValue = new java.util.ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					newValue.add(in.nextBoolean());
+				}
+				in.endArray();
+				setFlags(newValue);
+			}
+			break;
+			case OFFSET__ID: setOffset(in.nextInt()); break;
+			case MASK__ID: setMask(in.nextInt()); break;
+			case DELTA__ID: setDelta(in.nextLong()); break;
+			case STAMP__ID: setStamp(in.nextLong()); break;
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public final void writeTo(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.beginObject();
+		writeFields(out);
+		out.endObject();
+	}
+
+	/**
+	 * Serializes all fields of this instance to the given binary output.
+	 *
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws java.io.IOException If writing fails.
+	 */
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		out.name(INTS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.INT, getInts());
+		out.name(SIGNED_INTS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.SINT, getSignedInts());
+		out.name(FIXED_INTS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.FINT, getFixedInts());
+		out.name(LONGS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.LONG, getLongs());
+		out.name(SIGNED_LONGS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.SLONG, getSignedLongs());
+		out.name(FIXED_LONGS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.FLONG, getFixedLongs());
+		out.name(FLOATS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.FLOAT, getFloats());
+		out.name(DOUBLES__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.DataType.DOUBLE, getDoubles());
+		out.name(FLAGS__ID);
+		out.valueArray(de.haumacher.msgbuf.binary.BinaryUtil.toBooleanArray(isFlags()));
+		out.name(OFFSET__ID);
+		out.valueSigned(getOffset());
+		out.name(MASK__ID);
+		out.valueFixed(getMask());
+		out.name(DELTA__ID);
+		out.valueSigned(getDelta());
+		out.name(STAMP__ID);
+		out.valueFixed(getStamp());
+		out.name(NAME__ID);
+		out.value(getName());
+	}
+
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeIntArray(getInts());
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeIntArraySigned(getSignedInts());
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(getFixedInts().size(), 4);
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeLongArray(getLongs());
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeLongArraySigned(getSignedLongs());
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(getFixedLongs().size(), 8);
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(getFloats().size(), 4);
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(getDoubles().size(), 8);
+		result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeFixedArray(isFlags().size(), 1);
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeSigned(getOffset());
+		result += 1;
+		result += 4;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeSigned(getDelta());
+		result += 1;
+		result += 8;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link test.packed.data.Samples} from a polymorphic composition. */
+	public static test.packed.data.Samples readSamples_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		test.packed.data.impl.Samples_Impl result = new Samples_Impl();
+		result.readContent(in);
+		return result;
+	}
+
+	/** Helper for reading all fields of this instance. */
+	protected final void readContent(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(in, field);
+		}
+	}
+
+	/** Consumes the value for the field with the given ID and assigns its value. */
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			case INTS__ID: {
+				int[] values = in.nextIntArray();
+				java.util.List<Integer> newValue = new java.util.ArrayList<>(values.length);
+				for (int x : values) {
+					newValue.add(x);
+				}
+				setInts(newValue);
+			}
+			break;
+			case SIGNED_INTS__ID: {
+				int[] values = in.nextIntArraySigned();
+				java.util.List<Integer> newValue = new java.util.ArrayList<>(values.length);
+				for (int x : values) {
+					newValue.add(x);
+				}
+				setSignedInts(newValue);
+			}
+			break;
+			case FIXED_INTS__ID: {
+				int[] values = in.nextIntArrayFixed();
+				java.util.List<Integer> newValue = new java.util.ArrayList<>(values.length);
+				for (int x : values) {
+					newValue.add(x);
+				}
+				setFixedInts(newValue);
+			}
+			break;
+			case LONGS__ID: {
+				long[] values = in.nextLongArray();
+				java.util.List<Long> newValue = new java.util.ArrayList<>(values.length);
+				for (long x : values) {
+					newValue.add(x);
+				}
+				setLongs(newValue);
+			}
+			break;
+			case SIGNED_LONGS__ID: {
+				long[] values = in.nextLongArraySigned();
+				java.util.List<Long> newValue = new java.util.ArrayList<>(values.length);
+				for (long x : values) {
+					newValue.add(x);
+				}
+				setSignedLongs(newValue);
+			}
+			break;
+			case FIXED_LONGS__ID: {
+				long[] values = in.nextLongArrayFixed();
+				java.util.List<Long> newValue = new java.util.ArrayList<>(values.length);
+				for (long x : values) {
+					newValue.add(x);
+				}
+				setFixedLongs(newValue);
+			}
+			break;
+			case FLOATS__ID: {
+				float[] values = in.nextFloatArray();
+				java.util.List<Float> newValue = new java.util.ArrayList<>(values.length);
+				for (float x : values) {
+					newValue.add(x);
+				}
+				setFloats(newValue);
+			}
+			break;
+			case DOUBLES__ID: {
+				double[] values = in.nextDoubleArray();
+				java.util.List<Double> newValue = new java.util.ArrayList<>(values.length);
+				for (double x : values) {
+					newValue.add(x);
+				}
+				setDoubles(newValue);
+			}
+			break;
+			case FLAGS__ID: {
+				boolean[] values = in.nextBooleanArray();
+				java.util.List<Boolean> newValue = new java.util.ArrayList<>(values.length);
+				for (boolean x : values) {
+					newValue.add(x);
+				}
+				setFlags(newValue);
+			}
+			break;
+			case OFFSET__ID: setOffset(in.nextIntSigned()); break;
+			case MASK__ID: setMask(in.nextIntFixed()); break;
+			case DELTA__ID: setDelta(in.nextLongSigned()); break;
+			case STAMP__ID: setStamp(in.nextLongFixed()); break;
+			case NAME__ID: setName(in.nextString()); break;
+			default: in.skipValue(); 
+		}
+	}
+
+	/** XML element name representing a {@link test.packed.data.Samples} type. */
+	public static final String SAMPLES__XML_ELEMENT = "samples";
+
+	/** XML attribute or element name of a {@link #getInts} property. */
+	private static final String INTS__XML_ATTR = "ints";
+
+	/** XML attribute or element name of a {@link #getSignedInts} property. */
+	private static final String SIGNED_INTS__XML_ATTR = "signed-ints";
+
+	/** XML attribute or element name of a {@link #getFixedInts} property. */
+	private static final String FIXED_INTS__XML_ATTR = "fixed-ints";
+
+	/** XML attribute or element name of a {@link #getLongs} property. */
+	private static final String LONGS__XML_ATTR = "longs";
+
+	/** XML attribute or element name of a {@link #getSignedLongs} property. */
+	private static final String SIGNED_LONGS__XML_ATTR = "signed-longs";
+
+	/** XML attribute or element name of a {@link #getFixedLongs} property. */
+	private static final String FIXED_LONGS__XML_ATTR = "fixed-longs";
+
+	/** XML attribute or element name of a {@link #getFloats} property. */
+	private static final String FLOATS__XML_ATTR = "floats";
+
+	/** XML attribute or element name of a {@link #getDoubles} property. */
+	private static final String DOUBLES__XML_ATTR = "doubles";
+
+	/** XML attribute or element name of a {@link #isFlags} property. */
+	private static final String FLAGS__XML_ATTR = "flags";
+
+	/** XML attribute or element name of a {@link #getOffset} property. */
+	private static final String OFFSET__XML_ATTR = "offset";
+
+	/** XML attribute or element name of a {@link #getMask} property. */
+	private static final String MASK__XML_ATTR = "mask";
+
+	/** XML attribute or element name of a {@link #getDelta} property. */
+	private static final String DELTA__XML_ATTR = "delta";
+
+	/** XML attribute or element name of a {@link #getStamp} property. */
+	private static final String STAMP__XML_ATTR = "stamp";
+
+	/** XML attribute or element name of a {@link #getName} property. */
+	private static final String NAME__XML_ATTR = "name";
+
+	@Override
+	public String getXmlTagName() {
+		return SAMPLES__XML_ELEMENT;
+	}
+
+	@Override
+	public final void writeContent(javax.xml.stream.XMLStreamWriter out) throws javax.xml.stream.XMLStreamException {
+		writeAttributes(out);
+		writeElements(out);
+	}
+
+	/** Serializes all fields that are written as XML attributes. */
+	protected void writeAttributes(javax.xml.stream.XMLStreamWriter out) throws javax.xml.stream.XMLStreamException {
+		out.writeAttribute(INTS__XML_ATTR, getInts().stream().map(x -> Integer.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(SIGNED_INTS__XML_ATTR, getSignedInts().stream().map(x -> Integer.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(FIXED_INTS__XML_ATTR, getFixedInts().stream().map(x -> Integer.toUnsignedString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(LONGS__XML_ATTR, getLongs().stream().map(x -> Long.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(SIGNED_LONGS__XML_ATTR, getSignedLongs().stream().map(x -> Long.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(FIXED_LONGS__XML_ATTR, getFixedLongs().stream().map(x -> Long.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(FLOATS__XML_ATTR, getFloats().stream().map(x -> Float.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(DOUBLES__XML_ATTR, getDoubles().stream().map(x -> Double.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(FLAGS__XML_ATTR, isFlags().stream().map(x -> Boolean.toString(x)).collect(java.util.stream.Collectors.joining(", ")));
+		out.writeAttribute(OFFSET__XML_ATTR, Integer.toString(getOffset()));
+		out.writeAttribute(MASK__XML_ATTR, Integer.toUnsignedString(getMask()));
+		out.writeAttribute(DELTA__XML_ATTR, Long.toString(getDelta()));
+		out.writeAttribute(STAMP__XML_ATTR, Long.toString(getStamp()));
+		out.writeAttribute(NAME__XML_ATTR, getName());
+	}
+
+	/** Serializes all fields that are written as XML elements. */
+	protected void writeElements(javax.xml.stream.XMLStreamWriter out) throws javax.xml.stream.XMLStreamException {
+		// No element fields.
+	}
+
+	/** Creates a new {@link test.packed.data.Samples} and reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
+	public static Samples_Impl readSamples_XmlContent(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
+		Samples_Impl result = new Samples_Impl();
+		result.readContentXml(in);
+		return result;
+	}
+
+	/** Reads properties from the content (attributes and inner tags) of the currently open element in the given {@link javax.xml.stream.XMLStreamReader}. */
+	protected final void readContentXml(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
+		for (int n = 0, cnt = in.getAttributeCount(); n < cnt; n++) {
+			String name = in.getAttributeLocalName(n);
+			String value = in.getAttributeValue(n);
+
+			readFieldXmlAttribute(name, value);
+		}
+		while (true) {
+			int event = in.nextTag();
+			if (event == javax.xml.stream.XMLStreamConstants.END_ELEMENT) {
+				break;
+			}
+			assert event == javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+			String localName = in.getLocalName();
+			readFieldXmlElement(in, localName);
+		}
+	}
+
+	/** Parses the given attribute value and assigns it to the field with the given name. */
+	protected void readFieldXmlAttribute(String name, String value) {
+		switch (name) {
+			case INTS__XML_ATTR: {
+				setInts(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Integer.parseInt(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case SIGNED_INTS__XML_ATTR: {
+				setSignedInts(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Integer.parseInt(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FIXED_INTS__XML_ATTR: {
+				setFixedInts(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> (int) Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case LONGS__XML_ATTR: {
+				setLongs(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case SIGNED_LONGS__XML_ATTR: {
+				setSignedLongs(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FIXED_LONGS__XML_ATTR: {
+				setFixedLongs(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FLOATS__XML_ATTR: {
+				setFloats(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Float.parseFloat(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case DOUBLES__XML_ATTR: {
+				setDoubles(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Double.parseDouble(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FLAGS__XML_ATTR: {
+				setFlags(java.util.Arrays.stream(value.split("\\s*,\\s*")).map(x -> Boolean.parseBoolean(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case OFFSET__XML_ATTR: {
+				setOffset(Integer.parseInt(value));
+				break;
+			}
+			case MASK__XML_ATTR: {
+				setMask((int) Long.parseLong(value));
+				break;
+			}
+			case DELTA__XML_ATTR: {
+				setDelta(Long.parseLong(value));
+				break;
+			}
+			case STAMP__XML_ATTR: {
+				setStamp(Long.parseLong(value));
+				break;
+			}
+			case NAME__XML_ATTR: {
+				setName(value);
+				break;
+			}
+			default: {
+				// Skip unknown attribute.
+			}
+		}
+	}
+
+	/** Reads the element under the cursor and assigns its contents to the field with the given name. */
+	protected void readFieldXmlElement(javax.xml.stream.XMLStreamReader in, String localName) throws javax.xml.stream.XMLStreamException {
+		switch (localName) {
+			case INTS__XML_ATTR: {
+				setInts(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Integer.parseInt(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case SIGNED_INTS__XML_ATTR: {
+				setSignedInts(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Integer.parseInt(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FIXED_INTS__XML_ATTR: {
+				setFixedInts(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> (int) Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case LONGS__XML_ATTR: {
+				setLongs(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case SIGNED_LONGS__XML_ATTR: {
+				setSignedLongs(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FIXED_LONGS__XML_ATTR: {
+				setFixedLongs(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Long.parseLong(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FLOATS__XML_ATTR: {
+				setFloats(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Float.parseFloat(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case DOUBLES__XML_ATTR: {
+				setDoubles(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Double.parseDouble(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case FLAGS__XML_ATTR: {
+				setFlags(java.util.Arrays.stream(in.getElementText().split("\\s*,\\s*")).map(x -> Boolean.parseBoolean(x)).collect(java.util.stream.Collectors.toList()));
+				break;
+			}
+			case OFFSET__XML_ATTR: {
+				setOffset(Integer.parseInt(in.getElementText()));
+				break;
+			}
+			case MASK__XML_ATTR: {
+				setMask((int) Long.parseLong(in.getElementText()));
+				break;
+			}
+			case DELTA__XML_ATTR: {
+				setDelta(Long.parseLong(in.getElementText()));
+				break;
+			}
+			case STAMP__XML_ATTR: {
+				setStamp(Long.parseLong(in.getElementText()));
+				break;
+			}
+			case NAME__XML_ATTR: {
+				setName(in.getElementText());
+				break;
+			}
+			default: {
+				internalSkipUntilMatchingEndElement(in);
+			}
+		}
+	}
+
+	protected static final void internalSkipUntilMatchingEndElement(javax.xml.stream.XMLStreamReader in) throws javax.xml.stream.XMLStreamException {
+		int level = 0;
+		while (true) {
+			switch (in.next()) {
+				case javax.xml.stream.XMLStreamConstants.START_ELEMENT: level++; break;
+				case javax.xml.stream.XMLStreamConstants.END_ELEMENT: if (level == 0) { return; } else { level--; break; }
+			}
+		}
+	}
+
+}
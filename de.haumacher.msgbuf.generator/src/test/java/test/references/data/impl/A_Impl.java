@@ -475,36 +475,57 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		writeContent(out);
 	}
 
+	/** Pre-encoded JSON name of {@link #NAME__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName NAME__NAME = de.haumacher.msgbuf.json.JsonName.of(NAME__PROP);
+
+	/** Pre-encoded JSON name of {@link #CONTENTS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CONTENTS__NAME = de.haumacher.msgbuf.json.JsonName.of(CONTENTS__PROP);
+
+	/** Pre-encoded JSON name of {@link #CHILDREN__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName CHILDREN__NAME = de.haumacher.msgbuf.json.JsonName.of(CHILDREN__PROP);
+
+	/** Pre-encoded JSON name of {@link #BS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName BS__NAME = de.haumacher.msgbuf.json.JsonName.of(BS__PROP);
+
+	/** Pre-encoded JSON name of {@link #B__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName B__NAME = de.haumacher.msgbuf.json.JsonName.of(B__PROP);
+
+	/** Pre-encoded JSON name of {@link #OTHER__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName OTHER__NAME = de.haumacher.msgbuf.json.JsonName.of(OTHER__PROP);
+
+	/** Pre-encoded JSON name of {@link #OTHERS__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName OTHERS__NAME = de.haumacher.msgbuf.json.JsonName.of(OTHERS__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(NAME__PROP);
+		out.name(NAME__NAME);
 		out.value(getName());
 		if (hasContents()) {
-			out.name(CONTENTS__PROP);
+			out.name(CONTENTS__NAME);
 			getContents().writeTo(out);
 		}
-		out.name(CHILDREN__PROP);
+		out.name(CHILDREN__NAME);
 		out.beginArray();
 		for (test.references.data.A x : getChildren()) {
 			x.writeTo(out);
 		}
 		out.endArray();
-		out.name(BS__PROP);
+		out.name(BS__NAME);
 		out.beginArray();
 		for (test.references.data.B x : getBs()) {
 			x.writeTo(out);
 		}
 		out.endArray();
 		if (hasB()) {
-			out.name(B__PROP);
+			out.name(B__NAME);
 			getB().writeTo(out);
 		}
 		if (hasOther()) {
-			out.name(OTHER__PROP);
+			out.name(OTHER__NAME);
 			getOther().writeTo(out);
 		}
-		out.name(OTHERS__PROP);
+		out.name(OTHERS__NAME);
 		out.beginArray();
 		for (test.references.data.A x : getOthers()) {
 			x.writeTo(out);
@@ -512,12 +533,22 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		out.endArray();
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"name", "contents", "children", "bs", "b", "other", "others"},
+		new int[] {1, 2, 3, 4, 5, 6, 7});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case NAME__PROP: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
-			case CONTENTS__PROP: setContents(test.references.data.A.readA(in)); break;
-			case CHILDREN__PROP: {
+			case NAME__ID: setName(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case CONTENTS__ID: setContents(test.references.data.A.readA(in)); break;
+			case CHILDREN__ID: {
 				java.util.List<test.references.data.A> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -527,7 +558,7 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 				setChildren(newValue);
 			}
 			break;
-			case BS__PROP: {
+			case BS__ID: {
 				java.util.List<test.references.data.B> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -537,9 +568,9 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 				setBs(newValue);
 			}
 			break;
-			case B__PROP: setB(test.references.data.B.readB(in)); break;
-			case OTHER__PROP: setOther(test.references.data.A.readA(in)); break;
-			case OTHERS__PROP: {
+			case B__ID: setB(test.references.data.B.readB(in)); break;
+			case OTHER__ID: setOther(test.references.data.A.readA(in)); break;
+			case OTHERS__ID: {
 				java.util.List<test.references.data.A> newValue = new java.util.ArrayList<>();
 				in.beginArray();
 				while (in.hasNext()) {
@@ -611,6 +642,55 @@ public class A_Impl extends de.haumacher.msgbuf.data.AbstractDataObject implemen
 		}
 	}
 
+	@Override
+	public final int binarySize() {
+		// Fields and end of object.
+		return binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getName());
+		if (hasContents()) {
+			result += 1;
+			result += getContents().binarySize();
+		}
+		{
+			java.util.List<test.references.data.A> values = getChildren();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.references.data.A x : values) {
+				result += x.binarySize();
+			}
+		}
+		{
+			java.util.List<test.references.data.B> values = getBs();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.references.data.B x : values) {
+				result += x.binarySize();
+			}
+		}
+		if (hasB()) {
+			result += 1;
+			result += getB().binarySize();
+		}
+		if (hasOther()) {
+			result += 1;
+			result += getOther().binarySize();
+		}
+		{
+			java.util.List<test.references.data.A> values = getOthers();
+			result += 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeArray(values.size());
+			for (test.references.data.A x : values) {
+				result += x.binarySize();
+			}
+		}
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.references.data.A} from a polymorphic composition. */
 	public static test.references.data.A readA_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.references.data.impl.A_Impl result = new A_Impl();
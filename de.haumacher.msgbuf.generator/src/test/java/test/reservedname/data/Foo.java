@@ -45,6 +45,11 @@ public enum Foo implements de.haumacher.msgbuf.data.ProtocolEnum {
 		}
 	}
 
+	/** The number of bytes written by {@link #writeTo(de.haumacher.msgbuf.binary.DataWriter)}. */
+	public final int binarySize() {
+		return 1;
+	}
+
 	/** Reads a new instance from the given binary reader. */
 	public static Foo readFoo(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		switch (in.nextInt()) {
@@ -78,17 +78,30 @@ public class AnnotatedMessage_Impl extends test.underscorename.impl.BaseMsg_Impl
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #ANNOTATED_FIELD__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName ANNOTATED_FIELD__NAME = de.haumacher.msgbuf.json.JsonName.of(ANNOTATED_FIELD__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(ANNOTATED_FIELD__PROP);
+		out.name(ANNOTATED_FIELD__NAME);
 		out.value(getAnnotatedField());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"f1"},
+		new int[] {1});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case ANNOTATED_FIELD__PROP: setAnnotatedField(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case ANNOTATED_FIELD__ID: setAnnotatedField(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -105,6 +118,14 @@ public class AnnotatedMessage_Impl extends test.underscorename.impl.BaseMsg_Impl
 		out.value(getAnnotatedField());
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getAnnotatedField());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.underscorename.AnnotatedMessage} from a polymorphic composition. */
 	public static test.underscorename.AnnotatedMessage readannotated_message_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.underscorename.impl.AnnotatedMessage_Impl result = new AnnotatedMessage_Impl();
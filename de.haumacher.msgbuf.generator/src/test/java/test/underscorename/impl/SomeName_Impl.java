@@ -78,17 +78,30 @@ public class SomeName_Impl extends test.underscorename.impl.BaseMsg_Impl impleme
 		}
 	}
 
+	/** Pre-encoded JSON name of {@link #MY_FIELD__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName MY_FIELD__NAME = de.haumacher.msgbuf.json.JsonName.of(MY_FIELD__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(MY_FIELD__PROP);
+		out.name(MY_FIELD__NAME);
 		out.value(getMyField());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"my_field"},
+		new int[] {1});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case MY_FIELD__PROP: setMyField(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case MY_FIELD__ID: setMyField(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -105,6 +118,14 @@ public class SomeName_Impl extends test.underscorename.impl.BaseMsg_Impl impleme
 		out.value(getMyField());
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getMyField());
+		return result;
+	}
+
 	/** Helper for creating an object of type {@link test.underscorename.SomeName} from a polymorphic composition. */
 	public static test.underscorename.SomeName readsome_name_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		test.underscorename.impl.SomeName_Impl result = new SomeName_Impl();
@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base class for random access to the messages of a binary container.
+ *
+ * <p>
+ * Locating a message by its number uses the offset index of the container. If the container was written without index,
+ * the index is reconstructed by scanning the record headers without decoding the messages.
+ * </p>
+ *
+ * <p>
+ * The {@link #spliterator()} splits the container at block boundaries, which allows to decode the messages of a
+ * container in parallel, see {@link #parallelStream()}.
+ * </p>
+ *
+ * <p>
+ * Offsets within the container are 64 bit values. Subclasses provide access to the container contents, see
+ * {@link #input(long)}, and must call {@link #init(long)} from their constructor.
+ * </p>
+ *
+ * @param <T>
+ *        The message type.
+ *
+ * @see ContainerFormat
+ * @see ContainerWriter
+ * @see ContainerReader
+ */
+public abstract class AbstractContainer<T> implements Iterable<T> {
+
+	private final MessageReader<? extends T> _reader;
+
+	private final byte[] _sync = new byte[ContainerFormat.SYNC_SIZE];
+
+	private long _length;
+
+	/**
+	 * End of the record entries.
+	 */
+	private long _end;
+
+	private boolean _indexed;
+
+	private int _size;
+
+	private int _blocks;
+
+	private int[] _blockRecords;
+
+	private long[] _blockOffsets;
+
+	/**
+	 * Creates a {@link AbstractContainer}.
+	 *
+	 * @param reader
+	 *        Function reading a single message, e.g. <code>MyMessage::readMyMessage</code>.
+	 */
+	protected AbstractContainer(MessageReader<? extends T> reader) {
+		_reader = reader;
+	}
+
+	/**
+	 * Reads the container header and its offset index.
+	 *
+	 * @param length
+	 *        The size of the container contents in bytes.
+	 */
+	protected final void init(long length) throws IOException {
+		_length = length;
+
+		if (length < ContainerFormat.HEADER_SIZE) {
+			throw new IOException("Not a message container.");
+		}
+		Input in = input(0);
+		for (int n = 0; n < ContainerFormat.MAGIC.length; n++) {
+			if (in.read() != ContainerFormat.MAGIC[n]) {
+				throw new IOException("Not a message container.");
+			}
+		}
+		int version = in.read();
+		if (version != ContainerFormat.VERSION) {
+			throw new IOException("Unsupported container version: " + version);
+		}
+		for (int n = 0; n < ContainerFormat.SYNC_SIZE; n++) {
+			_sync[n] = (byte) in.read();
+		}
+
+		if (hasTrailer()) {
+			readIndex();
+		} else {
+			scanIndex();
+		}
+	}
+
+	/**
+	 * Creates an {@link Input} reading the container contents starting at the given offset.
+	 */
+	protected abstract Input input(long offset);
+
+	private boolean hasTrailer() throws IOException {
+		long trailer = _length - ContainerFormat.SYNC_SIZE;
+		if (trailer < ContainerFormat.HEADER_SIZE + ContainerFormat.TRAILER_SIZE - ContainerFormat.SYNC_SIZE) {
+			return false;
+		}
+		return isSync(input(trailer));
+	}
+
+	/**
+	 * Whether the next bytes of the given {@link Input} are a copy of the sync marker.
+	 */
+	private boolean isSync(Input in) throws IOException {
+		for (int n = 0; n < ContainerFormat.SYNC_SIZE; n++) {
+			if (in.read() != (_sync[n] & 0xFF)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void readIndex() throws IOException {
+		long offsetPos = _length - ContainerFormat.TRAILER_SIZE;
+		Input trailer = input(offsetPos);
+		long indexOffset = 0;
+		for (int n = 0; n < 8; n++) {
+			indexOffset = (indexOffset << 8) | trailer.read();
+		}
+		if (indexOffset < ContainerFormat.HEADER_SIZE || indexOffset >= offsetPos) {
+			throw new IOException("Invalid container index offset: " + indexOffset);
+		}
+
+		Cursor in = new Cursor(indexOffset);
+		if (in.readTag() != ContainerFormat.INDEX) {
+			throw new IOException("Missing container index at offset: " + indexOffset);
+		}
+		int blocks = (int) in.readTag();
+		_blockRecords = new int[Math.max(1, blocks)];
+		_blockOffsets = new long[Math.max(1, blocks)];
+		int record = 0;
+		long offset = 0;
+		for (int n = 0; n < blocks; n++) {
+			record += (int) in.readTag();
+			offset += in.readTag();
+			_blockRecords[n] = record;
+			_blockOffsets[n] = offset;
+		}
+		_blocks = blocks;
+		_size = (int) in.readTag();
+		_end = indexOffset;
+		_indexed = true;
+	}
+
+	private void scanIndex() throws IOException {
+		_blockRecords = new int[16];
+		_blockOffsets = new long[16];
+		_end = _length;
+		addBlock(0, ContainerFormat.HEADER_SIZE);
+
+		int count = 0;
+		Cursor in = new Cursor(ContainerFormat.HEADER_SIZE);
+		while (in.position() < _end) {
+			long tag = in.readTag();
+			if (tag == ContainerFormat.SYNC) {
+				in.skipSync();
+				addBlock(count, in.position());
+			} else if (tag == ContainerFormat.INDEX) {
+				// Incomplete index without trailer.
+				_end = in.position() - 1;
+				break;
+			} else {
+				in.skip(tag >>> 1);
+				count++;
+			}
+		}
+		_size = count;
+	}
+
+	private void addBlock(int record, long offset) {
+		if (_blocks == _blockRecords.length) {
+			int[] newRecords = new int[2 * _blocks];
+			System.arraycopy(_blockRecords, 0, newRecords, 0, _blocks);
+			_blockRecords = newRecords;
+
+			long[] newOffsets = new long[2 * _blocks];
+			System.arraycopy(_blockOffsets, 0, newOffsets, 0, _blocks);
+			_blockOffsets = newOffsets;
+		}
+		_blockRecords[_blocks] = record;
+		_blockOffsets[_blocks] = offset;
+		_blocks++;
+	}
+
+	/**
+	 * Whether the container has been written with an offset index.
+	 */
+	public boolean isIndexed() {
+		return _indexed;
+	}
+
+	/**
+	 * The number of messages in this container.
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Reads the message with the given number.
+	 *
+	 * @param n
+	 *        The number of the message, <code>0</code> for the first message.
+	 */
+	public T get(int n) throws IOException {
+		if (n < 0 || n >= _size) {
+			throw new IndexOutOfBoundsException("No message with number " + n + ", size is " + _size + ".");
+		}
+		int block = blockOf(n);
+		Cursor in = new Cursor(_blockOffsets[block]);
+		for (int record = _blockRecords[block]; record < n; record++) {
+			in.skipRecord();
+		}
+		return in.readRecord();
+	}
+
+	/**
+	 * The index of the block that contains the record with the given number.
+	 */
+	private int blockOf(int record) {
+		int low = 0;
+		int high = _blocks - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (_blockRecords[mid] <= record) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return Spliterators.iterator(spliterator());
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		return new BlockSpliterator(0, _size);
+	}
+
+	/**
+	 * Sequential stream of all messages.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Parallel stream of all messages, decoding blocks of messages in parallel.
+	 */
+	public Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/**
+	 * Sequential access to the container contents starting at some offset.
+	 *
+	 * <p>
+	 * An {@link Input} is used by a single thread only. Different {@link Input}s of the same container may be used
+	 * concurrently.
+	 * </p>
+	 */
+	protected static abstract class Input {
+
+		/**
+		 * The offset of the next byte in the container.
+		 */
+		protected abstract long position();
+
+		/**
+		 * Reads the next byte.
+		 *
+		 * @return The unsigned value of the byte, or <code>-1</code> at the end of the container.
+		 */
+		protected abstract int read() throws IOException;
+
+		/**
+		 * Skips the given number of bytes, which are known to exist.
+		 */
+		protected abstract void skip(long length) throws IOException;
+
+		/**
+		 * Creates a {@link DataReader} for the message with the given length at the current position and moves behind
+		 * it.
+		 *
+		 * <p>
+		 * The message bytes are known to exist. The result is read completely before this {@link Input} is used again.
+		 * </p>
+		 */
+		protected abstract DataReader message(int length) throws IOException;
+
+	}
+
+	/**
+	 * Position in the container contents.
+	 */
+	private final class Cursor {
+
+		private final Input _in;
+
+		Cursor(long offset) {
+			_in = input(offset);
+		}
+
+		long position() {
+			return _in.position();
+		}
+
+		long readTag() throws IOException {
+			long result = 0;
+			int shift = 0;
+			while (true) {
+				int data = _in.read();
+				if (data < 0) {
+					throw new IOException("End of container reached, while reading tag.");
+				}
+				result |= ((long) (data & 0x7F)) << shift;
+				if ((data & 0x80) == 0) {
+					return result;
+				}
+				shift += 7;
+			}
+		}
+
+		void skipSync() throws IOException {
+			long offset = position();
+			if (ContainerFormat.SYNC_SIZE > _end - offset) {
+				throw new IOException("End of container reached, while reading sync marker.");
+			}
+			if (!isSync(_in)) {
+				throw new IOException("Invalid sync marker at offset: " + offset);
+			}
+		}
+
+		void skip(long length) throws IOException {
+			checkAvailable(length);
+			_in.skip(length);
+		}
+
+		private void checkAvailable(long length) throws IOException {
+			if (length > _end - position()) {
+				throw new IOException("End of container reached, while skipping '" + length + "' bytes.");
+			}
+		}
+
+		/**
+		 * Moves to the next record entry and returns its length.
+		 */
+		int nextRecord() throws IOException {
+			while (true) {
+				long tag = readTag();
+				if (tag == ContainerFormat.SYNC) {
+					skipSync();
+					continue;
+				}
+				if ((tag & 1) != ContainerFormat.RECORD) {
+					throw new IOException("Invalid container entry: " + tag);
+				}
+				return (int) (tag >>> 1);
+			}
+		}
+
+		void skipRecord() throws IOException {
+			skip(nextRecord());
+		}
+
+		T readRecord() throws IOException {
+			int length = nextRecord();
+			checkAvailable(length);
+			return _reader.read(_in.message(length));
+		}
+	}
+
+	/**
+	 * {@link Spliterator} over a range of records that splits at block boundaries.
+	 */
+	private final class BlockSpliterator implements Spliterator<T> {
+
+		private Cursor _cursor;
+
+		private int _record;
+
+		private final int _endRecord;
+
+		BlockSpliterator(int record, int endRecord) {
+			_record = record;
+			_endRecord = endRecord;
+		}
+
+		private Cursor cursor() {
+			if (_cursor == null) {
+				int block = blockOf(_record);
+				_cursor = new Cursor(_blockOffsets[block]);
+				try {
+					for (int n = _blockRecords[block]; n < _record; n++) {
+						_cursor.skipRecord();
+					}
+				} catch (IOException ex) {
+					throw new RuntimeException(ex);
+				}
+			}
+			return _cursor;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (_record >= _endRecord) {
+				return false;
+			}
+			T message;
+			try {
+				message = cursor().readRecord();
+			} catch (IOException ex) {
+				throw new RuntimeException(ex);
+			}
+			_record++;
+			action.accept(message);
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			if (_cursor != null || _record >= _endRecord) {
+				// Already started or empty.
+				return null;
+			}
+			int firstBlock = blockOf(_record) + 1;
+			int lastBlock = blockOf(_endRecord - 1);
+			if (firstBlock > lastBlock) {
+				return null;
+			}
+			int splitRecord = _blockRecords[(firstBlock + lastBlock) >>> 1];
+			if (splitRecord <= _record) {
+				return null;
+			}
+			BlockSpliterator result = new BlockSpliterator(_record, splitRecord);
+			_record = splitRecord;
+			return result;
+		}
+
+		@Override
+		public long estimateSize() {
+			return _endRecord - _record;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+		}
+	}
+
+}
@@ -0,0 +1,773 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for {@link DataReader}s that reconstruct values written with a {@link OctetDataWriter}.
+ * 
+ * <p>
+ * Implements the decoding of the octet format. Subclasses only provide access to the underlying octets.
+ * </p>
+ * 
+ * @see OctetDataReader
+ */
+public abstract class AbstractOctetDataReader implements DataReader {
+
+	private static final int MASK_3 = ~(0xFFFFFFFF << 3);
+	private static final int MASK_7 = ~(0xFFFFFFFF << 7);
+
+	private static final int BIT_8 = 1 << 7;
+	static final int BIT_1 = 1;
+	
+	private static final int NO_NAME = -1;
+	private static final int END_OF_OBJECT = -2;
+
+	private static final FieldTag[] FIELD_TAGS = FieldTag.values();
+
+	private static final ContentTag[] CONTENT_TAGS = ContentTag.values();
+
+	State _state = State.START;
+	
+	private FieldTag _content = FieldTag.OBJ;
+
+	private int _length;
+	
+	private final List<SFrame> _stack = new ArrayList<>();
+	private int _name;
+	
+	private byte[] _stringBuffer = new byte[64];
+	
+	private char[] _charBuffer = new char[64];
+	
+	/** 
+	 * Creates a {@link AbstractOctetDataReader}.
+	 */
+	protected AbstractOctetDataReader() {
+		super();
+	}
+
+	/**
+	 * Continues reading fields of an object whose beginning is not part of the input.
+	 * 
+	 * <p>
+	 * Must be called before reading any value. The input consists of encoded fields without the terminating end of
+	 * object marker.
+	 * </p>
+	 */
+	protected final void enterObject() {
+		assert _state == State.START : "Input has already been consumed.";
+		
+		_stack.add(new SFrame(State.FIELD, 0, FieldTag.OBJ));
+		_state = State.FIELD;
+		_name = NO_NAME;
+	}
+
+	@Override
+	public void beginObject() throws IOException {
+		if (_content == FieldTag.REPEATED) {
+			// Framed object with a length prefix, see OctetDataWriter#setFramed(boolean).
+			consumeValue(FieldTag.REPEATED);
+			
+			long sizeAndTag = readVarLong();
+			ContentTag tag = tag(sizeAndTag);
+			assert tag == ContentTag.F8 : "Received '" + tag + "' but framed object was requested.";
+		} else {
+			consumeValue(FieldTag.OBJ);
+		}
+		
+		_stack.add(new SFrame(_state, _length, _content));
+		_state = State.FIELD;
+		_name = NO_NAME;
+	}
+
+	@Override
+	public void endObject() throws IOException {
+		fetchName();
+		assert _name == END_OF_OBJECT : "There are more fields to read: " + _name;
+		
+		SFrame sFrame = _stack.remove(_stack.size() - 1);
+		
+		_state = sFrame.getState();
+		_length = sFrame.getLength();
+		_content = sFrame.getContent();
+		_name = NO_NAME;
+	}
+	
+	@Override
+	public boolean hasNext() throws IOException {
+		switch (_state) {
+		case FIELD:
+			fetchName();
+			return _name >= 0;
+		case ARRAY_VALUE:
+			return _length > 0;
+		default:
+			return false;
+		}
+	}
+
+	@Override
+	public int nextName() throws IOException {
+		requireState(State.FIELD);
+		fetchName();
+		assert _name >= 0 : "No more fields left";
+		_state = State.FIELD_VALUE;
+		
+		int result = _name;
+		_name = NO_NAME;
+		return result;
+	}
+
+	private void fetchName() throws IOException {
+		if (_name == NO_NAME) {
+			int nameAndTag = readVarInt();
+			_content = tag(nameAndTag);
+			if (_content == FieldTag.STOP) {
+				_name = END_OF_OBJECT;
+			} else {
+				_name = name(nameAndTag);
+			}
+		}
+	}
+
+	@Override
+	public int nextInt() throws IOException {
+		consumeValue(FieldTag.VAR);
+		return readVarInt();
+	}
+
+	@Override
+	public int nextIntSigned() throws IOException {
+		consumeValue(FieldTag.VAR);
+		return BinaryUtil.zigzagDecode(readVarInt());
+	}
+
+	@Override
+	public int nextIntFixed() throws IOException {
+		if (_content == FieldTag.VAR) {
+			// Field written as plain variable sized integer, see DataReader#nextIntFixed().
+			return nextInt();
+		}
+		consumeValue(FieldTag.F32);
+		return readFixedInt();
+	}
+
+	@Override
+	public long nextLong() throws IOException {
+		consumeValue(FieldTag.VAR);
+		return readVarLong();
+	}
+
+	@Override
+	public long nextLongSigned() throws IOException {
+		consumeValue(FieldTag.VAR);
+		return BinaryUtil.zigzagDecode(readVarLong());
+	}
+
+	@Override
+	public long nextLongFixed() throws IOException {
+		if (_content == FieldTag.VAR) {
+			// Field written as plain variable sized integer, see DataReader#nextLongFixed().
+			return nextLong();
+		}
+		consumeValue(FieldTag.F64);
+		return readFixedLong();
+	}
+
+	@Override
+	public float nextFloat() throws IOException {
+		consumeValue(FieldTag.F32);
+		return Float.intBitsToFloat(readFixedInt());
+	}
+
+	@Override
+	public double nextDouble() throws IOException {
+		consumeValue(FieldTag.F64);
+		return Double.longBitsToDouble(readFixedLong());
+	}
+
+	@Override
+	public String nextString() throws IOException {
+		consumeValue(FieldTag.REPEATED);
+		long sizeAndTag = readVarLong();
+		ContentTag tag = tag(sizeAndTag);
+		assert tag == ContentTag.CHAR : "Received '" + tag + "' but character string was requested.";
+		int size = size(sizeAndTag);
+		
+		return readString(size);
+	}
+
+	@Override
+	public byte[] nextBinary() throws IOException {
+		switch (_content) {
+		case REPEATED: {
+			consumeValue(FieldTag.REPEATED);
+			
+			long sizeAndTag = readVarLong();
+			ContentTag tag = tag(sizeAndTag);
+			assert tag == ContentTag.F8: "Received '" + tag + "' but binary string was requested.";
+			int size = size(sizeAndTag);
+			
+			return readBinary(size);
+		}
+		
+		case CHUNKED: {
+			consumeValue(FieldTag.CHUNKED);
+			
+			long sizeAndTag = readVarLong();
+			ContentTag tag = tag(sizeAndTag);
+			assert tag == ContentTag.F8: "Received '" + tag + "' but binary string was requested.";
+			
+			try (InputStream in = new ChunkedInputStream()) {
+				byte[] result = new byte[0];
+				while (true) {
+					int available = in.available();
+					if (available == 0) {
+						return result;
+					}
+					int currentLength = result.length;
+					byte[] next = new byte[currentLength + available];
+					System.arraycopy(result, 0, next, 0, currentLength);
+					in.read(next, currentLength, available);
+					result = next;
+				}
+			}
+		}
+
+		default:
+			throw unexpectedContent(FieldTag.REPEATED);
+		}
+	}
+	
+	@Override
+	public InputStream nextBinaryStream() throws IOException {
+		switch (_content) {
+		case REPEATED: {
+			consumeValue(FieldTag.REPEATED);
+			
+			long sizeAndTag = readVarLong();
+			ContentTag tag = tag(sizeAndTag);
+			assert tag == ContentTag.F8: "Received '" + tag + "' but binary string was requested.";
+			
+			int size = size(sizeAndTag);
+			return readBinaryStream(size);
+		}
+		case CHUNKED: {
+			consumeValue(FieldTag.CHUNKED);
+			
+			long sizeAndTag = readVarLong();
+			ContentTag tag = tag(sizeAndTag);
+			assert tag == ContentTag.F8: "Received '" + tag + "' but binary string was requested.";
+			
+			return new ChunkedInputStream();
+		}
+		default:
+			throw unexpectedContent(FieldTag.REPEATED);
+		}
+	}
+	
+	private class ChunkedInputStream extends InputStream {
+		
+		private final State _before;
+		int _chunkSize;
+		int _pos;
+		
+		/** 
+		 * Creates a {@link AbstractOctetDataReader.ChunkedInputStream}.
+		 */
+		public ChunkedInputStream() throws IOException {
+			_before = _state;
+			_state = State.CHUNKED_VALUE;
+			
+			fetchChunkSize();
+		}
+
+		@Override
+		public int read() throws IOException {
+			ensureData();
+			if (_chunkSize == 0) {
+				return -1;
+			}
+			_pos++;
+			return readOctet();
+		}
+
+		@Override
+		public int read(byte[] buffer, int off, int len) throws IOException {
+			int available = available();
+			if (_chunkSize == 0) {
+				return -1;
+			}
+			int direct = Math.min(available, len);
+			readOctets(buffer, off, direct);
+			_pos += direct;
+			return direct;
+		}
+		
+		@Override
+		public int available() throws IOException {
+			ensureData();
+			return _chunkSize - _pos;
+		}
+		
+		@Override
+		public void close() throws IOException {
+			while (_chunkSize > 0) {
+				int available = available();
+				_pos += available;
+				skipOctets(available);
+			}
+			_state = _before;
+		}
+
+		private void ensureData() throws IOException {
+			if (_pos == _chunkSize && _chunkSize > 0) {
+				fetchChunkSize();
+			}
+		}
+		
+		private void fetchChunkSize() throws IOException {
+			_chunkSize = readVarInt();
+			_pos = 0;
+		}
+
+	}
+
+	@Override
+	public int beginArray() throws IOException {
+		requireState(State.FIELD_VALUE);
+		_state = State.ARRAY_VALUE;
+
+		long sizeAndTag = readVarLong();
+		_content = tag(sizeAndTag).toFieldTag();
+		_length = size(sizeAndTag);
+		
+		return _length;
+	}
+
+	@Override
+	public int[] nextIntArray() throws IOException {
+		int[] result = new int[beginPackedArray(FieldTag.VAR)];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = readVarInt();
+		}
+		endArray();
+		return result;
+	}
+
+	@Override
+	public int[] nextIntArraySigned() throws IOException {
+		int[] result = new int[beginPackedArray(FieldTag.VAR)];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = BinaryUtil.zigzagDecode(readVarInt());
+		}
+		endArray();
+		return result;
+	}
+
+	@Override
+	public int[] nextIntArrayFixed() throws IOException {
+		int[] result = new int[beginPackedArray(FieldTag.F32)];
+		readFixedInts(result);
+		endArray();
+		return result;
+	}
+
+	@Override
+	public long[] nextLongArray() throws IOException {
+		long[] result = new long[beginPackedArray(FieldTag.VAR)];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = readVarLong();
+		}
+		endArray();
+		return result;
+	}
+
+	@Override
+	public long[] nextLongArraySigned() throws IOException {
+		long[] result = new long[beginPackedArray(FieldTag.VAR)];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = BinaryUtil.zigzagDecode(readVarLong());
+		}
+		endArray();
+		return result;
+	}
+
+	@Override
+	public long[] nextLongArrayFixed() throws IOException {
+		long[] result = new long[beginPackedArray(FieldTag.F64)];
+		readFixedLongs(result);
+		endArray();
+		return result;
+	}
+
+	@Override
+	public float[] nextFloatArray() throws IOException {
+		float[] result = new float[beginPackedArray(FieldTag.F32)];
+		readFloats(result);
+		endArray();
+		return result;
+	}
+
+	@Override
+	public double[] nextDoubleArray() throws IOException {
+		double[] result = new double[beginPackedArray(FieldTag.F64)];
+		readDoubles(result);
+		endArray();
+		return result;
+	}
+
+	@Override
+	public boolean[] nextBooleanArray() throws IOException {
+		boolean[] result = new boolean[beginPackedArray(FieldTag.VAR)];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = readVarLong() != 0;
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Starts reading an array whose elements are decoded directly without per-element state tracking.
+	 * 
+	 * @return The number of elements in the array.
+	 */
+	private int beginPackedArray(FieldTag content) throws IOException {
+		int length = beginArray();
+		if (length > 0 && _content != content) {
+			throw new IOException("Received array of '" + _content + "' while '" + content + "' was requested.");
+		}
+		_length = 0;
+		return length;
+	}
+
+	@Override
+	public void endArray() throws IOException {
+		requireState(State.ARRAY_VALUE);
+		assert _length == 0 : "Received array value (" + _length + " remaining) while end of array was requested.";
+		_state = State.FIELD;
+	}
+	
+	@Override
+	public void skipValue() throws IOException {
+		FieldTag tag = _content;
+		switch (tag) {
+		case VAR:
+			nextLong();
+			break;
+		case F32:
+			nextIntFixed();
+			break;
+		case F64:
+			nextLongFixed();
+			break;
+		case F8:
+			consumeValue(tag);
+			skipOctets(1);
+			break;
+		case OBJ:
+			beginObject();
+			while (hasNext()) {
+				nextName();
+				skipValue();
+			}
+			endObject();
+			break;
+		case REPEATED:
+			beginArray();
+			if (_content == FieldTag.F8) {
+				skipOctets(_length);
+				_length = 0;
+			} else if (_content == FieldTag.F32) {
+				skipOctets(4L * _length);
+				_length = 0;
+			} else if (_content == FieldTag.F64) {
+				skipOctets(8L * _length);
+				_length = 0;
+			} else if (_content == FieldTag.REPEATED) {
+				while (hasNext()) {
+					// Inner string or byte array.
+					long sizeAndTag = readVarLong();
+					ContentTag content = tag(sizeAndTag);
+					int innerLength = size(sizeAndTag);
+					
+					assert content == ContentTag.F8 || content == ContentTag.CHAR : "Invalid nested array: " + content;
+					skipOctets(innerLength);
+					
+					_length--;
+				}
+			} else {
+				while (hasNext()) {
+					skipValue();
+				}
+			}
+			endArray();
+			break;
+		case CHUNKED:
+			requireState(State.FIELD_VALUE);
+			
+			long sizeAndTag = readVarLong();
+			_content = tag(sizeAndTag).toFieldTag();
+			
+			while (true) {
+				int chunkSize = readVarInt();
+				if (chunkSize == 0) {
+					break;
+				}
+				
+				skipOctets(chunkSize);
+			}
+			
+			_state = State.FIELD;
+			break;
+		case STOP:
+			assert false : "No value to skip, end of object reached.";
+			break;
+		}
+	}
+
+	private void requireState(State requested) {
+		assert _state == requested : "Expecting '" + requested + "' but received '" + _state + "'.";
+	}
+
+	private void consumeValue(FieldTag requested) throws IOException {
+		assert _content == requested : "Received '" + _content + "' while '" + requested + "' was requested.";
+		
+		switch (_state) {
+		case START:
+			assert requested == FieldTag.OBJ : "Data starts always with an object, '" + requested + "' was requested.";
+			_state = State.FIELD;
+			break;
+		case FIELD:
+			break;
+		case FIELD_VALUE:
+			_state = State.FIELD;
+			break;
+		case ARRAY_VALUE: 
+			assert _length > 0 : "Expecting end of array.";
+			_length--;
+			break;
+		default: 
+			throw unexpectedContent(requested);
+		}
+	}
+
+	private IOException unexpectedContent(FieldTag requested) throws IOException {
+		throw new IOException("Cannot read '" + requested + "' in state '" + _state + "'.");
+	}
+
+	/**
+	 * Reads the next octet.
+	 * 
+	 * @return The octet value in the range 0..255, or <code>-1</code>, if the end of input has been reached.
+	 */
+	protected abstract int readOctet() throws IOException;
+
+	/**
+	 * Reads exactly the given number of octets into the given buffer.
+	 */
+	protected abstract void readOctets(byte[] buffer, int offset, int length) throws IOException;
+
+	/**
+	 * Skips the given number of octets.
+	 */
+	protected abstract void skipOctets(long length) throws IOException;
+	
+	/**
+	 * Creates an {@link InputStream} delivering the given number of octets of the input.
+	 * 
+	 * <p>
+	 * When the stream is closed, the remaining octets of the binary value are skipped.
+	 * </p>
+	 */
+	protected abstract InputStream readBinaryStream(int size) throws IOException;
+
+	/**
+	 * Reads a variable-length encoded 32 bit integer.
+	 */
+	protected int readVarInt() throws IOException {
+		int result = 0;
+		int shift = 0;
+		while (true) {
+			int data = readOctet();
+			if (data < 0) {
+				throw new IOException("End of stream received, while reading var int.");
+			}
+			result |= (data & MASK_7) << shift;
+			if ((data & BIT_8) == 0) {
+				return result;
+			}
+			shift += 7;
+		}
+	}
+
+	/**
+	 * Reads a variable-length encoded 64 bit integer.
+	 */
+	protected long readVarLong() throws IOException {
+		long result = 0;
+		int shift = 0;
+		while (true) {
+			int data = readOctet();
+			if (data < 0) {
+				throw new IOException("End of stream received, while reading var int.");
+			}
+			result |= ((long) (data & MASK_7)) << shift;
+			if ((data & BIT_8) == 0) {
+				return result;
+			}
+			shift += 7;
+		}
+	}
+	
+	/**
+	 * Reads a fixed size 32 bit integer in big-endian byte order.
+	 */
+	protected int readFixedInt() throws IOException {
+		int result = 0;
+		for (int n = 0; n < 4; n++) {
+			int data = readOctet();
+			if (data < 0) {
+				throw new IOException("End of stream received, while reading fixed int.");
+			}
+			result <<= 8;
+			result |= data;
+		}
+		return result;
+	}
+
+	/**
+	 * Reads a fixed size 64 bit integer in big-endian byte order.
+	 */
+	protected long readFixedLong() throws IOException {
+		long result = 0;
+		for (int n = 0; n < 8; n++) {
+			int data = readOctet();
+			if (data < 0) {
+				throw new IOException("End of stream received, while reading fixed int.");
+			}
+			result <<= 8;
+			result |= data;
+		}
+		return result;
+	}
+	
+	/**
+	 * Fills the given array with fixed size 32 bit integers.
+	 */
+	protected void readFixedInts(int[] values) throws IOException {
+		for (int n = 0, cnt = values.length; n < cnt; n++) {
+			values[n] = readFixedInt();
+		}
+	}
+
+	/**
+	 * Fills the given array with fixed size 64 bit integers.
+	 */
+	protected void readFixedLongs(long[] values) throws IOException {
+		for (int n = 0, cnt = values.length; n < cnt; n++) {
+			values[n] = readFixedLong();
+		}
+	}
+
+	/**
+	 * Fills the given array with <code>float</code> values.
+	 */
+	protected void readFloats(float[] values) throws IOException {
+		for (int n = 0, cnt = values.length; n < cnt; n++) {
+			values[n] = Float.intBitsToFloat(readFixedInt());
+		}
+	}
+
+	/**
+	 * Fills the given array with <code>double</code> values.
+	 */
+	protected void readDoubles(double[] values) throws IOException {
+		for (int n = 0, cnt = values.length; n < cnt; n++) {
+			values[n] = Double.longBitsToDouble(readFixedLong());
+		}
+	}
+	
+	/**
+	 * Reads a binary value of the given size.
+	 */
+	protected byte[] readBinary(int size) throws IOException {
+		byte[] result = new byte[size];
+		readOctets(result, 0, size);
+		return result;
+	}
+
+	/**
+	 * Reads an UTF-8 encoded string of the given size in bytes.
+	 */
+	protected String readString(int size) throws IOException {
+		byte[] buffer = _stringBuffer;
+		if (buffer.length < size) {
+			buffer = _stringBuffer = new byte[Math.max(size, 2 * buffer.length)];
+		}
+		readOctets(buffer, 0, size);
+		return decodeString(buffer, 0, size);
+	}
+
+	/**
+	 * Decodes an UTF-8 encoded string from the given buffer.
+	 */
+	protected final String decodeString(byte[] buffer, int offset, int size) {
+		char[] chars = _charBuffer;
+		if (chars.length < size) {
+			chars = _charBuffer = new char[Math.max(size, 2 * chars.length)];
+		}
+		return Utf8.decode(buffer, offset, size, chars);
+	}
+
+	private static int name(int nameAndTag) {
+		return nameAndTag >>> 3;
+	}
+
+	private static FieldTag tag(int nameAndTag) {
+		return FIELD_TAGS[nameAndTag & MASK_3];
+	}
+
+	private static int size(long sizeAndTag) {
+		return ((int) (sizeAndTag >>> 3));
+	}
+
+	private static ContentTag tag(long sizeAndTag) {
+		return CONTENT_TAGS[((int) sizeAndTag) & MASK_3];
+	}
+
+	private static final class SFrame {
+
+		private final State _state;
+		private final int _length;
+		private FieldTag _content;
+
+		/** 
+		 * Creates a {@link SFrame}.
+		 * @param expected 
+		 */
+		public SFrame(State state, int length, FieldTag expected) {
+			_state = state;
+			_length = length;
+			_content = expected;
+		}
+
+		public State getState() {
+			return _state;
+		}
+
+		public int getLength() {
+			return _length;
+		}
+		
+		public FieldTag getContent() {
+			return _content;
+		}
+	}
+}
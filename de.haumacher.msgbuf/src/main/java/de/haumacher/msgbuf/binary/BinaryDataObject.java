@@ -25,4 +25,25 @@ public interface BinaryDataObject {
 	 */
 	public void writeTo(DataWriter out) throws IOException;
 
+	/**
+	 * The number of bytes written by {@link #writeTo(DataWriter)} to an {@link OctetDataWriter} without framing.
+	 * 
+	 * <p>
+	 * The default implementation encodes this object to compute its size. Generated data classes compute the size
+	 * without encoding.
+	 * </p>
+	 * 
+	 * @see OctetDataWriter#setFramed(boolean)
+	 * @see BinaryUtil#toByteArray(BinaryDataObject)
+	 */
+	default int binarySize() {
+		OctetDataWriter out = new OctetDataWriter();
+		try {
+			writeTo(out);
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		return out.size();
+	}
+
 }
@@ -3,6 +3,9 @@
  */
 package de.haumacher.msgbuf.binary;
 
+import java.io.IOException;
+import java.util.Collection;
+
 /**
  * Utilities for binary value encoding.
  */
@@ -40,7 +43,7 @@ public class BinaryUtil {
 	 * @return The zig-zag decoded value.
 	 */
 	public static int zigzagDecode(int value) {
-		boolean negative = (value & OctetDataReader.BIT_1) != 0;
+		boolean negative = (value & AbstractOctetDataReader.BIT_1) != 0;
 		int result = value >>> 1;
 		if (negative) {
 			result = ~result;
@@ -56,7 +59,7 @@ public class BinaryUtil {
 	 * @return The zig-zag decoded value.
 	 */
 	public static long zigzagDecode(long value) {
-		boolean negative = (value & OctetDataReader.BIT_1) != 0;
+		boolean negative = (value & AbstractOctetDataReader.BIT_1) != 0;
 		long result = value >>> 1;
 		if (negative) {
 			result = ~result;
@@ -64,4 +67,242 @@ public class BinaryUtil {
 		return result;
 	}
 
+	/**
+	 * Copies the given {@link Integer} values to a primitive array, e.g. for writing them with
+	 * {@link DataWriter#valueArray}.
+	 */
+	public static int[] toIntArray(Collection<Integer> values) {
+		int[] result = new int[values.size()];
+		int n = 0;
+		for (Integer value : values) {
+			result[n++] = value.intValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the given {@link Long} values to a primitive array.
+	 * 
+	 * @see #toIntArray(Collection)
+	 */
+	public static long[] toLongArray(Collection<Long> values) {
+		long[] result = new long[values.size()];
+		int n = 0;
+		for (Long value : values) {
+			result[n++] = value.longValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the given {@link Float} values to a primitive array.
+	 * 
+	 * @see #toIntArray(Collection)
+	 */
+	public static float[] toFloatArray(Collection<Float> values) {
+		float[] result = new float[values.size()];
+		int n = 0;
+		for (Float value : values) {
+			result[n++] = value.floatValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the given {@link Double} values to a primitive array.
+	 * 
+	 * @see #toIntArray(Collection)
+	 */
+	public static double[] toDoubleArray(Collection<Double> values) {
+		double[] result = new double[values.size()];
+		int n = 0;
+		for (Double value : values) {
+			result[n++] = value.doubleValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the given {@link Boolean} values to a primitive array.
+	 * 
+	 * @see #toIntArray(Collection)
+	 */
+	public static boolean[] toBooleanArray(Collection<Boolean> values) {
+		boolean[] result = new boolean[values.size()];
+		int n = 0;
+		for (Boolean value : values) {
+			result[n++] = value.booleanValue();
+		}
+		return result;
+	}
+
+	/**
+	 * The number of bytes of the variable-length encoding of the given <code>int</code> value.
+	 * 
+	 * <p>
+	 * Negative values are encoded as unsigned 32 bit values.
+	 * </p>
+	 */
+	public static int sizeVarInt(int value) {
+		if ((value & (0xFFFFFFFF << 7)) == 0) {
+			return 1;
+		}
+		if ((value & (0xFFFFFFFF << 14)) == 0) {
+			return 2;
+		}
+		if ((value & (0xFFFFFFFF << 21)) == 0) {
+			return 3;
+		}
+		if ((value & (0xFFFFFFFF << 28)) == 0) {
+			return 4;
+		}
+		return 5;
+	}
+
+	/**
+	 * The number of bytes of the variable-length encoding of the given <code>long</code> value.
+	 * 
+	 * @see #sizeVarInt(int)
+	 */
+	public static int sizeVarLong(long value) {
+		int result = 1;
+		while ((value & ~0x7FL) != 0) {
+			value >>>= 7;
+			result++;
+		}
+		return result;
+	}
+
+	/**
+	 * The number of bytes of a zig-zag encoded <code>int</code> value.
+	 * 
+	 * @see DataWriter#valueSigned(int)
+	 */
+	public static int sizeSigned(int value) {
+		return sizeVarInt(zigzagEncode(value));
+	}
+
+	/**
+	 * The number of bytes of a zig-zag encoded <code>long</code> value.
+	 * 
+	 * @see DataWriter#valueSigned(long)
+	 */
+	public static int sizeSigned(long value) {
+		return sizeVarLong(zigzagEncode(value));
+	}
+
+	/**
+	 * The number of bytes of the tag preceding the value of the field with the given ID.
+	 * 
+	 * @see DataWriter#name(int)
+	 */
+	public static int sizeTag(int id) {
+		return sizeVarInt(id << 3);
+	}
+
+	/**
+	 * The number of bytes of the header of an array with the given number of elements.
+	 * 
+	 * @see DataWriter#beginArray(DataType, int)
+	 */
+	public static int sizeArray(int length) {
+		return sizeVarLong(((long) length) << 3);
+	}
+
+	/**
+	 * The number of bytes of an encoded {@link String} value including its length header.
+	 */
+	public static int sizeString(String value) {
+		int length = Utf8.encodedLength(value);
+		return sizeArray(length) + length;
+	}
+
+	/**
+	 * The number of bytes of an encoded binary value including its length header.
+	 */
+	public static int sizeBinary(byte[] value) {
+		return sizeArray(value.length) + value.length;
+	}
+
+	/**
+	 * The number of bytes of the given values written as packed array of variable-length encoded values.
+	 * 
+	 * @see DataWriter#valueArray(DataType, int[])
+	 */
+	public static int sizeIntArray(Collection<Integer> values) {
+		int result = sizeArray(values.size());
+		for (Integer value : values) {
+			result += sizeVarInt(value.intValue());
+		}
+		return result;
+	}
+
+	/**
+	 * The number of bytes of the given values written as packed array of zig-zag encoded values.
+	 * 
+	 * @see DataWriter#valueArray(DataType, int[])
+	 */
+	public static int sizeIntArraySigned(Collection<Integer> values) {
+		int result = sizeArray(values.size());
+		for (Integer value : values) {
+			result += sizeSigned(value.intValue());
+		}
+		return result;
+	}
+
+	/**
+	 * The number of bytes of the given values written as packed array of variable-length encoded values.
+	 * 
+	 * @see DataWriter#valueArray(DataType, long[])
+	 */
+	public static int sizeLongArray(Collection<Long> values) {
+		int result = sizeArray(values.size());
+		for (Long value : values) {
+			result += sizeVarLong(value.longValue());
+		}
+		return result;
+	}
+
+	/**
+	 * The number of bytes of the given values written as packed array of zig-zag encoded values.
+	 * 
+	 * @see DataWriter#valueArray(DataType, long[])
+	 */
+	public static int sizeLongArraySigned(Collection<Long> values) {
+		int result = sizeArray(values.size());
+		for (Long value : values) {
+			result += sizeSigned(value.longValue());
+		}
+		return result;
+	}
+
+	/**
+	 * The number of bytes of a packed array of the given number of fixed size values.
+	 * 
+	 * @param length
+	 *        The number of elements.
+	 * @param elementSize
+	 *        The size of each element in bytes.
+	 */
+	public static int sizeFixedArray(int length, int elementSize) {
+		return sizeArray(length) + length * elementSize;
+	}
+
+	/**
+	 * Encodes the given object into an array of exactly the encoded size.
+	 * 
+	 * @see BinaryDataObject#binarySize()
+	 */
+	public static byte[] toByteArray(BinaryDataObject value) throws IOException {
+		int size = value.binarySize();
+		OctetDataWriter out = new OctetDataWriter(size);
+		value.writeTo(out);
+		byte[] result = out.getBuffer();
+		if (out.size() != result.length) {
+			// Size computation does not match the encoding.
+			return out.toByteArray();
+		}
+		return result;
+	}
+
 }
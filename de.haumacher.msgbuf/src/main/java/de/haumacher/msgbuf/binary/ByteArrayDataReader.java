@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * {@link DataReader} that reconstructs values written with a {@link OctetDataWriter} from a byte array.
+ * 
+ * <p>
+ * In contrast to {@link OctetDataReader}, the current position in the input is known, see {@link #getPosition()}.
+ * This allows to reference ranges of the encoded input, see {@link LazyFields}. The array must not be modified while
+ * being read.
+ * </p>
+ */
+public class ByteArrayDataReader extends AbstractOctetDataReader {
+
+	private static final int MASK_7 = ~(0xFFFFFFFF << 7);
+
+	private static final int BIT_8 = 1 << 7;
+
+	private final byte[] _buffer;
+	
+	private int _pos;
+	
+	private final int _limit;
+
+	/** 
+	 * Creates a {@link ByteArrayDataReader} reading the complete given array.
+	 */
+	public ByteArrayDataReader(byte[] buffer) {
+		this(buffer, 0, buffer.length);
+	}
+	
+	/** 
+	 * Creates a {@link ByteArrayDataReader} reading the given range of an array.
+	 */
+	public ByteArrayDataReader(byte[] buffer, int offset, int length) {
+		_buffer = buffer;
+		_pos = offset;
+		_limit = offset + length;
+	}
+	
+	/**
+	 * Creates a {@link ByteArrayDataReader} reading encoded fields of an object.
+	 * 
+	 * <p>
+	 * The given range must only contain encoded fields without the end of object marker. The returned reader does not
+	 * expect a call to {@link #beginObject()}.
+	 * </p>
+	 */
+	public static ByteArrayDataReader fields(byte[] buffer, int offset, int length) {
+		ByteArrayDataReader result = new ByteArrayDataReader(buffer, offset, length);
+		result.enterObject();
+		return result;
+	}
+	
+	/**
+	 * The array being read.
+	 */
+	public byte[] getBuffer() {
+		return _buffer;
+	}
+	
+	/**
+	 * The current read position in the array.
+	 * 
+	 * <p>
+	 * Directly after reading a value, this is the position of the next field.
+	 * </p>
+	 */
+	public int getPosition() {
+		return _pos;
+	}
+	
+	/**
+	 * Whether there is more input after the current read position.
+	 */
+	public boolean hasRemaining() {
+		return _pos < _limit;
+	}
+
+	@Override
+	protected int readOctet() throws IOException {
+		if (_pos >= _limit) {
+			return -1;
+		}
+		return _buffer[_pos++] & 0xFF;
+	}
+
+	@Override
+	protected void readOctets(byte[] buffer, int offset, int length) throws IOException {
+		require(length);
+		System.arraycopy(_buffer, _pos, buffer, offset, length);
+		_pos += length;
+	}
+
+	@Override
+	protected void skipOctets(long length) throws IOException {
+		require(length);
+		_pos += (int) length;
+	}
+
+	@Override
+	protected InputStream readBinaryStream(int size) throws IOException {
+		require(size);
+		int start = _pos;
+		_pos += size;
+		return new ByteArrayInputStream(_buffer, start, size);
+	}
+
+	@Override
+	protected int readVarInt() throws IOException {
+		byte[] buffer = _buffer;
+		int pos = _pos;
+		int limit = _limit;
+		int result = 0;
+		int shift = 0;
+		while (pos < limit) {
+			int data = buffer[pos++];
+			result |= (data & MASK_7) << shift;
+			if ((data & BIT_8) == 0) {
+				_pos = pos;
+				return result;
+			}
+			shift += 7;
+		}
+		throw new IOException("End of buffer reached, while reading var int.");
+	}
+
+	@Override
+	protected long readVarLong() throws IOException {
+		byte[] buffer = _buffer;
+		int pos = _pos;
+		int limit = _limit;
+		long result = 0;
+		int shift = 0;
+		while (pos < limit) {
+			int data = buffer[pos++];
+			result |= ((long) (data & MASK_7)) << shift;
+			if ((data & BIT_8) == 0) {
+				_pos = pos;
+				return result;
+			}
+			shift += 7;
+		}
+		throw new IOException("End of buffer reached, while reading var long.");
+	}
+
+	@Override
+	protected int readFixedInt() throws IOException {
+		require(4);
+		byte[] buffer = _buffer;
+		int pos = _pos;
+		int result = 
+			((buffer[pos] & 0xFF) << 24) | 
+			((buffer[pos + 1] & 0xFF) << 16) | 
+			((buffer[pos + 2] & 0xFF) << 8) | 
+			(buffer[pos + 3] & 0xFF);
+		_pos = pos + 4;
+		return result;
+	}
+
+	@Override
+	protected long readFixedLong() throws IOException {
+		require(8);
+		long high = readFixedInt();
+		long low = readFixedInt();
+		return (high << 32) | (low & 0xFFFFFFFFL);
+	}
+
+	@Override
+	protected byte[] readBinary(int size) throws IOException {
+		require(size);
+		byte[] result = Arrays.copyOfRange(_buffer, _pos, _pos + size);
+		_pos += size;
+		return result;
+	}
+
+	@Override
+	protected String readString(int size) throws IOException {
+		require(size);
+		String result = decodeString(_buffer, _pos, size);
+		_pos += size;
+		return result;
+	}
+
+	private void require(long length) throws IOException {
+		if (length > _limit - _pos) {
+			throw new IOException("End of buffer reached, while reading '" + length + "' bytes.");
+		}
+	}
+
+}
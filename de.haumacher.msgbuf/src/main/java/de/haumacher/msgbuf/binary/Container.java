@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.IOException;
+
+/**
+ * Random access to the messages of a binary container held in memory.
+ *
+ * <p>
+ * Since the contents are given as byte array, a {@link Container} is limited to containers of less than 2 GB. Larger
+ * containers can be accessed from a file without loading them into memory, see
+ * {@link de.haumacher.msgbuf.server.binary.FileContainer}.
+ * </p>
+ *
+ * @param <T>
+ *        The message type.
+ *
+ * @see AbstractContainer
+ */
+public class Container<T> extends AbstractContainer<T> {
+
+	private final byte[] _data;
+
+	/**
+	 * Creates a {@link Container}.
+	 *
+	 * @param data
+	 *        The container contents, must not be modified while the container is in use.
+	 * @param reader
+	 *        Function reading a single message, e.g. <code>MyMessage::readMyMessage</code>.
+	 */
+	public Container(byte[] data, MessageReader<? extends T> reader) throws IOException {
+		super(reader);
+		_data = data;
+
+		init(data.length);
+	}
+
+	@Override
+	protected Input input(long offset) {
+		return new ArrayInput((int) offset);
+	}
+
+	/**
+	 * {@link Input} reading from the container contents in memory.
+	 */
+	private final class ArrayInput extends Input {
+
+		private int _pos;
+
+		ArrayInput(int pos) {
+			_pos = pos;
+		}
+
+		@Override
+		protected long position() {
+			return _pos;
+		}
+
+		@Override
+		protected int read() {
+			if (_pos >= _data.length) {
+				return -1;
+			}
+			return _data[_pos++] & 0xFF;
+		}
+
+		@Override
+		protected void skip(long length) {
+			_pos += (int) length;
+		}
+
+		@Override
+		protected DataReader message(int length) {
+			int start = _pos;
+			_pos += length;
+			return new ByteArrayDataReader(_data, start, length);
+		}
+	}
+
+}
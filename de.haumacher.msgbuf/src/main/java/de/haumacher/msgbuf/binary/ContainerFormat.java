@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+/**
+ * Constants of the binary container format for sequences of messages.
+ * 
+ * <p>
+ * A container starts with a header consisting of the {@link #MAGIC} bytes, the format {@link #VERSION}, and a random
+ * sync marker of {@link #SYNC_SIZE} bytes. The header is followed by entries. Each entry starts with a variable-length
+ * encoded tag:
+ * </p>
+ * 
+ * <dl>
+ * <dt><code>(length &lt;&lt; 1) | {@link #RECORD}</code></dt>
+ * <dd>A message encoded with a {@link OctetDataWriter} of the given length in bytes follows.</dd>
+ * 
+ * <dt>{@link #SYNC}</dt>
+ * <dd>A copy of the sync marker from the header follows. Sync markers separate blocks of records. A reader may start
+ * reading directly after any sync marker.</dd>
+ * 
+ * <dt>{@link #INDEX}</dt>
+ * <dd>End of records, the offset index follows. The index consists of the number of blocks, for each block the number
+ * of its first record and its offset (each encoded as difference to the previous block), and the total number of
+ * records. The index is followed by the offset of the {@link #INDEX} tag as fixed size 64 bit integer and a final copy
+ * of the sync marker.</dd>
+ * </dl>
+ * 
+ * <p>
+ * Without index, the records extend to the end of the container.
+ * </p>
+ *
+ * @see ContainerWriter
+ * @see ContainerReader
+ * @see AbstractContainer
+ */
+public final class ContainerFormat {
+
+	/**
+	 * Bytes identifying a container.
+	 */
+	static final byte[] MAGIC = {'M', 'B', 'C', 'F'};
+	
+	/**
+	 * The current format version.
+	 */
+	public static final int VERSION = 1;
+	
+	/**
+	 * Size of the sync marker in bytes.
+	 */
+	public static final int SYNC_SIZE = 16;
+	
+	/**
+	 * Size of the container header in bytes.
+	 */
+	public static final int HEADER_SIZE = MAGIC.length + 1 + SYNC_SIZE;
+	
+	/**
+	 * Size of the container trailer after the index in bytes.
+	 */
+	public static final int TRAILER_SIZE = 8 + SYNC_SIZE;
+
+	/**
+	 * Tag of an entry containing a message record.
+	 */
+	public static final int RECORD = 0;
+	
+	/**
+	 * Tag of an entry containing a sync marker.
+	 */
+	public static final int SYNC = 1;
+	
+	/**
+	 * Tag of the entry containing the offset index.
+	 */
+	public static final int INDEX = 3;
+	
+	private ContainerFormat() {
+		// Constants only.
+	}
+	
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Sequential reader of messages from a stream in the binary container format.
+ *
+ * <p>
+ * For random access and parallel processing of a container, see {@link AbstractContainer}.
+ * </p>
+ *
+ * @param <T>
+ *        The message type.
+ *
+ * @see ContainerFormat
+ * @see ContainerWriter
+ */
+public class ContainerReader<T> implements Iterator<T>, Closeable {
+
+	private final InputStream _in;
+
+	private final MessageReader<? extends T> _reader;
+
+	private final byte[] _sync = new byte[ContainerFormat.SYNC_SIZE];
+
+	private final byte[] _check = new byte[ContainerFormat.SYNC_SIZE];
+
+	private boolean _started;
+
+	private boolean _done;
+
+	private byte[] _next;
+
+	/**
+	 * Creates a {@link ContainerReader}.
+	 *
+	 * @param in
+	 *        The stream to read.
+	 * @param reader
+	 *        Function reading a single message, e.g. <code>MyMessage::readMyMessage</code>.
+	 */
+	public ContainerReader(InputStream in, MessageReader<? extends T> reader) {
+		_in = in;
+		_reader = reader;
+	}
+
+	/**
+	 * Reads the next message.
+	 *
+	 * @return The next message, or <code>null</code>, if the end of the container has been reached.
+	 */
+	public T read() throws IOException {
+		byte[] record = nextRecord();
+		if (record == null) {
+			return null;
+		}
+		_next = null;
+		return _reader.read(new ByteArrayDataReader(record));
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			return nextRecord() != null;
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		try {
+			return read();
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private byte[] nextRecord() throws IOException {
+		if (_next != null) {
+			return _next;
+		}
+		if (_done) {
+			return null;
+		}
+		if (!_started) {
+			readHeader();
+			_started = true;
+		}
+
+		while (true) {
+			long tag = readTag();
+			if (tag < 0 || tag == ContainerFormat.INDEX) {
+				// The index is only relevant for random access.
+				_done = true;
+				return null;
+			}
+			if (tag == ContainerFormat.SYNC) {
+				readFully(_check);
+				if (!Arrays.equals(_sync, _check)) {
+					throw new IOException("Invalid sync marker.");
+				}
+				continue;
+			}
+			if ((tag & 1) != ContainerFormat.RECORD) {
+				throw new IOException("Invalid container entry: " + tag);
+			}
+
+			// A new array for each record, since lazy messages may keep a reference.
+			_next = new byte[(int) (tag >>> 1)];
+			readFully(_next);
+			return _next;
+		}
+	}
+
+	private void readHeader() throws IOException {
+		byte[] magic = new byte[ContainerFormat.MAGIC.length];
+		readFully(magic);
+		if (!Arrays.equals(magic, ContainerFormat.MAGIC)) {
+			throw new IOException("Not a message container.");
+		}
+		int version = _in.read();
+		if (version != ContainerFormat.VERSION) {
+			throw new IOException("Unsupported container version: " + version);
+		}
+		readFully(_sync);
+	}
+
+	/**
+	 * Reads the next tag, or <code>-1</code> at the end of the stream.
+	 */
+	private long readTag() throws IOException {
+		long result = 0;
+		int shift = 0;
+		while (true) {
+			int data = _in.read();
+			if (data < 0) {
+				if (shift == 0) {
+					return -1;
+				}
+				throw new IOException("End of stream received, while reading tag.");
+			}
+			result |= ((long) (data & 0x7F)) << shift;
+			if ((data & 0x80) == 0) {
+				return result;
+			}
+			shift += 7;
+		}
+	}
+
+	private void readFully(byte[] buffer) throws IOException {
+		int offset = 0;
+		while (offset < buffer.length) {
+			int direct = _in.read(buffer, offset, buffer.length - offset);
+			if (direct < 0) {
+				throw new IOException("End of stream received, while reading '" + buffer.length + "' bytes.");
+			}
+			offset += direct;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		_in.close();
+	}
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+/**
+ * Writer of a sequence of messages in the binary container format.
+ *
+ * @see ContainerFormat
+ * @see ContainerReader
+ * @see AbstractContainer
+ */
+public class ContainerWriter implements Closeable, Flushable {
+
+	/**
+	 * Default number of records in a block between two sync markers.
+	 */
+	public static final int DEFAULT_SYNC_INTERVAL = 1000;
+
+	private static final int MASK_7 = ~(0xFFFFFFFF << 7);
+
+	private static final int BIT_8 = 1 << 7;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final OutputStream _out;
+
+	private final byte[] _sync;
+
+	private final OctetDataWriter _record = new OctetDataWriter();
+
+	private final byte[] _scratch = new byte[10];
+
+	/**
+	 * Output not yet written to the underlying stream.
+	 */
+	private final byte[] _buffer = new byte[BUFFER_SIZE];
+
+	private int _bufferPos;
+
+	private int _syncInterval = DEFAULT_SYNC_INTERVAL;
+
+	private boolean _index = true;
+
+	private long _position;
+
+	private int _count;
+
+	private int _blocks;
+
+	/**
+	 * Number of the first record of each block.
+	 */
+	private int[] _blockRecords = new int[16];
+
+	/**
+	 * Offset of the first record of each block.
+	 */
+	private long[] _blockOffsets = new long[16];
+
+	private boolean _started;
+
+	private boolean _closed;
+
+	/**
+	 * Creates a {@link ContainerWriter} with a random sync marker.
+	 *
+	 * @param out
+	 *        The stream to write the container to.
+	 */
+	public ContainerWriter(OutputStream out) {
+		this(out, randomSync());
+	}
+
+	/**
+	 * Creates a {@link ContainerWriter}.
+	 *
+	 * @param out
+	 *        The stream to write the container to.
+	 * @param sync
+	 *        The sync marker of {@link ContainerFormat#SYNC_SIZE} bytes. The marker should not occur in the encoded
+	 *        messages.
+	 */
+	public ContainerWriter(OutputStream out, byte[] sync) {
+		if (sync.length != ContainerFormat.SYNC_SIZE) {
+			throw new IllegalArgumentException("Sync marker must have " + ContainerFormat.SYNC_SIZE + " bytes.");
+		}
+		_out = out;
+		_sync = sync.clone();
+	}
+
+	private static byte[] randomSync() {
+		byte[] result = new byte[ContainerFormat.SYNC_SIZE];
+		new Random().nextBytes(result);
+		return result;
+	}
+
+	/**
+	 * The number of records in a block between two sync markers.
+	 */
+	public int getSyncInterval() {
+		return _syncInterval;
+	}
+
+	/**
+	 * @see #getSyncInterval()
+	 *
+	 * @return This instance for call chaining.
+	 */
+	public ContainerWriter setSyncInterval(int syncInterval) {
+		if (syncInterval <= 0) {
+			throw new IllegalArgumentException("Sync interval must be positive: " + syncInterval);
+		}
+		_syncInterval = syncInterval;
+		return this;
+	}
+
+	/**
+	 * Whether an offset index is written when the container is closed.
+	 */
+	public boolean isIndex() {
+		return _index;
+	}
+
+	/**
+	 * @see #isIndex()
+	 *
+	 * @return This instance for call chaining.
+	 */
+	public ContainerWriter setIndex(boolean index) {
+		_index = index;
+		return this;
+	}
+
+	/**
+	 * Whether the nested objects of written messages are length-prefixed.
+	 *
+	 * @see OctetDataWriter#setFramed(boolean)
+	 */
+	public boolean isFramed() {
+		return _record.isFramed();
+	}
+
+	/**
+	 * @see #isFramed()
+	 *
+	 * @return This instance for call chaining.
+	 */
+	public ContainerWriter setFramed(boolean framed) {
+		_record.setFramed(framed);
+		return this;
+	}
+
+	/**
+	 * The number of messages written so far.
+	 */
+	public int getCount() {
+		return _count;
+	}
+
+	/**
+	 * Appends the given message to the container.
+	 */
+	public void write(BinaryDataObject message) throws IOException {
+		if (_closed) {
+			throw new IllegalStateException("Container already closed.");
+		}
+		start();
+
+		if (_count > 0 && _count % _syncInterval == 0) {
+			writeTag(ContainerFormat.SYNC);
+			writeBytes(_sync, 0, _sync.length);
+			addBlock();
+		}
+
+		_record.reset();
+		message.writeTo(_record);
+		int length = _record.size();
+		writeTag(((long) length << 1) | ContainerFormat.RECORD);
+		writeBytes(_record.getBuffer(), 0, length);
+		_count++;
+	}
+
+	private void start() throws IOException {
+		if (_started) {
+			return;
+		}
+		_started = true;
+
+		writeBytes(ContainerFormat.MAGIC, 0, ContainerFormat.MAGIC.length);
+		_scratch[0] = ContainerFormat.VERSION;
+		writeBytes(_scratch, 0, 1);
+		writeBytes(_sync, 0, _sync.length);
+		addBlock();
+	}
+
+	private void addBlock() {
+		if (_blocks == _blockRecords.length) {
+			int[] newRecords = new int[2 * _blocks];
+			System.arraycopy(_blockRecords, 0, newRecords, 0, _blocks);
+			_blockRecords = newRecords;
+
+			long[] newOffsets = new long[2 * _blocks];
+			System.arraycopy(_blockOffsets, 0, newOffsets, 0, _blocks);
+			_blockOffsets = newOffsets;
+		}
+		_blockRecords[_blocks] = _count;
+		_blockOffsets[_blocks] = _position;
+		_blocks++;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		_out.flush();
+	}
+
+	/**
+	 * Writes the optional index and closes the underlying stream.
+	 *
+	 * <p>
+	 * Closing an already closed writer has no effect.
+	 * </p>
+	 */
+	@Override
+	public void close() throws IOException {
+		if (_closed) {
+			return;
+		}
+		_closed = true;
+
+		start();
+		if (_index) {
+			writeIndex();
+		}
+		flushBuffer();
+		_out.close();
+	}
+
+	private void writeIndex() throws IOException {
+		long indexOffset = _position;
+		writeTag(ContainerFormat.INDEX);
+		writeTag(_blocks);
+		int lastRecord = 0;
+		long lastOffset = 0;
+		for (int n = 0; n < _blocks; n++) {
+			writeTag(_blockRecords[n] - lastRecord);
+			writeTag(_blockOffsets[n] - lastOffset);
+			lastRecord = _blockRecords[n];
+			lastOffset = _blockOffsets[n];
+		}
+		writeTag(_count);
+
+		for (int n = 0; n < 8; n++) {
+			_scratch[n] = (byte) (indexOffset >>> (56 - 8 * n));
+		}
+		writeBytes(_scratch, 0, 8);
+		writeBytes(_sync, 0, _sync.length);
+	}
+
+	private void writeTag(long value) throws IOException {
+		byte[] buffer = _scratch;
+		int pos = 0;
+		while ((value & ~MASK_7) != 0) {
+			buffer[pos++] = (byte) ((((int) value) & MASK_7) | BIT_8);
+			value >>>= 7;
+		}
+		buffer[pos++] = (byte) value;
+		writeBytes(buffer, 0, pos);
+	}
+
+	private void writeBytes(byte[] buffer, int offset, int length) throws IOException {
+		if (length > _buffer.length - _bufferPos) {
+			flushBuffer();
+			if (length > _buffer.length) {
+				// Large records are written directly.
+				_out.write(buffer, offset, length);
+				_position += length;
+				return;
+			}
+		}
+		System.arraycopy(buffer, offset, _buffer, _bufferPos, length);
+		_bufferPos += length;
+		_position += length;
+	}
+
+	private void flushBuffer() throws IOException {
+		if (_bufferPos > 0) {
+			_out.write(_buffer, 0, _bufferPos);
+			_bufferPos = 0;
+		}
+	}
+
+}
@@ -95,6 +95,11 @@ public interface DataReader {
 	/**
 	 * Reads a full 32 bit integer value.
 	 * 
+	 * <p>
+	 * A value encoded as plain variable sized integer is accepted as well. Code generated before version 1.1.9 wrote
+	 * singular <code>fixed</code> and <code>sfixed</code> fields that way.
+	 * </p>
+	 * 
 	 * @return The retrieved value.
 	 * @throws IOException
 	 *         If reading fails.
@@ -122,6 +127,11 @@ public interface DataReader {
 	/**
 	 * Reads a full 64 bit long value.
 	 * 
+	 * <p>
+	 * A value encoded as plain variable sized integer is accepted as well. Code generated before version 1.1.9 wrote
+	 * singular <code>fixed</code> and <code>sfixed</code> fields that way.
+	 * </p>
+	 * 
 	 * @return The retrieved value.
 	 * @throws IOException
 	 *         If reading fails.
@@ -211,4 +221,150 @@ public interface DataReader {
 	 */
 	void skipValue() throws IOException;
 
+	/**
+	 * Reads a complete array of unsigned <code>int</code> values in a single call.
+	 * 
+	 * <p>
+	 * The array must have been written either element-wise or in packed form.
+	 * </p>
+	 * 
+	 * @throws IOException If reading fails.
+	 */
+	default int[] nextIntArray() throws IOException {
+		int[] result = new int[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextInt();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of signed <code>int</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default int[] nextIntArraySigned() throws IOException {
+		int[] result = new int[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextIntSigned();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of fixed size 32 bit <code>int</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default int[] nextIntArrayFixed() throws IOException {
+		int[] result = new int[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextIntFixed();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of unsigned <code>long</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default long[] nextLongArray() throws IOException {
+		long[] result = new long[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextLong();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of signed <code>long</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default long[] nextLongArraySigned() throws IOException {
+		long[] result = new long[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextLongSigned();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of fixed size 64 bit <code>long</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default long[] nextLongArrayFixed() throws IOException {
+		long[] result = new long[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextLongFixed();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of <code>float</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default float[] nextFloatArray() throws IOException {
+		float[] result = new float[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextFloat();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of <code>double</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default double[] nextDoubleArray() throws IOException {
+		double[] result = new double[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextDouble();
+		}
+		endArray();
+		return result;
+	}
+
+	/**
+	 * Reads a complete array of <code>boolean</code> values in a single call.
+	 * 
+	 * @throws IOException If reading fails.
+	 * 
+	 * @see #nextIntArray()
+	 */
+	default boolean[] nextBooleanArray() throws IOException {
+		boolean[] result = new boolean[beginArray()];
+		for (int n = 0, cnt = result.length; n < cnt; n++) {
+			result[n] = nextBoolean();
+		}
+		endArray();
+		return result;
+	}
+
 }
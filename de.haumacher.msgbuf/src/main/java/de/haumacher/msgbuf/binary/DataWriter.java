@@ -5,6 +5,7 @@ package de.haumacher.msgbuf.binary;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
 
 /**
  * Output interface for creating binary messages out of data objects.
@@ -160,4 +161,190 @@ public interface DataWriter {
 	 */
 	void endArray() throws IOException;
 
+	/**
+	 * Writes a complete array of <code>int</code> values in packed form.
+	 * 
+	 * <p>
+	 * The encoding is the same as writing each element after {@link #beginArray(DataType, int)}, but avoids the
+	 * per-element overhead.
+	 * </p>
+	 * 
+	 * @param type
+	 *        The encoding of the values, one of {@link DataType#INT}, {@link DataType#SINT}, or {@link DataType#FINT}.
+	 * @param values
+	 *        The values to write.
+	 * 
+	 * @throws IOException If writing fails.
+	 */
+	default void valueArray(DataType type, int[] values) throws IOException {
+		beginArray(type, values.length);
+		switch (type) {
+			case INT:
+				for (int value : values) {
+					value(value);
+				}
+				break;
+			case SINT:
+				for (int value : values) {
+					valueSigned(value);
+				}
+				break;
+			case FINT:
+				for (int value : values) {
+					valueFixed(value);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Not an int type: " + type);
+		}
+		endArray();
+	}
+
+	/**
+	 * Writes a complete array of <code>long</code> values in packed form.
+	 * 
+	 * @param type
+	 *        The encoding of the values, one of {@link DataType#LONG}, {@link DataType#SLONG}, or
+	 *        {@link DataType#FLONG}.
+	 * @param values
+	 *        The values to write.
+	 * 
+	 * @throws IOException If writing fails.
+	 * 
+	 * @see #valueArray(DataType, int[])
+	 */
+	default void valueArray(DataType type, long[] values) throws IOException {
+		beginArray(type, values.length);
+		switch (type) {
+			case LONG:
+				for (long value : values) {
+					value(value);
+				}
+				break;
+			case SLONG:
+				for (long value : values) {
+					valueSigned(value);
+				}
+				break;
+			case FLONG:
+				for (long value : values) {
+					valueFixed(value);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Not a long type: " + type);
+		}
+		endArray();
+	}
+
+	/**
+	 * Writes a complete list of numeric values in packed form.
+	 * 
+	 * <p>
+	 * In contrast to {@link #valueArray(DataType, int[])}, the values of a repeated field can be written without
+	 * copying them to a primitive array first.
+	 * </p>
+	 * 
+	 * @param type
+	 *        The encoding of the values, one of the <code>int</code> or <code>long</code> types,
+	 *        {@link DataType#FLOAT}, or {@link DataType#DOUBLE}.
+	 * @param values
+	 *        The values to write.
+	 * 
+	 * @throws IOException If writing fails.
+	 */
+	default void valueArray(DataType type, List<? extends Number> values) throws IOException {
+		beginArray(type, values.size());
+		switch (type) {
+			case INT:
+				for (Number value : values) {
+					value(value.intValue());
+				}
+				break;
+			case SINT:
+				for (Number value : values) {
+					valueSigned(value.intValue());
+				}
+				break;
+			case FINT:
+				for (Number value : values) {
+					valueFixed(value.intValue());
+				}
+				break;
+			case LONG:
+				for (Number value : values) {
+					value(value.longValue());
+				}
+				break;
+			case SLONG:
+				for (Number value : values) {
+					valueSigned(value.longValue());
+				}
+				break;
+			case FLONG:
+				for (Number value : values) {
+					valueFixed(value.longValue());
+				}
+				break;
+			case FLOAT:
+				for (Number value : values) {
+					value(value.floatValue());
+				}
+				break;
+			case DOUBLE:
+				for (Number value : values) {
+					value(value.doubleValue());
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Not a numeric type: " + type);
+		}
+		endArray();
+	}
+
+	/**
+	 * Writes a complete array of <code>float</code> values in packed form.
+	 * 
+	 * @throws IOException If writing fails.
+	 * 
+	 * @see #valueArray(DataType, int[])
+	 */
+	default void valueArray(float[] values) throws IOException {
+		beginArray(DataType.FLOAT, values.length);
+		for (float value : values) {
+			value(value);
+		}
+		endArray();
+	}
+
+	/**
+	 * Writes a complete array of <code>double</code> values in packed form.
+	 * 
+	 * @throws IOException If writing fails.
+	 * 
+	 * @see #valueArray(DataType, int[])
+	 */
+	default void valueArray(double[] values) throws IOException {
+		beginArray(DataType.DOUBLE, values.length);
+		for (double value : values) {
+			value(value);
+		}
+		endArray();
+	}
+
+	/**
+	 * Writes a complete array of <code>boolean</code> values in packed form.
+	 * 
+	 * @throws IOException If writing fails.
+	 * 
+	 * @see #valueArray(DataType, int[])
+	 */
+	default void valueArray(boolean[] values) throws IOException {
+		beginArray(DataType.INT, values.length);
+		for (boolean value : values) {
+			value(value);
+		}
+		endArray();
+	}
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.IOException;
+
+/**
+ * Encoded fields of a message that are decoded on demand.
+ *
+ * <p>
+ * Instead of decoding all fields of a message, only the positions of the encoded fields within the input array are
+ * recorded. A field is decoded not before it is accessed. Fields that have never been accessed can be written by
+ * copying their encoded form, see {@link #copy(DataWriter, int)}.
+ * </p>
+ *
+ * <p>
+ * The input array must not be modified as long as a message references undecoded fields.
+ * </p>
+ */
+public final class LazyFields {
+
+	/**
+	 * Callback for decoding the value of a single field.
+	 */
+	public interface FieldReader {
+		/**
+		 * Consumes the value of the field with the given ID from the given reader.
+		 */
+		void readField(DataReader in, int field) throws IOException;
+	}
+
+	private static final int ENTRY_SIZE = 3;
+
+	private static final int DONE = -1;
+
+	private final byte[] _buffer;
+
+	/**
+	 * Triples of field ID, start offset, and end offset of each encoded field.
+	 */
+	private int[] _index;
+
+	private int _size;
+
+	private int _pending;
+
+	private LazyFields(byte[] buffer) {
+		_buffer = buffer;
+		_index = new int[4 * ENTRY_SIZE];
+	}
+
+	/**
+	 * Records the remaining fields of the object currently being read.
+	 *
+	 * <p>
+	 * All fields up to the end of the current object are skipped. Afterwards, the reader is positioned at the end of
+	 * the object.
+	 * </p>
+	 *
+	 * @param in
+	 *        The reader positioned after the last consumed value of an object.
+	 * @return The fields that remain to be decoded.
+	 */
+	public static LazyFields read(ByteArrayDataReader in) throws IOException {
+		LazyFields result = new LazyFields(in.getBuffer());
+		while (true) {
+			int start = in.getPosition();
+			if (!in.hasNext()) {
+				break;
+			}
+			int field = in.nextName();
+			in.skipValue();
+			result.add(field, start, in.getPosition());
+		}
+		return result;
+	}
+
+	private void add(int field, int start, int end) {
+		if (_size == _index.length) {
+			int[] newIndex = new int[2 * _index.length];
+			System.arraycopy(_index, 0, newIndex, 0, _size);
+			_index = newIndex;
+		}
+		_index[_size++] = field;
+		_index[_size++] = start;
+		_index[_size++] = end;
+		_pending++;
+	}
+
+	/**
+	 * Whether all fields have been decoded or dropped.
+	 */
+	public boolean isComplete() {
+		return _pending == 0;
+	}
+
+	/**
+	 * Whether the given field has an encoded value that has not yet been decoded.
+	 */
+	public boolean isPending(int field) {
+		for (int n = 0; n < _size; n += ENTRY_SIZE) {
+			if (_index[n] == field) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The number of bytes of the encoded value of the given field including its tag, if it has not yet been decoded.
+	 * 
+	 * @return The size of the encoded field, or <code>0</code>, if the field has no pending encoded value.
+	 */
+	public int size(int field) {
+		int result = 0;
+		for (int n = 0; n < _size; n += ENTRY_SIZE) {
+			if (_index[n] == field) {
+				result += _index[n + 2] - _index[n + 1];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Decodes the given field, if it has not yet been decoded.
+	 *
+	 * <p>
+	 * The field is marked as decoded before its value is passed to the given callback. Recursive requests for the same
+	 * field are therefore ignored.
+	 * </p>
+	 */
+	public void load(int field, FieldReader reader) throws IOException {
+		for (int n = 0; n < _size; n += ENTRY_SIZE) {
+			if (_index[n] == field) {
+				_index[n] = DONE;
+				_pending--;
+
+				int start = _index[n + 1];
+				ByteArrayDataReader in = ByteArrayDataReader.fields(_buffer, start, _index[n + 2] - start);
+				reader.readField(in, in.nextName());
+			}
+		}
+	}
+
+	/**
+	 * Decodes all remaining fields.
+	 */
+	public void loadAll(FieldReader reader) throws IOException {
+		for (int n = 0; n < _size; n += ENTRY_SIZE) {
+			int field = _index[n];
+			if (field != DONE) {
+				load(field, reader);
+			}
+		}
+	}
+
+	/**
+	 * Forgets the encoded value of the given field, because a new value has been assigned.
+	 */
+	public void drop(int field) {
+		for (int n = 0; n < _size; n += ENTRY_SIZE) {
+			if (_index[n] == field) {
+				_index[n] = DONE;
+				_pending--;
+			}
+		}
+	}
+
+	/**
+	 * Writes the encoded value of the given field without decoding it.
+	 *
+	 * @return Whether the field has been written. If <code>false</code> is returned, either the field has already been
+	 *         decoded, or the given writer does not accept encoded input.
+	 */
+	public boolean copy(DataWriter out, int field) throws IOException {
+		if (!(out instanceof OctetDataWriter)) {
+			return false;
+		}
+
+		boolean result = false;
+		for (int n = 0; n < _size; n += ENTRY_SIZE) {
+			if (_index[n] == field) {
+				int start = _index[n + 1];
+				((OctetDataWriter) out).copyFields(_buffer, start, _index[n + 2] - start);
+				result = true;
+			}
+		}
+		return result;
+	}
+
+}
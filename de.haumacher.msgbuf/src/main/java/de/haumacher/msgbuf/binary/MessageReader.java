@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.IOException;
+
+/**
+ * Function reading a message from a {@link DataReader}.
+ * 
+ * <p>
+ * The generated static read methods of message types implement this interface, e.g.
+ * <code>MyMessage::readMyMessage</code>.
+ * </p>
+ *
+ * @param <T>
+ *        The message type.
+ */
+public interface MessageReader<T> {
+
+	/**
+	 * Reads a message from the given reader.
+	 */
+	T read(DataReader in) throws IOException;
+
+}
@@ -3,6 +3,7 @@
  */
 package de.haumacher.msgbuf.binary;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
@@ -10,18 +11,54 @@ import java.util.List;
 
 /**
  * {@link DataWriter} that encodes into a stream of octets (8 bit byte values).
+ * 
+ * <p>
+ * All values are encoded into an internal buffer. If the writer is created with an {@link OutputStream}, the buffer
+ * is written to the stream in blocks whenever it fills up, when a top-level object is complete, and upon
+ * {@link #flush()}. A writer created without a stream keeps the complete message in its growing buffer that can be
+ * accessed without copying through {@link #getBuffer()} and {@link #size()}.
+ * </p>
  */
-public class OctetDataWriter implements DataWriter {
+public class OctetDataWriter implements DataWriter, Flushable {
 	
+	/**
+	 * Default size of the internal buffer.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
 	private static final int CHUNK_BUFFER_SIZE = 1024;
 	private static final int MIN_CHUNK_SIZE = CHUNK_BUFFER_SIZE / 2;
 	
 	private static final int MASK_7 = ~(0xFFFFFFFF << 7);
-	private static final int MASK_8 = ~(0xFFFFFFFF << 8);
 
 	private static final int BIT_8 = 1 << 7;
 	
-	final OutputStream _out;
+	/**
+	 * Space reserved for the length prefix of a framed object.
+	 */
+	private static final int MAX_FRAME_HEADER = 5;
+	
+	static final int NO_FRAME = -1;
+	
+	/**
+	 * The stream to write to, or <code>null</code>, if all output is kept in {@link #_buffer}.
+	 */
+	private final OutputStream _out;
+	
+	private byte[] _buffer;
+	
+	private int _pos;
+	
+	/**
+	 * Whether nested objects are written with a length prefix.
+	 */
+	private boolean _framed;
+	
+	/**
+	 * The number of framed objects whose length prefix has not yet been written. As long as there are open frames, the
+	 * buffer must not be flushed.
+	 */
+	private int _openFrames;
 	
 	State _state = State.START;
 	
@@ -32,28 +69,152 @@ public class OctetDataWriter implements DataWriter {
 	private final List<SFrame> _stack = new ArrayList<>();
 
 	/** 
-	 * Creates a {@link OctetDataWriter}.
+	 * Creates a {@link OctetDataWriter} writing to the given stream.
 	 */
 	public OctetDataWriter(OutputStream out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	/** 
+	 * Creates a {@link OctetDataWriter} writing to the given stream using a buffer of the given size.
+	 */
+	public OctetDataWriter(OutputStream out, int bufferSize) {
+		assert out != null : "No output stream given, use in-memory constructor.";
 		_out = out;
+		_buffer = new byte[Math.max(16, bufferSize)];
+	}
+	
+	/** 
+	 * Creates a {@link OctetDataWriter} that keeps the encoded message in memory.
+	 * 
+	 * @see #getBuffer()
+	 */
+	public OctetDataWriter() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+	
+	/** 
+	 * Creates a {@link OctetDataWriter} that keeps the encoded message in memory.
+	 * 
+	 * @param initialCapacity
+	 *        The initial size of the buffer. If the size of the encoded message is known in advance, no reallocation
+	 *        takes place.
+	 * 
+	 * @see #getBuffer()
+	 */
+	public OctetDataWriter(int initialCapacity) {
+		_out = null;
+		_buffer = new byte[Math.max(16, initialCapacity)];
+	}
+	
+	/**
+	 * Whether nested objects are written with a byte length prefix.
+	 */
+	public boolean isFramed() {
+		return _framed;
+	}
+	
+	/**
+	 * Enables or disables writing nested objects with a byte length prefix.
+	 * 
+	 * <p>
+	 * A framed object is encoded like a binary value that contains the regular object encoding. This allows a reader to
+	 * skip or slice nested objects without parsing their contents. A {@link DataReader} reads both framed and unframed
+	 * objects. Top-level objects are never framed.
+	 * </p>
+	 * 
+	 * <p>
+	 * Since the length prefix is written when the object is complete, output is not flushed to the underlying stream
+	 * while a framed object is being written.
+	 * </p>
+	 * 
+	 * @return This instance for call chaining.
+	 */
+	public OctetDataWriter setFramed(boolean framed) {
+		assert _stack.isEmpty() : "Framing must not be changed while writing an object.";
+		_framed = framed;
+		return this;
+	}
+	
+	/**
+	 * The internal buffer containing the encoded data.
+	 * 
+	 * <p>
+	 * Only the first {@link #size()} bytes are valid. The returned array is not copied and is only valid until the
+	 * next write operation. For a writer that writes to a stream, the buffer only contains data that has not yet
+	 * been flushed.
+	 * </p>
+	 */
+	public byte[] getBuffer() {
+		return _buffer;
+	}
+	
+	/**
+	 * The number of valid bytes in {@link #getBuffer()}.
+	 */
+	public int size() {
+		return _pos;
+	}
+	
+	/**
+	 * A copy of the valid bytes of {@link #getBuffer()}.
+	 */
+	public byte[] toByteArray() {
+		byte[] result = new byte[_pos];
+		System.arraycopy(_buffer, 0, result, 0, _pos);
+		return result;
+	}
+	
+	/**
+	 * Drops all buffered data and prepares this writer for encoding another message.
+	 */
+	public void reset() {
+		_pos = 0;
+		_openFrames = 0;
+		_state = State.START;
+		_length = 0;
+		_content = null;
+		_stack.clear();
+	}
+	
+	/**
+	 * Writes all buffered data to the underlying stream and flushes it.
+	 * 
+	 * <p>
+	 * Has no effect on a writer that keeps its output in memory.
+	 * </p>
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (_out != null) {
+			flushBuffer();
+			_out.flush();
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (_pos > 0) {
+			_out.write(_buffer, 0, _pos);
+			_pos = 0;
+		}
 	}
 
 	@Override
 	public void beginObject() throws IOException {
-		valueSeen(DataType.OBJECT);
-		State before = _state;
-		switch (_state) {
-		case START:
-		case FIELD:
-		case ARRAY_VALUE:
-			break;
-		case FIELD_VALUE:
-			before = State.FIELD;
-			break;
-		default:
-			assert false : "Cannot start object in state '" + _state + "'.";
+		int start;
+		if (_framed && _state != State.START) {
+			framedObjectSeen();
+			
+			// Reserve space for the length prefix that is written when the object is complete.
+			ensureCapacity(MAX_FRAME_HEADER);
+			start = _pos;
+			_pos += MAX_FRAME_HEADER;
+			_openFrames++;
+		} else {
+			valueSeen(DataType.OBJECT);
+			start = NO_FRAME;
 		}
-		_stack.add(new SFrame(before, _length, _content));
+		_stack.add(new SFrame(_state, _length, _content, start));
 		_state = State.FIELD;
 	}
 
@@ -65,13 +226,62 @@ public class OctetDataWriter implements DataWriter {
 		_state = frame.getState();
 		_length = frame.getLength();
 		_content = frame.getContent();
+		
+		int start = frame.getStart();
+		if (start != NO_FRAME) {
+			closeFrame(start);
+		}
+		
+		if (_stack.isEmpty() && _out != null) {
+			flushBuffer();
+		}
+	}
+
+	private void framedObjectSeen() throws IOException {
+		switch (_state) {
+		case FIELD_VALUE:
+			writeTag(FieldTag.REPEATED);
+			_state = State.FIELD;
+			break;
+		case ARRAY_VALUE:
+			consumeArrayValue(DataType.OBJECT);
+			break;
+		default:
+			assert false : "Cannot start object in state '" + _state + "'.";
+		}
+	}
+
+	/**
+	 * Writes the length prefix of the framed object whose contents start after the reserved header at the given
+	 * buffer position.
+	 */
+	private void closeFrame(int start) {
+		int contentStart = start + MAX_FRAME_HEADER;
+		int length = _pos - contentStart;
+		
+		byte[] buffer = _buffer;
+		int pos = start;
+		long header = encodeLength(ContentTag.F8, length);
+		while ((header & ~MASK_7) != 0) {
+			buffer[pos++] = (byte) ((((int) header) & MASK_7) | BIT_8);
+			header >>>= 7;
+		}
+		buffer[pos++] = (byte) header;
+		
+		if (pos < contentStart) {
+			// Close the gap left by the reserved header space.
+			System.arraycopy(buffer, contentStart, buffer, pos, length);
+			_pos = pos + length;
+		}
+		_openFrames--;
 	}
 
 	@Override
 	public void beginArray(DataType type, int length) throws IOException {
 		expect(State.FIELD_VALUE);
 		writeVarInt(encodeId(FieldTag.REPEATED));
-		writeVarLong(encodeLength(type.tag().asContent(), length));
+		ContentTag content = (_framed && type == DataType.OBJECT) ? ContentTag.REPEATED : type.tag().asContent();
+		writeVarLong(encodeLength(content, length));
 		_length = length;
 		_content = type;
 		_state = State.ARRAY_VALUE;
@@ -84,6 +294,152 @@ public class OctetDataWriter implements DataWriter {
 		_state = State.FIELD;
 	}
 
+	@Override
+	public void valueArray(DataType type, int[] values) throws IOException {
+		beginArray(type, values.length);
+		switch (type) {
+			case INT:
+				for (int value : values) {
+					writeVarInt(value);
+				}
+				break;
+			case SINT:
+				for (int value : values) {
+					writeVarInt(BinaryUtil.zigzagEncode(value));
+				}
+				break;
+			case FINT:
+				for (int value : values) {
+					writeFixedInt(value);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Not an int type: " + type);
+		}
+		_length = 0;
+		endArray();
+	}
+
+	@Override
+	public void valueArray(DataType type, long[] values) throws IOException {
+		beginArray(type, values.length);
+		switch (type) {
+			case LONG:
+				for (long value : values) {
+					writeVarLong(value);
+				}
+				break;
+			case SLONG:
+				for (long value : values) {
+					writeVarLong(BinaryUtil.zigzagEncode(value));
+				}
+				break;
+			case FLONG:
+				for (long value : values) {
+					writeFixedLong(value);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Not a long type: " + type);
+		}
+		_length = 0;
+		endArray();
+	}
+
+	@Override
+	public void valueArray(DataType type, List<? extends Number> values) throws IOException {
+		beginArray(type, values.size());
+		switch (type) {
+			case INT:
+				for (Number value : values) {
+					writeVarInt(value.intValue());
+				}
+				break;
+			case SINT:
+				for (Number value : values) {
+					writeVarInt(BinaryUtil.zigzagEncode(value.intValue()));
+				}
+				break;
+			case FINT:
+				for (Number value : values) {
+					writeFixedInt(value.intValue());
+				}
+				break;
+			case LONG:
+				for (Number value : values) {
+					writeVarLong(value.longValue());
+				}
+				break;
+			case SLONG:
+				for (Number value : values) {
+					writeVarLong(BinaryUtil.zigzagEncode(value.longValue()));
+				}
+				break;
+			case FLONG:
+				for (Number value : values) {
+					writeFixedLong(value.longValue());
+				}
+				break;
+			case FLOAT:
+				for (Number value : values) {
+					writeFixedInt(Float.floatToIntBits(value.floatValue()));
+				}
+				break;
+			case DOUBLE:
+				for (Number value : values) {
+					writeFixedLong(Double.doubleToLongBits(value.doubleValue()));
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Not a numeric type: " + type);
+		}
+		_length = 0;
+		endArray();
+	}
+
+	@Override
+	public void valueArray(float[] values) throws IOException {
+		beginArray(DataType.FLOAT, values.length);
+		for (float value : values) {
+			writeFixedInt(Float.floatToIntBits(value));
+		}
+		_length = 0;
+		endArray();
+	}
+
+	@Override
+	public void valueArray(double[] values) throws IOException {
+		beginArray(DataType.DOUBLE, values.length);
+		for (double value : values) {
+			writeFixedLong(Double.doubleToLongBits(value));
+		}
+		_length = 0;
+		endArray();
+	}
+
+	@Override
+	public void valueArray(boolean[] values) throws IOException {
+		beginArray(DataType.INT, values.length);
+		for (boolean value : values) {
+			writeVarInt(value ? 1 : 0);
+		}
+		_length = 0;
+		endArray();
+	}
+
+	/**
+	 * Copies already encoded fields to the current object.
+	 * 
+	 * <p>
+	 * The given range must contain complete fields (field tags followed by their values) as written by an
+	 * {@link OctetDataWriter}, see {@link ByteArrayDataReader#getPosition()}.
+	 * </p>
+	 */
+	public void copyFields(byte[] buffer, int offset, int length) throws IOException {
+		expect(State.FIELD);
+		writeBinary(buffer, offset, length);
+	}
+
 	@Override
 	public void name(int id) throws IOException {
 		expect(State.FIELD);
@@ -144,7 +500,7 @@ public class OctetDataWriter implements DataWriter {
 	public void value(byte[] value) throws IOException {
 		valueSeen(DataType.BINARY);
 		writeVarLong(encodeLength(ContentTag.F8, value.length));
-		writeBinary(value);
+		writeBinary(value, 0, value.length);
 	}
 	
 	@Override
@@ -204,18 +560,18 @@ public class OctetDataWriter implements DataWriter {
 
 			private void writeChunk(int length, int start, byte[] buffer) throws IOException {
 				writeVarInt(length);
-				_out.write(buffer, start, length);
+				writeBinary(buffer, start, length);
 			}
 		};
 	}
 	
 	@Override
 	public void value(String value) throws IOException {
-		byte[] bytes = value.getBytes("utf-8");
-		
 		valueSeen(DataType.STRING);
-		writeVarLong(encodeLength(ContentTag.CHAR, bytes.length));
-		writeBinary(bytes);
+		int length = Utf8.encodedLength(value);
+		writeVarLong(encodeLength(ContentTag.CHAR, length));
+		ensureCapacity(length);
+		_pos = Utf8.encode(value, _buffer, _pos);
 	}
 
 	private void expect(State expected) {
@@ -245,49 +601,86 @@ public class OctetDataWriter implements DataWriter {
 	}
 
 	final void writeVarInt(int data) throws IOException {
-		while (true) {
-			int octet = data & MASK_7;
+		if (_buffer.length - _pos < 5) {
+			ensureCapacity(BinaryUtil.sizeVarInt(data));
+		}
+		byte[] buffer = _buffer;
+		int pos = _pos;
+		while ((data & ~MASK_7) != 0) {
+			buffer[pos++] = (byte) ((data & MASK_7) | BIT_8);
 			data >>>= 7;
-			if (data == 0) {
-				_out.write(octet);
-				break;
-			} else {
-				octet |= BIT_8;
-				_out.write(octet);
-			}
 		}
+		buffer[pos++] = (byte) data;
+		_pos = pos;
 	}
 
 	private void writeVarLong(long data) throws IOException {
-		while (true) {
-			int octet = ((int) data) & MASK_7;
+		if (_buffer.length - _pos < 10) {
+			ensureCapacity(BinaryUtil.sizeVarLong(data));
+		}
+		byte[] buffer = _buffer;
+		int pos = _pos;
+		while ((data & ~MASK_7) != 0) {
+			buffer[pos++] = (byte) ((((int) data) & MASK_7) | BIT_8);
 			data >>>= 7;
-			if (data == 0) {
-				_out.write(octet);
-				break;
-			} else {
-				octet |= BIT_8;
-				_out.write(octet);
-			}
 		}
+		buffer[pos++] = (byte) data;
+		_pos = pos;
 	}
 	
 	private void writeFixedInt(int data) throws IOException {
-		for (int shift = 32 - 8; shift >= 0; shift -= 8) {
-			int octet = (data >>> shift) & MASK_8;
-			_out.write(octet);
-		}
+		ensureCapacity(4);
+		byte[] buffer = _buffer;
+		int pos = _pos;
+		buffer[pos++] = (byte) (data >>> 24);
+		buffer[pos++] = (byte) (data >>> 16);
+		buffer[pos++] = (byte) (data >>> 8);
+		buffer[pos++] = (byte) data;
+		_pos = pos;
 	}
 
 	private void writeFixedLong(long data) throws IOException {
+		ensureCapacity(8);
+		byte[] buffer = _buffer;
+		int pos = _pos;
 		for (int shift = 64 - 8; shift >= 0; shift -= 8) {
-			int octet = ((int) (data >>> shift)) & MASK_8;
-			_out.write(octet);
+			buffer[pos++] = (byte) (data >>> shift);
 		}
+		_pos = pos;
 	}
 	
-	private void writeBinary(byte[] bytes) throws IOException {
-		_out.write(bytes);
+	private void writeBinary(byte[] bytes, int offset, int length) throws IOException {
+		if (_out != null && _openFrames == 0 && length > _buffer.length / 2) {
+			// Large blocks are passed directly to the stream.
+			flushBuffer();
+			_out.write(bytes, offset, length);
+		} else {
+			ensureCapacity(length);
+			System.arraycopy(bytes, offset, _buffer, _pos, length);
+			_pos += length;
+		}
+	}
+
+	/**
+	 * Makes sure that at least the given number of bytes can be appended to {@link #_buffer}.
+	 */
+	private void ensureCapacity(int size) throws IOException {
+		if (_pos + size <= _buffer.length) {
+			return;
+		}
+		if (_out != null && _openFrames == 0) {
+			flushBuffer();
+			if (size <= _buffer.length) {
+				return;
+			}
+		}
+		byte[] newBuffer = new byte[Math.max(2 * _buffer.length, _pos + size)];
+		System.arraycopy(_buffer, 0, newBuffer, 0, _pos);
+		_buffer = newBuffer;
+	}
+
+	private void writeTag(FieldTag tag) throws IOException {
+		writeVarInt(encodeId(tag));
 	}
 
 	private int encodeId(FieldTag tag) {
@@ -303,15 +696,19 @@ public class OctetDataWriter implements DataWriter {
 		private final State _state;
 		private final int _length;
 		private DataType _content;
+		private final int _start;
 
 		/** 
 		 * Creates a {@link SFrame}.
-		 * @param dataType 
+		 * 
+		 * @param start
+		 *        The buffer position of the length prefix of a framed object, or {@link OctetDataWriter#NO_FRAME}.
 		 */
-		public SFrame(State state, int length, DataType dataType) {
+		public SFrame(State state, int length, DataType dataType, int start) {
 			_state = state;
 			_length = length;
 			_content = dataType;
+			_start = start;
 		}
 
 		public State getState() {
@@ -325,5 +722,9 @@ public class OctetDataWriter implements DataWriter {
 		public DataType getContent() {
 			return _content;
 		}
+		
+		public int getStart() {
+			return _start;
+		}
 	}
 }
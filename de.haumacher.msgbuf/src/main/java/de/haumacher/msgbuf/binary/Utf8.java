@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+/**
+ * UTF-8 encoding and decoding of strings without intermediate allocations.
+ * 
+ * <p>
+ * Unpaired surrogate characters are encoded as <code>'?'</code>, malformed input is decoded to the replacement
+ * character <code>U+FFFD</code>.
+ * </p>
+ */
+public class Utf8 {
+
+	private static final char REPLACEMENT = '�';
+
+	/**
+	 * The number of bytes required to encode the given string in UTF-8.
+	 */
+	public static int encodedLength(String value) {
+		int length = value.length();
+		int result = length;
+		for (int n = 0; n < length; n++) {
+			char ch = value.charAt(n);
+			if (ch >= 0x80) {
+				if (ch < 0x800) {
+					result += 1;
+				} else if (Character.isHighSurrogate(ch) && n + 1 < length && Character.isLowSurrogate(value.charAt(n + 1))) {
+					// Four bytes for two characters.
+					result += 2;
+					n++;
+				} else if (isSurrogate(ch)) {
+					// Encoded as '?'.
+				} else {
+					result += 2;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Encodes the given string into the given buffer.
+	 * 
+	 * <p>
+	 * The buffer must have room for at least {@link #encodedLength(String)} bytes starting at the given offset.
+	 * </p>
+	 * 
+	 * @return The offset in the buffer after the encoded string.
+	 */
+	public static int encode(String value, byte[] buffer, int offset) {
+		int length = value.length();
+		int pos = offset;
+		int n = 0;
+
+		// ASCII fast path.
+		for (; n < length; n++) {
+			char ch = value.charAt(n);
+			if (ch >= 0x80) {
+				break;
+			}
+			buffer[pos++] = (byte) ch;
+		}
+
+		for (; n < length; n++) {
+			char ch = value.charAt(n);
+			if (ch < 0x80) {
+				buffer[pos++] = (byte) ch;
+			} else if (ch < 0x800) {
+				buffer[pos++] = (byte) (0xC0 | (ch >>> 6));
+				buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+			} else if (isSurrogate(ch)) {
+				if (Character.isHighSurrogate(ch) && n + 1 < length && Character.isLowSurrogate(value.charAt(n + 1))) {
+					int codePoint = Character.toCodePoint(ch, value.charAt(++n));
+					buffer[pos++] = (byte) (0xF0 | (codePoint >>> 18));
+					buffer[pos++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+					buffer[pos++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+					buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+				} else {
+					buffer[pos++] = (byte) '?';
+				}
+			} else {
+				buffer[pos++] = (byte) (0xE0 | (ch >>> 12));
+				buffer[pos++] = (byte) (0x80 | ((ch >>> 6) & 0x3F));
+				buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * Decodes the given range of UTF-8 encoded bytes.
+	 */
+	public static String decode(byte[] buffer, int offset, int length) {
+		return decode(buffer, offset, length, new char[length]);
+	}
+
+	/**
+	 * Decodes the given range of UTF-8 encoded bytes using the given buffer for temporary storage.
+	 * 
+	 * @param chars
+	 *        A buffer of at least the given length.
+	 */
+	public static String decode(byte[] buffer, int offset, int length, char[] chars) {
+		int end = offset + length;
+		int pos = offset;
+		int cnt = 0;
+		
+		// ASCII fast path.
+		while (pos < end) {
+			byte b = buffer[pos];
+			if (b < 0) {
+				break;
+			}
+			chars[cnt++] = (char) b;
+			pos++;
+		}
+		
+		while (pos < end) {
+			int b1 = buffer[pos++];
+			if (b1 >= 0) {
+				chars[cnt++] = (char) b1;
+			} else if ((b1 & 0xE0) == 0xC0) {
+				int b2;
+				if (pos < end && isContinuation(b2 = buffer[pos]) && (b1 & 0x1E) != 0) {
+					pos++;
+					chars[cnt++] = (char) (((b1 & 0x1F) << 6) | (b2 & 0x3F));
+				} else {
+					chars[cnt++] = REPLACEMENT;
+				}
+			} else if ((b1 & 0xF0) == 0xE0) {
+				int b2, b3;
+				if (pos + 1 < end && isContinuation(b2 = buffer[pos]) && isContinuation(b3 = buffer[pos + 1])) {
+					char ch = (char) (((b1 & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F));
+					if (ch < 0x800 || isSurrogate(ch)) {
+						chars[cnt++] = REPLACEMENT;
+					} else {
+						chars[cnt++] = ch;
+					}
+					pos += 2;
+				} else {
+					chars[cnt++] = REPLACEMENT;
+					pos = skipContinuation(buffer, pos, end, 2);
+				}
+			} else if ((b1 & 0xF8) == 0xF0) {
+				int b2, b3, b4;
+				if (pos + 2 < end && isContinuation(b2 = buffer[pos]) && isContinuation(b3 = buffer[pos + 1])
+					&& isContinuation(b4 = buffer[pos + 2])) {
+					int codePoint = ((b1 & 0x07) << 18) | ((b2 & 0x3F) << 12) | ((b3 & 0x3F) << 6) | (b4 & 0x3F);
+					if (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT) {
+						chars[cnt++] = REPLACEMENT;
+					} else {
+						chars[cnt++] = (char) (0xD800 | ((codePoint - 0x10000) >>> 10));
+						chars[cnt++] = (char) (0xDC00 | (codePoint & 0x3FF));
+					}
+					pos += 3;
+				} else {
+					chars[cnt++] = REPLACEMENT;
+					pos = skipContinuation(buffer, pos, end, 3);
+				}
+			} else {
+				chars[cnt++] = REPLACEMENT;
+			}
+		}
+		return new String(chars, 0, cnt);
+	}
+
+	private static boolean isSurrogate(char ch) {
+		return ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE;
+	}
+
+	private static boolean isContinuation(int b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+	private static int skipContinuation(byte[] buffer, int pos, int end, int max) {
+		for (int n = 0; n < max && pos < end && isContinuation(buffer[pos]); n++) {
+			pos++;
+		}
+		return pos;
+	}
+
+}
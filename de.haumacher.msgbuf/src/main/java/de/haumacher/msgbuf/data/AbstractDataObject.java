@@ -6,6 +6,9 @@ package de.haumacher.msgbuf.data;
 import java.io.IOException;
 
 import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.json.JsonNames;
+import de.haumacher.msgbuf.json.JsonPool;
+import de.haumacher.msgbuf.json.JsonProjection;
 import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
 
@@ -47,11 +50,73 @@ public abstract class AbstractDataObject implements DataObject {
 	 *        The reader to take the input from.
 	 */
 	protected final void readFields(JsonReader in) throws IOException {
+		JsonNames names = jsonNames();
+		JsonProjection projection = in.getProjection();
+		if (projection != null && !projection.isAll()) {
+			readProjection(in, names, projection);
+		} else if (names == null) {
+			while (in.hasNext()) {
+				String field = in.nextName();
+				readField(in, field);
+			}
+		} else {
+			while (in.hasNext()) {
+				int field = in.nextName(names);
+				if (field == JsonNames.UNKNOWN) {
+					readField(in, in.getUnknownName());
+				} else {
+					readField(in, field);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Reads the properties selected by the given projection, skips all others.
+	 *
+	 * <p>
+	 * The projection selects properties by their canonical name, even if the input uses another name for the same
+	 * property (e.g. its compact form), see {@link JsonNames#canonicalName(int)}.
+	 * </p>
+	 */
+	private void readProjection(JsonReader in, JsonNames names, JsonProjection projection) throws IOException {
 		while (in.hasNext()) {
-			String field = in.nextName();
-			readField(in, field);
+			int id;
+			String field;
+			if (names == null) {
+				id = JsonNames.UNKNOWN;
+				field = in.nextName();
+			} else {
+				id = in.nextName(names);
+				field = id == JsonNames.UNKNOWN ? in.getUnknownName() : names.canonicalName(id);
+			}
+			JsonProjection nested = projection.get(field);
+			if (nested == null) {
+				in.skipValue();
+			} else {
+				in.setProjection(nested);
+				if (id == JsonNames.UNKNOWN) {
+					readField(in, field);
+				} else {
+					readField(in, id);
+				}
+				in.setProjection(projection);
+			}
 		}
 	}
+
+	/**
+	 * The table of JSON property names of this type.
+	 * 
+	 * <p>
+	 * If a table is provided, fields are read by their ID using {@link #readField(JsonReader, int)}. Properties not
+	 * contained in the table (e.g. properties handled by a hand-written subclass) and all properties of a type without
+	 * table are read by their name using {@link #readField(JsonReader, String)}.
+	 * </p>
+	 */
+	protected JsonNames jsonNames() {
+		return null;
+	}
 	
 	/**
 	 * Reads the given field from the given input.
@@ -64,14 +129,32 @@ public abstract class AbstractDataObject implements DataObject {
 	protected void readField(JsonReader in, String field) throws IOException {
 		in.skipValue();
 	}
+	
+	/**
+	 * Reads the field with the given ID from the given input.
+	 * 
+	 * @param in
+	 *        The reader to take the value from.
+	 * @param field
+	 *        The ID of the field whose value should be read, {@link JsonNames#UNKNOWN} for a property not contained
+	 *        in {@link #jsonNames()}.
+	 */
+	protected void readField(JsonReader in, int field) throws IOException {
+		in.skipValue();
+	}
 
 	@Override
 	public String toString() {
 		StringW out = new StringW();
+		JsonPool pool = JsonPool.getDefault();
+		JsonWriter json = pool.writer(out);
+		json.setReadable(true);
 		try {
-			writeTo(new JsonWriter(out));
+			writeTo(json);
 		} catch (IOException ex) {
 			throw new RuntimeException(ex);
+		} finally {
+			pool.release(json);
 		}
 		return out.toString();
 	}
@@ -4,7 +4,10 @@
 package de.haumacher.msgbuf.data;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
+import de.haumacher.msgbuf.io.Utf8W;
+import de.haumacher.msgbuf.json.JsonPool;
 import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
 
@@ -50,4 +53,51 @@ public interface DataObject {
 	 */
 	void readContent(JsonReader in) throws IOException;
 
+	/**
+	 * Serializes this instance to UTF-8 encoded JSON in one shot.
+	 * 
+	 * <p>
+	 * The characters are encoded directly into the resulting byte buffer without building an intermediate string.
+	 * </p>
+	 * 
+	 * @see #writeTo(JsonWriter)
+	 */
+	default byte[] toJsonBytes() {
+		Utf8W buffer = new Utf8W();
+		try {
+			writeJson(buffer);
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * Serializes this instance as UTF-8 encoded JSON to the given stream.
+	 * 
+	 * <p>
+	 * The output is flushed to the stream in chunks. The stream is flushed but not closed.
+	 * </p>
+	 * 
+	 * @see #writeTo(JsonWriter)
+	 */
+	default void writeJson(OutputStream out) throws IOException {
+		Utf8W buffer = new Utf8W(out);
+		writeJson(buffer);
+		buffer.flush();
+	}
+
+	/**
+	 * Writes this instance to the given output using a {@link JsonWriter} from the default {@link JsonPool}.
+	 */
+	private void writeJson(Utf8W out) throws IOException {
+		JsonPool pool = JsonPool.getDefault();
+		JsonWriter json = pool.writer(out);
+		try {
+			writeTo(json);
+		} finally {
+			pool.release(json);
+		}
+	}
+
 }
@@ -5,8 +5,12 @@ package de.haumacher.msgbuf.graph;
 
 import java.io.IOException;
 
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.DataWriter;
 import de.haumacher.msgbuf.data.AbstractDataObject;
 import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.json.JsonNames;
+import de.haumacher.msgbuf.json.JsonPool;
 import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
 
@@ -44,6 +48,15 @@ public abstract class AbstractSharedGraphNode implements SharedGraphNode {
 		_id = id;
 	}
 
+	/**
+	 * Removes the assigned ID after this node has been deleted from its {@link Scope}.
+	 * 
+	 * @see #initId(int)
+	 */
+	protected void clearId() {
+		_id = 0;
+	}
+
 	@Override
 	public SharedGraphNode registerListener(de.haumacher.msgbuf.observer.Listener l) {
 		_listener = de.haumacher.msgbuf.observer.Listener.register(_listener, l);
@@ -92,14 +105,59 @@ public abstract class AbstractSharedGraphNode implements SharedGraphNode {
 	
 	@Override
 	public final void readFields(Scope scope, JsonReader in) throws IOException {
-		while (in.hasNext()) {
-			String field = in.nextName();
-			readField(scope, in, field);
+		JsonNames names = jsonNames();
+		if (names == null) {
+			while (in.hasNext()) {
+				String field = in.nextName();
+				readField(scope, in, field);
+			}
+		} else {
+			while (in.hasNext()) {
+				int field = in.nextName(names);
+				if (field == JsonNames.UNKNOWN) {
+					readField(scope, in, in.getUnknownName());
+				} else {
+					readField(scope, in, field);
+				}
+			}
 		}
 	}
 
+	/**
+	 * The table of JSON property names of this type.
+	 * 
+	 * <p>
+	 * If a table is provided, fields are read by their ID using {@link #readField(Scope, JsonReader, int)}. Properties
+	 * not contained in the table are read by their name using {@link #readField(Scope, JsonReader, String)}.
+	 * </p>
+	 */
+	protected JsonNames jsonNames() {
+		return null;
+	}
+
 	@Override
 	public void readField(Scope scope, JsonReader in, String field) throws IOException {
+		JsonNames names = jsonNames();
+		if (names == null) {
+			// Unknown, skip.
+			in.skipValue();
+		} else {
+			readField(scope, in, names.id(field));
+		}
+	}
+
+	/**
+	 * Reads the field with the given ID from the given input.
+	 * 
+	 * @param scope
+	 *        The shared graph {@link Scope} that handles object references.
+	 * @param in
+	 *        The reader to take the value from.
+	 * @param field
+	 *        The ID of the field whose value should be read, {@link JsonNames#UNKNOWN} for a property not contained
+	 *        in {@link #jsonNames()}.
+	 */
+	protected void readField(Scope scope, JsonReader in, int field) throws IOException {
 		// Unknown, skip.
 		in.skipValue();
 	}
@@ -123,13 +181,113 @@ public abstract class AbstractSharedGraphNode implements SharedGraphNode {
 		out.nullValue();
 	}
 
+	@Override
+	public final void writeTo(Scope scope, DataWriter out) throws IOException {
+		scope.writeRefOrData(out, this);
+	}
+
+	@Override
+	public final void writeData(Scope scope, DataWriter out, int id) throws IOException {
+		out.beginObject();
+		{
+			out.name(BINARY_TYPE);
+			out.value(jsonType());
+			out.name(BINARY_ID);
+			out.value(id);
+			out.name(BINARY_DATA);
+			out.beginObject();
+			{
+				writeFields(scope, out);
+			}
+			out.endObject();
+		}
+		out.endObject();
+	}
+
+	/**
+	 * Writes all fields of this instance to the given binary output.
+	 * 
+	 * @param scope
+	 *        The shared graph {@link Scope}.
+	 * @param out
+	 *        The binary output to write to.
+	 * @throws IOException
+	 *         If writing fails.
+	 */
+	protected void writeFields(Scope scope, DataWriter out) throws IOException {
+		// No fields.
+	}
+
+	@Override
+	public final void readFields(Scope scope, DataReader in) throws IOException {
+		while (in.hasNext()) {
+			int field = in.nextName();
+			readField(scope, in, field);
+		}
+	}
+
+	@Override
+	public void readField(Scope scope, DataReader in, String field) throws IOException {
+		JsonNames names = jsonNames();
+		if (names == null) {
+			// Unknown, skip.
+			in.skipValue();
+		} else {
+			readField(scope, in, names.id(field));
+		}
+	}
+
+	/**
+	 * Reads the field with the given ID from the given binary input.
+	 * 
+	 * @param scope
+	 *        The shared graph {@link Scope} that handles object references.
+	 * @param in
+	 *        The binary input to take the value from.
+	 * @param field
+	 *        The ID of the field whose value should be read, {@link JsonNames#UNKNOWN} for an unknown property.
+	 */
+	protected void readField(Scope scope, DataReader in, int field) throws IOException {
+		// Unknown, skip.
+		in.skipValue();
+	}
+
+	@Override
+	public void writeFieldValue(Scope scope, DataWriter out, String field) throws IOException {
+		throw noBinaryFormat(field);
+	}
+
+	@Override
+	public void writeElement(Scope scope, DataWriter out, String field, Object element) throws IOException {
+		throw noBinaryFormat(field);
+	}
+
+	@Override
+	public Object readElement(Scope scope, DataReader in, String field) throws IOException {
+		throw noBinaryFormat(field);
+	}
+
+	/**
+	 * Signals that the given property cannot be transmitted in binary format, either because it is unknown, or because
+	 * the binary format was not generated for this type.
+	 */
+	private IllegalStateException noBinaryFormat(String field) {
+		return new IllegalStateException(
+			"Binary format not generated for property '" + field + "' of type '" + jsonType() + "'.");
+	}
+
 	@Override
 	public String toString() {
 		StringW out = new StringW();
+		JsonPool pool = JsonPool.getDefault();
+		JsonWriter json = pool.writer(out);
+		json.setReadable(true);
 		try {
-			writeTo(new DummyScope(), new JsonWriter(out));
+			writeTo(new DummyScope(), json);
 		} catch (IOException ex) {
 			throw new RuntimeException(ex);
+		} finally {
+			pool.release(json);
 		}
 		return out.toString();
 	}
@@ -4,16 +4,30 @@
 package de.haumacher.msgbuf.graph;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
+import de.haumacher.msgbuf.binary.BinaryDataObject;
+import de.haumacher.msgbuf.binary.BinaryUtil;
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.DataType;
+import de.haumacher.msgbuf.binary.DataWriter;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
 import de.haumacher.msgbuf.graph.cmd.Command;
+import de.haumacher.msgbuf.graph.cmd.DeleteNode;
 import de.haumacher.msgbuf.graph.cmd.InsertElement;
+import de.haumacher.msgbuf.graph.cmd.InsertElements;
 import de.haumacher.msgbuf.graph.cmd.ListUpdate;
 import de.haumacher.msgbuf.graph.cmd.RemoveElement;
 import de.haumacher.msgbuf.graph.cmd.SetProperty;
@@ -21,6 +35,7 @@ import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
 import de.haumacher.msgbuf.observer.Listener;
 import de.haumacher.msgbuf.observer.Observable;
+import de.haumacher.msgbuf.util.IntMap;
 
 /**
  * The default {@link Scope} of an {@link AbstractSharedGraphNode}.
@@ -31,19 +46,71 @@ import de.haumacher.msgbuf.observer.Observable;
  * network to another {@link DefaultScope} containing a corresponding instance of the node. There, the patch an be
  * {@link #applyChanges(JsonReader) applied} bringing both shared object graphs in sync.
  * </p>
+ * 
+ * <p>
+ * Alternatively, patches can be exchanged in binary format, see {@link #createPatch(DataWriter)} and
+ * {@link #applyChanges(DataReader)}.
+ * </p>
+ * 
+ * <p>
+ * To serve many receivers sharing the same graph, changes can be {@link #publish() published} as immutable
+ * {@link Patch} that is encoded only once and delivered to all {@link #subscribe(PatchSubscriber) subscribers}.
+ * Receivers joining later can catch up with {@link #patchesSince(long) retained} patches.
+ * </p>
+ * 
+ * <p>
+ * Nodes that are no longer reachable from the {@link #addRoot(SharedGraphNode) roots} of the graph are released with
+ * {@link #gc()}.
+ * </p>
  */
 public class DefaultScope implements Listener, ScopeMixin {
 
 	private static final Function<? super SharedGraphNode, ? extends Map<String, Command>> NEW_MAP = x -> new LinkedHashMap<>();
 
+	/**
+	 * Key of a {@link DeleteNode} command in the changes of a node. No property has an empty name.
+	 */
+	private static final String DELETE = "";
+
+	/**
+	 * Number of bytes of a binary patch entry in addition to its command and values: The {@link #PATCH_COMMAND} tag
+	 * and the end of the entry object.
+	 */
+	private static final int ENTRY_SIZE = 2;
+
+	/**
+	 * Number of bytes of a {@link #PATCH_VALUE} tag preceding each value of a binary patch entry.
+	 */
+	private static final int VALUE_TAG_SIZE = 1;
+
+	/**
+	 * Estimated number of bytes of a list element of a type without exact size estimate, e.g. a boolean or enum
+	 * value.
+	 */
+	private static final int DEFAULT_ELEMENT_SIZE = 1;
+
+	/**
+	 * Marker for an inserted element when compacting list updates.
+	 */
+	private static final int NEW = -1;
+
 	private Map<SharedGraphNode, Map<String, Command>> _changes = new LinkedHashMap<>();
 
-	private Map<Object, SharedGraphNode> _index = new HashMap<>();
+	/**
+	 * The last element of each chain of {@link ListUpdate}s in {@link #_changes} indexed by the first element.
+	 */
+	private final Map<ListUpdate, ListUpdate> _tails = new HashMap<>();
+
+	private final IntMap<SharedGraphNode> _index = new IntMap<>();
 
 	private final ChangeExtractor _extractor = new ChangeExtractor();
 
 	private final ChangeApplicator _applicator = new ChangeApplicator();
 
+	private final BinaryChangeExtractor _binaryExtractor = new BinaryChangeExtractor();
+
+	private final BinaryChangeApplicator _binaryApplicator = new BinaryChangeApplicator();
+
 	private int _nextId;
 
 	private int _totalParticipants;
@@ -53,6 +120,22 @@ public class DefaultScope implements Listener, ScopeMixin {
 	 */
 	private boolean _applying;
 
+	/**
+	 * The sequence number of the last {@link Patch} created.
+	 */
+	private long _sequence;
+
+	private final List<PatchSubscriber> _subscribers = new ArrayList<>();
+
+	/**
+	 * The maximum number of patches to retain for late subscribers.
+	 */
+	private int _retainedPatches;
+
+	private final ArrayDeque<Patch> _history = new ArrayDeque<>();
+
+	private final Set<SharedGraphNode> _roots = new HashSet<>();
+
 	/**
 	 * Creates a {@link DefaultScope}.
 	 * 
@@ -117,40 +200,221 @@ public class DefaultScope implements Listener, ScopeMixin {
 		putUpdate(changes, property, remove);
 	}
 
-	private static void putUpdate(Map<String, Command> changes, String property,
-			ListUpdate update) {
-		Command clash = changes.put(property, update);
-		if (clash != null) {
-			if (clash instanceof SetProperty) {
-				// Revert, complete value is updated.
-				changes.put(property, clash);
-			} else {
-				changes.put(property, append((ListUpdate) clash, update));
+	private void putUpdate(Map<String, Command> changes, String property, ListUpdate update) {
+		Command clash = changes.get(property);
+		if (clash == null) {
+			changes.put(property, update);
+			_tails.put(update, update);
+		} else if (clash instanceof ListUpdate) {
+			// Chains are compacted before creating a patch, see compactChanges().
+			_tails.put((ListUpdate) clash, update).setNext(update);
+		} else {
+			// Complete value is updated.
+		}
+	}
+
+	/**
+	 * Replaces each chain of {@link ListUpdate}s with an equivalent minimal chain, or with a {@link SetProperty}
+	 * command, if this is estimated to result in a smaller patch.
+	 */
+	private void compactChanges() {
+		for (Iterator<Map<String, Command>> objects = _changes.values().iterator(); objects.hasNext();) {
+			Map<String, Command> perObject = objects.next();
+			for (Iterator<Map.Entry<String, Command>> it = perObject.entrySet().iterator(); it.hasNext();) {
+				Map.Entry<String, Command> entry = it.next();
+				Command command = entry.getValue();
+				if (command instanceof ListUpdate) {
+					Command compacted = compact((ListUpdate) command);
+					if (compacted == null) {
+						it.remove();
+					} else {
+						entry.setValue(compacted);
+					}
+				}
+			}
+			if (perObject.isEmpty()) {
+				objects.remove();
 			}
 		}
+		_tails.clear();
 	}
 
-	private static Command append(final ListUpdate clash, ListUpdate update) {
-		ListUpdate current = clash;
-		ListUpdate next;
-		int cnt = 1;
-		while (true) {
-			next = current.getNext();
-			if (next == null) {
-				break;
+	/**
+	 * Computes the net effect of the given chain of updates.
+	 * 
+	 * <p>
+	 * The updates are simulated on a list of markers identifying the elements of the list before the updates. An
+	 * element that is inserted and removed again cancels out. The result removes all elements of the original list that
+	 * are missing afterwards and then inserts all new elements, merging adjacent insertions into a single
+	 * {@link InsertElements} command.
+	 * </p>
+	 * 
+	 * <p>
+	 * The decision between the compacted chain and a complete update is based on the size of both alternatives in a
+	 * binary patch, see {@link #createPatch(DataWriter)}. The sizes of the commands are computed exactly, the sizes of
+	 * the element values are estimated, see {@link #elementSize(Object)}.
+	 * </p>
+	 * 
+	 * @return The first command of the compacted chain, a {@link SetProperty} command, if a complete update is
+	 *         estimated to be smaller, or <code>null</code>, if the updates cancel out.
+	 */
+	private Command compact(ListUpdate head) {
+		List<Object> list = listValue(head, head.getNode());
+		int size = list.size();
+
+		int inserted = 0;
+		int removed = 0;
+		for (ListUpdate update = head; update != null; update = update.getNext()) {
+			if (update instanceof RemoveElement) {
+				removed++;
+			} else {
+				inserted += insertCount(update);
 			}
-			cnt++;
-			if (cnt > 10) {
-				// Too many changes, create complete update.
-				return SetProperty.create()
-						.setId(update.getId())
-						.setNode(update.getNode())
-						.setProperty(update.getProperty());
+		}
+		int originalSize = size - inserted + removed;
+		if (originalSize < 0) {
+			return completeUpdate(head);
+		}
+
+		int[] markers = new int[originalSize + inserted];
+		int length = originalSize;
+		for (int n = 0; n < originalSize; n++) {
+			markers[n] = n;
+		}
+		for (ListUpdate update = head; update != null; update = update.getNext()) {
+			int index = update.getIndex();
+			if (update instanceof RemoveElement) {
+				if (index < 0 || index >= length) {
+					return completeUpdate(head);
+				}
+				System.arraycopy(markers, index + 1, markers, index, length - index - 1);
+				length--;
+			} else {
+				if (index < 0 || index > length) {
+					return completeUpdate(head);
+				}
+				int cnt = insertCount(update);
+				System.arraycopy(markers, index, markers, index + cnt, length - index);
+				Arrays.fill(markers, index, index + cnt, NEW);
+				length += cnt;
 			}
-			current = next;
 		}
-		current.setNext(update);
-		return clash;
+
+		boolean[] kept = new boolean[originalSize];
+		for (int n = 0; n < length; n++) {
+			if (markers[n] != NEW) {
+				kept[markers[n]] = true;
+			}
+		}
+
+		ListUpdate first = null;
+		ListUpdate last = null;
+		long diffSize = 0;
+
+		// Remove from the end, so that all indices refer to the original list.
+		for (int index = originalSize - 1; index >= 0; index--) {
+			if (!kept[index]) {
+				ListUpdate remove = RemoveElement.create().setIndex(index);
+				if (first == null) {
+					first = remove;
+				} else {
+					last.setNext(remove);
+				}
+				last = remove;
+			}
+		}
+
+		// Insert in ascending order, so that all indices refer to the final list.
+		for (int n = 0; n < length;) {
+			if (markers[n] != NEW) {
+				n++;
+				continue;
+			}
+			int start = n++;
+			while (n < length && markers[n] == NEW) {
+				n++;
+			}
+			ListUpdate insert;
+			if (n - start == 1) {
+				insert = InsertElement.create().setElement(list.get(start)).setIndex(start);
+			} else {
+				insert = InsertElements.create().setElements(list.subList(start, n)).setIndex(start);
+			}
+			if (first == null) {
+				first = insert;
+			} else {
+				last.setNext(insert);
+			}
+			last = insert;
+			for (int k = start; k < n; k++) {
+				diffSize += VALUE_TAG_SIZE + elementSize(list.get(k));
+			}
+		}
+
+		if (first == null) {
+			return null;
+		}
+
+		for (ListUpdate update = first; update != null; update = update.getNext()) {
+			update.setNode(head.getNode()).setId(head.getId()).setProperty(head.getProperty());
+			diffSize += ENTRY_SIZE + update.binarySize();
+		}
+
+		SetProperty complete = completeUpdate(head);
+		long completeSize = ENTRY_SIZE + complete.binarySize() + VALUE_TAG_SIZE + BinaryUtil.sizeArray(size);
+		for (int n = 0; n < size; n++) {
+			if (completeSize > diffSize) {
+				return first;
+			}
+			completeSize += elementSize(list.get(n));
+		}
+		return completeSize <= diffSize ? complete : first;
+	}
+
+	/**
+	 * Estimated number of bytes of the given list element in a binary patch.
+	 * 
+	 * <p>
+	 * A reference to a shared node is written as object containing its ID. A node that is not yet known to the
+	 * receiver is written completely. Since such node is contained in both, a compacted chain of updates and a
+	 * complete update, it is also estimated by the size of a reference.
+	 * </p>
+	 */
+	private int elementSize(Object element) {
+		if (element instanceof SharedGraphNode) {
+			// Tag of the ID field, the ID, and the end of the object.
+			return 2 + BinaryUtil.sizeVarInt(id((SharedGraphNode) element));
+		}
+		if (element instanceof BinaryDataObject) {
+			return ((BinaryDataObject) element).binarySize();
+		}
+		if (element instanceof String) {
+			return BinaryUtil.sizeString((String) element);
+		}
+		if (element instanceof Integer) {
+			return BinaryUtil.sizeVarInt(((Integer) element).intValue());
+		}
+		if (element instanceof Long) {
+			return BinaryUtil.sizeVarLong(((Long) element).longValue());
+		}
+		if (element instanceof Float) {
+			return 4;
+		}
+		if (element instanceof Double) {
+			return 8;
+		}
+		return DEFAULT_ELEMENT_SIZE;
+	}
+
+	private static int insertCount(ListUpdate update) {
+		return update instanceof InsertElements ? ((InsertElements) update).getElements().size() : 1;
+	}
+
+	private static SetProperty completeUpdate(ListUpdate update) {
+		return SetProperty.create()
+			.setId(update.getId())
+			.setNode(update.getNode())
+			.setProperty(update.getProperty());
 	}
 	
 	/** 
@@ -165,6 +429,7 @@ public class DefaultScope implements Listener, ScopeMixin {
 	 */
 	public void dropChanges() {
 		_changes.clear();
+		_tails.clear();
 	}
 	
 	/**
@@ -174,6 +439,129 @@ public class DefaultScope implements Listener, ScopeMixin {
 		return Collections.unmodifiableSet(_changes.keySet());
 	}
 
+	/**
+	 * Adds the given node to the roots of the shared graph.
+	 * 
+	 * @see #gc()
+	 */
+	public void addRoot(SharedGraphNode node) {
+		_roots.add(node);
+	}
+
+	/**
+	 * Removes the given node from the roots of the shared graph.
+	 * 
+	 * @see #addRoot(SharedGraphNode)
+	 */
+	public void removeRoot(SharedGraphNode node) {
+		_roots.remove(node);
+	}
+
+	/**
+	 * The roots of the shared graph.
+	 * 
+	 * @see #addRoot(SharedGraphNode)
+	 */
+	public Set<SharedGraphNode> getRoots() {
+		return Collections.unmodifiableSet(_roots);
+	}
+
+	/**
+	 * Deletes all nodes that are no longer reachable from the {@link #getRoots() roots} of the shared graph.
+	 * 
+	 * <p>
+	 * Deleted nodes are removed from the index and are no longer observed. For each deleted node, a {@link DeleteNode}
+	 * command is recorded, so that the next patch deletes the node from the receiving scope as well. A deleted node
+	 * loses its ID. If it is attached to the graph again later on, it is transmitted as new node.
+	 * </p>
+	 * 
+	 * <p>
+	 * Only a single participant (e.g. the server) should delete nodes, and only after all changes of the other
+	 * participants have been applied. Otherwise, a node could be deleted while another participant attaches it to the
+	 * graph again.
+	 * </p>
+	 * 
+	 * @return The number of deleted nodes.
+	 * 
+	 * @throws IllegalStateException
+	 *         If no roots are defined.
+	 */
+	public int gc() {
+		if (_roots.isEmpty()) {
+			throw new IllegalStateException("No roots defined.");
+		}
+		Set<SharedGraphNode> reachable = reachable();
+		int deleted = 0;
+		for (int id : _index.keys()) {
+			SharedGraphNode node = _index.get(id);
+			if (!reachable.contains(node)) {
+				delete(id, node);
+				changes(node).put(DELETE, DeleteNode.create().setNode(node).setId(id));
+				deleted++;
+			}
+		}
+		return deleted;
+	}
+
+	/**
+	 * All nodes reachable from the roots through non-transient properties.
+	 */
+	private Set<SharedGraphNode> reachable() {
+		Set<SharedGraphNode> result = new HashSet<>();
+		ArrayDeque<Object> stack = new ArrayDeque<>(_roots);
+		while (!stack.isEmpty()) {
+			Object value = stack.removeLast();
+			if (value instanceof SharedGraphNode) {
+				SharedGraphNode node = (SharedGraphNode) value;
+				if (result.add(node)) {
+					Set<String> transientProperties = node.transientProperties();
+					for (String property : node.properties()) {
+						if (!transientProperties.contains(property)) {
+							push(stack, node.get(property));
+						}
+					}
+				}
+			} else if (value instanceof Collection<?>) {
+				for (Object element : (Collection<?>) value) {
+					push(stack, element);
+				}
+			} else if (value instanceof Map<?, ?>) {
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					push(stack, entry.getKey());
+					push(stack, entry.getValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void push(ArrayDeque<Object> stack, Object value) {
+		if (value instanceof SharedGraphNode || value instanceof Collection<?> || value instanceof Map<?, ?>) {
+			stack.addLast(value);
+		}
+	}
+
+	/**
+	 * Removes the given node from this scope without recording a change.
+	 */
+	private void delete(int id, SharedGraphNode node) {
+		_index.remove(id);
+		_changes.remove(node);
+		node.unregisterListener(this);
+		((AbstractSharedGraphNode) node).clearId();
+	}
+
+	/**
+	 * Applies a {@link DeleteNode} command received from another participant.
+	 */
+	private void applyDelete(DeleteNode command) {
+		int id = command.getId();
+		SharedGraphNode node = lookup(id);
+		if (node != null) {
+			delete(id, node);
+		}
+	}
+
 	/**
 	 * Exports recorded changes to the given {@link JsonWriter}.
 	 * 
@@ -191,6 +579,8 @@ public class DefaultScope implements Listener, ScopeMixin {
 	 * @see #hasChanges()
 	 */
 	public void createPatch(JsonWriter json) throws IOException {
+		compactChanges();
+
 		json.beginArray();
 		foreachCommand(command -> {
 
@@ -232,6 +622,351 @@ public class DefaultScope implements Listener, ScopeMixin {
 		}
 	}
 	
+	/**
+	 * Exports recorded changes in binary format to the given {@link DataWriter}.
+	 * 
+	 * <p>
+	 * The recored changes are reset when this method completes.
+	 * </p>
+	 * 
+	 * <p>
+	 * The patch is an object with an array in field {@link #PATCH_COMMANDS} containing an entry object for each
+	 * command. An entry contains the command in field {@link #PATCH_COMMAND} and the optional argument of the command
+	 * in field {@link #PATCH_VALUE}. A {@link SetProperty} command without argument sets the property to
+	 * <code>null</code>. An {@link InsertElements} command has a {@link #PATCH_VALUE} field for each inserted element.
+	 * </p>
+	 * 
+	 * @see #applyChanges(DataReader)
+	 * @see #hasChanges()
+	 */
+	public void createPatch(DataWriter out) throws IOException {
+		compactChanges();
+
+		int[] count = { 0 };
+		foreachCommand(command -> count[0]++);
+
+		out.beginObject();
+		out.name(PATCH_COMMANDS);
+		out.beginArray(DataType.OBJECT, count[0]);
+		foreachCommand(command -> {
+
+			out.beginObject();
+			out.name(PATCH_COMMAND);
+			command.writeTo(out);
+			command.visit(_binaryExtractor, out);
+			out.endObject();
+
+		});
+		out.endArray();
+		out.endObject();
+
+		dropChanges();
+	}
+
+	/**
+	 * Applies changes read from the given {@link DataReader}.
+	 * 
+	 * <p>
+	 * It is expected that the patch has the format as in {@link #createPatch(DataWriter)}.
+	 * </p>
+	 * 
+	 * @see #createPatch(DataWriter)
+	 */
+	public void applyChanges(DataReader in) throws IOException {
+		boolean before = _applying;
+		_applying = true;
+		try {
+			in.beginObject();
+			while (in.hasNext()) {
+				if (in.nextName() == PATCH_COMMANDS) {
+					in.beginArray();
+					while (in.hasNext()) {
+						applyEntry(in);
+					}
+					in.endArray();
+				} else {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+		} finally {
+			_applying = before;
+		}
+	}
+
+	/**
+	 * Exports recorded changes to an immutable {@link Patch}.
+	 * 
+	 * <p>
+	 * The recored changes are reset when this method completes. The patch is assigned the next sequence number and is
+	 * {@link #setRetainedPatches(int) retained} for late subscribers, but is not delivered to subscribers.
+	 * </p>
+	 * 
+	 * @see #publish()
+	 * @see #applyChanges(Patch)
+	 */
+	public Patch createPatch() {
+		OctetDataWriter out = new OctetDataWriter();
+		try {
+			createPatch(out);
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		Patch result = new Patch(++_sequence, out.toByteArray());
+		retain(result);
+		return result;
+	}
+
+	/**
+	 * Creates a {@link Patch} from recorded changes and delivers it to all subscribers.
+	 * 
+	 * @return The published patch, or <code>null</code>, if there were no changes.
+	 * 
+	 * @see #subscribe(PatchSubscriber)
+	 */
+	public Patch publish() {
+		if (!hasChanges()) {
+			return null;
+		}
+		Patch result = createPatch();
+		for (PatchSubscriber subscriber : _subscribers.toArray(new PatchSubscriber[_subscribers.size()])) {
+			subscriber.deliver(result);
+		}
+		return result;
+	}
+
+	/**
+	 * Applies the given {@link Patch}.
+	 * 
+	 * @see #createPatch()
+	 */
+	public void applyChanges(Patch patch) throws IOException {
+		applyChanges(patch.reader());
+	}
+
+	/**
+	 * Registers the given subscriber for all patches {@link #publish() published} afterwards.
+	 */
+	public void subscribe(PatchSubscriber subscriber) {
+		_subscribers.add(subscriber);
+	}
+
+	/**
+	 * Registers the given subscriber that has seen all patches up to the given sequence number.
+	 * 
+	 * <p>
+	 * All retained patches after the given sequence number are delivered before this method returns.
+	 * </p>
+	 * 
+	 * @return Whether the subscriber is up to date. If <code>false</code>, required patches are no longer retained,
+	 *         the subscriber is not registered and must be initialized with the complete graph data.
+	 * 
+	 * @see #patchesSince(long)
+	 */
+	public boolean subscribe(PatchSubscriber subscriber, long sequence) {
+		List<Patch> missing = patchesSince(sequence);
+		if (missing == null) {
+			return false;
+		}
+		for (Patch patch : missing) {
+			subscriber.deliver(patch);
+		}
+		subscribe(subscriber);
+		return true;
+	}
+
+	/**
+	 * Removes the given subscriber.
+	 */
+	public void unsubscribe(PatchSubscriber subscriber) {
+		_subscribers.remove(subscriber);
+	}
+
+	/**
+	 * The sequence number of the last created {@link Patch}, <code>0</code> if none has been created yet.
+	 * 
+	 * <p>
+	 * A receiver initialized with the complete graph data should remember this number to catch up with later
+	 * patches, see {@link #subscribe(PatchSubscriber, long)}.
+	 * </p>
+	 */
+	public long getSequence() {
+		return _sequence;
+	}
+
+	/**
+	 * The maximum number of recent patches that are retained for late subscribers.
+	 */
+	public int getRetainedPatches() {
+		return _retainedPatches;
+	}
+
+	/**
+	 * @see #getRetainedPatches()
+	 */
+	public void setRetainedPatches(int retainedPatches) {
+		_retainedPatches = retainedPatches;
+		trimHistory();
+	}
+
+	/**
+	 * All retained patches with sequence numbers greater than the given one.
+	 * 
+	 * @return The patches in sequence order, or <code>null</code>, if some of them are no longer retained.
+	 */
+	public List<Patch> patchesSince(long sequence) {
+		if (sequence >= _sequence) {
+			return Collections.emptyList();
+		}
+		if (_history.isEmpty() || _history.getFirst().getSequence() > sequence + 1) {
+			return null;
+		}
+		List<Patch> result = new ArrayList<>();
+		for (Patch patch : _history) {
+			if (patch.getSequence() > sequence) {
+				result.add(patch);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the complete data of the graph reachable from the given node to the given binary output.
+	 * 
+	 * <p>
+	 * In contrast to {@link SharedGraphNode#writeTo(Scope, DataWriter)}, the data of nodes that are already known to
+	 * this scope is written as well (using their existing IDs). This allows to initialize an additional receiver of
+	 * the shared graph that continues with the patches created after {@link #getSequence()}.
+	 * </p>
+	 * 
+	 * @throws IllegalStateException
+	 *         If there are recorded changes that have not yet been exported.
+	 * 
+	 * @see #subscribe(PatchSubscriber, long)
+	 */
+	public void writeSnapshot(DataWriter out, SharedGraphNode node) throws IOException {
+		checkNoChanges();
+		node.writeTo(new SnapshotScope(), out);
+	}
+
+	/**
+	 * Writes the complete data of the graph reachable from the given node to the given JSON output.
+	 * 
+	 * @see #writeSnapshot(DataWriter, SharedGraphNode)
+	 */
+	public void writeSnapshot(JsonWriter out, SharedGraphNode node) throws IOException {
+		checkNoChanges();
+		node.writeTo(new SnapshotScope(), out);
+	}
+
+	private void checkNoChanges() {
+		if (hasChanges()) {
+			throw new IllegalStateException("Changes must be exported before writing a snapshot.");
+		}
+	}
+
+	/**
+	 * {@link Scope} writing the data of each node once, even if the node is already known to this scope.
+	 */
+	private final class SnapshotScope implements Scope {
+
+		private final Set<SharedGraphNode> _written = new HashSet<>();
+
+		@Override
+		public SharedGraphNode resolveOrFail(int id) {
+			return DefaultScope.this.resolveOrFail(id);
+		}
+
+		@Override
+		public void writeRefOrData(JsonWriter out, SharedGraphNode node) throws IOException {
+			if (_written.add(node)) {
+				node.writeData(this, out, snapshotId(node));
+			} else {
+				out.value(id(node));
+			}
+		}
+
+		@Override
+		public void writeRefOrData(DataWriter out, SharedGraphNode node) throws IOException {
+			if (_written.add(node)) {
+				node.writeData(this, out, snapshotId(node));
+			} else {
+				out.beginObject();
+				out.name(SharedGraphNode.BINARY_ID);
+				out.value(id(node));
+				out.endObject();
+			}
+		}
+
+		private int snapshotId(SharedGraphNode node) {
+			int id = id(node);
+			if (id == 0) {
+				id = newId();
+				enter(node, id);
+			}
+			return id;
+		}
+
+		@Override
+		public void readData(SharedGraphNode node, int id, JsonReader in) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void readData(SharedGraphNode node, int id, DataReader in) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	private void retain(Patch patch) {
+		_history.addLast(patch);
+		trimHistory();
+	}
+
+	private void trimHistory() {
+		while (_history.size() > _retainedPatches) {
+			_history.removeFirst();
+		}
+	}
+
+	private void applyEntry(DataReader in) throws IOException {
+		in.beginObject();
+		Command command = null;
+		boolean hasValue = false;
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case PATCH_COMMAND:
+					command = Command.readCommand(in);
+					break;
+				case PATCH_VALUE:
+					if (command == null) {
+						throw new IOException("Malformed patch entry, value without preceding command.");
+					}
+					// Note: An InsertElements command has a value for each inserted element.
+					command.visit(_binaryApplicator, in);
+					hasValue = true;
+					break;
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		if (command == null) {
+			throw new IOException("Malformed patch entry, command missing.");
+		}
+		if (!hasValue) {
+			if (command instanceof SetProperty) {
+				// No value given.
+				resolveOrFail(command.getId()).set(command.getProperty(), null);
+			} else if (command instanceof RemoveElement || command instanceof DeleteNode) {
+				// Commands without value.
+				command.visit(_binaryApplicator, in);
+			}
+		}
+		in.endObject();
+	}
+
 	@Override
 	public void enter(SharedGraphNode node, int id) {
 		ScopeMixin.super.enter(node, id);
@@ -250,6 +985,17 @@ public class DefaultScope implements Listener, ScopeMixin {
 		}
 	}
 
+	@Override
+	public void readData(SharedGraphNode node, int id, DataReader in) throws IOException {
+		boolean before = _applying;
+		_applying = true;
+		try {
+			ScopeMixin.super.readData(node, id, in);
+		} finally {
+			_applying = before;
+		}
+	}
+
 	final class ChangeExtractor implements Command.Visitor<Void, JsonWriter, IOException> {
 		@Override
 		public Void visit(SetProperty self, JsonWriter arg) throws IOException {
@@ -267,11 +1013,24 @@ public class DefaultScope implements Listener, ScopeMixin {
 			return null;
 		}
 
+		@Override
+		public Void visit(InsertElements self, JsonWriter arg) throws IOException {
+			for (Object element : self.getElements()) {
+				self.getNode().writeElement(DefaultScope.this, arg, self.getProperty(), element);
+			}
+			return null;
+		}
+
 		@Override
 		public Void visit(RemoveElement self, JsonWriter arg)
 				throws IOException {
 			return null;
 		}
+
+		@Override
+		public Void visit(DeleteNode self, JsonWriter arg) throws IOException {
+			return null;
+		}
 	}
 
 	final class ChangeApplicator implements Command.Visitor<Void, JsonReader, IOException> {
@@ -293,6 +1052,17 @@ public class DefaultScope implements Listener, ScopeMixin {
 			return null;
 		}
 
+		@Override
+		public Void visit(InsertElements self, JsonReader arg) throws IOException {
+			SharedGraphNode target = resolveTarget(self);
+			List<Object> value = listValue(self, target);
+			int index = self.getIndex();
+			while (arg.hasNext()) {
+				value.add(index++, target.readElement(DefaultScope.this, arg, self.getProperty()));
+			}
+			return null;
+		}
+
 		@Override
 		public Void visit(RemoveElement self, JsonReader arg)
 				throws IOException {
@@ -302,17 +1072,126 @@ public class DefaultScope implements Listener, ScopeMixin {
 			return null;
 		}
 
+		@Override
+		public Void visit(DeleteNode self, JsonReader arg) throws IOException {
+			applyDelete(self);
+			return null;
+		}
+
 		private SharedGraphNode resolveTarget(Command self) {
 			return resolveOrFail(self.getId());
 		}
+	}
+
+	/**
+	 * Field of a binary patch containing the array of entries.
+	 * 
+	 * @see #createPatch(DataWriter)
+	 */
+	public static final int PATCH_COMMANDS = 1;
+
+	/**
+	 * Field of a binary patch entry containing the {@link Command}.
+	 * 
+	 * @see #createPatch(DataWriter)
+	 */
+	public static final int PATCH_COMMAND = 1;
+
+	/**
+	 * Field of a binary patch entry containing the argument of the command.
+	 * 
+	 * @see #createPatch(DataWriter)
+	 */
+	public static final int PATCH_VALUE = 2;
+
+	final class BinaryChangeExtractor implements Command.Visitor<Void, DataWriter, IOException> {
+		@Override
+		public Void visit(SetProperty self, DataWriter arg) throws IOException {
+			String property = self.getProperty();
+			SharedGraphNode node = self.getNode();
+			if (node.get(property) != null) {
+				arg.name(PATCH_VALUE);
+				node.writeFieldValue(DefaultScope.this, arg, property);
+			}
+			return null;
+		}
+
+		@Override
+		public Void visit(InsertElement self, DataWriter arg) throws IOException {
+			arg.name(PATCH_VALUE);
+			self.getNode().writeElement(DefaultScope.this, arg, self.getProperty(), self.getElement());
+			return null;
+		}
 
-		private List<Object> listValue(ListUpdate self, SharedGraphNode node) {
-			@SuppressWarnings("unchecked")
-			List<Object> value = (List<Object>) node.get(self.getProperty());
-			return value;
+		@Override
+		public Void visit(InsertElements self, DataWriter arg) throws IOException {
+			for (Object element : self.getElements()) {
+				arg.name(PATCH_VALUE);
+				self.getNode().writeElement(DefaultScope.this, arg, self.getProperty(), element);
+			}
+			return null;
+		}
+
+		@Override
+		public Void visit(RemoveElement self, DataWriter arg) throws IOException {
+			return null;
+		}
+
+		@Override
+		public Void visit(DeleteNode self, DataWriter arg) throws IOException {
+			return null;
 		}
 	}
 
+	final class BinaryChangeApplicator implements Command.Visitor<Void, DataReader, IOException> {
+		@Override
+		public Void visit(SetProperty self, DataReader arg) throws IOException {
+			SharedGraphNode target = resolveOrFail(self.getId());
+			target.readField(DefaultScope.this, arg, self.getProperty());
+			return null;
+		}
+
+		@Override
+		public Void visit(InsertElement self, DataReader arg) throws IOException {
+			SharedGraphNode target = resolveOrFail(self.getId());
+			Object element = target.readElement(DefaultScope.this, arg, self.getProperty());
+			listValue(self, target).add(self.getIndex(), element);
+			return null;
+		}
+
+		/**
+		 * Inserts a single element and advances the insert position for the next value of the same entry.
+		 */
+		@Override
+		public Void visit(InsertElements self, DataReader arg) throws IOException {
+			SharedGraphNode target = resolveOrFail(self.getId());
+			Object element = target.readElement(DefaultScope.this, arg, self.getProperty());
+			int index = self.getIndex();
+			listValue(self, target).add(index, element);
+			self.setIndex(index + 1);
+			return null;
+		}
+
+		@Override
+		public Void visit(RemoveElement self, DataReader arg) throws IOException {
+			SharedGraphNode target = resolveOrFail(self.getId());
+			listValue(self, target).remove(self.getIndex());
+			return null;
+		}
+
+		@Override
+		public Void visit(DeleteNode self, DataReader arg) throws IOException {
+			applyDelete(self);
+			return null;
+		}
+	}
+
+	static List<Object> listValue(ListUpdate self, SharedGraphNode node) {
+		@SuppressWarnings("unchecked")
+		List<Object> value = (List<Object>) node.get(self.getProperty());
+		return value;
+	}
+
 	interface Transmission {
 		void process(Command command) throws IOException;
 	}
@@ -368,9 +1247,25 @@ public class DefaultScope implements Listener, ScopeMixin {
 		return result;
 	}
 
+	@Override
+	public SharedGraphNode lookup(int id) {
+		return _index.get(id);
+	}
+
+	@Override
+	public SharedGraphNode register(int id, SharedGraphNode node) {
+		return _index.put(id, node);
+	}
+
+	/**
+	 * A {@link Map} view of the index.
+	 *
+	 * @deprecated Use {@link #lookup(int)} and {@link #register(int, SharedGraphNode)}.
+	 */
+	@Deprecated
 	@Override
 	public Map<Object, SharedGraphNode> index() {
-		return _index;
+		return _index.asMap();
 	}
 
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.graph;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import de.haumacher.msgbuf.binary.ByteArrayDataReader;
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.DataWriter;
+
+/**
+ * Immutable, serialized set of changes to a shared graph.
+ *
+ * <p>
+ * A {@link Patch} is created by {@link DefaultScope#createPatch()} in the binary format of
+ * {@link DefaultScope#createPatch(DataWriter)}. It is encoded once and can be written to an arbitrary number of
+ * receivers. Patches of the same scope are numbered consecutively by their {@link #getSequence() sequence number}.
+ * </p>
+ */
+public final class Patch {
+
+	private final long _sequence;
+
+	private final byte[] _data;
+
+	/**
+	 * Cache of derived encodings indexed by the encoding function.
+	 */
+	private Map<Object, Object> _derived;
+
+	/**
+	 * Creates a {@link Patch}.
+	 *
+	 * @param sequence
+	 *        See {@link #getSequence()}.
+	 * @param data
+	 *        The binary encoded patch, must not be modified afterwards.
+	 */
+	Patch(long sequence, byte[] data) {
+		_sequence = sequence;
+		_data = data;
+	}
+
+	/**
+	 * The number of this patch in the sequence of patches created by its scope, starting with <code>1</code>.
+	 */
+	public long getSequence() {
+		return _sequence;
+	}
+
+	/**
+	 * The number of bytes of the encoded patch.
+	 */
+	public int size() {
+		return _data.length;
+	}
+
+	/**
+	 * A copy of the encoded patch.
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(_data, _data.length);
+	}
+
+	/**
+	 * Writes the encoded patch to the given stream.
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(_data);
+	}
+
+	/**
+	 * A new reader for the encoded patch.
+	 *
+	 * @see DefaultScope#applyChanges(DataReader)
+	 */
+	public DataReader reader() {
+		return new ByteArrayDataReader(_data);
+	}
+
+	/**
+	 * Computes a derived encoding of this patch, e.g. a compressed form, only once.
+	 *
+	 * <p>
+	 * The first call with a certain encoding function computes the result, all further calls with the same function
+	 * return the cached result. This allows each receiver to request the encoding it requires without computing it
+	 * multiple times.
+	 * </p>
+	 *
+	 * @param encoding
+	 *        The function computing the encoding. It is used as cache key and should therefore be a constant.
+	 * @return The result of the given function applied to this patch.
+	 */
+	public synchronized <T> T derive(Function<? super Patch, ? extends T> encoding) {
+		if (_derived == null) {
+			_derived = new HashMap<>();
+		}
+		@SuppressWarnings("unchecked")
+		T result = (T) _derived.get(encoding);
+		if (result == null) {
+			result = encoding.apply(this);
+			_derived.put(encoding, result);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "Patch(" + _sequence + ", " + _data.length + " bytes)";
+	}
+
+}
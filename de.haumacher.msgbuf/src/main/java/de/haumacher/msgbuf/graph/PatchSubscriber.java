@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.graph;
+
+/**
+ * Receiver of the {@link Patch}es published by a {@link DefaultScope}.
+ *
+ * @see DefaultScope#subscribe(PatchSubscriber)
+ */
+public interface PatchSubscriber {
+
+	/**
+	 * Delivers a patch.
+	 *
+	 * <p>
+	 * The same {@link Patch} instance is delivered to all subscribers of a scope. Patches are delivered in the order of
+	 * their {@link Patch#getSequence() sequence numbers}.
+	 * </p>
+	 */
+	void deliver(Patch patch);
+
+}
@@ -5,6 +5,8 @@ package de.haumacher.msgbuf.graph;
 
 import java.io.IOException;
 
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.DataWriter;
 import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
 
@@ -50,4 +52,38 @@ public interface Scope {
 	 */
 	void readData(SharedGraphNode node, int id, JsonReader in) throws IOException;
 
+	/**
+	 * Writes the given graph node to the given binary output.
+	 * 
+	 * <p>
+	 * If the node has already an ID in this scope, only a reference containing the ID is transmitted. Otherwise, a
+	 * fresh ID is assigned and the full data of the node is transmitted by calling back to
+	 * {@link SharedGraphNode#writeData(Scope, DataWriter, int)}.
+	 * </p>
+	 * 
+	 * <p>
+	 * Only required for graphs exchanged in binary format, the default implementation throws an
+	 * {@link UnsupportedOperationException}.
+	 * </p>
+	 * 
+	 * @see SharedGraphNode#BINARY_TYPE
+	 */
+	default void writeRefOrData(DataWriter out, SharedGraphNode node) throws IOException {
+		throw new UnsupportedOperationException("Binary format not supported by " + getClass().getName() + ".");
+	}
+
+	/**
+	 * Reads object data of the given node from the given binary input and assigns the given ID to this node.
+	 * 
+	 * <p>
+	 * Only required for graphs exchanged in binary format, the default implementation throws an
+	 * {@link UnsupportedOperationException}.
+	 * </p>
+	 * 
+	 * @see #readData(SharedGraphNode, int, JsonReader)
+	 */
+	default void readData(SharedGraphNode node, int id, DataReader in) throws IOException {
+		throw new UnsupportedOperationException("Binary format not supported by " + getClass().getName() + ".");
+	}
+
 }
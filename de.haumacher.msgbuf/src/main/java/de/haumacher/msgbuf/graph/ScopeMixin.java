@@ -6,6 +6,8 @@ package de.haumacher.msgbuf.graph;
 import java.io.IOException;
 import java.util.Map;
 
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.DataWriter;
 import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
 
@@ -18,7 +20,7 @@ public interface ScopeMixin extends Scope {
 
 	@Override
 	default SharedGraphNode resolveOrFail(int id) {
-		SharedGraphNode result = index().get(id);
+		SharedGraphNode result = lookup(id);
 		if (result == null) {
 			throw new IllegalArgumentException("No object with ID '" + id + "'.");
 		}
@@ -30,7 +32,7 @@ public interface ScopeMixin extends Scope {
 	 */
 	default void enter(SharedGraphNode node, int id) {
 		initId(node, id);
-		SharedGraphNode clash = index().put(id, node);
+		SharedGraphNode clash = register(id, node);
 		assert clash == null : "Clash of ID " + id + ": " + clash + " vs. " + node;
 	}
 	
@@ -54,6 +56,29 @@ public interface ScopeMixin extends Scope {
 		}
 	}
 	
+	@Override
+	default void readData(SharedGraphNode node, int id, DataReader in) throws IOException {
+		enter(node, id);
+		in.beginObject();
+		node.readFields(this, in);
+		in.endObject();
+	}
+
+	@Override
+	default void writeRefOrData(DataWriter out, SharedGraphNode node) throws IOException {
+		int id = id(node);
+		if (id == 0) {
+			id = newId();
+			enter(node, id);
+			node.writeData(this, out, id);
+		} else {
+			out.beginObject();
+			out.name(SharedGraphNode.BINARY_ID);
+			out.value(id);
+			out.endObject();
+		}
+	}
+
 	/** 
 	 * Looks up the ID of the given node in this {@link Scope}.
 	 * 
@@ -73,9 +98,35 @@ public interface ScopeMixin extends Scope {
 	 */
 	int newId();
 	
+	/**
+	 * Looks up the node with the given ID.
+	 *
+	 * @return The node with the given ID, or <code>null</code>, if there is no such node.
+	 */
+	default SharedGraphNode lookup(int id) {
+		return index().get(id);
+	}
+
+	/**
+	 * Adds the given node with the given ID to the index.
+	 *
+	 * @return The node previously registered with the given ID, or <code>null</code>, if there was none.
+	 */
+	default SharedGraphNode register(int id, SharedGraphNode node) {
+		return index().put(id, node);
+	}
+
 	/**
 	 * The index implementation associating object with IDs.
+	 *
+	 * <p>
+	 * Only used by the default implementations of {@link #lookup(int)} and {@link #register(int, SharedGraphNode)}.
+	 * </p>
+	 *
+	 * @deprecated Override {@link #lookup(int)} and {@link #register(int, SharedGraphNode)} with an index that does not
+	 *             box IDs, e.g. an {@link de.haumacher.msgbuf.util.IntMap}.
 	 */
+	@Deprecated
 	Map<Object, SharedGraphNode> index();
 
 }
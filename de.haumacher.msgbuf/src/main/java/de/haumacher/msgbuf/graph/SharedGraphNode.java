@@ -5,6 +5,8 @@ package de.haumacher.msgbuf.graph;
 
 import java.io.IOException;
 
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.DataWriter;
 import de.haumacher.msgbuf.json.JsonReader;
 import de.haumacher.msgbuf.json.JsonWriter;
 import de.haumacher.msgbuf.observer.Observable;
@@ -20,6 +22,34 @@ import de.haumacher.msgbuf.observer.Observable;
  */
 public interface SharedGraphNode extends Observable {
 
+	/**
+	 * Field in the binary encoding of a node that contains the node type.
+	 * 
+	 * <p>
+	 * In binary format, a node is encoded as object. If the node is transmitted for the first time, the object contains
+	 * the node type in field {@link #BINARY_TYPE}, the node ID in field {@link #BINARY_ID}, and the node data in field
+	 * {@link #BINARY_DATA}. A reference to a node that is already known to the receiver is encoded as object with only
+	 * the {@link #BINARY_ID} field.
+	 * </p>
+	 * 
+	 * @see #writeData(Scope, DataWriter, int)
+	 */
+	int BINARY_TYPE = 0;
+
+	/**
+	 * Field in the binary encoding of a node that contains the node ID.
+	 * 
+	 * @see #BINARY_TYPE
+	 */
+	int BINARY_ID = 1;
+
+	/**
+	 * Field in the binary encoding of a node that contains the node data.
+	 * 
+	 * @see #BINARY_TYPE
+	 */
+	int BINARY_DATA = 2;
+
 	/**
 	 * Writes this node to the given writer.
 	 * 
@@ -115,4 +145,58 @@ public interface SharedGraphNode extends Observable {
 	 */
 	Object readElement(Scope scope, JsonReader in, String field) throws IOException;
 
+	/**
+	 * Writes this node to the given binary output.
+	 * 
+	 * @see #writeTo(Scope, JsonWriter)
+	 */
+	void writeTo(Scope scope, DataWriter out) throws IOException;
+
+	/**
+	 * Writes the complete data of this node including type and ID to the given binary output.
+	 * 
+	 * @see #writeData(Scope, JsonWriter, int)
+	 * @see #BINARY_TYPE
+	 */
+	void writeData(Scope scope, DataWriter out, int id) throws IOException;
+
+	/**
+	 * Reads all fields of this instance from the given binary input.
+	 * 
+	 * @see #readFields(Scope, JsonReader)
+	 */
+	void readFields(Scope scope, DataReader in) throws IOException;
+
+	/**
+	 * Writes the value that is currently assigned to the field with the given name to the given binary output.
+	 * 
+	 * <p>
+	 * Must only be called, if the field has a value.
+	 * </p>
+	 * 
+	 * @see #writeFieldValue(Scope, JsonWriter, String)
+	 */
+	void writeFieldValue(Scope scope, DataWriter out, String field) throws IOException;
+
+	/**
+	 * Reads the given field from the given binary input.
+	 * 
+	 * @see #readField(Scope, JsonReader, String)
+	 */
+	void readField(Scope scope, DataReader in, String field) throws IOException;
+
+	/**
+	 * Writes the given element value of the repeated field with the given name to the given binary output.
+	 * 
+	 * @see #writeElement(Scope, JsonWriter, String, Object)
+	 */
+	void writeElement(Scope scope, DataWriter out, String field, Object element) throws IOException;
+
+	/**
+	 * Reads an element of the repeated field with the given name from the given binary input.
+	 * 
+	 * @see #readElement(Scope, JsonReader, String)
+	 */
+	Object readElement(Scope scope, DataReader in, String field) throws IOException;
+
 }
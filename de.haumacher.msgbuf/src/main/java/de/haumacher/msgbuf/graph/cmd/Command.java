@@ -16,6 +16,12 @@ public abstract class Command extends de.haumacher.msgbuf.data.AbstractDataObjec
 
 		/** Type literal for {@link de.haumacher.msgbuf.graph.cmd.RemoveElement}. */
 		REMOVE_ELEMENT,
+
+		/** Type literal for {@link de.haumacher.msgbuf.graph.cmd.InsertElements}. */
+		INSERT_ELEMENTS,
+
+		/** Type literal for {@link de.haumacher.msgbuf.graph.cmd.DeleteNode}. */
+		DELETE_NODE,
 		;
 
 	}
@@ -26,6 +32,9 @@ public abstract class Command extends de.haumacher.msgbuf.data.AbstractDataObjec
 		/** Visit case for {@link de.haumacher.msgbuf.graph.cmd.SetProperty}.*/
 		R visit(de.haumacher.msgbuf.graph.cmd.SetProperty self, A arg) throws E;
 
+		/** Visit case for {@link de.haumacher.msgbuf.graph.cmd.DeleteNode}.*/
+		R visit(de.haumacher.msgbuf.graph.cmd.DeleteNode self, A arg) throws E;
+
 	}
 
 	/** @see #getId() */
@@ -133,8 +142,10 @@ public abstract class Command extends de.haumacher.msgbuf.data.AbstractDataObjec
 		String type = in.nextString();
 		switch (type) {
 			case SetProperty.SET_PROPERTY__TYPE: result = de.haumacher.msgbuf.graph.cmd.SetProperty.readSetProperty(in); break;
+			case DeleteNode.DELETE_NODE__TYPE: result = de.haumacher.msgbuf.graph.cmd.DeleteNode.readDeleteNode(in); break;
 			case InsertElement.INSERT_ELEMENT__TYPE: result = de.haumacher.msgbuf.graph.cmd.InsertElement.readInsertElement(in); break;
 			case RemoveElement.REMOVE_ELEMENT__TYPE: result = de.haumacher.msgbuf.graph.cmd.RemoveElement.readRemoveElement(in); break;
+			case InsertElements.INSERT_ELEMENTS__TYPE: result = de.haumacher.msgbuf.graph.cmd.InsertElements.readInsertElements(in); break;
 			default: in.skipValue(); result = null; break;
 		}
 		in.endArray();
@@ -149,20 +160,36 @@ public abstract class Command extends de.haumacher.msgbuf.data.AbstractDataObjec
 		out.endArray();
 	}
 
+	/** Pre-encoded JSON name of {@link #ID__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName ID__NAME = de.haumacher.msgbuf.json.JsonName.of(ID__PROP);
+
+	/** Pre-encoded JSON name of {@link #PROPERTY__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName PROPERTY__NAME = de.haumacher.msgbuf.json.JsonName.of(PROPERTY__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(ID__PROP);
+		out.name(ID__NAME);
 		out.value(getId());
-		out.name(PROPERTY__PROP);
+		out.name(PROPERTY__NAME);
 		out.value(getProperty());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "p"},
+		new int[] {1, 2});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case ID__PROP: setId(in.nextInt()); break;
-			case PROPERTY__PROP: setProperty(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
+			case ID__ID: setId(in.nextInt()); break;
+			case PROPERTY__ID: setProperty(de.haumacher.msgbuf.json.JsonUtil.nextStringOptional(in)); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -193,6 +220,24 @@ public abstract class Command extends de.haumacher.msgbuf.data.AbstractDataObjec
 		out.value(getProperty());
 	}
 
+	@Override
+	public final int binarySize() {
+		// Type ID, fields, and end of object.
+		return 1 + de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(typeId()) + binaryFieldsSize() + 1;
+	}
+
+	/**
+	 * The number of bytes written by {@link #writeFields(de.haumacher.msgbuf.binary.DataWriter)}.
+	 */
+	protected int binaryFieldsSize() {
+		int result = 0;
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getId());
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeString(getProperty());
+		return result;
+	}
+
 	/** Reads a new instance from the given reader. */
 	public static de.haumacher.msgbuf.graph.cmd.Command readCommand(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		in.beginObject();
@@ -202,8 +247,10 @@ public abstract class Command extends de.haumacher.msgbuf.data.AbstractDataObjec
 		de.haumacher.msgbuf.graph.cmd.Command result;
 		switch (type) {
 			case de.haumacher.msgbuf.graph.cmd.SetProperty.SET_PROPERTY__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.SetProperty.readSetProperty_Content(in); break;
+			case de.haumacher.msgbuf.graph.cmd.DeleteNode.DELETE_NODE__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.DeleteNode.readDeleteNode_Content(in); break;
 			case de.haumacher.msgbuf.graph.cmd.InsertElement.INSERT_ELEMENT__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.InsertElement.readInsertElement_Content(in); break;
 			case de.haumacher.msgbuf.graph.cmd.RemoveElement.REMOVE_ELEMENT__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.RemoveElement.readRemoveElement_Content(in); break;
+			case de.haumacher.msgbuf.graph.cmd.InsertElements.INSERT_ELEMENTS__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.InsertElements.readInsertElements_Content(in); break;
 			default: result = null; while (in.hasNext()) {in.skipValue(); }
 		}
 		in.endObject();
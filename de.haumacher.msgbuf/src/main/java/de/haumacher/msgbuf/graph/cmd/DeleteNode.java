@@ -0,0 +1,94 @@
+package de.haumacher.msgbuf.graph.cmd;
+
+/**
+ * The deletion of an object that is no longer reachable from the roots of the shared graph.
+ *
+ * <p>
+ * The {@link #getProperty()} is not used.
+ * </p>
+ */
+public class DeleteNode extends Command {
+
+	/**
+	 * Creates a {@link de.haumacher.msgbuf.graph.cmd.DeleteNode} instance.
+	 */
+	public static de.haumacher.msgbuf.graph.cmd.DeleteNode create() {
+		return new de.haumacher.msgbuf.graph.cmd.DeleteNode();
+	}
+
+	/** Identifier for the {@link de.haumacher.msgbuf.graph.cmd.DeleteNode} type in JSON format. */
+	public static final String DELETE_NODE__TYPE = "D";
+
+	/** Identifier for the {@link de.haumacher.msgbuf.graph.cmd.DeleteNode} type in binary format. */
+	static final int DELETE_NODE__TYPE_ID = 5;
+
+	/**
+	 * Creates a {@link DeleteNode} instance.
+	 *
+	 * @see de.haumacher.msgbuf.graph.cmd.DeleteNode#create()
+	 */
+	protected DeleteNode() {
+		super();
+	}
+
+	@Override
+	public TypeKind kind() {
+		return TypeKind.DELETE_NODE;
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.DeleteNode setId(int value) {
+		internalSetId(value);
+		return this;
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.DeleteNode setProperty(String value) {
+		internalSetProperty(value);
+		return this;
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.DeleteNode setNode(de.haumacher.msgbuf.graph.SharedGraphNode value) {
+		internalSetNode(value);
+		return this;
+	}
+
+	@Override
+	public String jsonType() {
+		return DELETE_NODE__TYPE;
+	}
+
+	/** Reads a new instance from the given reader. */
+	public static de.haumacher.msgbuf.graph.cmd.DeleteNode readDeleteNode(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		de.haumacher.msgbuf.graph.cmd.DeleteNode result = new de.haumacher.msgbuf.graph.cmd.DeleteNode();
+		result.readContent(in);
+		return result;
+	}
+
+	/** The binary identifier for this concrete type in the polymorphic {@link de.haumacher.msgbuf.graph.cmd.DeleteNode} hierarchy. */
+	public int typeId() {
+		return DELETE_NODE__TYPE_ID;
+	}
+
+	/** Reads a new instance from the given reader. */
+	public static de.haumacher.msgbuf.graph.cmd.DeleteNode readDeleteNode(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		de.haumacher.msgbuf.graph.cmd.DeleteNode result = de.haumacher.msgbuf.graph.cmd.DeleteNode.readDeleteNode_Content(in);
+		in.endObject();
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link de.haumacher.msgbuf.graph.cmd.DeleteNode} from a polymorphic composition. */
+	public static de.haumacher.msgbuf.graph.cmd.DeleteNode readDeleteNode_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		de.haumacher.msgbuf.graph.cmd.DeleteNode result = new DeleteNode();
+		result.readContent(in);
+		return result;
+	}
+
+	@Override
+	public <R,A,E extends Throwable> R visit(de.haumacher.msgbuf.graph.cmd.Command.Visitor<R,A,E> v, A arg) throws E {
+		return v.visit(this, arg);
+	}
+
+}
@@ -108,8 +108,18 @@ public class InsertElement extends ListUpdate {
 		super.writeFields(out);
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "p", "i"},
+		new int[] {1, 2, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
 			default: super.readField(in, field);
 		}
@@ -125,6 +135,12 @@ public class InsertElement extends ListUpdate {
 		super.writeFields(out);
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		return result;
+	}
+
 	/** Reads a new instance from the given reader. */
 	public static de.haumacher.msgbuf.graph.cmd.InsertElement readInsertElement(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		in.beginObject();
@@ -0,0 +1,186 @@
+package de.haumacher.msgbuf.graph.cmd;
+
+/**
+ * An insert operation of multiple consecutive elements to a list value.
+ */
+public class InsertElements extends ListUpdate {
+
+	/**
+	 * Creates a {@link de.haumacher.msgbuf.graph.cmd.InsertElements} instance.
+	 */
+	public static de.haumacher.msgbuf.graph.cmd.InsertElements create() {
+		return new de.haumacher.msgbuf.graph.cmd.InsertElements();
+	}
+
+	/** Identifier for the {@link de.haumacher.msgbuf.graph.cmd.InsertElements} type in JSON format. */
+	public static final String INSERT_ELEMENTS__TYPE = "M";
+
+	/** Identifier for the {@link de.haumacher.msgbuf.graph.cmd.InsertElements} type in binary format. */
+	static final int INSERT_ELEMENTS__TYPE_ID = 4;
+
+	private transient final java.util.List<java.lang.Object> _elements = new java.util.ArrayList<>();
+
+	/**
+	 * Creates a {@link InsertElements} instance.
+	 *
+	 * @see de.haumacher.msgbuf.graph.cmd.InsertElements#create()
+	 */
+	protected InsertElements() {
+		super();
+	}
+
+	@Override
+	public TypeKind kind() {
+		return TypeKind.INSERT_ELEMENTS;
+	}
+
+	/**
+	 * Cache for the actual values that were inserted starting at the given {@link #getIndex()}.
+	 */
+	public final java.util.List<java.lang.Object> getElements() {
+		return _elements;
+	}
+
+	/**
+	 * @see #getElements()
+	 */
+	public de.haumacher.msgbuf.graph.cmd.InsertElements setElements(java.util.List<? extends java.lang.Object> value) {
+		internalSetElements(value);
+		return this;
+	}
+
+	/** Internal setter for {@link #getElements()} without chain call utility. */
+	protected final void internalSetElements(java.util.List<? extends java.lang.Object> value) {
+		if (value == null) throw new IllegalArgumentException("Property 'elements' cannot be null.");
+		_elements.clear();
+		_elements.addAll(value);
+	}
+
+	/**
+	 * Adds a value to the {@link #getElements()} list.
+	 */
+	public de.haumacher.msgbuf.graph.cmd.InsertElements addElement(java.lang.Object value) {
+		internalAddElement(value);
+		return this;
+	}
+
+	/** Implementation of {@link #addElement(java.lang.Object)} without chain call utility. */
+	protected final void internalAddElement(java.lang.Object value) {
+		_elements.add(value);
+	}
+
+	/**
+	 * Removes a value from the {@link #getElements()} list.
+	 */
+	public final void removeElement(java.lang.Object value) {
+		_elements.remove(value);
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.InsertElements setIndex(int value) {
+		internalSetIndex(value);
+		return this;
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.InsertElements setNext(de.haumacher.msgbuf.graph.cmd.ListUpdate value) {
+		internalSetNext(value);
+		return this;
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.InsertElements setId(int value) {
+		internalSetId(value);
+		return this;
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.InsertElements setProperty(String value) {
+		internalSetProperty(value);
+		return this;
+	}
+
+	@Override
+	public de.haumacher.msgbuf.graph.cmd.InsertElements setNode(de.haumacher.msgbuf.graph.SharedGraphNode value) {
+		internalSetNode(value);
+		return this;
+	}
+
+	@Override
+	public String jsonType() {
+		return INSERT_ELEMENTS__TYPE;
+	}
+
+	/** Reads a new instance from the given reader. */
+	public static de.haumacher.msgbuf.graph.cmd.InsertElements readInsertElements(de.haumacher.msgbuf.json.JsonReader in) throws java.io.IOException {
+		de.haumacher.msgbuf.graph.cmd.InsertElements result = new de.haumacher.msgbuf.graph.cmd.InsertElements();
+		result.readContent(in);
+		return result;
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
+		super.writeFields(out);
+	}
+
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "p", "i"},
+		new int[] {1, 2, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
+		switch (field) {
+			default: super.readField(in, field);
+		}
+	}
+
+	/** The binary identifier for this concrete type in the polymorphic {@link de.haumacher.msgbuf.graph.cmd.InsertElements} hierarchy. */
+	public int typeId() {
+		return INSERT_ELEMENTS__TYPE_ID;
+	}
+
+	@Override
+	protected void writeFields(de.haumacher.msgbuf.binary.DataWriter out) throws java.io.IOException {
+		super.writeFields(out);
+	}
+
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		return result;
+	}
+
+	/** Reads a new instance from the given reader. */
+	public static de.haumacher.msgbuf.graph.cmd.InsertElements readInsertElements(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		in.beginObject();
+		de.haumacher.msgbuf.graph.cmd.InsertElements result = de.haumacher.msgbuf.graph.cmd.InsertElements.readInsertElements_Content(in);
+		in.endObject();
+		return result;
+	}
+
+	/** Helper for creating an object of type {@link de.haumacher.msgbuf.graph.cmd.InsertElements} from a polymorphic composition. */
+	public static de.haumacher.msgbuf.graph.cmd.InsertElements readInsertElements_Content(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
+		de.haumacher.msgbuf.graph.cmd.InsertElements result = new InsertElements();
+		result.readContent(in);
+		return result;
+	}
+
+	@Override
+	protected void readField(de.haumacher.msgbuf.binary.DataReader in, int field) throws java.io.IOException {
+		switch (field) {
+			default: super.readField(in, field);
+		}
+	}
+
+	@Override
+	public <R,A,E extends Throwable> R visit(de.haumacher.msgbuf.graph.cmd.ListUpdate.Visitor<R,A,E> v, A arg) throws E {
+		return v.visit(this, arg);
+	}
+
+}
@@ -14,6 +14,9 @@ public abstract class ListUpdate extends Command {
 		/** Visit case for {@link de.haumacher.msgbuf.graph.cmd.RemoveElement}.*/
 		R visit(de.haumacher.msgbuf.graph.cmd.RemoveElement self, A arg) throws E;
 
+		/** Visit case for {@link de.haumacher.msgbuf.graph.cmd.InsertElements}.*/
+		R visit(de.haumacher.msgbuf.graph.cmd.InsertElements self, A arg) throws E;
+
 	}
 
 	/** @see #getIndex() */
@@ -106,23 +109,37 @@ public abstract class ListUpdate extends Command {
 		switch (type) {
 			case InsertElement.INSERT_ELEMENT__TYPE: result = de.haumacher.msgbuf.graph.cmd.InsertElement.readInsertElement(in); break;
 			case RemoveElement.REMOVE_ELEMENT__TYPE: result = de.haumacher.msgbuf.graph.cmd.RemoveElement.readRemoveElement(in); break;
+			case InsertElements.INSERT_ELEMENTS__TYPE: result = de.haumacher.msgbuf.graph.cmd.InsertElements.readInsertElements(in); break;
 			default: in.skipValue(); result = null; break;
 		}
 		in.endArray();
 		return result;
 	}
 
+	/** Pre-encoded JSON name of {@link #INDEX__PROP}. */
+	private static final de.haumacher.msgbuf.json.JsonName INDEX__NAME = de.haumacher.msgbuf.json.JsonName.of(INDEX__PROP);
+
 	@Override
 	protected void writeFields(de.haumacher.msgbuf.json.JsonWriter out) throws java.io.IOException {
 		super.writeFields(out);
-		out.name(INDEX__PROP);
+		out.name(INDEX__NAME);
 		out.value(getIndex());
 	}
 
+	/** Table of all JSON property names of this type including inherited properties. */
+	private static final de.haumacher.msgbuf.json.JsonNames JSON_NAMES = de.haumacher.msgbuf.json.JsonNames.of(
+		new String[] {"id", "p", "i"},
+		new int[] {1, 2, 4});
+
+	@Override
+	protected de.haumacher.msgbuf.json.JsonNames jsonNames() {
+		return JSON_NAMES;
+	}
+
 	@Override
-	protected void readField(de.haumacher.msgbuf.json.JsonReader in, String field) throws java.io.IOException {
+	protected void readField(de.haumacher.msgbuf.json.JsonReader in, int field) throws java.io.IOException {
 		switch (field) {
-			case INDEX__PROP: setIndex(in.nextInt()); break;
+			case INDEX__ID: setIndex(in.nextInt()); break;
 			default: super.readField(in, field);
 		}
 	}
@@ -134,6 +151,14 @@ public abstract class ListUpdate extends Command {
 		out.value(getIndex());
 	}
 
+	@Override
+	protected int binaryFieldsSize() {
+		int result = super.binaryFieldsSize();
+		result += 1;
+		result += de.haumacher.msgbuf.binary.BinaryUtil.sizeVarInt(getIndex());
+		return result;
+	}
+
 	/** Reads a new instance from the given reader. */
 	public static de.haumacher.msgbuf.graph.cmd.ListUpdate readListUpdate(de.haumacher.msgbuf.binary.DataReader in) throws java.io.IOException {
 		in.beginObject();
@@ -144,6 +169,7 @@ public abstract class ListUpdate extends Command {
 		switch (type) {
 			case de.haumacher.msgbuf.graph.cmd.InsertElement.INSERT_ELEMENT__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.InsertElement.readInsertElement_Content(in); break;
 			case de.haumacher.msgbuf.graph.cmd.RemoveElement.REMOVE_ELEMENT__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.RemoveElement.readRemoveElement_Content(in); break;
+			case de.haumacher.msgbuf.graph.cmd.InsertElements.INSERT_ELEMENTS__TYPE_ID: result = de.haumacher.msgbuf.graph.cmd.InsertElements.readInsertElements_Content(in); break;
 			default: result = null; while (in.hasNext()) {in.skipValue(); }
 		}
 		in.endObject();
@@ -27,6 +27,11 @@ public class StringW implements Writer {
 		_buffer.append(str, start, start + length);
 	}
 
+	@Override
+	public void write(char[] buffer, int start, int length) {
+		_buffer.append(buffer, start, length);
+	}
+
 	@Override
 	public void flush() {
 		// Ignore.
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link Reader} that decodes UTF-8 encoded bytes from a byte array or stream.
+ *
+ * <p>
+ * In contrast to an {@link java.io.InputStreamReader}, no charset decoder is involved. Runs of ASCII characters are
+ * copied with a plain loop. Malformed input is decoded to the replacement character <code>U+FFFD</code> like in
+ * {@link de.haumacher.msgbuf.binary.Utf8#decode(byte[], int, int)}.
+ * </p>
+ *
+ * <p>
+ * A {@link Utf8R} can be reused for another input, see {@link #reset(byte[], int, int)} and
+ * {@link #reset(InputStream)}.
+ * </p>
+ *
+ * @see Utf8W
+ */
+public class Utf8R implements Reader {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final char REPLACEMENT = '\uFFFD';
+
+	/**
+	 * The stream to refill the buffer from, or <code>null</code>, if the buffer contains the complete input.
+	 */
+	private InputStream _in;
+
+	private byte[] _buffer;
+
+	/**
+	 * The buffer for reading from an {@link InputStream}, kept for reuse after {@link #reset(byte[], int, int)}.
+	 */
+	private byte[] _streamBuffer;
+
+	private int _pos;
+
+	private int _limit;
+
+	/**
+	 * The low surrogate of a supplementary character that did not fit into the last read, <code>0</code> if none.
+	 */
+	private char _pending;
+
+	/**
+	 * Creates a {@link Utf8R} decoding the given bytes.
+	 *
+	 * <p>
+	 * The given array is not modified and must not be modified while reading.
+	 * </p>
+	 */
+	public Utf8R(byte[] input) {
+		this(input, 0, input.length);
+	}
+
+	/**
+	 * Creates a {@link Utf8R} decoding the given range of bytes.
+	 *
+	 * @see #Utf8R(byte[])
+	 */
+	public Utf8R(byte[] input, int offset, int length) {
+		reset(input, offset, length);
+	}
+
+	/**
+	 * Creates a {@link Utf8R} decoding the given stream.
+	 */
+	public Utf8R(InputStream in) {
+		reset(in);
+	}
+
+	/**
+	 * Prepares this reader for decoding the given range of bytes.
+	 *
+	 * <p>
+	 * A previous input stream is not closed.
+	 * </p>
+	 *
+	 * @see #Utf8R(byte[], int, int)
+	 */
+	public void reset(byte[] input, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > input.length) {
+			throw new IndexOutOfBoundsException("Range " + offset + "+" + length + " outside of " + input.length + ".");
+		}
+		_in = null;
+		_buffer = input;
+		_pos = offset;
+		_limit = offset + length;
+		_pending = 0;
+	}
+
+	/**
+	 * Prepares this reader for decoding the given stream.
+	 *
+	 * <p>
+	 * A previous input stream is not closed.
+	 * </p>
+	 *
+	 * @see #Utf8R(InputStream)
+	 */
+	public void reset(InputStream in) {
+		if (in == null) {
+			throw new NullPointerException("in == null");
+		}
+		if (_streamBuffer == null) {
+			_streamBuffer = new byte[DEFAULT_BUFFER_SIZE];
+		}
+		_in = in;
+		_buffer = _streamBuffer;
+		_pos = 0;
+		_limit = 0;
+		_pending = 0;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (_pending != 0) {
+			char result = _pending;
+			_pending = 0;
+			return result;
+		}
+		if (_pos == _limit && !fill(1)) {
+			return -1;
+		}
+		int b = _buffer[_pos];
+		if (b >= 0) {
+			_pos++;
+			return b;
+		}
+		char[] chars = new char[2];
+		decode(chars, 0, 1);
+		return chars[0];
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		int n = off;
+		int end = off + len;
+		if (_pending != 0) {
+			cbuf[n++] = _pending;
+			_pending = 0;
+		}
+		while (n < end) {
+			// Only block for more input, if nothing has been decoded yet.
+			if (_pos == _limit && (n > off || !fill(1))) {
+				break;
+			}
+
+			// ASCII fast path.
+			byte[] buffer = _buffer;
+			int pos = _pos;
+			int stop = Math.min(_limit, pos + end - n);
+			while (pos < stop) {
+				byte b = buffer[pos];
+				if (b < 0) {
+					break;
+				}
+				cbuf[n++] = (char) b;
+				pos++;
+			}
+			_pos = pos;
+
+			if (pos < stop) {
+				n = decode(cbuf, n, end);
+			}
+		}
+		return n == off ? -1 : n - off;
+	}
+
+	/**
+	 * Decodes the multi-byte sequence at the current position.
+	 *
+	 * @param cbuf
+	 *        The buffer to decode to.
+	 * @param n
+	 *        The position in the given buffer, there must be room for at least one character.
+	 * @param end
+	 *        The end of the given buffer. A low surrogate that does not fit is kept for the next read.
+	 * @return The position in the given buffer after the decoded character.
+	 */
+	private int decode(char[] cbuf, int n, int end) throws IOException {
+		int b1 = _buffer[_pos];
+		int length = (b1 & 0xE0) == 0xC0 ? 2 : (b1 & 0xF0) == 0xE0 ? 3 : (b1 & 0xF8) == 0xF0 ? 4 : 1;
+		if (_limit - _pos < length) {
+			// Incomplete sequences at the end of input are decoded as malformed.
+			fill(length);
+		}
+
+		byte[] buffer = _buffer;
+		int pos = _pos + 1;
+		int limit = _limit;
+		char ch;
+		switch (length) {
+			case 2: {
+				int b2;
+				if (pos < limit && isContinuation(b2 = buffer[pos]) && (b1 & 0x1E) != 0) {
+					pos++;
+					ch = (char) (((b1 & 0x1F) << 6) | (b2 & 0x3F));
+				} else {
+					ch = REPLACEMENT;
+				}
+				break;
+			}
+			case 3: {
+				int b2, b3;
+				if (pos + 1 < limit && isContinuation(b2 = buffer[pos]) && isContinuation(b3 = buffer[pos + 1])) {
+					ch = (char) (((b1 & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F));
+					if (ch < 0x800 || isSurrogate(ch)) {
+						ch = REPLACEMENT;
+					}
+					pos += 2;
+				} else {
+					ch = REPLACEMENT;
+					pos = skipContinuation(buffer, pos, limit, 2);
+				}
+				break;
+			}
+			case 4: {
+				int b2, b3, b4;
+				if (pos + 2 < limit && isContinuation(b2 = buffer[pos]) && isContinuation(b3 = buffer[pos + 1])
+					&& isContinuation(b4 = buffer[pos + 2])) {
+					int codePoint = ((b1 & 0x07) << 18) | ((b2 & 0x3F) << 12) | ((b3 & 0x3F) << 6) | (b4 & 0x3F);
+					pos += 3;
+					if (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT) {
+						ch = REPLACEMENT;
+					} else {
+						_pos = pos;
+						cbuf[n++] = (char) (0xD800 | ((codePoint - 0x10000) >>> 10));
+						char low = (char) (0xDC00 | (codePoint & 0x3FF));
+						if (n < end) {
+							cbuf[n++] = low;
+						} else {
+							_pending = low;
+						}
+						return n;
+					}
+				} else {
+					ch = REPLACEMENT;
+					pos = skipContinuation(buffer, pos, limit, 3);
+				}
+				break;
+			}
+			default: {
+				ch = REPLACEMENT;
+			}
+		}
+		_pos = pos;
+		cbuf[n++] = ch;
+		return n;
+	}
+
+	private static boolean isSurrogate(char ch) {
+		return ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE;
+	}
+
+	private static boolean isContinuation(int b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+	private static int skipContinuation(byte[] buffer, int pos, int end, int max) {
+		for (int n = 0; n < max && pos < end && isContinuation(buffer[pos]); n++) {
+			pos++;
+		}
+		return pos;
+	}
+
+	/**
+	 * Reads from the stream until at least the given number of bytes is available in the buffer.
+	 *
+	 * @return Whether the requested number of bytes is available, <code>false</code> at the end of input.
+	 */
+	private boolean fill(int minimum) throws IOException {
+		if (_in == null) {
+			return false;
+		}
+		int remaining = _limit - _pos;
+		if (_pos > 0) {
+			System.arraycopy(_buffer, _pos, _buffer, 0, remaining);
+			_pos = 0;
+			_limit = remaining;
+		}
+		while (_limit < minimum) {
+			int cnt = _in.read(_buffer, _limit, _buffer.length - _limit);
+			if (cnt < 0) {
+				return false;
+			}
+			_limit += cnt;
+		}
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (_in != null) {
+			_in.close();
+		}
+	}
+
+}
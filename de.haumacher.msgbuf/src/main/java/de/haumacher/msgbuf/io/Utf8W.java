@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Writer} that encodes its output in UTF-8 directly into a byte buffer.
+ *
+ * <p>
+ * Without a target stream, all output is collected in memory and can be retrieved with {@link #toByteArray()}. The
+ * buffer can be reused for the next output after {@link #reset()}. With a target stream, the buffer is flushed to the
+ * stream in chunks whenever it runs full.
+ * </p>
+ *
+ * <p>
+ * Unpaired surrogate characters are encoded as <code>'?'</code>, see {@link de.haumacher.msgbuf.binary.Utf8}.
+ * </p>
+ */
+public class Utf8W implements Writer {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final OutputStream _out;
+
+	/**
+	 * Whether the buffer is flushed in chunks, <code>false</code> for collecting all output in memory.
+	 */
+	private final boolean _chunked;
+
+	private byte[] _buffer;
+
+	private int _pos;
+
+	/**
+	 * A high surrogate written as last character, <code>0</code> if none.
+	 */
+	private char _highSurrogate;
+
+	/**
+	 * Creates a {@link Utf8W} collecting its output in memory.
+	 *
+	 * @see #toByteArray()
+	 */
+	public Utf8W() {
+		this(null, 256);
+	}
+
+	/**
+	 * Creates a {@link Utf8W} writing to the given stream.
+	 */
+	public Utf8W(OutputStream out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a {@link Utf8W}.
+	 *
+	 * @param out
+	 *        The stream to flush the buffer to, <code>null</code> for collecting all output in memory.
+	 * @param bufferSize
+	 *        The initial size of the buffer, the chunk size for flushing, if a stream is given.
+	 */
+	public Utf8W(OutputStream out, int bufferSize) {
+		this(out, out != null, bufferSize);
+	}
+
+	/**
+	 * Creates a {@link Utf8W} for a subclass that writes chunks to a custom target.
+	 *
+	 * @param bufferSize
+	 *        The chunk size.
+	 *
+	 * @see #writeOut(byte[], int)
+	 * @see #flushOut()
+	 * @see #closeOut()
+	 */
+	protected Utf8W(int bufferSize) {
+		this(null, true, bufferSize);
+	}
+
+	private Utf8W(OutputStream out, boolean chunked, int bufferSize) {
+		_out = out;
+		_chunked = chunked;
+		_buffer = new byte[Math.max(4, bufferSize)];
+	}
+
+	/**
+	 * The number of bytes in the buffer.
+	 */
+	public int size() {
+		return _pos;
+	}
+
+	/**
+	 * A copy of the buffered bytes.
+	 *
+	 * <p>
+	 * Without a target stream, this is the complete output written so far.
+	 * </p>
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(_buffer, _pos);
+	}
+
+	/**
+	 * Discards all buffered output but keeps the buffer for reuse.
+	 */
+	public void reset() {
+		_pos = 0;
+		_highSurrogate = 0;
+	}
+
+	@Override
+	public void write(char ch) throws IOException {
+		ensure(4);
+		encode(ch);
+	}
+
+	@Override
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(String str, int start, int length) throws IOException {
+		int end = start + length;
+		int n = start;
+		while (n < end) {
+			ensure(4);
+
+			// Characters that fit for sure into the remaining buffer. One byte is reserved for the replacement of a
+			// pending unpaired high surrogate.
+			int stop = Math.min(end, n + (_buffer.length - _pos - 1) / 3);
+			byte[] buffer = _buffer;
+			int pos = _pos;
+
+			// ASCII fast path.
+			for (; n < stop; n++) {
+				char ch = str.charAt(n);
+				if (ch >= 0x80 || _highSurrogate != 0) {
+					break;
+				}
+				buffer[pos++] = (byte) ch;
+			}
+			_pos = pos;
+
+			for (; n < stop; n++) {
+				encode(str.charAt(n));
+			}
+		}
+	}
+
+	@Override
+	public void write(char[] chars, int start, int length) throws IOException {
+		int end = start + length;
+		int n = start;
+		while (n < end) {
+			ensure(4);
+			int stop = Math.min(end, n + (_buffer.length - _pos - 1) / 3);
+			byte[] buffer = _buffer;
+			int pos = _pos;
+			for (; n < stop; n++) {
+				char ch = chars[n];
+				if (ch >= 0x80 || _highSurrogate != 0) {
+					break;
+				}
+				buffer[pos++] = (byte) ch;
+			}
+			_pos = pos;
+
+			for (; n < stop; n++) {
+				encode(chars[n]);
+			}
+		}
+	}
+
+	/**
+	 * Encodes a single character, the buffer must have room for at least four bytes.
+	 */
+	private void encode(char ch) {
+		byte[] buffer = _buffer;
+		if (_highSurrogate != 0) {
+			char high = _highSurrogate;
+			_highSurrogate = 0;
+			if (Character.isLowSurrogate(ch)) {
+				int codePoint = Character.toCodePoint(high, ch);
+				buffer[_pos++] = (byte) (0xF0 | (codePoint >>> 18));
+				buffer[_pos++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+				buffer[_pos++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+				buffer[_pos++] = (byte) (0x80 | (codePoint & 0x3F));
+				return;
+			}
+
+			// Unpaired high surrogate.
+			buffer[_pos++] = (byte) '?';
+		}
+
+		if (ch < 0x80) {
+			buffer[_pos++] = (byte) ch;
+		} else if (ch < 0x800) {
+			buffer[_pos++] = (byte) (0xC0 | (ch >>> 6));
+			buffer[_pos++] = (byte) (0x80 | (ch & 0x3F));
+		} else if (Character.isHighSurrogate(ch)) {
+			_highSurrogate = ch;
+		} else if (Character.isLowSurrogate(ch)) {
+			buffer[_pos++] = (byte) '?';
+		} else {
+			buffer[_pos++] = (byte) (0xE0 | (ch >>> 12));
+			buffer[_pos++] = (byte) (0x80 | ((ch >>> 6) & 0x3F));
+			buffer[_pos++] = (byte) (0x80 | (ch & 0x3F));
+		}
+	}
+
+	/**
+	 * Makes room for at least the given number of bytes in the buffer.
+	 */
+	private void ensure(int bytes) throws IOException {
+		if (_buffer.length - _pos >= bytes) {
+			return;
+		}
+		if (_chunked) {
+			flushBuffer();
+		} else {
+			_buffer = Arrays.copyOf(_buffer, Math.max(2 * _buffer.length, _pos + bytes));
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (_pos > 0) {
+			writeOut(_buffer, _pos);
+			_pos = 0;
+		}
+	}
+
+	/**
+	 * Writes a chunk of encoded output to the target.
+	 *
+	 * <p>
+	 * Only called, if this writer does not collect its output in memory.
+	 * </p>
+	 *
+	 * @param buffer
+	 *        The buffer with the encoded output.
+	 * @param length
+	 *        The number of bytes to write starting at index <code>0</code>.
+	 */
+	protected void writeOut(byte[] buffer, int length) throws IOException {
+		_out.write(buffer, 0, length);
+	}
+
+	/**
+	 * Flushes the target after all buffered output has been passed to {@link #writeOut(byte[], int)}.
+	 */
+	protected void flushOut() throws IOException {
+		_out.flush();
+	}
+
+	/**
+	 * Closes the target after all output has been passed to {@link #writeOut(byte[], int)}.
+	 */
+	protected void closeOut() throws IOException {
+		_out.close();
+	}
+
+	/**
+	 * Flushes the buffer to the target stream.
+	 *
+	 * <p>
+	 * A pending high surrogate is kept until the next character is written. Without target stream, this method has no
+	 * effect.
+	 * </p>
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (_chunked) {
+			flushBuffer();
+			flushOut();
+		}
+	}
+
+	/**
+	 * Flushes all output and closes the target stream.
+	 *
+	 * <p>
+	 * A pending high surrogate is written as <code>'?'</code>.
+	 * </p>
+	 */
+	@Override
+	public void close() throws IOException {
+		if (_highSurrogate != 0) {
+			ensure(1);
+			_highSurrogate = 0;
+			_buffer[_pos++] = (byte) '?';
+		}
+		if (_chunked) {
+			flushBuffer();
+			closeOut();
+		}
+	}
+
+}
@@ -72,6 +72,27 @@ public interface Writer {
 	 */
 	void write(String str, int start, int length) throws IOException;
 
+	/**
+	 * Writes a portion of a character array.
+	 *
+	 * @param buffer
+	 *        The characters to write.
+	 *
+	 * @param start
+	 *        Offset from which to start writing characters
+	 *
+	 * @param length
+	 *        Number of characters to write
+	 *
+	 * @throws IOException
+	 *         If an I/O error occurs
+	 */
+	default void write(char[] buffer, int start, int length) throws IOException {
+		for (int n = start, end = start + length; n < end; n++) {
+			write(buffer[n]);
+		}
+	}
+
 	/**
 	 * Flushes the stream. If the stream has saved any characters from the
 	 * various write() methods in a buffer, write them immediately to their
@@ -26,7 +26,7 @@ public class Base64Utils {
    * represent them. Note that this is not identical to the set of characters
    * used by MIME-Base64.
    */
-  private static final char[] base64Chars = new char[] {
+  static final char[] base64Chars = new char[] {
       'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N',
       'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z', 'a', 'b',
       'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p',
@@ -51,6 +51,16 @@ public class Base64Utils {
     }
   }
 
+  /**
+   * The 6-bit value of the given base 64 character.
+   *
+   * @return the value of the given character, or 0 if the character is not a
+   *         legal base 64 character.
+   */
+  public static int base64Value(int ch) {
+    return ch < 128 ? base64Values[ch] : 0;
+  }
+
   /**
    * Decode a base64 string into a byte array.
    * 
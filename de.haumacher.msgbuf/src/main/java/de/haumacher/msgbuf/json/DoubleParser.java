@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+/**
+ * Parser for decimal floating point numbers in JSON syntax.
+ *
+ * <p>
+ * A number with at most 15 to 16 significant digits and a small decimal exponent is converted exactly using a single
+ * floating point multiplication or division (Clinger's fast path). All other numbers are converted with
+ * {@link Double#parseDouble(String)}. In both cases, the result is the correctly rounded value of the decimal input.
+ * </p>
+ */
+public final class DoubleParser {
+
+	/**
+	 * The largest significand that can be represented exactly as double.
+	 */
+	private static final long MAX_EXACT = 1L << 53;
+
+	/**
+	 * Maximum number of significant digits that are collected before falling back to the exact conversion.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * Powers of ten that can be represented exactly as double.
+	 */
+	private static final double[] POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+		1e21, 1e22,
+	};
+
+	private DoubleParser() {
+		// Static utility.
+	}
+
+	/**
+	 * Parses the number given as character range.
+	 *
+	 * @throws NumberFormatException
+	 *         If the given characters do not form a number.
+	 */
+	public static double parse(char[] buffer, int start, int length) {
+		return parse(buffer, null, start, length);
+	}
+
+	/**
+	 * Parses the number given as range of ASCII bytes.
+	 *
+	 * @throws NumberFormatException
+	 *         If the given bytes do not form a number.
+	 */
+	public static double parse(byte[] buffer, int start, int length) {
+		return parse(null, buffer, start, length);
+	}
+
+	/**
+	 * Parses the number given either in the character or in the byte buffer.
+	 */
+	private static double parse(char[] chars, byte[] bytes, int start, int length) {
+		int end = start + length;
+		int p = start;
+		boolean negative = p < end && at(chars, bytes, p) == '-';
+		if (negative) {
+			p++;
+		}
+
+		long significand = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean valid = false;
+		for (; p < end; p++) {
+			int c = at(chars, bytes, p) - '0';
+			if (c < 0 || c > 9) {
+				break;
+			}
+			valid = true;
+			if (significand != 0 || c != 0) {
+				if (++digits > MAX_DIGITS) {
+					return fallback(chars, bytes, start, length);
+				}
+				significand = 10 * significand + c;
+			}
+		}
+		if (p < end && at(chars, bytes, p) == '.') {
+			for (p++; p < end; p++) {
+				int c = at(chars, bytes, p) - '0';
+				if (c < 0 || c > 9) {
+					break;
+				}
+				valid = true;
+				if (significand != 0 || c != 0) {
+					if (++digits > MAX_DIGITS) {
+						return fallback(chars, bytes, start, length);
+					}
+					significand = 10 * significand + c;
+				}
+				exponent--;
+			}
+		}
+		if (p < end && (at(chars, bytes, p) == 'e' || at(chars, bytes, p) == 'E')) {
+			p++;
+			boolean negativeExponent = p < end && at(chars, bytes, p) == '-';
+			if (p < end && (negativeExponent || at(chars, bytes, p) == '+')) {
+				p++;
+			}
+			int e = 0;
+			int start10 = p;
+			for (; p < end; p++) {
+				int c = at(chars, bytes, p) - '0';
+				if (c < 0 || c > 9 || e > 1000) {
+					return fallback(chars, bytes, start, length);
+				}
+				e = 10 * e + c;
+			}
+			if (p == start10) {
+				return fallback(chars, bytes, start, length);
+			}
+			exponent += negativeExponent ? -e : e;
+		}
+		if (!valid || p != end) {
+			return fallback(chars, bytes, start, length);
+		}
+
+		double result = fastPath(significand, exponent);
+		if (Double.isNaN(result)) {
+			return fallback(chars, bytes, start, length);
+		}
+		return negative ? -result : result;
+	}
+
+	/**
+	 * The character at the given position of the buffer that is not <code>null</code>.
+	 */
+	private static int at(char[] chars, byte[] bytes, int p) {
+		return bytes != null ? bytes[p] : chars[p];
+	}
+
+	/**
+	 * Computes <code>significand * 10^exponent</code>, if this can be done exactly.
+	 *
+	 * @return The exact result, or {@link Double#NaN}, if an exact computation is not possible.
+	 */
+	private static double fastPath(long significand, int exponent) {
+		if (significand == 0) {
+			return 0.0;
+		}
+		if (significand > MAX_EXACT) {
+			return Double.NaN;
+		}
+		if (exponent == 0) {
+			return significand;
+		}
+		if (exponent > 0) {
+			if (exponent > 22) {
+				return Double.NaN;
+			}
+			return significand * POW10[exponent];
+		}
+		if (exponent < -22) {
+			return Double.NaN;
+		}
+		return significand / POW10[-exponent];
+	}
+
+	private static double fallback(char[] chars, byte[] bytes, int start, int length) {
+		if (bytes == null) {
+			return Double.parseDouble(new String(chars, start, length));
+		}
+		char[] copy = new char[length];
+		for (int n = 0; n < length; n++) {
+			copy[n] = (char) (bytes[start + n] & 0xFF);
+		}
+		return Double.parseDouble(new String(copy));
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import java.io.IOException;
+
+import de.haumacher.msgbuf.binary.Utf8;
+import de.haumacher.msgbuf.io.StringW;
+
+/**
+ * Pre-encoded JSON property name.
+ *
+ * <p>
+ * A {@link JsonName} holds the quoted and escaped form of a property name. Writing such name with
+ * {@link JsonWriter#name(JsonName)} copies the encoded form to the output without escaping the name again. Generated
+ * data classes keep a static {@link JsonName} constant for each of their properties.
+ * </p>
+ */
+public final class JsonName {
+
+	private final String _name;
+
+	private final String _quoted;
+
+	private final String _htmlSafeQuoted;
+
+	private final byte[] _utf8;
+
+	private final byte[] _htmlSafeUtf8;
+
+	private final JsonName _compact;
+
+	private JsonName(String name, JsonName compact) {
+		_name = name;
+		_compact = compact;
+		_quoted = quote(name, false);
+		_utf8 = utf8(_quoted);
+
+		String htmlSafeQuoted = quote(name, true);
+		if (htmlSafeQuoted.equals(_quoted)) {
+			_htmlSafeQuoted = _quoted;
+			_htmlSafeUtf8 = _utf8;
+		} else {
+			_htmlSafeQuoted = htmlSafeQuoted;
+			_htmlSafeUtf8 = utf8(htmlSafeQuoted);
+		}
+	}
+
+	/**
+	 * Creates a {@link JsonName} for the given property name.
+	 */
+	public static JsonName of(String name) {
+		if (name == null) {
+			throw new NullPointerException("name == null");
+		}
+		return new JsonName(name, null);
+	}
+
+	/**
+	 * Creates a {@link JsonName} for the given property name with a compact form that consists of the given numeric
+	 * property identifier.
+	 *
+	 * @see #getCompact()
+	 */
+	public static JsonName of(String name, int id) {
+		if (name == null) {
+			throw new NullPointerException("name == null");
+		}
+		return new JsonName(name, new JsonName(Integer.toString(id), null));
+	}
+
+	/**
+	 * The plain property name.
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * The name to write instead of this one to a writer that is not {@link JsonWriter#setReadable(boolean) readable},
+	 * or <code>null</code> if this name has no compact form.
+	 */
+	public JsonName getCompact() {
+		return _compact;
+	}
+
+	/**
+	 * The property name as JSON string literal including quotes.
+	 *
+	 * @param htmlSafe
+	 *        Whether HTML characters are escaped, see {@link JsonWriter#setHtmlSafe(boolean)}.
+	 */
+	public String quoted(boolean htmlSafe) {
+		return htmlSafe ? _htmlSafeQuoted : _quoted;
+	}
+
+	/**
+	 * The UTF-8 encoding of {@link #quoted(boolean)}.
+	 *
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 * </p>
+	 */
+	public byte[] utf8(boolean htmlSafe) {
+		return htmlSafe ? _htmlSafeUtf8 : _utf8;
+	}
+
+	@Override
+	public String toString() {
+		return _quoted;
+	}
+
+	private static String quote(String name, boolean htmlSafe) {
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.setHtmlSafe(htmlSafe);
+		try {
+			json.string(name);
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		return buffer.toString();
+	}
+
+	private static byte[] utf8(String value) {
+		byte[] result = new byte[Utf8.encodedLength(value)];
+		Utf8.encode(value, result, 0);
+		return result;
+	}
+
+}
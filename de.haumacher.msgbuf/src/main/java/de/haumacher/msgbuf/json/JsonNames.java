@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import de.haumacher.msgbuf.util.IntMap;
+
+/**
+ * Precomputed table of the JSON property names of a message type mapped to numeric field IDs.
+ *
+ * <p>
+ * A {@link JsonReader} matches property names against such table directly in its input buffer, see
+ * {@link JsonReader#nextName(JsonNames)}. This avoids allocating a string for each property name read.
+ * </p>
+ */
+public final class JsonNames {
+
+	/**
+	 * The ID reported for a name that is not contained in a table.
+	 */
+	public static final int UNKNOWN = -1;
+
+	private static final int EMPTY = -1;
+
+	private final String[] _names;
+
+	private final int[] _ids;
+
+	private final int[] _hashes;
+
+	/**
+	 * Open addressing hash table with the index of the entry stored in each slot.
+	 */
+	private final int[] _table;
+
+	private final int _mask;
+
+	/**
+	 * The first name of each ID.
+	 */
+	private final IntMap<String> _canonical;
+
+	private JsonNames(String[] names, int[] ids) {
+		if (names.length != ids.length) {
+			throw new IllegalArgumentException("Names and IDs do not match: " + names.length + " vs. " + ids.length);
+		}
+		_names = names;
+		_ids = ids;
+		_hashes = new int[names.length];
+		_canonical = new IntMap<>(names.length);
+
+		int capacity = 4;
+		while (capacity < 2 * names.length) {
+			capacity <<= 1;
+		}
+		_table = new int[capacity];
+		_mask = capacity - 1;
+		for (int n = 0; n < capacity; n++) {
+			_table[n] = EMPTY;
+		}
+
+		for (int entry = 0; entry < names.length; entry++) {
+			String name = names[entry];
+			int hash = hash(name);
+			_hashes[entry] = hash;
+
+			int slot = hash & _mask;
+			while (_table[slot] != EMPTY) {
+				if (_names[_table[slot]].equals(name)) {
+					throw new IllegalArgumentException("Duplicate name: " + name);
+				}
+				slot = (slot + 1) & _mask;
+			}
+			_table[slot] = entry;
+
+			if (!_canonical.containsKey(ids[entry])) {
+				_canonical.put(ids[entry], name);
+			}
+		}
+	}
+
+	/**
+	 * Creates a {@link JsonNames} table.
+	 *
+	 * @param names
+	 *        The property names.
+	 * @param ids
+	 *        The ID of the property with the name at the same position in the given names array. If a property has
+	 *        multiple names (e.g. a compact form), its first name is its canonical name, see
+	 *        {@link #canonicalName(int)}.
+	 */
+	public static JsonNames of(String[] names, int[] ids) {
+		return new JsonNames(names, ids);
+	}
+
+	/**
+	 * The number of names in this table.
+	 */
+	public int size() {
+		return _names.length;
+	}
+
+	/**
+	 * The ID of the given name.
+	 *
+	 * @return The ID of the given name, or {@link #UNKNOWN}, if the name is not part of this table.
+	 */
+	public int id(String name) {
+		int hash = hash(name);
+		int slot = hash & _mask;
+		while (true) {
+			int entry = _table[slot];
+			if (entry == EMPTY) {
+				return UNKNOWN;
+			}
+			if (_hashes[entry] == hash && _names[entry].equals(name)) {
+				return _ids[entry];
+			}
+			slot = (slot + 1) & _mask;
+		}
+	}
+
+	/**
+	 * The canonical name of the property with the given ID.
+	 *
+	 * @return The first name with the given ID, or <code>null</code>, if the ID is not part of this table.
+	 */
+	public String canonicalName(int id) {
+		return _canonical.get(id);
+	}
+
+	/**
+	 * Looks up the name given as character range.
+	 *
+	 * @param hash
+	 *        The hash of the given characters computed in the same way as {@link #hash(String)}.
+	 * @return The entry index of the given name, or <code>-1</code>, if the name is not part of this table.
+	 */
+	int lookup(char[] buffer, int start, int length, int hash) {
+		int slot = hash & _mask;
+		while (true) {
+			int entry = _table[slot];
+			if (entry == EMPTY) {
+				return -1;
+			}
+			if (_hashes[entry] == hash && matches(_names[entry], buffer, start, length)) {
+				return entry;
+			}
+			slot = (slot + 1) & _mask;
+		}
+	}
+
+	private static boolean matches(String name, char[] buffer, int start, int length) {
+		if (name.length() != length) {
+			return false;
+		}
+		for (int n = 0; n < length; n++) {
+			if (name.charAt(n) != buffer[start + n]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Looks up the name given as range of ASCII bytes.
+	 *
+	 * @param hash
+	 *        The hash of the given bytes computed in the same way as {@link #hash(String)}.
+	 * @return The entry index of the given name, or <code>-1</code>, if the name is not part of this table.
+	 */
+	int lookup(byte[] buffer, int start, int length, int hash) {
+		int slot = hash & _mask;
+		while (true) {
+			int entry = _table[slot];
+			if (entry == EMPTY) {
+				return -1;
+			}
+			if (_hashes[entry] == hash && matches(_names[entry], buffer, start, length)) {
+				return entry;
+			}
+			slot = (slot + 1) & _mask;
+		}
+	}
+
+	private static boolean matches(String name, byte[] buffer, int start, int length) {
+		if (name.length() != length) {
+			return false;
+		}
+		for (int n = 0; n < length; n++) {
+			if (name.charAt(n) != buffer[start + n]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The name of the entry with the given index.
+	 */
+	String name(int entry) {
+		return _names[entry];
+	}
+
+	/**
+	 * The ID of the entry with the given index.
+	 */
+	int id(int entry) {
+		return _ids[entry];
+	}
+
+	/**
+	 * The hash of a name.
+	 *
+	 * <p>
+	 * The hash is computed incrementally by <code>hash = 31 * hash + c</code> for each character <code>c</code>
+	 * starting with <code>0</code>.
+	 * </p>
+	 */
+	static int hash(String name) {
+		int result = 0;
+		for (int n = 0, cnt = name.length(); n < cnt; n++) {
+			result = 31 * result + name.charAt(n);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import de.haumacher.msgbuf.io.Reader;
+import de.haumacher.msgbuf.io.Writer;
+
+/**
+ * Factory for {@link JsonReader} and {@link JsonWriter} instances that may reuse instances that are no longer in use.
+ *
+ * <p>
+ * An instance obtained from {@link #reader(Reader)} or {@link #writer(Writer)} has default settings. It must be handed
+ * back with {@link #release(JsonReader)} or {@link #release(JsonWriter)} when it is no longer used and must not be
+ * accessed afterwards. Releasing does not close the underlying input or output.
+ * </p>
+ *
+ * <p>
+ * The {@link #getDefault() default pool} simply allocates new instances. A server may install a pool that caches
+ * instances, see <code>de.haumacher.msgbuf.server.json.ThreadLocalJsonPool</code>.
+ * </p>
+ */
+public abstract class JsonPool {
+
+	/**
+	 * {@link JsonPool} that does not reuse instances.
+	 */
+	public static final JsonPool NONE = new JsonPool() {
+		@Override
+		public JsonReader reader(Reader in) {
+			return new JsonReader(in);
+		}
+
+		@Override
+		public JsonWriter writer(Writer out) {
+			return new JsonWriter(out);
+		}
+
+		@Override
+		public void release(JsonReader reader) {
+			// Ignore.
+		}
+
+		@Override
+		public void release(JsonWriter writer) {
+			// Ignore.
+		}
+	};
+
+	private static JsonPool _default = NONE;
+
+	/**
+	 * The pool used by the runtime, e.g. for {@link Object#toString()} of data objects.
+	 */
+	public static JsonPool getDefault() {
+		return _default;
+	}
+
+	/**
+	 * Installs the pool to use by the runtime.
+	 *
+	 * @see #getDefault()
+	 */
+	public static void setDefault(JsonPool pool) {
+		if (pool == null) {
+			throw new NullPointerException("pool == null");
+		}
+		_default = pool;
+	}
+
+	/**
+	 * A {@link JsonReader} reading from the given input.
+	 */
+	public abstract JsonReader reader(Reader in);
+
+	/**
+	 * A {@link JsonWriter} writing to the given output.
+	 */
+	public abstract JsonWriter writer(Writer out);
+
+	/**
+	 * Hands back a {@link JsonReader} obtained from {@link #reader(Reader)}.
+	 */
+	public abstract void release(JsonReader reader);
+
+	/**
+	 * Hands back a {@link JsonWriter} obtained from {@link #writer(Writer)}.
+	 */
+	public abstract void release(JsonWriter writer);
+
+}
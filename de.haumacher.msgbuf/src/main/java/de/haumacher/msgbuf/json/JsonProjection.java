@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Selection of the properties to read from a JSON message.
+ *
+ * <p>
+ * A projection is built from a set of property paths. A path is a sequence of property names separated by dots, e.g.
+ * <code>header.id</code>. A property that is selected without a nested path is read completely. All properties not
+ * selected are skipped without building data objects for their values. Paths apply to all elements of repeated
+ * properties, e.g. <code>items.name</code> selects the <code>name</code> property of each element of the
+ * <code>items</code> list.
+ * </p>
+ *
+ * <p>
+ * A projection is activated with {@link JsonReader#setProjection(JsonProjection)} before reading a data object.
+ * </p>
+ */
+public final class JsonProjection {
+
+	/**
+	 * The projection selecting all properties.
+	 */
+	public static final JsonProjection ALL = new JsonProjection(null);
+
+	/**
+	 * Projections of the selected properties indexed by property name, <code>null</code> for {@link #ALL}.
+	 */
+	private final Map<String, JsonProjection> _properties;
+
+	private JsonProjection(Map<String, JsonProjection> properties) {
+		_properties = properties;
+	}
+
+	/**
+	 * Creates a {@link JsonProjection} selecting the given property paths.
+	 */
+	public static JsonProjection of(String... paths) {
+		JsonProjection result = new JsonProjection(new HashMap<>());
+		for (String path : paths) {
+			result.add(path);
+		}
+		return result;
+	}
+
+	private void add(String path) {
+		int sep = path.indexOf('.');
+		if (sep < 0) {
+			_properties.put(path, ALL);
+		} else {
+			String name = path.substring(0, sep);
+			JsonProjection nested = _properties.get(name);
+			if (nested == ALL) {
+				// Already selected completely.
+				return;
+			}
+			if (nested == null) {
+				nested = new JsonProjection(new HashMap<>());
+				_properties.put(name, nested);
+			}
+			nested.add(path.substring(sep + 1));
+		}
+	}
+
+	/**
+	 * Whether this projection selects all properties.
+	 */
+	public boolean isAll() {
+		return _properties == null;
+	}
+
+	/**
+	 * The projection to apply to the value of the given property.
+	 *
+	 * @return The projection of the property value, or <code>null</code>, if the property is not selected.
+	 */
+	public JsonProjection get(String property) {
+		if (_properties == null) {
+			return ALL;
+		}
+		return _properties.get(property);
+	}
+
+	@Override
+	public String toString() {
+		if (_properties == null) {
+			return "*";
+		}
+		return _properties.toString();
+	}
+
+}
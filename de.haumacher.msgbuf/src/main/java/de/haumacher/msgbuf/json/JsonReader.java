@@ -17,7 +17,10 @@ package de.haumacher.msgbuf.json;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 
+import de.haumacher.msgbuf.binary.Utf8;
 import de.haumacher.msgbuf.io.Reader;
 
 /**
@@ -183,8 +186,18 @@ import de.haumacher.msgbuf.io.Reader;
  * enabled.
  * </p>
  *
- * <p>Each {@code JsonReader} may be used to read a single JSON stream. Instances
- * of this class are not thread safe.
+ * <h3>UTF-8 Input</h3>
+ * Besides a character {@link Reader}, the input can be given as UTF-8 encoded
+ * bytes, see {@link #JsonReader(byte[], int, int)} and {@link
+ * #JsonReader(InputStream)}. Such input is tokenized at the byte level without
+ * decoding it to characters first. Only the contents of strings and names that
+ * are actually materialized are decoded. Runs of string content are located
+ * with {@link #scanString(byte[], int, int, char)}, which subclasses may
+ * replace with a faster implementation.
+ *
+ * <p>Each {@code JsonReader} may be used to read a single JSON stream, unless
+ * it is {@link #reset(Reader) reset} to another stream. Instances of this class
+ * are not thread safe.
  * </p>
  * 
  * @author Jesse Wilson
@@ -226,19 +239,58 @@ public class JsonReader implements Closeable {
   private static final int NUMBER_CHAR_EXP_SIGN = 6;
   private static final int NUMBER_CHAR_EXP_DIGIT = 7;
 
-  /** The input JSON. */
-	private final Reader in;
+  /** The input JSON, or null when reading UTF-8 encoded bytes. */
+	private Reader in;
+
+  /**
+   * The UTF-8 encoded input JSON, or null when reading characters or a
+   * byte array that was given completely.
+   */
+  private InputStream byteIn;
 
   /** True to accept non-spec compliant JSON */
   private boolean lenient = false;
 
+  /** False to skip maintaining the path reported by {@link #getPath()}. */
+  private boolean trackPath = true;
+
+  /** True to skip nested values without tokenizing them. */
+  private boolean fastSkip = false;
+
+  /** The properties to read, or null to read all properties. */
+  private JsonProjection projection;
+
   /**
    * Use a manual buffer to easily read and unread upcoming characters, and
    * also so we can create strings without an intermediate StringBuilder.
    * We decode literals directly out of this buffer, so it must be at least as
    * long as the longest token that can be reported as a number.
+   *
+   * <p>Only used when reading characters.
+   */
+  private char[] buffer;
+
+  /**
+   * The UTF-8 encoded input when reading bytes, null when reading characters.
+   *
+   * <p>Either the array given to {@link #reset(byte[], int, int)}, which is
+   * scanned in place, or {@link #byteBuffer} when reading from {@link
+   * #byteIn}. All accesses to {@link #buffer} have a byte counterpart, so the
+   * tokenizer works on both without decoding bytes to characters.
    */
-  private final char[] buffer = new char[1024];
+  private byte[] bytes;
+
+  /**
+   * Buffer for reading from {@link #byteIn}, kept for reuse.
+   */
+  private byte[] byteBuffer;
+
+  /**
+   * Whether a byte order mark may still be found at the start of {@link
+   * #byteIn}.
+   */
+  private boolean checkBom;
+
   private int pos = 0;
   private int limit = 0;
 
@@ -266,6 +318,12 @@ public class JsonReader implements Closeable {
    */
   private String peekedString;
 
+  /**
+   * The name consumed by the last call to {@link #nextName(JsonNames)} that
+   * did not find the name in the given table.
+   */
+  private String unknownName;
+
   /*
    * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
    */
@@ -290,10 +348,116 @@ public class JsonReader implements Closeable {
    * Creates a new instance that reads a JSON-encoded stream from {@code in}.
    */
 	public JsonReader(Reader in) {
+    init(in);
+  }
+
+  /**
+   * Creates a new instance that reads a UTF-8 encoded JSON document from the
+   * given range of {@code input}.
+   *
+   * <p>The bytes are tokenized in place, the given array is not modified and
+   * must not be modified while reading.
+   */
+  public JsonReader(byte[] input, int offset, int length) {
+    init(input, offset, length);
+  }
+
+  /**
+   * Creates a new instance that reads a UTF-8 encoded JSON stream from
+   * {@code in}.
+   */
+  public JsonReader(InputStream in) {
+    init(in);
+  }
+
+  /**
+   * Prepares this reader for reading another JSON-encoded stream from
+   * {@code in}.
+   *
+   * <p>All parser state is discarded, the buffer and the nesting stack are
+   * reused. Settings such as {@link #setLenient(boolean)} are kept. The
+   * previous input is not closed.
+   */
+  public void reset(Reader in) {
+    init(in);
+  }
+
+  private void init(Reader in) {
     if (in == null) {
       throw new NullPointerException("in == null");
     }
+    if (buffer == null) {
+      buffer = new char[1024];
+    }
     this.in = in;
+    this.byteIn = null;
+    this.bytes = null;
+    resetState(0, 0);
+  }
+
+  /**
+   * Prepares this reader for reading another UTF-8 encoded JSON document from
+   * the given range of {@code input}.
+   *
+   * @see #JsonReader(byte[], int, int)
+   * @see #reset(Reader)
+   */
+  public void reset(byte[] input, int offset, int length) {
+    init(input, offset, length);
+  }
+
+  private void init(byte[] input, int offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > input.length) {
+      throw new IndexOutOfBoundsException("Range " + offset + "+" + length + " not in array of length " + input.length);
+    }
+    this.in = null;
+    this.byteIn = null;
+    this.bytes = input;
+    if (length >= 3 && input[offset] == (byte) 0xEF && input[offset + 1] == (byte) 0xBB && input[offset + 2] == (byte) 0xBF) {
+      // Skip the byte order mark.
+      resetState(offset + 3, offset + length);
+    } else {
+      resetState(offset, offset + length);
+    }
+  }
+
+  /**
+   * Prepares this reader for reading another UTF-8 encoded JSON stream from
+   * {@code in}.
+   *
+   * @see #JsonReader(InputStream)
+   * @see #reset(Reader)
+   */
+  public void reset(InputStream in) {
+    init(in);
+  }
+
+  private void init(InputStream in) {
+    if (in == null) {
+      throw new NullPointerException("in == null");
+    }
+    if (byteBuffer == null) {
+      byteBuffer = new byte[8192];
+    }
+    this.in = null;
+    this.byteIn = in;
+    this.bytes = byteBuffer;
+    this.checkBom = true;
+    resetState(0, 0);
+  }
+
+  private void resetState(int start, int end) {
+    pos = start;
+    limit = end;
+    lineNumber = 0;
+    lineStart = start;
+    peeked = PEEKED_NONE;
+    peekedString = null;
+    unknownName = null;
+    projection = null;
+    Arrays.fill(pathNames, 0, stackSize, null);
+    stack[0] = JsonScope.EMPTY_DOCUMENT;
+    stackSize = 1;
   }
 
   /**
@@ -336,6 +500,73 @@ public class JsonReader implements Closeable {
     return lenient;
   }
 
+  /**
+   * Configure whether this parser keeps track of the current property names
+   * and array indices. By default, the path is tracked.
+   *
+   * <p>Without path tracking, {@link #getPath()} and the locations reported in
+   * syntax errors only contain the line and column but no JSON path. Disable
+   * tracking, if error locations are not needed to save the bookkeeping for
+   * each value read.
+   */
+  public final void setTrackPath(boolean trackPath) {
+    this.trackPath = trackPath;
+  }
+
+  /**
+   * Returns true if this parser keeps track of the current path.
+   *
+   * @see #setTrackPath(boolean)
+   */
+  public final boolean isTrackPath() {
+    return trackPath;
+  }
+
+  /**
+   * Configure how {@link #skipValue()} processes arrays, objects, and strings.
+   * By default, skipped values are tokenized and checked for syntax errors.
+   *
+   * <p>In fast skip mode, a skipped value is only scanned for its matching
+   * closing bracket or quote without decoding escape sequences. Syntax errors
+   * within skipped values are not reported. Fast skipping is not applied in
+   * {@link #setLenient(boolean) lenient} mode, since comments and unquoted
+   * strings may contain unbalanced brackets.
+   */
+  public final void setFastSkip(boolean fastSkip) {
+    this.fastSkip = fastSkip;
+  }
+
+  /**
+   * Returns true if skipped values are only scanned for their end.
+   *
+   * @see #setFastSkip(boolean)
+   */
+  public final boolean isFastSkip() {
+    return fastSkip;
+  }
+
+  /**
+   * The properties to read from the current object, or null to read all
+   * properties.
+   *
+   * <p>The projection is evaluated by data objects when reading their
+   * properties, see
+   * {@link de.haumacher.msgbuf.data.AbstractDataObject#readContent(JsonReader)}.
+   * Properties not selected are skipped.
+   */
+  public final JsonProjection getProjection() {
+    return projection;
+  }
+
+  /**
+   * Sets the projection to apply when reading the next data object.
+   *
+   * @see #getProjection()
+   */
+  public final void setProjection(JsonProjection projection) {
+    this.projection = projection;
+  }
+
   /**
    * Consumes the next token from the JSON stream and asserts that it is the
    * beginning of a new array.
@@ -347,7 +578,9 @@ public class JsonReader implements Closeable {
     }
     if (p == PEEKED_BEGIN_ARRAY) {
       push(JsonScope.EMPTY_ARRAY);
-      pathIndices[stackSize - 1] = 0;
+      if (trackPath) {
+        pathIndices[stackSize - 1] = 0;
+      }
       peeked = PEEKED_NONE;
     } else {
       throw new IllegalStateException("Expected BEGIN_ARRAY but was " + peek() + locationString());
@@ -365,7 +598,7 @@ public class JsonReader implements Closeable {
     }
     if (p == PEEKED_END_ARRAY) {
       stackSize--;
-      pathIndices[stackSize - 1]++;
+      countValue();
       peeked = PEEKED_NONE;
     } else {
       throw new IllegalStateException("Expected END_ARRAY but was " + peek() + locationString());
@@ -401,7 +634,7 @@ public class JsonReader implements Closeable {
     if (p == PEEKED_END_OBJECT) {
       stackSize--;
       pathNames[stackSize] = null; // Free the last path name so that it can be garbage collected!
-      pathIndices[stackSize - 1]++;
+      countValue();
       peeked = PEEKED_NONE;
     } else {
       throw new IllegalStateException("Expected END_OBJECT but was " + peek() + locationString());
@@ -525,7 +758,7 @@ public class JsonReader implements Closeable {
         break;
       case '=':
         checkLenient();
-        if ((pos < limit || fillBuffer(1)) && buffer[pos] == '>') {
+        if ((pos < limit || fillBuffer(1)) && charAt(pos) == '>') {
           pos++;
         }
         break;
@@ -589,7 +822,7 @@ public class JsonReader implements Closeable {
       return result;
     }
 
-    if (!isLiteral(buffer[pos])) {
+    if (!isLiteral(charAt(pos))) {
       throw syntaxError("Expected value");
     }
 
@@ -599,7 +832,7 @@ public class JsonReader implements Closeable {
 
   private int peekKeyword() throws IOException {
     // Figure out which keyword we're matching against by its first character.
-    char c = buffer[pos];
+    char c = charAt(pos);
     String keyword;
     String keywordUpper;
     int peeking;
@@ -625,14 +858,14 @@ public class JsonReader implements Closeable {
       if (pos + i >= limit && !fillBuffer(i + 1)) {
         return PEEKED_NONE;
       }
-      c = buffer[pos + i];
+      c = charAt(pos + i);
       if (c != keyword.charAt(i) && c != keywordUpper.charAt(i)) {
         return PEEKED_NONE;
       }
     }
 
     if ((pos + length < limit || fillBuffer(length + 1))
-        && isLiteral(buffer[pos + length])) {
+        && isLiteral(charAt(pos + length))) {
       return PEEKED_NONE; // Don't match trues, falsey or nullsoft!
     }
 
@@ -644,6 +877,8 @@ public class JsonReader implements Closeable {
   private int peekNumber() throws IOException {
     // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
     char[] buffer = this.buffer;
+    byte[] bytes = this.bytes;
+    int capacity = capacity();
     int p = pos;
     int l = limit;
 
@@ -657,7 +892,7 @@ public class JsonReader implements Closeable {
     charactersOfNumber:
     for (; true; i++) {
       if (p + i == l) {
-        if (i == buffer.length) {
+        if (i == capacity) {
           // Though this looks like a well-formed number, it's too long to continue reading. Give up
           // and let the application handle this as an unquoted literal.
           return PEEKED_NONE;
@@ -669,7 +904,7 @@ public class JsonReader implements Closeable {
         l = limit;
       }
 
-      char c = buffer[p + i];
+      char c = bytes != null ? (char) (bytes[p + i] & 0xFF) : buffer[p + i];
       switch (c) {
       case '-':
         if (last == NUMBER_CHAR_NONE) {
@@ -792,10 +1027,74 @@ public class JsonReader implements Closeable {
       throw new IllegalStateException("Expected a name but was " + peek() + locationString());
     }
     peeked = PEEKED_NONE;
-    pathNames[stackSize - 1] = result;
+    setPathName(result);
     return result;
   }
 
+  /**
+   * Consumes the next {@link de.haumacher.msgbuf.json.JsonToken#NAME property name} and looks
+   * it up in the given table.
+   *
+   * <p>A name without escape sequences is matched directly in the input buffer
+   * without allocating a string.
+   *
+   * @return the ID of the name in the given table, or {@link JsonNames#UNKNOWN},
+   *     see {@link #getUnknownName()}.
+   * @throws java.io.IOException if the next token in the stream is not a property
+   *     name.
+   */
+  public int nextName(JsonNames names) throws IOException {
+    int p = peeked;
+    if (p == PEEKED_NONE) {
+      p = doPeek();
+    }
+    if (p == PEEKED_DOUBLE_QUOTED_NAME) {
+      // Like nextNonWhitespace, this uses locals to save inner-loop field access.
+      char[] buffer = this.buffer;
+      byte[] bytes = this.bytes;
+      int start = pos;
+      int l = limit;
+      int hash = 0;
+      for (int i = start; i < l; i++) {
+        // A byte of a multi-byte UTF-8 sequence is negative.
+        int c = bytes != null ? bytes[i] : buffer[i];
+        if (c == '"') {
+          int length = i - start;
+          int entry = bytes != null ? names.lookup(bytes, start, length, hash) : names.lookup(buffer, start, length, hash);
+          if (entry < 0) {
+            break;
+          }
+          pos = i + 1;
+          peeked = PEEKED_NONE;
+          setPathName(names.name(entry));
+          return names.id(entry);
+        } else if (c == '\\' || c == '\n' || c < 0) {
+          break;
+        }
+        hash = 31 * hash + c;
+      }
+    }
+
+    // Unknown name, escape sequence, non-ASCII bytes, or name not completely buffered.
+    String name = nextName();
+    int id = names.id(name);
+    if (id == JsonNames.UNKNOWN) {
+      unknownName = name;
+    }
+    return id;
+  }
+
+  /**
+   * The property name consumed by the last call to {@link #nextName(JsonNames)}
+   * that returned {@link JsonNames#UNKNOWN}.
+   *
+   * <p>Allows handling a property that is not contained in the table by its
+   * name.
+   */
+  public String getUnknownName() {
+    return unknownName;
+  }
+
   /**
    * Returns the {@link de.haumacher.msgbuf.json.JsonToken#STRING string} value of the next token,
    * consuming it. If the next token is a number, this method will return its
@@ -822,16 +1121,67 @@ public class JsonReader implements Closeable {
     } else if (p == PEEKED_LONG) {
       result = Long.toString(peekedLong);
     } else if (p == PEEKED_NUMBER) {
-      result = new String(buffer, pos, peekedNumberLength);
+      result = newString(pos, peekedNumberLength);
       pos += peekedNumberLength;
     } else {
       throw new IllegalStateException("Expected a string but was " + peek() + locationString());
     }
     peeked = PEEKED_NONE;
-    pathIndices[stackSize - 1]++;
+    countValue();
     return result;
   }
 
+  /**
+   * Returns the Base64 encoded {@link de.haumacher.msgbuf.json.JsonToken#STRING string}
+   * value of the next token as stream of decoded bytes.
+   *
+   * <p>The string is decoded while the resulting stream is read without
+   * materializing the complete value. The stream must be read to its end or
+   * {@link InputStream#close() closed} before any other method of this reader
+   * is called.
+   *
+   * @throws IllegalStateException if the next token is not a string or if
+   *     this reader is closed.
+   * @see JsonWriter#valueBinaryStream()
+   */
+  public InputStream nextBinaryStream() throws IOException {
+    return binaryInput();
+  }
+
+  /**
+   * Returns the Base64 encoded {@link de.haumacher.msgbuf.json.JsonToken#STRING string}
+   * value of the next token as decoded byte array.
+   *
+   * <p>If the complete value is available in the input buffer, it is decoded
+   * directly into an array of the exact size. Otherwise, the result is
+   * decoded into a growing array.
+   *
+   * @throws IllegalStateException if the next token is not a string or if
+   *     this reader is closed.
+   * @see #nextBinaryStream()
+   */
+  public byte[] nextBinary() throws IOException {
+    return binaryInput().readAll();
+  }
+
+  private Base64Input binaryInput() throws IOException {
+    int p = peeked;
+    if (p == PEEKED_NONE) {
+      p = doPeek();
+    }
+    char quote;
+    if (p == PEEKED_DOUBLE_QUOTED) {
+      quote = '"';
+    } else if (p == PEEKED_SINGLE_QUOTED) {
+      quote = '\'';
+    } else {
+      throw new IllegalStateException("Expected a string but was " + peek() + locationString());
+    }
+    peeked = PEEKED_NONE;
+    countValue();
+    return new Base64Input(quote);
+  }
+
   /**
    * Returns the {@link de.haumacher.msgbuf.json.JsonToken#BOOLEAN boolean} value of the next token,
    * consuming it.
@@ -846,11 +1196,11 @@ public class JsonReader implements Closeable {
     }
     if (p == PEEKED_TRUE) {
       peeked = PEEKED_NONE;
-      pathIndices[stackSize - 1]++;
+      countValue();
       return true;
     } else if (p == PEEKED_FALSE) {
       peeked = PEEKED_NONE;
-      pathIndices[stackSize - 1]++;
+      countValue();
       return false;
     }
     throw new IllegalStateException("Expected a boolean but was " + peek() + locationString());
@@ -870,7 +1220,7 @@ public class JsonReader implements Closeable {
     }
     if (p == PEEKED_NULL) {
       peeked = PEEKED_NONE;
-      pathIndices[stackSize - 1]++;
+      countValue();
     } else {
       throw new IllegalStateException("Expected null but was " + peek() + locationString());
     }
@@ -893,13 +1243,20 @@ public class JsonReader implements Closeable {
 
     if (p == PEEKED_LONG) {
       peeked = PEEKED_NONE;
-      pathIndices[stackSize - 1]++;
+      countValue();
       return (double) peekedLong;
     }
 
     if (p == PEEKED_NUMBER) {
-      peekedString = new String(buffer, pos, peekedNumberLength);
+      double result = bytes != null ? DoubleParser.parse(bytes, pos, peekedNumberLength) : DoubleParser.parse(buffer, pos, peekedNumberLength);
+      if (!lenient && Double.isInfinite(result)) {
+        throw new MalformedJsonException(
+            "JSON forbids NaN and infinities: " + result + locationString());
+      }
       pos += peekedNumberLength;
+      peeked = PEEKED_NONE;
+      countValue();
+      return result;
     } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
       peekedString = nextQuotedValue(p == PEEKED_SINGLE_QUOTED ? '\'' : '"');
     } else if (p == PEEKED_UNQUOTED) {
@@ -916,7 +1273,7 @@ public class JsonReader implements Closeable {
     }
     peekedString = null;
     peeked = PEEKED_NONE;
-    pathIndices[stackSize - 1]++;
+    countValue();
     return result;
   }
 
@@ -938,12 +1295,12 @@ public class JsonReader implements Closeable {
 
     if (p == PEEKED_LONG) {
       peeked = PEEKED_NONE;
-      pathIndices[stackSize - 1]++;
+      countValue();
       return peekedLong;
     }
 
     if (p == PEEKED_NUMBER) {
-      peekedString = new String(buffer, pos, peekedNumberLength);
+      peekedString = newString(pos, peekedNumberLength);
       pos += peekedNumberLength;
     } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED || p == PEEKED_UNQUOTED) {
       if (p == PEEKED_UNQUOTED) {
@@ -954,7 +1311,7 @@ public class JsonReader implements Closeable {
       try {
         long result = Long.parseLong(peekedString);
         peeked = PEEKED_NONE;
-        pathIndices[stackSize - 1]++;
+        countValue();
         return result;
       } catch (NumberFormatException ignored) {
         // Fall back to parse as a double below.
@@ -971,7 +1328,7 @@ public class JsonReader implements Closeable {
     }
     peekedString = null;
     peeked = PEEKED_NONE;
-    pathIndices[stackSize - 1]++;
+    countValue();
     return result;
   }
 
@@ -988,6 +1345,7 @@ public class JsonReader implements Closeable {
   private String nextQuotedValue(char quote) throws IOException {
     // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
     char[] buffer = this.buffer;
+    byte[] bytes = this.bytes;
     StringBuilder builder = null;
     while (true) {
       int p = pos;
@@ -995,15 +1353,24 @@ public class JsonReader implements Closeable {
       /* the index of the first character not yet appended to the builder. */
       int start = p;
       while (p < l) {
-        int c = buffer[p++];
+        int c;
+        if (bytes != null) {
+          p = scanString(bytes, p, l, quote);
+          if (p == l) {
+            break;
+          }
+          c = bytes[p++];
+        } else {
+          c = buffer[p++];
+        }
 
         if (c == quote) {
           pos = p;
           int len = p - start - 1;
           if (builder == null) {
-            return new String(buffer, start, len);
+            return newString(start, len);
           } else {
-            builder.append(buffer, start, len);
+            append(builder, start, len);
             return builder.toString();
           }
         } else if (c == '\\') {
@@ -1013,7 +1380,7 @@ public class JsonReader implements Closeable {
             int estimatedLength = (len + 1) * 2;
             builder = new StringBuilder(Math.max(estimatedLength, 16));
           }
-          builder.append(buffer, start, len);
+          append(builder, start, len);
           builder.append(readEscapeCharacter());
           p = pos;
           l = limit;
@@ -1024,13 +1391,17 @@ public class JsonReader implements Closeable {
         }
       }
 
+      if (bytes != null) {
+        // Keep a UTF-8 sequence that is split at the end of the buffer.
+        p = completeEnd(start, p);
+      }
       if (builder == null) {
         int estimatedLength = (p - start) * 2;
         builder = new StringBuilder(Math.max(estimatedLength, 16));
       }
-      builder.append(buffer, start, p - start);
+      append(builder, start, p - start);
       pos = p;
-      if (!fillBuffer(1)) {
+      if (!fillBuffer(l - p + 1)) {
         throw syntaxError("Unterminated string");
       }
     }
@@ -1047,7 +1418,7 @@ public class JsonReader implements Closeable {
     findNonLiteralCharacter:
     while (true) {
       for (; pos + i < limit; i++) {
-        switch (buffer[pos + i]) {
+        switch (charAt(pos + i)) {
         case '/':
         case '\\':
         case ';':
@@ -1070,7 +1441,7 @@ public class JsonReader implements Closeable {
       }
 
       // Attempt to load the entire literal into the buffer at once.
-      if (i < buffer.length) {
+      if (i < capacity()) {
         if (fillBuffer(i + 1)) {
           continue;
         } else {
@@ -1082,15 +1453,23 @@ public class JsonReader implements Closeable {
       if (builder == null) {
         builder = new StringBuilder(Math.max(i,16));
       }
-      builder.append(buffer, pos, i);
-      pos += i;
-      i = 0;
-      if (!fillBuffer(1)) {
+      // Keep a UTF-8 sequence that is split at the end of the buffer.
+      int length = bytes != null ? completeEnd(pos, pos + i) - pos : i;
+      append(builder, pos, length);
+      pos += length;
+      i -= length;
+      if (!fillBuffer(i + 1)) {
         break;
       }
     }
    
-    String result = (null == builder) ? new String(buffer, pos, i) : builder.append(buffer, pos, i).toString();
+    String result;
+    if (null == builder) {
+      result = newString(pos, i);
+    } else {
+      append(builder, pos, i);
+      result = builder.toString();
+    }
     pos += i;
     return result;
   }
@@ -1098,12 +1477,21 @@ public class JsonReader implements Closeable {
   private void skipQuotedValue(char quote) throws IOException {
     // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
     char[] buffer = this.buffer;
+    byte[] bytes = this.bytes;
     do {
       int p = pos;
       int l = limit;
-      /* the index of the first character not yet appended to the builder. */
       while (p < l) {
-        int c = buffer[p++];
+        int c;
+        if (bytes != null) {
+          p = scanString(bytes, p, l, quote);
+          if (p == l) {
+            break;
+          }
+          c = bytes[p++];
+        } else {
+          c = buffer[p++];
+        }
         if (c == quote) {
           pos = p;
           return;
@@ -1122,11 +1510,98 @@ public class JsonReader implements Closeable {
     throw syntaxError("Unterminated string");
   }
 
+  /**
+   * Skips the remainder of an array or object after its opening bracket by
+   * scanning for the matching closing bracket.
+   */
+  private void skipNested() throws IOException {
+    int depth = 1;
+    char[] buffer = this.buffer;
+    byte[] bytes = this.bytes;
+    do {
+      int p = pos;
+      int l = limit;
+      while (p < l) {
+        int c = bytes != null ? bytes[p++] : buffer[p++];
+        switch (c) {
+          case '"':
+            pos = p;
+            skipRawString();
+            p = pos;
+            l = limit;
+            break;
+          case '[':
+          case '{':
+            depth++;
+            break;
+          case ']':
+          case '}':
+            if (--depth == 0) {
+              pos = p;
+              return;
+            }
+            break;
+          case '\n':
+            lineNumber++;
+            lineStart = p;
+            break;
+        }
+      }
+      pos = p;
+    } while (fillBuffer(1));
+    throw syntaxError("Unterminated value");
+  }
+
+  /**
+   * Skips the remainder of a double quoted string without decoding escape
+   * sequences.
+   */
+  private void skipRawString() throws IOException {
+    char[] buffer = this.buffer;
+    byte[] bytes = this.bytes;
+    do {
+      int p = pos;
+      int l = limit;
+      while (p < l) {
+        int c;
+        if (bytes != null) {
+          p = scanString(bytes, p, l, '"');
+          if (p == l) {
+            break;
+          }
+          c = bytes[p++];
+        } else {
+          c = buffer[p++];
+        }
+        if (c == '"') {
+          pos = p;
+          return;
+        } else if (c == '\\') {
+          if (p == l) {
+            pos = p;
+            if (!fillBuffer(1)) {
+              throw syntaxError("Unterminated string");
+            }
+            p = pos;
+            l = limit;
+          }
+          // Skip the escaped character.
+          p++;
+        } else if (c == '\n') {
+          lineNumber++;
+          lineStart = p;
+        }
+      }
+      pos = p;
+    } while (fillBuffer(1));
+    throw syntaxError("Unterminated string");
+  }
+
   private void skipUnquotedValue() throws IOException {
     do {
       int i = 0;
       for (; pos + i < limit; i++) {
-        switch (buffer[pos + i]) {
+        switch (charAt(pos + i)) {
         case '/':
         case '\\':
         case ';':
@@ -1175,12 +1650,12 @@ public class JsonReader implements Closeable {
         throw new NumberFormatException("Expected an int but was " + peekedLong + locationString());
       }
       peeked = PEEKED_NONE;
-      pathIndices[stackSize - 1]++;
+      countValue();
       return result;
     }
 
     if (p == PEEKED_NUMBER) {
-      peekedString = new String(buffer, pos, peekedNumberLength);
+      peekedString = newString(pos, peekedNumberLength);
       pos += peekedNumberLength;
     } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED || p == PEEKED_UNQUOTED) {
       if (p == PEEKED_UNQUOTED) {
@@ -1191,7 +1666,7 @@ public class JsonReader implements Closeable {
       try {
         result = Integer.parseInt(peekedString);
         peeked = PEEKED_NONE;
-        pathIndices[stackSize - 1]++;
+        countValue();
         return result;
       } catch (NumberFormatException ignored) {
         // Fall back to parse as a double below.
@@ -1208,19 +1683,24 @@ public class JsonReader implements Closeable {
     }
     peekedString = null;
     peeked = PEEKED_NONE;
-    pathIndices[stackSize - 1]++;
+    countValue();
     return result;
   }
 
   /**
-   * Closes this JSON reader and the underlying {@link java.io.Reader}.
+   * Closes this JSON reader and the underlying {@link java.io.Reader} or
+   * {@link InputStream}.
    */
   @Override
   public void close() throws IOException {
     peeked = PEEKED_NONE;
     stack[0] = JsonScope.CLOSED;
     stackSize = 1;
-    in.close();
+    if (in != null) {
+      in.close();
+    } else if (byteIn != null) {
+      byteIn.close();
+    }
   }
 
   /**
@@ -1229,6 +1709,26 @@ public class JsonReader implements Closeable {
    * stream contains unrecognized or unhandled values.
    */
   public void skipValue() throws IOException {
+    if (fastSkip && !lenient) {
+      int p = peeked;
+      if (p == PEEKED_NONE) {
+        p = doPeek();
+      }
+      if (p == PEEKED_BEGIN_ARRAY || p == PEEKED_BEGIN_OBJECT) {
+        peeked = PEEKED_NONE;
+        skipNested();
+        countValue();
+        setPathName("null");
+        return;
+      } else if (p == PEEKED_DOUBLE_QUOTED) {
+        peeked = PEEKED_NONE;
+        skipRawString();
+        countValue();
+        setPathName("null");
+        return;
+      }
+    }
+
     int count = 0;
     do {
       int p = peeked;
@@ -1260,8 +1760,26 @@ public class JsonReader implements Closeable {
       peeked = PEEKED_NONE;
     } while (count != 0);
 
-    pathIndices[stackSize - 1]++;
-    pathNames[stackSize - 1] = "null";
+    countValue();
+    setPathName("null");
+  }
+
+  /**
+   * Advances the index of the current array, if the path is tracked.
+   */
+  private void countValue() {
+    if (trackPath) {
+      pathIndices[stackSize - 1]++;
+    }
+  }
+
+  /**
+   * Records the name of the current property, if the path is tracked.
+   */
+  private void setPathName(String name) {
+    if (trackPath) {
+      pathNames[stackSize - 1] = name;
+    }
   }
 
   private void push(int newTop) {
@@ -1285,6 +1803,10 @@ public class JsonReader implements Closeable {
    * false.
    */
   private boolean fillBuffer(int minimum) throws IOException {
+    if (bytes != null) {
+      return fillBytes(minimum);
+    }
+
     char[] buffer = this.buffer;
     lineStart -= pos;
     if (limit != pos) {
@@ -1313,6 +1835,138 @@ public class JsonReader implements Closeable {
     return false;
   }
 
+  /**
+   * Variant of {@link #fillBuffer(int)} when reading UTF-8 encoded bytes.
+   */
+  private boolean fillBytes(int minimum) throws IOException {
+    InputStream in = byteIn;
+    if (in == null) {
+      // The complete input is available.
+      return limit - pos >= minimum;
+    }
+
+    byte[] bytes = this.bytes;
+    lineStart -= pos;
+    if (limit != pos) {
+      limit -= pos;
+      System.arraycopy(bytes, pos, bytes, 0, limit);
+    } else {
+      limit = 0;
+    }
+
+    pos = 0;
+    int total;
+    while ((total = in.read(bytes, limit, bytes.length - limit)) != -1) {
+      limit += total;
+
+      // Consume an optional byte order mark (BOM) at the start of the stream.
+      if (checkBom && limit >= 3) {
+        checkBom = false;
+        if (bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
+          pos += 3;
+          lineStart += 3;
+          minimum += 3;
+        }
+      }
+
+      if (limit >= minimum && !checkBom) {
+        return true;
+      }
+    }
+    checkBom = false;
+    return limit >= minimum;
+  }
+
+  /**
+   * The character at the given position in the input buffer.
+   *
+   * <p>When reading UTF-8 encoded bytes, each byte of a multi-byte sequence
+   * is reported as a character in the range {@code 0x80..0xFF}. Such
+   * characters are no JSON syntax and are only decoded when a value is
+   * materialized, see {@link #newString(int, int)}.
+   */
+  private char charAt(int p) {
+    byte[] bytes = this.bytes;
+    return bytes != null ? (char) (bytes[p] & 0xFF) : buffer[p];
+  }
+
+  /**
+   * The maximum number of characters that can be held in the input buffer.
+   */
+  private int capacity() {
+    if (bytes == null) {
+      return buffer.length;
+    }
+    return byteIn == null ? Integer.MAX_VALUE : bytes.length;
+  }
+
+  /**
+   * Creates a string from the given range of the input buffer.
+   */
+  private String newString(int start, int length) {
+    byte[] bytes = this.bytes;
+    return bytes != null ? Utf8.decode(bytes, start, length) : new String(buffer, start, length);
+  }
+
+  /**
+   * Appends the given range of the input buffer to the given builder.
+   */
+  private void append(StringBuilder builder, int start, int length) {
+    if (bytes != null) {
+      builder.append(Utf8.decode(bytes, start, length));
+    } else {
+      builder.append(buffer, start, length);
+    }
+  }
+
+  /**
+   * The end of the last complete UTF-8 sequence in the given range of the
+   * input bytes.
+   *
+   * <p>Used to keep a sequence that is split at the end of the buffer in the
+   * buffer until its remaining bytes are read.
+   */
+  private int completeEnd(int start, int end) {
+    byte[] bytes = this.bytes;
+    for (int p = end - 1; p >= start && p >= end - 4; p--) {
+      int b = bytes[p] & 0xFF;
+      if (b < 0x80) {
+        return end;
+      }
+      if (b >= 0xC0) {
+        // Start of a multi-byte sequence.
+        int length = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : 2;
+        return end - p >= length ? end : p;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Searches the given range of UTF-8 encoded input for the end of a run of
+   * string content.
+   *
+   * <p>This is the inner loop of reading and skipping string values and
+   * names. Subclasses may provide a faster implementation, e.g. one that
+   * tests several bytes at once.
+   *
+   * @param input The input bytes.
+   * @param start The first position to test.
+   * @param limit The end of the range to test.
+   * @param quote The quote character that ends the string.
+   * @return The position of the first {@code quote}, backslash or newline
+   *     character in the given range, or {@code limit} if there is none.
+   */
+  protected int scanString(byte[] input, int start, int limit, char quote) {
+    for (int p = start; p < limit; p++) {
+      int c = input[p];
+      if (c == quote || c == '\\' || c == '\n') {
+        return p;
+      }
+    }
+    return limit;
+  }
+
   /**
    * Returns the next character in the stream that is neither whitespace nor a
    * part of a comment. When this returns, the returned character is always at
@@ -1329,6 +1983,7 @@ public class JsonReader implements Closeable {
      * 'p' and 'l' after any (potentially indirect) call to the same method.
      */
     char[] buffer = this.buffer;
+    byte[] bytes = this.bytes;
     int p = pos;
     int l = limit;
     while (true) {
@@ -1341,7 +1996,7 @@ public class JsonReader implements Closeable {
         l = limit;
       }
 
-      int c = buffer[p++];
+      int c = bytes != null ? bytes[p++] & 0xFF : buffer[p++];
       if (c == '\n') {
         lineNumber++;
         lineStart = p;
@@ -1362,7 +2017,7 @@ public class JsonReader implements Closeable {
         }
 
         checkLenient();
-        char peek = buffer[pos];
+        char peek = charAt(pos);
         switch (peek) {
         case '*':
           // skip a /* c-style comment */
@@ -1421,7 +2076,7 @@ public class JsonReader implements Closeable {
    */
   private void skipToEndOfLine() throws IOException {
     while (pos < limit || fillBuffer(1)) {
-      char c = buffer[pos++];
+      char c = charAt(pos++);
       if (c == '\n') {
         lineNumber++;
         lineStart = pos;
@@ -1439,13 +2094,13 @@ public class JsonReader implements Closeable {
     int length = toFind.length();
     outer:
     for (; pos + length <= limit || fillBuffer(length); pos++) {
-      if (buffer[pos] == '\n') {
+      if (charAt(pos) == '\n') {
         lineNumber++;
         lineStart = pos + 1;
         continue;
       }
       for (int c = 0; c < length; c++) {
-        if (buffer[pos + c] != toFind.charAt(c)) {
+        if (charAt(pos + c) != toFind.charAt(c)) {
           continue outer;
         }
       }
@@ -1466,10 +2121,14 @@ public class JsonReader implements Closeable {
 
   /**
    * Returns a <a href="http://goessner.net/articles/JsonPath/">JsonPath</a> to
-   * the current location in the JSON value.
+   * the current location in the JSON value. Without {@link
+   * #setTrackPath(boolean) path tracking}, the path is always {@code $}.
    */
   public String getPath() {
     StringBuilder result = new StringBuilder().append('$');
+    if (!trackPath) {
+      return result.toString();
+    }
     for (int i = 0, size = stackSize; i < size; i++) {
       switch (stack[i]) {
         case JsonScope.EMPTY_ARRAY:
@@ -1509,7 +2168,7 @@ public class JsonReader implements Closeable {
       throw syntaxError("Unterminated escape sequence");
     }
 
-    char escaped = buffer[pos++];
+    char escaped = charAt(pos++);
     switch (escaped) {
     case 'u':
       if (pos + 4 > limit && !fillBuffer(4)) {
@@ -1518,7 +2177,7 @@ public class JsonReader implements Closeable {
       // Equivalent to Integer.parseInt(stringPool.get(buffer, pos, 4), 16);
       char result = 0;
       for (int i = pos, end = i + 4; i < end; i++) {
-        char c = buffer[i];
+        char c = charAt(i);
         result <<= 4;
         if (c >= '0' && c <= '9') {
           result += (c - '0');
@@ -1527,7 +2186,7 @@ public class JsonReader implements Closeable {
         } else if (c >= 'A' && c <= 'F') {
           result += (c - 'A' + 10);
         } else {
-          throw new NumberFormatException("\\u" + new String(buffer, pos, 4));
+          throw new NumberFormatException("\\u" + newString(pos, 4));
         }
       }
       pos += 4;
@@ -1585,7 +2244,7 @@ public class JsonReader implements Closeable {
     }
 
     for (int i = 0; i < NON_EXECUTE_PREFIX.length; i++) {
-      if (buffer[pos + i] != NON_EXECUTE_PREFIX[i]) {
+      if (charAt(pos + i) != NON_EXECUTE_PREFIX[i]) {
         return; // not a security token!
       }
     }
@@ -1594,4 +2253,195 @@ public class JsonReader implements Closeable {
     pos += NON_EXECUTE_PREFIX.length;
   }
 
+
+  /**
+   * Stream decoding a Base64 string value directly from the input buffer.
+   */
+  private final class Base64Input extends InputStream {
+
+    private final char quote;
+
+    /** Decoded bytes of the current group of four characters. */
+    private final byte[] group = new byte[3];
+
+    private int groupPos;
+
+    private int groupLength;
+
+    private boolean done;
+
+    Base64Input(char quote) {
+      this.quote = quote;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (groupPos == groupLength && !nextGroup()) {
+        return -1;
+      }
+      return group[groupPos++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = 0;
+      while (n < len && !done) {
+        if (groupPos < groupLength) {
+          b[off + n++] = group[groupPos++];
+          continue;
+        }
+
+        // Decode complete groups directly from the input buffer.
+        char[] buffer = JsonReader.this.buffer;
+        byte[] bytes = JsonReader.this.bytes;
+        int p = pos;
+        int l = limit;
+        while (len - n >= 3 && l - p >= 4) {
+          char c0, c1, c2, c3;
+          if (bytes != null) {
+            c0 = (char) (bytes[p] & 0xFF);
+            c1 = (char) (bytes[p + 1] & 0xFF);
+            c2 = (char) (bytes[p + 2] & 0xFF);
+            c3 = (char) (bytes[p + 3] & 0xFF);
+          } else {
+            c0 = buffer[p];
+            c1 = buffer[p + 1];
+            c2 = buffer[p + 2];
+            c3 = buffer[p + 3];
+          }
+          if (isSpecial(c0) || isSpecial(c1) || isSpecial(c2) || isSpecial(c3)) {
+            break;
+          }
+          int b24 = (Base64Utils.base64Value(c0) << 18) | (Base64Utils.base64Value(c1) << 12)
+              | (Base64Utils.base64Value(c2) << 6) | Base64Utils.base64Value(c3);
+          b[off + n++] = (byte) (b24 >> 16);
+          b[off + n++] = (byte) (b24 >> 8);
+          b[off + n++] = (byte) b24;
+          p += 4;
+        }
+        pos = p;
+
+        if (n < len && !nextGroup()) {
+          break;
+        }
+      }
+      return n == 0 && len > 0 ? -1 : n;
+    }
+
+    /**
+     * Decodes the complete value.
+     */
+    byte[] readAll() throws IOException {
+      int size = exactSize();
+      if (size >= 0) {
+        byte[] result = new byte[size];
+        if (size > 0) {
+          read(result, 0, size);
+        }
+        close();
+        return result;
+      }
+
+      byte[] result = new byte[Math.max(16, (limit - pos) / 4 * 3)];
+      int length = 0;
+      while (true) {
+        if (length == result.length) {
+          result = Arrays.copyOf(result, 2 * result.length);
+        }
+        int cnt = read(result, length, result.length - length);
+        if (cnt < 0) {
+          break;
+        }
+        length += cnt;
+      }
+      return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    /**
+     * The number of bytes of the value, if it is completely contained in the
+     * input buffer and well-formed, -1 otherwise.
+     */
+    private int exactSize() {
+      int start = pos;
+      int padding = 0;
+      for (int p = start, l = limit; p < l; p++) {
+        char c = charAt(p);
+        if (c == quote) {
+          int length = p - start;
+          if (length % 4 != 0 || padding > 2) {
+            return -1;
+          }
+          return length / 4 * 3 - padding;
+        } else if (c == '=') {
+          padding++;
+        } else if (c == '\\' || padding > 0) {
+          return -1;
+        }
+      }
+      return -1;
+    }
+
+    private boolean isSpecial(char c) {
+      return c == quote || c == '\\' || c == '=' || c >= 128;
+    }
+
+    /**
+     * Decodes the next group of four characters.
+     *
+     * @return whether a group was decoded, false at the end of the string.
+     */
+    private boolean nextGroup() throws IOException {
+      if (done) {
+        return false;
+      }
+      int c0 = nextBase64Char();
+      if (c0 < 0) {
+        done = true;
+        return false;
+      }
+      int c1 = nextBase64Char();
+      int c2 = nextBase64Char();
+      int c3 = nextBase64Char();
+      if (c1 < 0 || c2 < 0 || c3 < 0) {
+        throw syntaxError("Incomplete Base64 value");
+      }
+
+      int b24 = (Base64Utils.base64Value(c0) << 18) | (Base64Utils.base64Value(c1) << 12)
+          | (Base64Utils.base64Value(c2) << 6) | Base64Utils.base64Value(c3);
+      group[0] = (byte) (b24 >> 16);
+      group[1] = (byte) (b24 >> 8);
+      group[2] = (byte) b24;
+      groupPos = 0;
+      groupLength = c2 == '=' ? 1 : c3 == '=' ? 2 : 3;
+      return true;
+    }
+
+    /**
+     * The next (unescaped) character of the string value, or -1 at its end.
+     */
+    private int nextBase64Char() throws IOException {
+      if (pos == limit && !fillBuffer(1)) {
+        throw syntaxError("Unterminated string");
+      }
+      char c = charAt(pos++);
+      if (c == quote) {
+        return -1;
+      } else if (c == '\\') {
+        return readEscapeCharacter();
+      } else {
+        return c;
+      }
+    }
+
+    /**
+     * Skips the remainder of the value.
+     */
+    @Override
+    public void close() throws IOException {
+      while (nextGroup()) {
+        // Skip.
+      }
+      groupPos = groupLength;
+    }
+  }
 }
@@ -4,6 +4,7 @@
 package de.haumacher.msgbuf.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Utilities for reading and writing JSON.
@@ -33,7 +34,7 @@ public class JsonUtil {
 			return null;
 		}
 		
-		return Base64Utils.fromBase64(in.nextString());
+		return in.nextBinary();
 	}
 	
 	/**
@@ -43,7 +44,9 @@ public class JsonUtil {
 		if (value == null) {
 			out.nullValue();
 		} else {
-			out.value(Base64Utils.toBase64(value));
+			try (OutputStream data = out.valueBinaryStream()) {
+				data.write(value);
+			}
 		}
 	}
 	
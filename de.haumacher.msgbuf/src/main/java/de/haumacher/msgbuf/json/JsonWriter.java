@@ -20,6 +20,7 @@ import static de.haumacher.msgbuf.json.JsonScope.*;
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import de.haumacher.msgbuf.io.Writer;
 
@@ -163,7 +164,10 @@ public class JsonWriter implements Closeable, Flushable {
   }
 
   /** The output data, containing at most one top-level array or object. */
-  private final Writer out;
+  private Output output;
+
+  /** The output to a {@link Writer}, kept for reuse in {@link #reset(Writer)}. */
+  private WriterOutput writerOutput;
 
   private int[] stack = new int[32];
   private int stackSize = 0;
@@ -188,8 +192,16 @@ public class JsonWriter implements Closeable, Flushable {
 
   private String deferredName;
 
+  /**
+   * The pre-encoded form of {@link #deferredName}, or null if the name must be
+   * escaped when written.
+   */
+  private JsonName deferredToken;
+
   private boolean serializeNulls = true;
 
+  private boolean readable;
+
   /**
    * Creates a new instance that writes a JSON-encoded stream to {@code out}.
    * For best performance, ensure {@link Writer} is buffered; wrapping in
@@ -199,7 +211,59 @@ public class JsonWriter implements Closeable, Flushable {
     if (out == null) {
       throw new NullPointerException("out == null");
     }
-    this.out = out;
+    this.writerOutput = new WriterOutput(out);
+    this.output = writerOutput;
+  }
+
+  /**
+   * Creates a new instance that writes a JSON-encoded stream to the given
+   * output.
+   *
+   * <p>To be used by subclasses that encode the document into another
+   * representation than characters.
+   */
+  protected JsonWriter(Output output) {
+    this.output = output;
+  }
+
+  /**
+   * Prepares this writer for writing another JSON-encoded stream to
+   * {@code out}.
+   *
+   * <p>The state of a previously written document is discarded. Settings such
+   * as {@link #setIndent(String)} are kept. The previous output is neither
+   * flushed nor closed.
+   */
+  public void reset(Writer out) {
+    if (out == null) {
+      throw new NullPointerException("out == null");
+    }
+    if (writerOutput == null) {
+      writerOutput = new WriterOutput(out);
+    } else {
+      writerOutput.out = out;
+    }
+    reset(writerOutput);
+  }
+
+  /**
+   * Prepares this writer for writing another JSON-encoded stream to the given
+   * output.
+   *
+   * <p>To be used by subclasses that reset their own output.
+   *
+   * @see #reset(Writer)
+   */
+  protected final void reset(Output output) {
+    this.output = output;
+    resetState();
+  }
+
+  private void resetState() {
+    stack[0] = EMPTY_DOCUMENT;
+    stackSize = 1;
+    deferredName = null;
+    deferredToken = null;
   }
 
 	private static String[] clone(String[] s) {
@@ -284,6 +348,26 @@ public class JsonWriter implements Closeable, Flushable {
     return serializeNulls;
   }
 
+  /**
+   * Sets whether to produce readable output for types with compact JSON
+   * encoding. By default, such types are written with numeric property and
+   * type identifiers. A readable writer uses full property and type names
+   * instead, e.g. for debugging. Readers accept both forms.
+   */
+  public final void setReadable(boolean readable) {
+    this.readable = readable;
+  }
+
+  /**
+   * Returns true if this writer uses full property and type names also for
+   * types with compact JSON encoding.
+   *
+   * @see #setReadable(boolean)
+   */
+  public final boolean isReadable() {
+    return readable;
+  }
+
   /**
    * Begins encoding a new array. Each call to this method must be paired with
    * a call to {@link #endArray}.
@@ -331,7 +415,7 @@ public class JsonWriter implements Closeable, Flushable {
   private JsonWriter open(int empty, String openBracket) throws IOException {
     beforeValue();
     push(empty);
-    out.write(openBracket);
+    write(openBracket);
     return this;
   }
 
@@ -353,7 +437,7 @@ public class JsonWriter implements Closeable, Flushable {
     if (context == nonempty) {
       newline();
     }
-    out.write(closeBracket);
+    write(closeBracket);
     return this;
   }
 
@@ -403,10 +487,38 @@ public class JsonWriter implements Closeable, Flushable {
     return this;
   }
 
+  /**
+   * Encodes the pre-encoded property name.
+   *
+   * <p>In contrast to {@link #name(String)}, the name is not escaped again
+   * but copied to the output as a whole. If the name has a {@link
+   * JsonName#getCompact() compact form}, the compact form is written unless
+   * this writer is {@link #setReadable(boolean) readable}.
+   *
+   * @param name the name of the forthcoming value. May not be null.
+   * @return this writer.
+   */
+  public JsonWriter name(JsonName name) throws IOException {
+    if (!readable) {
+      JsonName compact = name.getCompact();
+      if (compact != null) {
+        name = compact;
+      }
+    }
+    name(name.getName());
+    deferredToken = name;
+    return this;
+  }
+
   private void writeDeferredName() throws IOException {
     if (deferredName != null) {
       beforeName();
-      string(deferredName);
+      if (deferredToken != null) {
+        name(deferredToken, htmlSafe);
+        deferredToken = null;
+      } else {
+        string(deferredName);
+      }
       deferredName = null;
     }
   }
@@ -440,10 +552,29 @@ public class JsonWriter implements Closeable, Flushable {
     }
     writeDeferredName();
     beforeValue();
-    out.write(value);
+    write(value);
     return this;
   }
 
+  /**
+   * Starts writing a binary value of arbitrary length as Base64 encoded string.
+   *
+   * <p>The binary contents must be written to the resulting {@link
+   * OutputStream}. The contents are encoded while being written without
+   * buffering the complete value. No other methods of this writer must be
+   * called before the resulting stream has been {@link OutputStream#close()
+   * closed}.
+   *
+   * @return the stream to write the binary contents to.
+   * @see JsonReader#nextBinaryStream()
+   */
+  public OutputStream valueBinaryStream() throws IOException {
+    writeDeferredName();
+    beforeValue();
+    write('"');
+    return new Base64Output();
+  }
+
   /**
    * Encodes {@code null}.
    *
@@ -455,11 +586,12 @@ public class JsonWriter implements Closeable, Flushable {
         writeDeferredName();
       } else {
         deferredName = null;
+        deferredToken = null;
         return this; // skip the name and the value
       }
     }
     beforeValue();
-    out.write("null");
+    write("null");
     return this;
   }
 
@@ -471,7 +603,7 @@ public class JsonWriter implements Closeable, Flushable {
   public JsonWriter value(boolean value) throws IOException {
     writeDeferredName();
     beforeValue();
-    out.write(value ? "true" : "false");
+    write(value ? "true" : "false");
     return this;
   }
 
@@ -486,7 +618,7 @@ public class JsonWriter implements Closeable, Flushable {
     }
     writeDeferredName();
     beforeValue();
-    out.write(value ? "true" : "false");
+    write(value ? "true" : "false");
     return this;
   }
 
@@ -503,7 +635,7 @@ public class JsonWriter implements Closeable, Flushable {
       throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
     }
     beforeValue();
-    out.write(Double.toString(value));
+    number(value);
     return this;
   }
 
@@ -515,7 +647,7 @@ public class JsonWriter implements Closeable, Flushable {
   public JsonWriter value(long value) throws IOException {
     writeDeferredName();
     beforeValue();
-    out.write(Long.toString(value));
+    number(value);
     return this;
   }
 
@@ -538,7 +670,7 @@ public class JsonWriter implements Closeable, Flushable {
       throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
     }
     beforeValue();
-    out.write(string);
+    write(string);
     return this;
   }
 
@@ -551,7 +683,7 @@ public class JsonWriter implements Closeable, Flushable {
     if (stackSize == 0) {
       throw new IllegalStateException("JsonWriter is closed.");
     }
-    out.flush();
+    output.flush();
   }
 
   /**
@@ -561,7 +693,7 @@ public class JsonWriter implements Closeable, Flushable {
    */
   @Override
   public void close() throws IOException {
-    out.close();
+    output.close();
 
     int size = stackSize;
     if (size > 1 || size == 1 && stack[size - 1] != NONEMPTY_DOCUMENT) {
@@ -570,36 +702,32 @@ public class JsonWriter implements Closeable, Flushable {
     stackSize = 0;
   }
 
-  private void string(String value) throws IOException {
-    String[] replacements = htmlSafe ? HTML_SAFE_REPLACEMENT_CHARS : REPLACEMENT_CHARS;
-    out.write("\"");
-    int last = 0;
-    int length = value.length();
-    for (int i = 0; i < length; i++) {
-      char c = value.charAt(i);
-      String replacement;
-      if (c < 128) {
-        replacement = replacements[c];
-        if (replacement == null) {
-          continue;
-        }
-      } else if (c == '\u2028') {
-        replacement = "\\u2028";
-      } else if (c == '\u2029') {
-        replacement = "\\u2029";
-      } else {
-        continue;
-      }
-      if (last < i) {
-        out.write(value, last, i - last);
-      }
-      out.write(replacement);
-      last = i + 1;
-    }
-    if (last < length) {
-      out.write(value, last, length - last);
-    }
-    out.write("\"");
+  private void write(String value) throws IOException {
+    output.write(value);
+  }
+
+  private void write(char value) throws IOException {
+    output.write(value);
+  }
+
+  private void write(char[] buffer, int start, int length) throws IOException {
+    output.write(buffer, start, length);
+  }
+
+  private void number(long value) throws IOException {
+    output.number(value);
+  }
+
+  private void number(double value) throws IOException {
+    output.number(value);
+  }
+
+  private void name(JsonName name, boolean htmlSafe) throws IOException {
+    output.name(name, htmlSafe);
+  }
+
+  void string(String value) throws IOException {
+    output.string(value, htmlSafe);
   }
 
   private void newline() throws IOException {
@@ -607,9 +735,9 @@ public class JsonWriter implements Closeable, Flushable {
       return;
     }
 
-    out.write("\n");
+    write("\n");
     for (int i = 1, size = stackSize; i < size; i++) {
-      out.write(indent);
+      write(indent);
     }
   }
 
@@ -620,7 +748,7 @@ public class JsonWriter implements Closeable, Flushable {
   private void beforeName() throws IOException {
     int context = peek();
     if (context == NONEMPTY_OBJECT) { // first in object
-      out.write(',');
+      write(',');
     } else if (context != EMPTY_OBJECT) { // not in an object!
       throw new IllegalStateException("Nesting problem.");
     }
@@ -652,12 +780,12 @@ public class JsonWriter implements Closeable, Flushable {
       break;
 
     case NONEMPTY_ARRAY: // another in array
-      out.write(',');
+      write(',');
       newline();
       break;
 
     case DANGLING_NAME: // value for name
-      out.write(separator);
+      write(separator);
       replaceTop(NONEMPTY_OBJECT);
       break;
 
@@ -665,4 +793,240 @@ public class JsonWriter implements Closeable, Flushable {
       throw new IllegalStateException("Nesting problem.");
     }
   }
+
+  /**
+   * Target of the encoded document.
+   *
+   * <p>The default output passes characters to a {@link Writer}. A subclass
+   * may encode the document into another representation, see
+   * {@link JsonWriter#JsonWriter(Output)}.
+   */
+  protected static abstract class Output {
+
+    /**
+     * Writes the given raw JSON fragment.
+     */
+    protected abstract void write(String value) throws IOException;
+
+    /**
+     * Writes the given raw JSON character.
+     */
+    protected abstract void write(char value) throws IOException;
+
+    /**
+     * Writes the given raw JSON characters.
+     */
+    protected abstract void write(char[] buffer, int start, int length) throws IOException;
+
+    /**
+     * Writes the given string value quoted and escaped.
+     *
+     * @param htmlSafe whether HTML characters must be escaped, see
+     *     {@link JsonWriter#setHtmlSafe(boolean)}.
+     */
+    protected abstract void string(String value, boolean htmlSafe) throws IOException;
+
+    /**
+     * Writes the given number.
+     */
+    protected void number(long value) throws IOException {
+      write(Long.toString(value));
+    }
+
+    /**
+     * Writes the given number.
+     *
+     * <p>The value is only non-finite in lenient mode.
+     */
+    protected void number(double value) throws IOException {
+      write(Double.toString(value));
+    }
+
+    /**
+     * Writes the given pre-encoded property name.
+     *
+     * @param htmlSafe whether the HTML safe encoding must be written.
+     */
+    protected void name(JsonName name, boolean htmlSafe) throws IOException {
+      write(name.quoted(htmlSafe));
+    }
+
+    /**
+     * Flushes the underlying target.
+     */
+    protected abstract void flush() throws IOException;
+
+    /**
+     * Closes the underlying target.
+     */
+    protected abstract void close() throws IOException;
+  }
+
+  /**
+   * {@link Output} writing characters to a {@link Writer}.
+   */
+  private static final class WriterOutput extends Output {
+
+    Writer out;
+
+    WriterOutput(Writer out) {
+      this.out = out;
+    }
+
+    @Override
+    protected void write(String value) throws IOException {
+      out.write(value);
+    }
+
+    @Override
+    protected void write(char value) throws IOException {
+      out.write(value);
+    }
+
+    @Override
+    protected void write(char[] buffer, int start, int length) throws IOException {
+      out.write(buffer, start, length);
+    }
+
+    @Override
+    protected void string(String value, boolean htmlSafe) throws IOException {
+      String[] replacements = htmlSafe ? HTML_SAFE_REPLACEMENT_CHARS : REPLACEMENT_CHARS;
+      out.write("\"");
+      int last = 0;
+      int length = value.length();
+      for (int i = 0; i < length; i++) {
+        char c = value.charAt(i);
+        String replacement;
+        if (c < 128) {
+          replacement = replacements[c];
+          if (replacement == null) {
+            continue;
+          }
+        } else if (c == '\u2028') {
+          replacement = "\\u2028";
+        } else if (c == '\u2029') {
+          replacement = "\\u2029";
+        } else {
+          continue;
+        }
+        if (last < i) {
+          out.write(value, last, i - last);
+        }
+        out.write(replacement);
+        last = i + 1;
+      }
+      if (last < length) {
+        out.write(value, last, length - last);
+      }
+      out.write("\"");
+    }
+
+    @Override
+    protected void flush() throws IOException {
+      out.flush();
+    }
+
+    @Override
+    protected void close() throws IOException {
+      out.close();
+    }
+  }
+
+  /**
+   * Stream encoding binary contents as Base64 string value.
+   */
+  private final class Base64Output extends OutputStream {
+
+    private final char[] chars = new char[4096];
+
+    private int charCount;
+
+    /** Bytes of an incomplete group of three bytes. */
+    private final int[] pending = new int[3];
+
+    private int pendingCount;
+
+    private boolean closed;
+
+    @Override
+    public void write(int b) throws IOException {
+      checkOpen();
+      pending[pendingCount++] = b & 0xff;
+      if (pendingCount == 3) {
+        encode(pending[0], pending[1], pending[2], 3);
+        pendingCount = 0;
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      checkOpen();
+      int end = off + len;
+      while (pendingCount > 0 && off < end) {
+        write(b[off++]);
+      }
+      for (; off + 3 <= end; off += 3) {
+        encode(b[off] & 0xff, b[off + 1] & 0xff, b[off + 2] & 0xff, 3);
+      }
+      while (off < end) {
+        pending[pendingCount++] = b[off++] & 0xff;
+      }
+    }
+
+    private void encode(int b0, int b1, int b2, int count) throws IOException {
+      if (charCount + 4 > chars.length) {
+        flushChars();
+      }
+      int b24 = (b0 << 16) | (b1 << 8) | b2;
+      char[] base64Chars = Base64Utils.base64Chars;
+      chars[charCount++] = base64Chars[(b24 >> 18) & 0x3f];
+      chars[charCount++] = base64Chars[(b24 >> 12) & 0x3f];
+      if (count == 3) {
+        chars[charCount++] = base64Chars[(b24 >> 6) & 0x3f];
+        chars[charCount++] = base64Chars[b24 & 0x3f];
+      } else {
+        if (count == 2) {
+          chars[charCount++] = base64Chars[(b24 >> 6) & 0x3f];
+        } else {
+          padding();
+        }
+        padding();
+      }
+    }
+
+    private void padding() throws IOException {
+      if (htmlSafe) {
+        // Same escaping as in WriterOutput.string(String, boolean).
+        flushChars();
+        JsonWriter.this.write(HTML_SAFE_REPLACEMENT_CHARS['=']);
+      } else {
+        chars[charCount++] = '=';
+      }
+    }
+
+    private void flushChars() throws IOException {
+      JsonWriter.this.write(chars, 0, charCount);
+      charCount = 0;
+    }
+
+    private void checkOpen() throws IOException {
+      if (closed) {
+        throw new IOException("Binary stream is closed.");
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      if (pendingCount > 0) {
+        encode(pending[0], pendingCount > 1 ? pending[1] : 0, 0, pendingCount);
+        pendingCount = 0;
+      }
+      flushChars();
+      JsonWriter.this.write('"');
+      closed = true;
+    }
+  }
 }
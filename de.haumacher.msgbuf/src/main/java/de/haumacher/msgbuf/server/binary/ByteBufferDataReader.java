@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import de.haumacher.msgbuf.binary.AbstractOctetDataReader;
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.OctetDataWriter;
+
+/**
+ * {@link DataReader} that reconstructs values written with a {@link OctetDataWriter} directly from a
+ * {@link ByteBuffer}.
+ * 
+ * <p>
+ * The buffer may be a heap buffer, a direct buffer, or a {@link java.nio.MappedByteBuffer} created by
+ * {@link java.nio.channels.FileChannel#map(java.nio.channels.FileChannel.MapMode, long, long)}. Decoding operates on
+ * absolute buffer indices, skipping values only advances the read position.
+ * </p>
+ * 
+ * <p>
+ * The reader does not modify the position or limit of the buffer passed to the constructor.
+ * </p>
+ */
+public class ByteBufferDataReader extends AbstractOctetDataReader {
+
+	private static final int MASK_7 = ~(0xFFFFFFFF << 7);
+
+	private static final int BIT_8 = 1 << 7;
+
+	private final ByteBuffer _buffer;
+	
+	private int _pos;
+	
+	private final int _limit;
+
+	/** 
+	 * Creates a {@link ByteBufferDataReader} reading the remaining contents of the given buffer.
+	 */
+	public ByteBufferDataReader(ByteBuffer buffer) {
+		_buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+		_pos = buffer.position();
+		_limit = buffer.limit();
+	}
+	
+	/**
+	 * The current read position in the buffer.
+	 */
+	public int getPosition() {
+		return _pos;
+	}
+	
+	/**
+	 * Whether there is more input after the current read position.
+	 */
+	public boolean hasRemaining() {
+		return _pos < _limit;
+	}
+	
+	/**
+	 * Reads the next binary value as view of the underlying buffer without copying.
+	 */
+	public ByteBuffer nextBinaryBuffer() throws IOException {
+		InputStream stream = nextBinaryStream();
+		if (stream instanceof SliceInputStream) {
+			return ((SliceInputStream) stream).slice();
+		}
+		try (InputStream in = stream) {
+			// Chunked value, must be assembled.
+			return ByteBuffer.wrap(in.readAllBytes());
+		}
+	}
+
+	@Override
+	protected int readOctet() throws IOException {
+		if (_pos >= _limit) {
+			return -1;
+		}
+		return _buffer.get(_pos++) & 0xFF;
+	}
+
+	@Override
+	protected void readOctets(byte[] buffer, int offset, int length) throws IOException {
+		require(length);
+		_buffer.position(_pos);
+		_buffer.get(buffer, offset, length);
+		_pos += length;
+	}
+
+	@Override
+	protected void skipOctets(long length) throws IOException {
+		require(length);
+		_pos += (int) length;
+	}
+
+	@Override
+	protected InputStream readBinaryStream(int size) throws IOException {
+		require(size);
+		int start = _pos;
+		_pos += size;
+		return new SliceInputStream(start, size);
+	}
+
+	@Override
+	protected int readVarInt() throws IOException {
+		ByteBuffer buffer = _buffer;
+		int pos = _pos;
+		int limit = _limit;
+		int result = 0;
+		int shift = 0;
+		while (pos < limit) {
+			int data = buffer.get(pos++);
+			result |= (data & MASK_7) << shift;
+			if ((data & BIT_8) == 0) {
+				_pos = pos;
+				return result;
+			}
+			shift += 7;
+		}
+		throw new IOException("End of buffer reached, while reading var int.");
+	}
+
+	@Override
+	protected long readVarLong() throws IOException {
+		ByteBuffer buffer = _buffer;
+		int pos = _pos;
+		int limit = _limit;
+		long result = 0;
+		int shift = 0;
+		while (pos < limit) {
+			int data = buffer.get(pos++);
+			result |= ((long) (data & MASK_7)) << shift;
+			if ((data & BIT_8) == 0) {
+				_pos = pos;
+				return result;
+			}
+			shift += 7;
+		}
+		throw new IOException("End of buffer reached, while reading var long.");
+	}
+
+	@Override
+	protected int readFixedInt() throws IOException {
+		require(4);
+		int result = _buffer.getInt(_pos);
+		_pos += 4;
+		return result;
+	}
+
+	@Override
+	protected long readFixedLong() throws IOException {
+		require(8);
+		long result = _buffer.getLong(_pos);
+		_pos += 8;
+		return result;
+	}
+
+	@Override
+	protected void readFixedInts(int[] values) throws IOException {
+		require(4L * values.length);
+		_buffer.position(_pos);
+		_buffer.asIntBuffer().get(values);
+		_pos += 4 * values.length;
+	}
+
+	@Override
+	protected void readFixedLongs(long[] values) throws IOException {
+		require(8L * values.length);
+		_buffer.position(_pos);
+		_buffer.asLongBuffer().get(values);
+		_pos += 8 * values.length;
+	}
+
+	@Override
+	protected void readFloats(float[] values) throws IOException {
+		require(4L * values.length);
+		_buffer.position(_pos);
+		_buffer.asFloatBuffer().get(values);
+		_pos += 4 * values.length;
+	}
+
+	@Override
+	protected void readDoubles(double[] values) throws IOException {
+		require(8L * values.length);
+		_buffer.position(_pos);
+		_buffer.asDoubleBuffer().get(values);
+		_pos += 8 * values.length;
+	}
+
+	@Override
+	protected String readString(int size) throws IOException {
+		if (!_buffer.hasArray()) {
+			return super.readString(size);
+		}
+		require(size);
+		String result = decodeString(_buffer.array(), _buffer.arrayOffset() + _pos, size);
+		_pos += size;
+		return result;
+	}
+
+	private void require(long length) throws IOException {
+		if (length > _limit - _pos) {
+			throw new IOException("End of buffer reached, while reading '" + length + "' bytes.");
+		}
+	}
+
+	/**
+	 * {@link InputStream} reading from a fixed range of the underlying buffer.
+	 */
+	private final class SliceInputStream extends InputStream {
+		
+		private int _start;
+		private final int _end;
+
+		/** 
+		 * Creates a {@link SliceInputStream}.
+		 */
+		public SliceInputStream(int start, int size) {
+			_start = start;
+			_end = start + size;
+		}
+		
+		/**
+		 * A view of the remaining contents of this stream.
+		 */
+		public ByteBuffer slice() {
+			ByteBuffer result = _buffer.duplicate();
+			result.limit(_end);
+			result.position(_start);
+			return result.slice();
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (_start >= _end) {
+				return -1;
+			}
+			return _buffer.get(_start++) & 0xFF;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (_start >= _end) {
+				return -1;
+			}
+			int direct = Math.min(len, _end - _start);
+			ByteBuffer source = _buffer.duplicate();
+			source.position(_start);
+			source.get(b, off, direct);
+			_start += direct;
+			return direct;
+		}
+		
+		@Override
+		public long skip(long n) throws IOException {
+			long direct = Math.max(0, Math.min(n, _end - _start));
+			_start += (int) direct;
+			return direct;
+		}
+		
+		@Override
+		public int available() throws IOException {
+			return _end - _start;
+		}
+		
+		@Override
+		public void close() throws IOException {
+			_start = _end;
+		}
+	}
+	
+}
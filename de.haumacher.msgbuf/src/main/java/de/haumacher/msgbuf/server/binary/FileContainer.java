@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.binary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import de.haumacher.msgbuf.binary.AbstractContainer;
+import de.haumacher.msgbuf.binary.Container;
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.MessageReader;
+
+/**
+ * Random access to the messages of a binary container stored in a file.
+ *
+ * <p>
+ * In contrast to a {@link Container}, the file is not loaded into memory. Only the header, the offset index, and the
+ * blocks of the messages actually read are transferred with positional reads from the {@link FileChannel}. Offsets are
+ * 64 bit values, so the container size is not limited to 2 GB.
+ * </p>
+ *
+ * <p>
+ * Messages are decoded with a {@link ByteBufferDataReader} from a read buffer. Since positional reads do not modify the
+ * channel, the messages can be decoded in parallel, see {@link #parallelStream()}.
+ * </p>
+ *
+ * @param <T>
+ *        The message type.
+ *
+ * @see AbstractContainer
+ */
+public class FileContainer<T> extends AbstractContainer<T> implements Closeable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final FileChannel _channel;
+
+	private final int _bufferSize;
+
+	/**
+	 * Creates a {@link FileContainer} with the default read buffer size.
+	 */
+	public FileContainer(FileChannel channel, MessageReader<? extends T> reader) throws IOException {
+		this(channel, reader, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a {@link FileContainer}.
+	 *
+	 * @param channel
+	 *        The channel to read the container from. The file must not be modified while the container is in use.
+	 * @param reader
+	 *        Function reading a single message, e.g. <code>MyMessage::readMyMessage</code>.
+	 * @param bufferSize
+	 *        The size of the buffer for reading consecutive messages. Larger messages are read into a buffer of
+	 *        their own.
+	 */
+	public FileContainer(FileChannel channel, MessageReader<? extends T> reader, int bufferSize) throws IOException {
+		super(reader);
+		_channel = channel;
+		_bufferSize = bufferSize;
+
+		init(channel.size());
+	}
+
+	@Override
+	protected Input input(long offset) {
+		return new ChannelInput(offset);
+	}
+
+	/**
+	 * Closes the underlying {@link FileChannel}.
+	 */
+	@Override
+	public void close() throws IOException {
+		_channel.close();
+	}
+
+	private void readFully(ByteBuffer buffer, long offset) throws IOException {
+		while (buffer.hasRemaining()) {
+			int cnt = _channel.read(buffer, offset + buffer.position());
+			if (cnt < 0) {
+				throw new IOException("End of file reached, while reading '" + buffer.capacity() + "' bytes at offset: " + offset);
+			}
+		}
+	}
+
+	/**
+	 * {@link Input} reading the container file through a buffer.
+	 */
+	private final class ChannelInput extends Input {
+
+		private final ByteBuffer _buffer;
+
+		/**
+		 * The offset in the file of the first byte in {@link #_buffer}.
+		 */
+		private long _start;
+
+		ChannelInput(long offset) {
+			_buffer = ByteBuffer.allocate(_bufferSize);
+			_buffer.limit(0);
+			_start = offset;
+		}
+
+		@Override
+		protected long position() {
+			return _start + _buffer.position();
+		}
+
+		@Override
+		protected int read() throws IOException {
+			if (!_buffer.hasRemaining() && !fill()) {
+				return -1;
+			}
+			return _buffer.get() & 0xFF;
+		}
+
+		@Override
+		protected void skip(long length) {
+			if (length <= _buffer.remaining()) {
+				_buffer.position(_buffer.position() + (int) length);
+			} else {
+				_start = position() + length;
+				_buffer.position(0);
+				_buffer.limit(0);
+			}
+		}
+
+		@Override
+		protected DataReader message(int length) throws IOException {
+			if (length > _buffer.remaining()) {
+				if (length > _buffer.capacity()) {
+					ByteBuffer data = ByteBuffer.allocate(length);
+					readFully(data, position());
+					data.flip();
+					skip(length);
+					return new ByteBufferDataReader(data);
+				}
+				if (!fill() || length > _buffer.remaining()) {
+					throw new IOException("End of file reached, while reading '" + length + "' bytes at offset: " + position());
+				}
+			}
+			ByteBuffer data = _buffer.duplicate();
+			data.limit(_buffer.position() + length);
+			_buffer.position(_buffer.position() + length);
+			return new ByteBufferDataReader(data);
+		}
+
+		/**
+		 * Moves the remaining bytes to the start of the buffer and fills it from the file.
+		 *
+		 * @return Whether there are bytes available.
+		 */
+		private boolean fill() throws IOException {
+			_start += _buffer.position();
+			_buffer.compact();
+			while (_buffer.hasRemaining()) {
+				int cnt = _channel.read(_buffer, _start + _buffer.position());
+				if (cnt < 0) {
+					break;
+				}
+			}
+			_buffer.flip();
+			return _buffer.hasRemaining();
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.graph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import de.haumacher.msgbuf.binary.DataReader;
+import de.haumacher.msgbuf.binary.OctetDataReader;
+import de.haumacher.msgbuf.graph.DefaultScope;
+import de.haumacher.msgbuf.graph.Patch;
+
+/**
+ * Compression of {@link Patch}es for transmission.
+ *
+ * <p>
+ * A patch delivered to many receivers should be compressed only once by requesting its compressed form with
+ * {@link Patch#derive(Function)}:
+ * </p>
+ *
+ * <pre>
+ * byte[] data = patch.derive(PatchCompression.DEFLATE);
+ * </pre>
+ *
+ * <p>
+ * The receiver applies the compressed patch with
+ * <code>scope.applyChanges(PatchCompression.inflate(data))</code>.
+ * </p>
+ */
+public final class PatchCompression {
+
+	/**
+	 * Encoding compressing a {@link Patch} with the deflate algorithm.
+	 *
+	 * @see Patch#derive(Function)
+	 * @see #inflate(byte[])
+	 */
+	public static final Function<Patch, byte[]> DEFLATE = PatchCompression::deflate;
+
+	private PatchCompression() {
+		// Static utility.
+	}
+
+	private static byte[] deflate(Patch patch) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(patch.size() / 2 + 16);
+		try (DeflaterOutputStream out = new DeflaterOutputStream(buffer)) {
+			patch.writeTo(out);
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * A reader for a patch compressed with {@link #DEFLATE}.
+	 *
+	 * @see DefaultScope#applyChanges(DataReader)
+	 */
+	public static DataReader inflate(byte[] data) {
+		return inflate(new ByteArrayInputStream(data));
+	}
+
+	/**
+	 * A reader for a patch compressed with {@link #DEFLATE} that is read from the given stream.
+	 *
+	 * @see DefaultScope#applyChanges(DataReader)
+	 */
+	public static DataReader inflate(InputStream in) {
+		return new OctetDataReader(new InflaterInputStream(in));
+	}
+
+}
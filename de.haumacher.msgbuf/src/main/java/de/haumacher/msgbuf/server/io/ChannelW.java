@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import de.haumacher.msgbuf.io.Utf8W;
+
+/**
+ * {@link Utf8W} writing UTF-8 encoded output in chunks to a {@link WritableByteChannel}.
+ */
+public class ChannelW extends Utf8W {
+
+	private static final int DEFAULT_CHUNK_SIZE = 8192;
+
+	private final WritableByteChannel _channel;
+
+	/**
+	 * Creates a {@link ChannelW} with the default chunk size.
+	 */
+	public ChannelW(WritableByteChannel channel) {
+		this(channel, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a {@link ChannelW}.
+	 *
+	 * @param channel
+	 *        The channel to write to.
+	 * @param chunkSize
+	 *        The size of the buffer flushed to the channel whenever it runs full.
+	 */
+	public ChannelW(WritableByteChannel channel, int chunkSize) {
+		super(chunkSize);
+		_channel = channel;
+	}
+
+	@Override
+	protected void writeOut(byte[] buffer, int length) throws IOException {
+		ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, length);
+		while (chunk.hasRemaining()) {
+			_channel.write(chunk);
+		}
+	}
+
+	@Override
+	protected void flushOut() throws IOException {
+		// A channel has no buffer of its own.
+	}
+
+	@Override
+	protected void closeOut() throws IOException {
+		_channel.close();
+	}
+
+}
@@ -33,6 +33,11 @@ public final class WriterAdapter implements Writer {
 		_out.write(str, start, length);
 	}
 
+	@Override
+	public void write(char[] buffer, int start, int length) throws IOException {
+		_out.write(buffer, start, length);
+	}
+
 	@Override
 	public void flush() throws IOException {
 		_out.flush();
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shortest decimal representation of <code>double</code> values.
+ *
+ * <p>
+ * Implements the Schubfach algorithm by Raffaello Giulietti ("The Schubfach way to render doubles"). The result is the
+ * shortest decimal that rounds to the formatted value. If there are several such decimals, the one closest to the
+ * value is chosen. The output format is the same as the one of {@link Double#toString(double)}: Values between
+ * <code>10^-3</code> (inclusive) and <code>10^7</code> (exclusive) are written in plain notation, all others in
+ * scientific notation, e.g. <code>1.0E-5</code>.
+ * </p>
+ *
+ * <p>
+ * In contrast to {@link Double#toString(double)}, digits are written directly into a byte buffer without creating
+ * intermediate strings.
+ * </p>
+ */
+public final class DoubleFormat {
+
+	/**
+	 * Maximum number of bytes written by {@link #write(double, byte[], int)}.
+	 */
+	public static final int MAX_LENGTH = 24;
+
+	/** Precision of a double including the hidden bit. */
+	private static final int P = 53;
+
+	/** Minimum exponent of a double. */
+	private static final int Q_MIN = -1074;
+
+	/** Hidden bit of a normalized double. */
+	private static final long C_MIN = 1L << (P - 1);
+
+	/** Mask of the significand bits. */
+	private static final long T_MASK = C_MIN - 1;
+
+	/** Mask of the biased exponent. */
+	private static final int BQ_MASK = 0x7FF;
+
+	/** Subnormal significands below this value must be scaled by 10 to produce enough digits. */
+	private static final long C_TINY = 3;
+
+	/** Number of decimal digits of the scaled significand. */
+	private static final int H = 17;
+
+	/** Minimum decimal exponent. */
+	private static final int K_MIN = -324;
+
+	/** Maximum decimal exponent. */
+	private static final int K_MAX = 292;
+
+	private static final long MASK_63 = (1L << 63) - 1;
+
+	private static final int MASK_28 = (1 << 28) - 1;
+
+	private static final long[] POW10 = {
+		1L,
+		10L,
+		100L,
+		1_000L,
+		10_000L,
+		100_000L,
+		1_000_000L,
+		10_000_000L,
+		100_000_000L,
+		1_000_000_000L,
+		10_000_000_000L,
+		100_000_000_000L,
+		1_000_000_000_000L,
+		10_000_000_000_000L,
+		100_000_000_000_000L,
+		1_000_000_000_000_000L,
+		10_000_000_000_000_000L,
+		100_000_000_000_000_000L,
+	};
+
+	/**
+	 * The 126 bit approximations <code>g</code> of <code>10^-k</code>, split into the upper 63 bits (even indices)
+	 * and the lower 63 bits (odd indices).
+	 */
+	private static final long[] G = computeG();
+
+	private DoubleFormat() {
+		// Static utility.
+	}
+
+	/**
+	 * The shortest decimal representation of the given value.
+	 *
+	 * @see Double#toString(double)
+	 */
+	public static String toString(double value) {
+		byte[] buffer = new byte[MAX_LENGTH];
+		int length = write(value, buffer, 0);
+		return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Writes the shortest decimal representation of the given value as ASCII characters to the given buffer.
+	 *
+	 * <p>
+	 * The buffer must have room for at least {@link #MAX_LENGTH} bytes after the given position.
+	 * </p>
+	 *
+	 * @return The position in the buffer after the written value.
+	 */
+	public static int write(double value, byte[] buffer, int pos) {
+		long bits = Double.doubleToRawLongBits(value);
+		long t = bits & T_MASK;
+		int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+		if (bq < BQ_MASK) {
+			if (bits < 0) {
+				buffer[pos++] = '-';
+			}
+			if (bq != 0) {
+				// Normal value.
+				int mq = -Q_MIN + 1 - bq;
+				long c = C_MIN | t;
+				if (0 < mq & mq < P) {
+					// Fast path for integral values.
+					long f = c >> mq;
+					if (f << mq == c) {
+						return toChars(buffer, pos, f, 0);
+					}
+				}
+				return toDecimal(buffer, pos, -mq, c, 0);
+			}
+			if (t != 0) {
+				// Subnormal value.
+				return t < C_TINY ? toDecimal(buffer, pos, Q_MIN, 10 * t, -1) : toDecimal(buffer, pos, Q_MIN, t, 0);
+			}
+			buffer[pos++] = '0';
+			buffer[pos++] = '.';
+			buffer[pos++] = '0';
+			return pos;
+		}
+		return ascii(buffer, pos, t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+	}
+
+	private static int toDecimal(byte[] buffer, int pos, int q, long c, int dk) {
+		int out = (int) c & 0x1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		if (c != C_MIN | q == Q_MIN) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		} else {
+			// The value is a power of two, the rounding interval is asymmetric.
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		int h = q + flog2pow10(-k) + 2;
+
+		int index = 2 * (k - K_MIN);
+		long g1 = G[index];
+		long g0 = G[index + 1];
+
+		long vb = rop(g1, g0, cb << h);
+		long vbl = rop(g1, g0, cbl << h);
+		long vbr = rop(g1, g0, cbr << h);
+
+		long s = vb >> 2;
+		if (s >= 100) {
+			// Try a result with one digit less.
+			long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				return toChars(buffer, pos, upin ? sp10 : tp10, k);
+			}
+		}
+
+		long t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			return toChars(buffer, pos, uin ? s : t, k + dk);
+		}
+
+		// Both candidates are in the rounding interval, choose the closer one.
+		long cmp = vb - (s + t << 1);
+		return toChars(buffer, pos, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+	}
+
+	/**
+	 * Rounds the product of <code>g</code> and <code>cp</code> to odd.
+	 */
+	private static long rop(long g1, long g0, long cp) {
+		long x1 = Math.multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = Math.multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+
+	/**
+	 * Writes the decimal <code>f * 10^e</code>.
+	 */
+	private static int toChars(byte[] buffer, int pos, long f, int e) {
+		// Number of digits of f.
+		int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+		if (f >= POW10[len]) {
+			len += 1;
+		}
+
+		// Scale f to exactly H digits, afterwards the value is 0.f * 10^e.
+		f *= POW10[H - len];
+		e += len;
+
+		// Split f into the most significant digit h, the next 8 digits m, and the last 8 digits l.
+		long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+		int l = (int) (f - 100_000_000L * hm);
+		int h = (int) (hm * 1_441_151_881L >>> 57);
+		int m = (int) (hm - 100_000_000 * h);
+
+		if (0 < e && e <= 7) {
+			// Plain format without leading zeros.
+			buffer[pos++] = digit(h);
+			int y = y(m);
+			int i = 1;
+			for (; i < e; ++i) {
+				int x = 10 * y;
+				buffer[pos++] = digit(x >>> 28);
+				y = x & MASK_28;
+			}
+			buffer[pos++] = '.';
+			for (; i <= 8; ++i) {
+				int x = 10 * y;
+				buffer[pos++] = digit(x >>> 28);
+				y = x & MASK_28;
+			}
+			return lowDigits(buffer, pos, l);
+		}
+		if (-3 < e && e <= 0) {
+			// Plain format with leading zeros.
+			buffer[pos++] = '0';
+			buffer[pos++] = '.';
+			for (; e < 0; ++e) {
+				buffer[pos++] = '0';
+			}
+			buffer[pos++] = digit(h);
+			pos = append8Digits(buffer, pos, m);
+			return lowDigits(buffer, pos, l);
+		}
+
+		// Scientific notation.
+		buffer[pos++] = digit(h);
+		buffer[pos++] = '.';
+		pos = append8Digits(buffer, pos, m);
+		pos = lowDigits(buffer, pos, l);
+		return exponent(buffer, pos, e - 1);
+	}
+
+	private static int lowDigits(byte[] buffer, int pos, int l) {
+		if (l != 0) {
+			pos = append8Digits(buffer, pos, l);
+		}
+
+		// Remove trailing zeros but keep the one directly after the decimal point.
+		while (buffer[pos - 1] == '0') {
+			pos--;
+		}
+		if (buffer[pos - 1] == '.') {
+			pos++;
+		}
+		return pos;
+	}
+
+	private static int append8Digits(byte[] buffer, int pos, int m) {
+		int y = y(m);
+		for (int i = 0; i < 8; ++i) {
+			int x = 10 * y;
+			buffer[pos++] = digit(x >>> 28);
+			y = x & MASK_28;
+		}
+		return pos;
+	}
+
+	/**
+	 * Fixed point representation of <code>a / 10^8</code> with 28 fractional bits for left to right digit extraction.
+	 */
+	private static int y(int a) {
+		return (int) (Math.multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+	}
+
+	private static int exponent(byte[] buffer, int pos, int e) {
+		buffer[pos++] = 'E';
+		if (e < 0) {
+			buffer[pos++] = '-';
+			e = -e;
+		}
+		if (e < 10) {
+			buffer[pos++] = digit(e);
+			return pos;
+		}
+		int d;
+		if (e >= 100) {
+			d = e * 1_311 >>> 17;
+			buffer[pos++] = digit(d);
+			e -= 100 * d;
+		}
+		d = e * 103 >>> 10;
+		buffer[pos++] = digit(d);
+		buffer[pos++] = digit(e - 10 * d);
+		return pos;
+	}
+
+	private static byte digit(int d) {
+		return (byte) ('0' + d);
+	}
+
+	private static int ascii(byte[] buffer, int pos, String value) {
+		for (int n = 0, cnt = value.length(); n < cnt; n++) {
+			buffer[pos++] = (byte) value.charAt(n);
+		}
+		return pos;
+	}
+
+	/**
+	 * <code>floor(log10(2^e))</code>
+	 */
+	private static int flog10pow2(int e) {
+		return (int) (e * 661_971_961_083L >> 41);
+	}
+
+	/**
+	 * <code>floor(log10(3/4 * 2^e))</code>
+	 */
+	private static int flog10threeQuartersPow2(int e) {
+		return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+	}
+
+	/**
+	 * <code>floor(log2(10^e))</code>
+	 */
+	private static int flog2pow10(int e) {
+		return (int) (e * 913_124_641_741L >> 38);
+	}
+
+	/**
+	 * Computes <code>g = floor(10^-k * 2^-r) + 1</code> for all <code>k</code>, where <code>r</code> is chosen so that
+	 * <code>2^125 &lt;= 10^-k * 2^-r &lt; 2^126</code>.
+	 */
+	private static long[] computeG() {
+		long[] result = new long[2 * (K_MAX - K_MIN + 1)];
+		BigInteger mask63 = BigInteger.valueOf(MASK_63);
+		for (int k = K_MIN; k <= K_MAX; k++) {
+			int shift = 125 - flog2pow10(-k);
+			BigInteger g;
+			if (k <= 0) {
+				BigInteger pow = BigInteger.TEN.pow(-k);
+				g = shift >= 0 ? pow.shiftLeft(shift) : pow.shiftRight(-shift);
+			} else {
+				g = BigInteger.ONE.shiftLeft(shift).divide(BigInteger.TEN.pow(k));
+			}
+			g = g.add(BigInteger.ONE);
+
+			int index = 2 * (k - K_MIN);
+			result[index] = g.shiftRight(63).longValue();
+			result[index + 1] = g.and(mask63).longValue();
+		}
+		return result;
+	}
+
+}
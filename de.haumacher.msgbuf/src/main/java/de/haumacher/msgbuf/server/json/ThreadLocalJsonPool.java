@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import de.haumacher.msgbuf.io.Reader;
+import de.haumacher.msgbuf.io.Writer;
+import de.haumacher.msgbuf.json.JsonPool;
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.JsonWriter;
+
+/**
+ * {@link JsonPool} caching one instance of each reader and writer type per thread.
+ *
+ * <p>
+ * Nested requests for the same type in the same thread (while the cached instance is in use) are served with new
+ * instances that are not cached.
+ * </p>
+ *
+ * <p>
+ * A released instance keeps a reference to its last input or output until it is handed out again.
+ * </p>
+ */
+public class ThreadLocalJsonPool extends JsonPool {
+
+	private final ThreadLocal<Cache> _cache = ThreadLocal.withInitial(Cache::new);
+
+	/**
+	 * The cached instances of a single thread.
+	 */
+	private static final class Cache {
+		JsonReader _reader;
+
+		boolean _readerInUse;
+
+		JsonWriter _writer;
+
+		boolean _writerInUse;
+
+		Utf8JsonReader _utf8Reader;
+
+		boolean _utf8ReaderInUse;
+
+		Utf8JsonWriter _utf8Writer;
+
+		boolean _utf8WriterInUse;
+	}
+
+	@Override
+	public JsonReader reader(Reader in) {
+		Cache cache = _cache.get();
+		if (cache._readerInUse) {
+			return new JsonReader(in);
+		}
+		cache._readerInUse = true;
+		if (cache._reader == null) {
+			cache._reader = new JsonReader(in);
+		} else {
+			cache._reader.reset(in);
+			initReader(cache._reader);
+		}
+		return cache._reader;
+	}
+
+	@Override
+	public JsonWriter writer(Writer out) {
+		Cache cache = _cache.get();
+		if (cache._writerInUse) {
+			return new JsonWriter(out);
+		}
+		cache._writerInUse = true;
+		if (cache._writer == null) {
+			cache._writer = new JsonWriter(out);
+		} else {
+			cache._writer.reset(out);
+			initWriter(cache._writer);
+		}
+		return cache._writer;
+	}
+
+	/**
+	 * A {@link Utf8JsonReader} parsing the given range of UTF-8 encoded bytes.
+	 *
+	 * @see #release(JsonReader)
+	 */
+	public Utf8JsonReader utf8Reader(byte[] input, int offset, int length) {
+		Cache cache = _cache.get();
+		if (cache._utf8ReaderInUse) {
+			return new Utf8JsonReader(input, offset, length);
+		}
+		cache._utf8ReaderInUse = true;
+		if (cache._utf8Reader == null) {
+			cache._utf8Reader = new Utf8JsonReader(input, offset, length);
+		} else {
+			cache._utf8Reader.reset(input, offset, length);
+			initReader(cache._utf8Reader);
+		}
+		return cache._utf8Reader;
+	}
+
+	/**
+	 * A {@link Utf8JsonReader} parsing the given UTF-8 encoded stream.
+	 *
+	 * @see #release(JsonReader)
+	 */
+	public Utf8JsonReader utf8Reader(InputStream in) {
+		Cache cache = _cache.get();
+		if (cache._utf8ReaderInUse) {
+			return new Utf8JsonReader(in);
+		}
+		cache._utf8ReaderInUse = true;
+		if (cache._utf8Reader == null) {
+			cache._utf8Reader = new Utf8JsonReader(in);
+		} else {
+			cache._utf8Reader.reset(in);
+			initReader(cache._utf8Reader);
+		}
+		return cache._utf8Reader;
+	}
+
+	/**
+	 * A {@link Utf8JsonWriter} writing to the given stream.
+	 *
+	 * @see #release(JsonWriter)
+	 */
+	public Utf8JsonWriter utf8Writer(OutputStream out) {
+		Cache cache = _cache.get();
+		if (cache._utf8WriterInUse) {
+			return new Utf8JsonWriter(out);
+		}
+		cache._utf8WriterInUse = true;
+		if (cache._utf8Writer == null) {
+			cache._utf8Writer = new Utf8JsonWriter(out);
+		} else {
+			cache._utf8Writer.reset(out);
+			initWriter(cache._utf8Writer);
+		}
+		return cache._utf8Writer;
+	}
+
+	@Override
+	public void release(JsonReader reader) {
+		Cache cache = _cache.get();
+		if (reader == cache._reader) {
+			cache._readerInUse = false;
+		} else if (reader == cache._utf8Reader) {
+			cache._utf8ReaderInUse = false;
+		}
+	}
+
+	@Override
+	public void release(JsonWriter writer) {
+		Cache cache = _cache.get();
+		if (writer == cache._writer) {
+			cache._writerInUse = false;
+		} else if (writer == cache._utf8Writer) {
+			cache._utf8WriterInUse = false;
+		}
+	}
+
+	private static void initReader(JsonReader reader) {
+		reader.setLenient(false);
+		reader.setTrackPath(true);
+		reader.setFastSkip(false);
+	}
+
+	private static void initWriter(JsonWriter writer) {
+		writer.setIndent("");
+		writer.setLenient(false);
+		writer.setHtmlSafe(false);
+		writer.setSerializeNulls(true);
+		writer.setReadable(false);
+	}
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.MalformedJsonException;
+
+/**
+ * Push-style decoder for a sequence of UTF-8 encoded JSON documents arriving in arbitrary chunks.
+ *
+ * <p>
+ * Chunks are passed to {@link #feed(byte[], int, int)} as they arrive, e.g. from a non-blocking channel. The
+ * assembler keeps track of the nesting of objects, arrays, and strings across chunk boundaries without blocking and
+ * without decoding. As soon as a top-level object or array is complete, it is decoded with the given
+ * {@link Decoder} (e.g. a generated <code>readXXX(JsonReader)</code> method) from a {@link Utf8JsonReader} and the
+ * result is passed to the consumer. Consecutive documents may be separated by whitespace.
+ * </p>
+ *
+ * <p>
+ * Each top-level value must be an object or an array, see {@link JsonReader#setLenient(boolean)}.
+ * </p>
+ *
+ * @param <T>
+ *        The type of decoded messages.
+ */
+public class Utf8JsonAssembler<T> {
+
+	/**
+	 * Default for {@link #getMaxDocumentSize()}.
+	 */
+	public static final int DEFAULT_MAX_DOCUMENT_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Function decoding a complete document.
+	 *
+	 * @param <T>
+	 *        The type of the decoded message.
+	 */
+	public interface Decoder<T> {
+
+		/**
+		 * Reads a message from the given reader.
+		 */
+		T read(JsonReader in) throws IOException;
+
+	}
+
+	private final Decoder<? extends T> _decoder;
+
+	private final Consumer<? super T> _consumer;
+
+	private final Utf8JsonReader _reader = new Utf8JsonReader(new byte[0]);
+
+	private int _maxDocumentSize = DEFAULT_MAX_DOCUMENT_SIZE;
+
+	/**
+	 * The bytes of the current incomplete document.
+	 */
+	private byte[] _buffer = new byte[1024];
+
+	/**
+	 * The number of bytes in {@link #_buffer}.
+	 */
+	private int _length;
+
+	/**
+	 * The nesting depth of objects and arrays in the current document, 0 before a document has started.
+	 */
+	private int _depth;
+
+	/**
+	 * Whether the last byte fed was part of a string.
+	 */
+	private boolean _inString;
+
+	/**
+	 * Whether the last byte fed was a backslash within a string.
+	 */
+	private boolean _escape;
+
+	/**
+	 * Creates a {@link Utf8JsonAssembler}.
+	 *
+	 * @param decoder
+	 *        The function decoding a complete document.
+	 * @param consumer
+	 *        The callback receiving decoded messages.
+	 */
+	public Utf8JsonAssembler(Decoder<? extends T> decoder, Consumer<? super T> consumer) {
+		_decoder = decoder;
+		_consumer = consumer;
+	}
+
+	/**
+	 * The reader used for decoding, e.g. to configure {@link JsonReader#setFastSkip(boolean)}.
+	 */
+	public Utf8JsonReader getReader() {
+		return _reader;
+	}
+
+	/**
+	 * The maximum size of a single document in bytes.
+	 *
+	 * <p>
+	 * Incomplete documents are buffered until they are complete. The limit prevents a peer from exhausting memory
+	 * by sending a document that never ends.
+	 * </p>
+	 */
+	public int getMaxDocumentSize() {
+		return _maxDocumentSize;
+	}
+
+	/**
+	 * @see #getMaxDocumentSize()
+	 *
+	 * @return This instance for call chaining.
+	 */
+	public Utf8JsonAssembler<T> setMaxDocumentSize(int maxDocumentSize) {
+		if (maxDocumentSize <= 0) {
+			throw new IllegalArgumentException("Maximum document size must be positive: " + maxDocumentSize);
+		}
+		_maxDocumentSize = maxDocumentSize;
+		return this;
+	}
+
+	/**
+	 * Whether a document has been started but is not yet complete.
+	 */
+	public boolean isPending() {
+		return _depth > 0;
+	}
+
+	/**
+	 * Feeds the remaining bytes of the given buffer.
+	 *
+	 * <p>
+	 * The position of the buffer is advanced to its limit.
+	 * </p>
+	 *
+	 * @see #feed(byte[], int, int)
+	 */
+	public void feed(ByteBuffer chunk) throws IOException {
+		int length = chunk.remaining();
+		if (chunk.hasArray()) {
+			int offset = chunk.arrayOffset() + chunk.position();
+			chunk.position(chunk.limit());
+			feed(chunk.array(), offset, length);
+		} else {
+			byte[] copy = new byte[length];
+			chunk.get(copy);
+			feed(copy, 0, length);
+		}
+	}
+
+	/**
+	 * Feeds the next chunk of input.
+	 *
+	 * <p>
+	 * All documents completed by the given chunk are decoded and passed to the consumer before this method returns.
+	 * The given array is not referenced after this method returns.
+	 * </p>
+	 *
+	 * @throws MalformedJsonException
+	 *         If the input contains a top-level value that is not an object or array, an unbalanced closing bracket,
+	 *         or a document larger than {@link #getMaxDocumentSize()}. The input cannot be continued afterwards.
+	 * @throws IOException
+	 *         If decoding a document fails.
+	 */
+	public void feed(byte[] chunk, int offset, int length) throws IOException {
+		int end = offset + length;
+		int start = offset;
+		int depth = _depth;
+		boolean inString = _inString;
+		boolean escape = _escape;
+		for (int p = offset; p < end; p++) {
+			byte c = chunk[p];
+			if (inString) {
+				if (escape) {
+					escape = false;
+				} else if (c == '\\') {
+					escape = true;
+				} else if (c == '"') {
+					inString = false;
+				}
+				continue;
+			}
+			switch (c) {
+				case '"':
+					if (depth == 0) {
+						throw new MalformedJsonException("Expected an object or array but found a string.");
+					}
+					inString = true;
+					break;
+				case '{':
+				case '[':
+					if (depth == 0) {
+						// Drop the whitespace before the document.
+						start = p;
+					}
+					depth++;
+					break;
+				case '}':
+				case ']':
+					if (depth == 0) {
+						throw new MalformedJsonException("Unbalanced '" + (char) c + "'.");
+					}
+					if (--depth == 0) {
+						append(chunk, start, p + 1 - start);
+						start = p + 1;
+						_depth = 0;
+						_inString = false;
+						_escape = false;
+						decode();
+					}
+					break;
+				case ' ':
+				case '\t':
+				case '\r':
+				case '\n':
+					break;
+				default:
+					if (depth == 0) {
+						throw new MalformedJsonException("Expected an object or array but found '" + (char) c + "'.");
+					}
+					break;
+			}
+		}
+		if (depth > 0) {
+			append(chunk, start, end - start);
+		}
+		_depth = depth;
+		_inString = inString;
+		_escape = escape;
+	}
+
+	/**
+	 * Signals the end of input.
+	 *
+	 * @throws MalformedJsonException
+	 *         If the input ends within a document.
+	 */
+	public void end() throws MalformedJsonException {
+		if (isPending()) {
+			throw new MalformedJsonException("Incomplete document at end of input.");
+		}
+	}
+
+	private void append(byte[] chunk, int start, int length) throws MalformedJsonException {
+		int required = _length + length;
+		if (required > _maxDocumentSize || required < 0) {
+			_length = 0;
+			_depth = 0;
+			throw new MalformedJsonException("Document exceeds the maximum size of " + _maxDocumentSize + " bytes.");
+		}
+		if (required > _buffer.length) {
+			_buffer = Arrays.copyOf(_buffer, (int) Math.min(Math.max(2L * _buffer.length, required), _maxDocumentSize));
+		}
+		System.arraycopy(chunk, start, _buffer, _length, length);
+		_length = required;
+	}
+
+	private void decode() throws IOException {
+		int length = _length;
+		_length = 0;
+		_reader.reset(_buffer, 0, length);
+		T message = _decoder.read(_reader);
+		_consumer.accept(message);
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import de.haumacher.msgbuf.json.JsonReader;
+
+/**
+ * {@link JsonReader} that parses UTF-8 encoded bytes.
+ *
+ * <p>
+ * The bytes are tokenized by the {@link JsonReader} base class without decoding them to characters, see
+ * {@link JsonReader#JsonReader(byte[], int, int)}. This class adds direct access to {@link ByteBuffer}s and scans
+ * string contents eight bytes at a time, see {@link #scanString(byte[], int, int, char)}.
+ * </p>
+ *
+ * <p>
+ * Since the input is parsed by the {@link JsonReader} base class, the reader accepts the same syntax including its
+ * lenient mode, see {@link #setLenient(boolean)}. It can also be reset to a character source, see
+ * {@link #reset(de.haumacher.msgbuf.io.Reader)}.
+ * </p>
+ */
+public class Utf8JsonReader extends JsonReader {
+
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private static final long ONES = 0x0101010101010101L;
+
+	private static final long HIGH_BITS = 0x8080808080808080L;
+
+	private static final long BACKSLASHES = ONES * '\\';
+
+	private static final long NEWLINES = ONES * '\n';
+
+	private static final byte[] NO_INPUT = {};
+
+	/**
+	 * Creates a {@link Utf8JsonReader} parsing the given UTF-8 encoded document.
+	 *
+	 * <p>
+	 * The given array is not modified and must not be modified while reading.
+	 * </p>
+	 */
+	public Utf8JsonReader(byte[] input) {
+		this(input, 0, input.length);
+	}
+
+	/**
+	 * Creates a {@link Utf8JsonReader} parsing the given range of UTF-8 encoded bytes.
+	 *
+	 * @see #Utf8JsonReader(byte[])
+	 */
+	public Utf8JsonReader(byte[] input, int offset, int length) {
+		super(input, offset, length);
+	}
+
+	/**
+	 * Creates a {@link Utf8JsonReader} parsing the remaining content of the given buffer.
+	 *
+	 * <p>
+	 * The position of the given buffer is not modified. A buffer with accessible array is parsed in place, the contents
+	 * of a direct buffer are transferred in chunks.
+	 * </p>
+	 */
+	public Utf8JsonReader(ByteBuffer input) {
+		super(NO_INPUT, 0, 0);
+		reset(input);
+	}
+
+	/**
+	 * Creates a {@link Utf8JsonReader} parsing the given UTF-8 encoded stream.
+	 */
+	public Utf8JsonReader(InputStream in) {
+		super(in);
+	}
+
+	/**
+	 * Prepares this reader for parsing another UTF-8 encoded document.
+	 *
+	 * @see #Utf8JsonReader(byte[])
+	 * @see JsonReader#reset(de.haumacher.msgbuf.io.Reader)
+	 */
+	public void reset(byte[] input) {
+		reset(input, 0, input.length);
+	}
+
+	/**
+	 * Prepares this reader for parsing the remaining content of another buffer.
+	 *
+	 * @see #Utf8JsonReader(ByteBuffer)
+	 */
+	public void reset(ByteBuffer input) {
+		if (input.hasArray()) {
+			reset(input.array(), input.arrayOffset() + input.position(), input.remaining());
+		} else {
+			reset(new ByteBufferInput(input.duplicate()));
+		}
+	}
+
+	/**
+	 * Tests eight bytes at once for a quote, backslash, or newline.
+	 */
+	@Override
+	protected int scanString(byte[] input, int start, int limit, char quote) {
+		long quotes = ONES * quote;
+		int p = start;
+		for (; p + 8 <= limit; p += 8) {
+			long word = (long) LONGS.get(input, p);
+			long found = zeros(word ^ quotes) | zeros(word ^ BACKSLASHES) | zeros(word ^ NEWLINES);
+			if (found != 0) {
+				// The lowest marked byte is exact, since borrows only propagate to higher bytes.
+				return p + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+		}
+		return super.scanString(input, p, limit, quote);
+	}
+
+	/**
+	 * Marks the high bit of the lowest zero byte in the given word (and possibly of higher bytes).
+	 */
+	private static long zeros(long word) {
+		return (word - ONES) & ~word & HIGH_BITS;
+	}
+
+	/**
+	 * {@link InputStream} transferring the contents of a direct {@link ByteBuffer}.
+	 */
+	private static final class ByteBufferInput extends InputStream {
+
+		private final ByteBuffer _buffer;
+
+		ByteBufferInput(ByteBuffer buffer) {
+			_buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return _buffer.hasRemaining() ? _buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			int remaining = _buffer.remaining();
+			if (remaining == 0) {
+				return len == 0 ? 0 : -1;
+			}
+			int cnt = Math.min(len, remaining);
+			_buffer.get(b, off, cnt);
+			return cnt;
+		}
+	}
+
+}
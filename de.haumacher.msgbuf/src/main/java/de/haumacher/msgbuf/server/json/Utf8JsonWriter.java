@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import de.haumacher.msgbuf.binary.Utf8;
+import de.haumacher.msgbuf.json.JsonName;
+import de.haumacher.msgbuf.json.JsonWriter;
+
+/**
+ * {@link JsonWriter} that encodes its output directly to UTF-8 bytes.
+ *
+ * <p>
+ * In contrast to a {@link JsonWriter} writing to an {@link java.io.OutputStreamWriter}, strings are escaped and
+ * encoded in a single pass into a byte buffer without an intermediate character stream.
+ * </p>
+ *
+ * <p>
+ * A writer created without a stream keeps the complete document in memory, see {@link #toByteArray()}.
+ * </p>
+ *
+ * <p>
+ * Only the output is specific to this class, the document structure is maintained by the {@link JsonWriter} base
+ * class. The writer can therefore also be reset to a character stream, see
+ * {@link #reset(de.haumacher.msgbuf.io.Writer)}.
+ * </p>
+ */
+public class Utf8JsonWriter extends JsonWriter {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * Number of characters of a string that are encoded before checking the buffer capacity again.
+	 */
+	private static final int CHUNK_SIZE = 1024;
+
+	/**
+	 * Maximum number of bytes written for a single character of a string value (an <code>\\uXXXX</code> escape).
+	 */
+	private static final int MAX_BYTES_PER_CHAR = 6;
+
+	/**
+	 * Maximum number of bytes of a <code>long</code> value including its sign.
+	 */
+	private static final int MAX_LONG_LENGTH = 20;
+
+	private static final byte[][] REPLACEMENTS;
+
+	private static final byte[][] HTML_SAFE_REPLACEMENTS;
+
+	static {
+		REPLACEMENTS = new byte[128][];
+		for (int n = 0; n <= 0x1f; n++) {
+			REPLACEMENTS[n] = ascii(unicodeEscape(n));
+		}
+		REPLACEMENTS['"'] = ascii("\\\"");
+		REPLACEMENTS['\\'] = ascii("\\\\");
+		REPLACEMENTS['\t'] = ascii("\\t");
+		REPLACEMENTS['\b'] = ascii("\\b");
+		REPLACEMENTS['\n'] = ascii("\\n");
+		REPLACEMENTS['\r'] = ascii("\\r");
+		REPLACEMENTS['\f'] = ascii("\\f");
+
+		HTML_SAFE_REPLACEMENTS = REPLACEMENTS.clone();
+		HTML_SAFE_REPLACEMENTS['<'] = ascii(unicodeEscape('<'));
+		HTML_SAFE_REPLACEMENTS['>'] = ascii(unicodeEscape('>'));
+		HTML_SAFE_REPLACEMENTS['&'] = ascii(unicodeEscape('&'));
+		HTML_SAFE_REPLACEMENTS['='] = ascii(unicodeEscape('='));
+		HTML_SAFE_REPLACEMENTS['\''] = ascii(unicodeEscape('\''));
+	}
+
+	private final Utf8Output _output;
+
+	/**
+	 * Creates a {@link Utf8JsonWriter} writing to the given stream.
+	 */
+	public Utf8JsonWriter(OutputStream out) {
+		this(new Utf8Output(out));
+	}
+
+	/**
+	 * Creates a {@link Utf8JsonWriter} that keeps its output in memory.
+	 *
+	 * @see #toByteArray()
+	 */
+	public Utf8JsonWriter() {
+		this(new Utf8Output());
+	}
+
+	private Utf8JsonWriter(Utf8Output output) {
+		super(output);
+		_output = output;
+	}
+
+	/**
+	 * Prepares this writer for writing another document to the given stream.
+	 *
+	 * <p>
+	 * Bytes still buffered for the previous output are discarded, the previous stream is neither flushed nor closed.
+	 * </p>
+	 */
+	public void reset(OutputStream out) {
+		if (out == null) {
+			throw new NullPointerException("out == null");
+		}
+		_output.reset(out);
+		reset(_output);
+	}
+
+	/**
+	 * Prepares this writer for writing another document to memory.
+	 *
+	 * <p>
+	 * Bytes still buffered for the previous output are discarded, the buffer is reused.
+	 * </p>
+	 *
+	 * @see #toByteArray()
+	 */
+	public void reset() {
+		_output.reset(null);
+		reset(_output);
+	}
+
+	/**
+	 * The number of bytes in the buffer.
+	 */
+	public int size() {
+		return _output._pos;
+	}
+
+	/**
+	 * A copy of the bytes written so far, if this writer has no underlying stream.
+	 *
+	 * <p>
+	 * After this writer has been reset to a character stream with {@link #reset(de.haumacher.msgbuf.io.Writer)}, the
+	 * result is empty.
+	 * </p>
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(_output._buffer, _output._pos);
+	}
+
+	/**
+	 * {@link JsonWriter.Output} encoding the document into a byte buffer.
+	 */
+	private static final class Utf8Output extends JsonWriter.Output {
+
+		OutputStream _out;
+
+		byte[] _buffer;
+
+		int _pos;
+
+		Utf8Output() {
+			_buffer = new byte[256];
+		}
+
+		Utf8Output(OutputStream out) {
+			if (out == null) {
+				throw new NullPointerException("out == null");
+			}
+			_out = out;
+			_buffer = new byte[DEFAULT_BUFFER_SIZE];
+		}
+
+		void reset(OutputStream out) {
+			if (out != null && _buffer.length < DEFAULT_BUFFER_SIZE) {
+				_buffer = new byte[DEFAULT_BUFFER_SIZE];
+			}
+			_out = out;
+			_pos = 0;
+		}
+
+		@Override
+		protected void write(String value) throws IOException {
+			ensureCapacity(3 * value.length());
+			_pos = Utf8.encode(value, _buffer, _pos);
+		}
+
+		@Override
+		protected void write(char value) throws IOException {
+			if (value < 0x80) {
+				ensureCapacity(1);
+				_buffer[_pos++] = (byte) value;
+			} else {
+				write(String.valueOf(value));
+			}
+		}
+
+		@Override
+		protected void write(char[] buffer, int start, int length) throws IOException {
+			int end = start + length;
+			for (int n = start; n < end; ) {
+				ensureCapacity(Math.min(end - n, CHUNK_SIZE));
+				int stop = Math.min(end, n + _buffer.length - _pos);
+				byte[] out = _buffer;
+				int pos = _pos;
+				while (n < stop) {
+					char ch = buffer[n];
+					if (ch >= 0x80) {
+						break;
+					}
+					out[pos++] = (byte) ch;
+					n++;
+				}
+				_pos = pos;
+				if (n < stop) {
+					write(buffer[n++]);
+				}
+			}
+		}
+
+		@Override
+		protected void string(String value, boolean htmlSafe) throws IOException {
+			byte[][] replacements = htmlSafe ? HTML_SAFE_REPLACEMENTS : REPLACEMENTS;
+
+			ensureCapacity(1);
+			_buffer[_pos++] = '"';
+
+			int length = value.length();
+			int n = 0;
+			while (n < length) {
+				int end = Math.min(length, n + CHUNK_SIZE);
+				ensureCapacity(MAX_BYTES_PER_CHAR * (end - n));
+
+				// Local copies for fast inner loop access.
+				byte[] buffer = _buffer;
+				int pos = _pos;
+				for (; n < end; n++) {
+					char ch = value.charAt(n);
+					if (ch < 0x80) {
+						byte[] replacement = replacements[ch];
+						if (replacement == null) {
+							buffer[pos++] = (byte) ch;
+						} else {
+							System.arraycopy(replacement, 0, buffer, pos, replacement.length);
+							pos += replacement.length;
+						}
+					} else if (ch < 0x800) {
+						buffer[pos++] = (byte) (0xC0 | (ch >>> 6));
+						buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+					} else if (ch == '\u2028' || ch == '\u2029') {
+						// Interpreted as newline in JavaScript.
+						pos = writeAscii(unicodeEscape(ch), buffer, pos);
+					} else if (Character.isSurrogate(ch)) {
+						if (Character.isHighSurrogate(ch) && n + 1 < length && Character.isLowSurrogate(value.charAt(n + 1))) {
+							int codePoint = Character.toCodePoint(ch, value.charAt(++n));
+							buffer[pos++] = (byte) (0xF0 | (codePoint >>> 18));
+							buffer[pos++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+							buffer[pos++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+							buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+						} else {
+							buffer[pos++] = '?';
+						}
+					} else {
+						buffer[pos++] = (byte) (0xE0 | (ch >>> 12));
+						buffer[pos++] = (byte) (0x80 | ((ch >>> 6) & 0x3F));
+						buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+					}
+				}
+				_pos = pos;
+			}
+
+			ensureCapacity(1);
+			_buffer[_pos++] = '"';
+		}
+
+		@Override
+		protected void number(long value) throws IOException {
+			ensureCapacity(MAX_LONG_LENGTH);
+			byte[] buffer = _buffer;
+			int pos = _pos;
+			if (value < 0) {
+				buffer[pos++] = '-';
+			} else {
+				// Use negative values to accommodate Long.MIN_VALUE.
+				value = -value;
+			}
+
+			int end = pos + digits(value);
+			pos = end;
+			while (value <= -100) {
+				long q = value / 100;
+				int r = (int) (q * 100 - value);
+				buffer[--pos] = (byte) ('0' + r % 10);
+				buffer[--pos] = (byte) ('0' + r / 10);
+				value = q;
+			}
+			if (value <= -10) {
+				int r = (int) -value;
+				buffer[--pos] = (byte) ('0' + r % 10);
+				buffer[--pos] = (byte) ('0' + r / 10);
+			} else {
+				buffer[--pos] = (byte) ('0' - value);
+			}
+			_pos = end;
+		}
+
+		/**
+		 * The number of decimal digits of the given non-positive value.
+		 */
+		private static int digits(long negative) {
+			long limit = -10;
+			for (int n = 1; n < 19; n++) {
+				if (negative > limit) {
+					return n;
+				}
+				limit *= 10;
+			}
+			return 19;
+		}
+
+		@Override
+		protected void number(double value) throws IOException {
+			ensureCapacity(DoubleFormat.MAX_LENGTH);
+			_pos = DoubleFormat.write(value, _buffer, _pos);
+		}
+
+		@Override
+		protected void name(JsonName name, boolean htmlSafe) throws IOException {
+			byte[] encoded = name.utf8(htmlSafe);
+			ensureCapacity(encoded.length);
+			System.arraycopy(encoded, 0, _buffer, _pos, encoded.length);
+			_pos += encoded.length;
+		}
+
+		@Override
+		protected void flush() throws IOException {
+			if (_out != null) {
+				flushBuffer();
+				_out.flush();
+			}
+		}
+
+		@Override
+		protected void close() throws IOException {
+			if (_out != null) {
+				flushBuffer();
+				_out.close();
+			}
+		}
+
+		private void ensureCapacity(int bytes) throws IOException {
+			if (_buffer.length - _pos >= bytes) {
+				return;
+			}
+			if (_out != null) {
+				flushBuffer();
+				if (_buffer.length >= bytes) {
+					return;
+				}
+			}
+			_buffer = Arrays.copyOf(_buffer, Math.max(2 * _buffer.length, _pos + bytes));
+		}
+
+		private void flushBuffer() throws IOException {
+			if (_pos > 0) {
+				_out.write(_buffer, 0, _pos);
+				_pos = 0;
+			}
+		}
+	}
+
+	private static int writeAscii(String value, byte[] buffer, int pos) {
+		for (int n = 0, cnt = value.length(); n < cnt; n++) {
+			buffer[pos++] = (byte) value.charAt(n);
+		}
+		return pos;
+	}
+
+	private static String unicodeEscape(int ch) {
+		String hex = Integer.toHexString(ch);
+		return "\\u" + "0000".substring(hex.length()) + hex;
+	}
+
+	private static byte[] ascii(String value) {
+		byte[] result = new byte[value.length()];
+		writeAscii(value, result, 0);
+		return result;
+	}
+
+}
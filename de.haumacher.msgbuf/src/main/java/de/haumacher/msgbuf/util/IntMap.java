@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Map with primitive <code>int</code> keys.
+ *
+ * <p>
+ * Entries are stored in an open-addressing hash table with linear probing. In contrast to a {@link java.util.HashMap}
+ * with {@link Integer} keys, neither keys nor entries are allocated as separate objects and lookups do not box the
+ * key.
+ * </p>
+ *
+ * <p>
+ * <code>null</code> values are not supported, {@link #get(int)} returns <code>null</code> for a key without value.
+ * </p>
+ *
+ * @param <V>
+ *        The value type.
+ */
+public class IntMap<V> {
+
+	/**
+	 * Key marking an unused slot of the table. The key <code>0</code> itself is stored outside of the table.
+	 */
+	private static final int FREE = 0;
+
+	private static final int MIN_CAPACITY = 8;
+
+	private int[] _keys;
+
+	private Object[] _values;
+
+	private int _mask;
+
+	/**
+	 * Shift selecting the upper bits of the hash code as table index.
+	 */
+	private int _shift;
+
+	/**
+	 * The number of entries in the table, not counting the entry for key <code>0</code>.
+	 */
+	private int _size;
+
+	private int _threshold;
+
+	/**
+	 * The value of key <code>0</code>, <code>null</code> if none.
+	 */
+	private V _zeroValue;
+
+	private Map<Object, V> _view;
+
+	/**
+	 * Creates an empty {@link IntMap}.
+	 */
+	public IntMap() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * Creates an {@link IntMap} that can hold the given number of entries without rehashing.
+	 */
+	public IntMap(int expectedSize) {
+		allocate(capacity(expectedSize));
+	}
+
+	private static int capacity(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity - (capacity >>> 2) < expectedSize) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		_keys = new int[capacity];
+		_values = new Object[capacity];
+		_mask = capacity - 1;
+		_shift = Integer.numberOfLeadingZeros(_mask);
+
+		// Load factor 0.75.
+		_threshold = capacity - (capacity >>> 2);
+	}
+
+	/**
+	 * Fibonacci hashing: The multiplication spreads keys with a regular stride (as IDs of multiple participants) over
+	 * the upper bits, which are used as table index.
+	 */
+	private int slot(int key) {
+		return mulGolden(key) >>> _shift;
+	}
+
+	/**
+	 * Computes <code>key * 0x9E3779B9</code> modulo 2^32.
+	 *
+	 * <p>
+	 * The product is composed of two partial products with the 16 bit halves of the constant. This keeps all
+	 * intermediate values exact when compiled to JavaScript, where a full 32 bit product exceeds the precision of a
+	 * double.
+	 * </p>
+	 */
+	private static int mulGolden(int key) {
+		return key * 0x79B9 + ((key * 0x9E37) << 16);
+	}
+
+	/**
+	 * The number of entries.
+	 */
+	public int size() {
+		return _zeroValue == null ? _size : _size + 1;
+	}
+
+	/**
+	 * Whether there are no entries.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Whether there is a value for the given key.
+	 */
+	public boolean containsKey(int key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * The value of the given key, or <code>null</code>, if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int key) {
+		if (key == FREE) {
+			return _zeroValue;
+		}
+		int[] keys = _keys;
+		int pos = slot(key);
+		while (true) {
+			int current = keys[pos];
+			if (current == key) {
+				return (V) _values[pos];
+			}
+			if (current == FREE) {
+				return null;
+			}
+			pos = (pos + 1) & _mask;
+		}
+	}
+
+	/**
+	 * Assigns the given value to the given key.
+	 *
+	 * @param value
+	 *        The new value, must not be <code>null</code>.
+	 * @return The value previously assigned to the given key, or <code>null</code>, if there was none.
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(int key, V value) {
+		if (value == null) {
+			throw new NullPointerException("Null values are not supported.");
+		}
+		if (key == FREE) {
+			V before = _zeroValue;
+			_zeroValue = value;
+			return before;
+		}
+		int pos = slot(key);
+		while (true) {
+			int current = _keys[pos];
+			if (current == key) {
+				V before = (V) _values[pos];
+				_values[pos] = value;
+				return before;
+			}
+			if (current == FREE) {
+				break;
+			}
+			pos = (pos + 1) & _mask;
+		}
+		_keys[pos] = key;
+		_values[pos] = value;
+		if (++_size > _threshold) {
+			rehash(_keys.length << 1);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the value of the given key.
+	 *
+	 * @return The removed value, or <code>null</code>, if there was none.
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(int key) {
+		if (key == FREE) {
+			V before = _zeroValue;
+			_zeroValue = null;
+			return before;
+		}
+		int pos = slot(key);
+		while (true) {
+			int current = _keys[pos];
+			if (current == key) {
+				V before = (V) _values[pos];
+				removeAt(pos);
+				return before;
+			}
+			if (current == FREE) {
+				return null;
+			}
+			pos = (pos + 1) & _mask;
+		}
+	}
+
+	/**
+	 * Removes the entry at the given slot and moves following entries of the same probe sequence to close the gap.
+	 */
+	private void removeAt(int pos) {
+		_size--;
+		int[] keys = _keys;
+		Object[] values = _values;
+		int gap = pos;
+		int next = pos;
+		while (true) {
+			next = (next + 1) & _mask;
+			int key = keys[next];
+			if (key == FREE) {
+				break;
+			}
+			int home = slot(key);
+
+			// Move the entry to the gap, if the gap lies in the cyclic range from its home slot to its current slot.
+			boolean movable = gap <= next ? (home <= gap || home > next) : (home <= gap && home > next);
+			if (movable) {
+				keys[gap] = key;
+				values[gap] = values[next];
+				gap = next;
+			}
+		}
+		keys[gap] = FREE;
+		values[gap] = null;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		Arrays.fill(_keys, FREE);
+		Arrays.fill(_values, null);
+		_size = 0;
+		_zeroValue = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void rehash(int capacity) {
+		int[] oldKeys = _keys;
+		Object[] oldValues = _values;
+		allocate(capacity);
+		for (int n = 0, cnt = oldKeys.length; n < cnt; n++) {
+			int key = oldKeys[n];
+			if (key != FREE) {
+				int pos = slot(key);
+				while (_keys[pos] != FREE) {
+					pos = (pos + 1) & _mask;
+				}
+				_keys[pos] = key;
+				_values[pos] = oldValues[n];
+			}
+		}
+	}
+
+	/**
+	 * All keys in no particular order.
+	 */
+	public int[] keys() {
+		int[] result = new int[size()];
+		int index = 0;
+		if (_zeroValue != null) {
+			result[index++] = FREE;
+		}
+		for (int key : _keys) {
+			if (key != FREE) {
+				result[index++] = key;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Passes all values in no particular order to the given consumer.
+	 *
+	 * <p>
+	 * The map must not be modified during iteration.
+	 * </p>
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachValue(Consumer<? super V> consumer) {
+		if (_zeroValue != null) {
+			consumer.accept(_zeroValue);
+		}
+		Object[] values = _values;
+		for (int n = 0, cnt = values.length; n < cnt; n++) {
+			Object value = values[n];
+			if (value != null) {
+				consumer.accept((V) value);
+			}
+		}
+	}
+
+	/**
+	 * A live {@link Map} view of this map with {@link Integer} keys.
+	 *
+	 * <p>
+	 * The view exists for compatibility with APIs expecting a {@link Map}, each access boxes the key.
+	 * </p>
+	 */
+	public Map<Object, V> asMap() {
+		if (_view == null) {
+			_view = new MapView();
+		}
+		return _view;
+	}
+
+	private final class MapView extends AbstractMap<Object, V> {
+
+		@Override
+		public int size() {
+			return IntMap.this.size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof Integer && IntMap.this.containsKey(((Integer) key).intValue());
+		}
+
+		@Override
+		public V get(Object key) {
+			return key instanceof Integer ? IntMap.this.get(((Integer) key).intValue()) : null;
+		}
+
+		@Override
+		public V put(Object key, V value) {
+			return IntMap.this.put(((Integer) key).intValue(), value);
+		}
+
+		@Override
+		public V remove(Object key) {
+			return key instanceof Integer ? IntMap.this.remove(((Integer) key).intValue()) : null;
+		}
+
+		@Override
+		public void clear() {
+			IntMap.this.clear();
+		}
+
+		@Override
+		public Set<Entry<Object, V>> entrySet() {
+			return new AbstractSet<Entry<Object, V>>() {
+				@Override
+				public int size() {
+					return IntMap.this.size();
+				}
+
+				@Override
+				public Iterator<Entry<Object, V>> iterator() {
+					int[] keys = keys();
+					return new Iterator<Entry<Object, V>>() {
+						int _index;
+
+						@Override
+						public boolean hasNext() {
+							return _index < keys.length;
+						}
+
+						@Override
+						public Entry<Object, V> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							int key = keys[_index++];
+							return new SimpleEntry<>(Integer.valueOf(key), IntMap.this.get(key));
+						}
+					};
+				}
+			};
+		}
+
+	}
+
+}
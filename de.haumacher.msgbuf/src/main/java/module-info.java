@@ -13,7 +13,9 @@ module de.haumacher.msgbuf {
 	exports de.haumacher.msgbuf.io;
 	exports de.haumacher.msgbuf.json;
 	exports de.haumacher.msgbuf.observer;
+	exports de.haumacher.msgbuf.server.binary;
 	exports de.haumacher.msgbuf.server.io;
+	exports de.haumacher.msgbuf.server.json;
 	exports de.haumacher.msgbuf.util;
 	exports de.haumacher.msgbuf.xml;
 	
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link ContainerWriter}, {@link ContainerReader}, and {@link Container}.
+ */
+@SuppressWarnings("javadoc")
+public class TestContainer extends TestCase {
+	
+	private static final int COUNT = 2500;
+	
+	public void testSequential() throws IOException {
+		doTestSequential(true);
+		doTestSequential(false);
+	}
+
+	private void doTestSequential(boolean index) throws IOException {
+		byte[] data = write(COUNT, 100, index);
+		
+		try (ContainerReader<String> in = new ContainerReader<>(new ByteArrayInputStream(data), TestContainer::readMessage)) {
+			int n = 0;
+			while (in.hasNext()) {
+				assertEquals(text(n++), in.next());
+			}
+			assertEquals(COUNT, n);
+			assertNull(in.read());
+		}
+	}
+	
+	public void testRandomAccess() throws IOException {
+		doTestRandomAccess(true);
+		doTestRandomAccess(false);
+	}
+
+	private void doTestRandomAccess(boolean index) throws IOException {
+		Container<String> container = new Container<>(write(COUNT, 100, index), TestContainer::readMessage);
+		assertEquals(index, container.isIndexed());
+		assertEquals(COUNT, container.size());
+		
+		for (int n : new int[] {0, 1, 99, 100, 101, 1234, COUNT - 1}) {
+			assertEquals(text(n), container.get(n));
+		}
+		
+		try {
+			container.get(COUNT);
+			fail("Expecting failure.");
+		} catch (IndexOutOfBoundsException ex) {
+			// Expected.
+		}
+	}
+	
+	public void testParallel() throws IOException {
+		Container<String> container = new Container<>(write(COUNT, 7, true), TestContainer::readMessage);
+		
+		Spliterator<String> first = container.spliterator();
+		Spliterator<String> second = first.trySplit();
+		assertNotNull(second);
+		assertEquals(COUNT, first.estimateSize() + second.estimateSize());
+		
+		List<String> all = container.parallelStream().collect(Collectors.toList());
+		assertEquals(COUNT, all.size());
+		for (int n = 0; n < COUNT; n++) {
+			assertEquals(text(n), all.get(n));
+		}
+	}
+	
+	public void testEmpty() throws IOException {
+		Container<String> container = new Container<>(write(0, 10, true), TestContainer::readMessage);
+		assertEquals(0, container.size());
+		assertEquals(0, container.stream().count());
+		
+		try (ContainerReader<String> in = new ContainerReader<>(new ByteArrayInputStream(write(0, 10, false)), TestContainer::readMessage)) {
+			assertFalse(in.hasNext());
+		}
+	}
+
+	public void testCloseTwice() throws IOException {
+		byte[] sync = new byte[ContainerFormat.SYNC_SIZE];
+		
+		ByteArrayOutputStream once = new ByteArrayOutputStream();
+		try (ContainerWriter out = new ContainerWriter(once, sync)) {
+			out.write(TestContainer::writeFirst);
+		}
+		
+		ByteArrayOutputStream twice = new ByteArrayOutputStream();
+		try (ContainerWriter out = new ContainerWriter(twice, sync)) {
+			out.write(TestContainer::writeFirst);
+			out.close();
+		}
+		
+		assertTrue(Arrays.equals(once.toByteArray(), twice.toByteArray()));
+		
+		Container<String> container = new Container<>(twice.toByteArray(), TestContainer::readMessage);
+		assertEquals(1, container.size());
+		assertEquals(text(0), container.get(0));
+	}
+
+	private static void writeFirst(DataWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name(1);
+		writer.value(text(0));
+		writer.endObject();
+	}
+
+	private static byte[] write(int count, int syncInterval, boolean index) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ContainerWriter out = new ContainerWriter(buffer).setSyncInterval(syncInterval).setIndex(index)) {
+			for (int n = 0; n < count; n++) {
+				String text = text(n);
+				out.write(writer -> {
+					writer.beginObject();
+					writer.name(1);
+					writer.value(text);
+					writer.endObject();
+				});
+			}
+			assertEquals(count, out.getCount());
+		}
+		return buffer.toByteArray();
+	}
+	
+	private static String readMessage(DataReader in) throws IOException {
+		in.beginObject();
+		assertEquals(1, in.nextName());
+		String result = in.nextString();
+		in.endObject();
+		return result;
+	}
+
+	private static String text(int n) {
+		return "Message " + n;
+	}
+
+}
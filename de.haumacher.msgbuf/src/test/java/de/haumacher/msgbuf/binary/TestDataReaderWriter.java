@@ -8,8 +8,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
+import de.haumacher.msgbuf.server.binary.ByteBufferDataReader;
 import junit.framework.TestCase;
 
 /**
@@ -20,7 +22,7 @@ public class TestDataReaderWriter extends TestCase {
 	
 	interface IOTest {
 		void writeObject(OctetDataWriter out) throws IOException;
-		void readObject(OctetDataReader in) throws IOException;
+		void readObject(DataReader in) throws IOException;
 	}
 	
 	public void testVarIntMessage() throws IOException {
@@ -34,7 +36,7 @@ public class TestDataReaderWriter extends TestCase {
 			}
 
 			@Override
-			public void readObject(OctetDataReader in) throws IOException {
+			public void readObject(DataReader in) throws IOException {
 				in.beginObject();
 				assertEquals(1, in.nextName());
 				assertEquals(42, in.nextInt());
@@ -43,6 +45,66 @@ public class TestDataReaderWriter extends TestCase {
 		});
 	}
 	
+	public void testFixedAsVarIntMessage() throws IOException {
+		doTest(new IOTest() {
+			@Override
+			public void writeObject(OctetDataWriter out) throws IOException {
+				out.beginObject();
+				out.name(1);
+				out.value(42);
+				out.name(2);
+				out.value(-1L);
+				out.name(3);
+				out.valueFixed(13);
+				out.endObject();
+			}
+
+			@Override
+			public void readObject(DataReader in) throws IOException {
+				in.beginObject();
+				assertEquals(1, in.nextName());
+				assertEquals(42, in.nextIntFixed());
+				assertEquals(2, in.nextName());
+				assertEquals(-1L, in.nextLongFixed());
+				assertEquals(3, in.nextName());
+				assertEquals(13, in.nextIntFixed());
+				in.endObject();
+			}
+		});
+	}
+	
+	public void testPackedListMessage() throws IOException {
+		doTest(new IOTest() {
+			@Override
+			public void writeObject(OctetDataWriter out) throws IOException {
+				out.beginObject();
+				out.name(1);
+				out.valueArray(DataType.SINT, Arrays.asList(1, -2, Integer.MIN_VALUE));
+				out.name(2);
+				out.valueArray(DataType.FLONG, Arrays.asList(3L, Long.MAX_VALUE));
+				out.name(3);
+				out.valueArray(DataType.DOUBLE, Arrays.asList(0.5, -1e300));
+				out.name(4);
+				out.valueArray(DataType.FLOAT, Arrays.asList());
+				out.endObject();
+			}
+
+			@Override
+			public void readObject(DataReader in) throws IOException {
+				in.beginObject();
+				assertEquals(1, in.nextName());
+				assertTrue(Arrays.equals(new int[] { 1, -2, Integer.MIN_VALUE }, in.nextIntArraySigned()));
+				assertEquals(2, in.nextName());
+				assertTrue(Arrays.equals(new long[] { 3L, Long.MAX_VALUE }, in.nextLongArrayFixed()));
+				assertEquals(3, in.nextName());
+				assertTrue(Arrays.equals(new double[] { 0.5, -1e300 }, in.nextDoubleArray()));
+				assertEquals(4, in.nextName());
+				assertEquals(0, in.nextFloatArray().length);
+				in.endObject();
+			}
+		});
+	}
+
 	public void testStringMessage() throws IOException {
 		doTest(new IOTest() {
 			@Override
@@ -54,7 +116,7 @@ public class TestDataReaderWriter extends TestCase {
 			}
 			
 			@Override
-			public void readObject(OctetDataReader in) throws IOException {
+			public void readObject(DataReader in) throws IOException {
 				in.beginObject();
 				assertEquals(1, in.nextName());
 				assertEquals("Hello world!", in.nextString());
@@ -74,7 +136,7 @@ public class TestDataReaderWriter extends TestCase {
 			}
 			
 			@Override
-			public void readObject(OctetDataReader in) throws IOException {
+			public void readObject(DataReader in) throws IOException {
 				in.beginObject();
 				assertEquals(1, in.nextName());
 				try (InputStream data = in.nextBinaryStream()) {
@@ -106,7 +168,7 @@ public class TestDataReaderWriter extends TestCase {
 			}
 			
 			@Override
-			public void readObject(OctetDataReader in) throws IOException {
+			public void readObject(DataReader in) throws IOException {
 				in.beginObject();
 				assertEquals(1, in.nextName());
 				try (InputStream data = in.nextBinaryStream()) {
@@ -125,6 +187,81 @@ public class TestDataReaderWriter extends TestCase {
 		});
 	}
 	
+	public void testNestedObjectMessage() throws IOException {
+		doTest(new IOTest() {
+			@Override
+			public void writeObject(OctetDataWriter out) throws IOException {
+				out.beginObject();
+				out.name(1);
+				out.beginObject();
+				{
+					out.name(1);
+					out.value(chunk(300, 1));
+					out.name(2);
+					out.beginObject();
+					{
+						out.name(3);
+						out.value("Inner");
+					}
+					out.endObject();
+				}
+				out.endObject();
+				out.name(2);
+				out.beginObject();
+				{
+					out.name(4);
+					out.value(13);
+				}
+				out.endObject();
+				out.name(3);
+				out.value(42);
+				out.endObject();
+			}
+			
+			@Override
+			public void readObject(DataReader in) throws IOException {
+				in.beginObject();
+				assertEquals(1, in.nextName());
+				in.beginObject();
+				{
+					assertEquals(1, in.nextName());
+					assertEquals(300, in.nextBinary().length);
+					assertEquals(2, in.nextName());
+					in.beginObject();
+					{
+						assertEquals(3, in.nextName());
+						assertEquals("Inner", in.nextString());
+					}
+					in.endObject();
+					assertFalse(in.hasNext());
+				}
+				in.endObject();
+				
+				// Skip the second nested object.
+				assertEquals(2, in.nextName());
+				in.skipValue();
+				
+				assertEquals(3, in.nextName());
+				assertEquals(42, in.nextInt());
+				in.endObject();
+			}
+		});
+	}
+	
+	public void testFramedObjectSize() throws IOException {
+		OctetDataWriter out = new OctetDataWriter().setFramed(true);
+		out.beginObject();
+		out.name(1);
+		out.beginObject();
+		out.name(1);
+		out.value(chunk(200, 1));
+		out.endObject();
+		out.endObject();
+		
+		// Field tag, two byte length prefix, field tag, binary header, content, two stop tags.
+		assertEquals(1 + 2 + 1 + 2 + 200 + 1 + 1, out.size());
+	}
+	
 	public void testComplexMessage() throws IOException {
 		doTest(new IOTest() {
 			@Override
@@ -203,7 +340,7 @@ public class TestDataReaderWriter extends TestCase {
 			}
 			
 			@Override
-			public void readObject(OctetDataReader in) throws IOException {
+			public void readObject(DataReader in) throws IOException {
 				int rField = 0;
 				
 				in.beginObject();
@@ -308,6 +445,26 @@ public class TestDataReaderWriter extends TestCase {
 	private void doTest(IOTest io) throws IOException {
 		doTestEncodeDecode(io);
 		doTestSkipValue(io);
+		doTestFramed(io);
+	}
+	
+	public void doTestFramed(IOTest io) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		OctetDataWriter out = new OctetDataWriter(buffer, 16).setFramed(true);
+		
+		io.writeObject(out);
+		writeMarkerOject(out);
+		
+		byte[] message = buffer.toByteArray();
+		
+		OctetDataWriter inMemory = new OctetDataWriter(32).setFramed(true);
+		io.writeObject(inMemory);
+		writeMarkerOject(inMemory);
+		assertTrue(Arrays.equals(message, inMemory.toByteArray()));
+		
+		readMessage(message, io);
+		skipMessage(reader(message));
+		skipMessage(new ByteBufferDataReader(ByteBuffer.wrap(message)));
 	}
 	
 	public void doTestEncodeDecode(IOTest io) throws IOException {
@@ -322,11 +479,45 @@ public class TestDataReaderWriter extends TestCase {
 		io.writeObject(out);
 		writeMarkerOject(out);
 		
+		byte[] result = buffer.toByteArray();
+		
+		assertTrue(Arrays.equals(result, createMessageInMemory(io)));
+		assertTrue(Arrays.equals(result, createMessageSmallBuffer(io)));
+		
+		return result;
+	}
+
+	private byte[] createMessageInMemory(IOTest io) throws IOException {
+		OctetDataWriter out = new OctetDataWriter(32);
+		
+		io.writeObject(out);
+		writeMarkerOject(out);
+		
+		return Arrays.copyOf(out.getBuffer(), out.size());
+	}
+	
+	private byte[] createMessageSmallBuffer(IOTest io) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		OctetDataWriter out = new OctetDataWriter(buffer, 16);
+		
+		io.writeObject(out);
+		writeMarkerOject(out);
+		
 		return buffer.toByteArray();
 	}
 
 	private void readMessage(byte[] message, IOTest io) throws IOException {
-		OctetDataReader in = reader(message);
+		readMessage(reader(message), io);
+		readMessage(new ByteBufferDataReader(ByteBuffer.wrap(message)), io);
+		
+		ByteBuffer direct = ByteBuffer.allocateDirect(message.length + 3);
+		direct.put(new byte[] {1, 2, 3});
+		direct.put(message);
+		direct.position(3);
+		readMessage(new ByteBufferDataReader(direct), io);
+	}
+
+	private void readMessage(DataReader in, IOTest io) throws IOException {
 		io.readObject(in);
 		readMarkerObject(in);
 	}
@@ -361,8 +552,11 @@ public class TestDataReaderWriter extends TestCase {
 		writeMarkerOject(out);
 		
 		byte[] message = buffer.toByteArray();
-		OctetDataReader in = reader(message);
-		
+		skipMessage(reader(message));
+		skipMessage(new ByteBufferDataReader(ByteBuffer.wrap(message)));
+	}
+
+	private void skipMessage(DataReader in) throws IOException {
 		in.skipValue();
 		readMarkerObject(in);
 	}
@@ -374,7 +568,7 @@ public class TestDataReaderWriter extends TestCase {
 		out.endObject();
 	}
 
-	private void readMarkerObject(OctetDataReader in) throws IOException {
+	private void readMarkerObject(DataReader in) throws IOException {
 		in.beginObject();
 		assertEquals(12345, in.nextName());
 		assertEquals("The end!", in.nextString());
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link Utf8}.
+ */
+@SuppressWarnings("javadoc")
+public class TestUtf8 extends TestCase {
+
+	public void testEncode() {
+		assertEncode("");
+		assertEncode("Hello world!");
+		assertEncode("Grüße aus Köln");
+		assertEncode("€ 100");
+		assertEncode("😀 smile 😀");
+		assertEncode("\u007F\u0080߿ࠀ￿");
+		assertEncode("unpaired \uD83D surrogate \uDE00");
+	}
+
+	public void testDecodeMalformed() {
+		assertEquals("a�b", Utf8.decode(new byte[] {'a', (byte) 0xC3, 'b'}, 0, 3));
+		assertEquals("�", Utf8.decode(new byte[] {(byte) 0xC0, (byte) 0x80}, 0, 1));
+		assertEquals("a�", Utf8.decode(new byte[] {'a', (byte) 0xE2, (byte) 0x82}, 0, 3));
+	}
+
+	private static void assertEncode(String value) {
+		byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+		assertEquals(expected.length, Utf8.encodedLength(value));
+
+		byte[] buffer = new byte[expected.length + 2];
+		int end = Utf8.encode(value, buffer, 1);
+		assertEquals(expected.length + 1, end);
+		assertTrue(Arrays.equals(expected, Arrays.copyOfRange(buffer, 1, end)));
+
+		assertEquals(new String(expected, StandardCharsets.UTF_8), Utf8.decode(buffer, 1, expected.length));
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import de.haumacher.msgbuf.binary.Utf8;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link Utf8R}.
+ */
+@SuppressWarnings("javadoc")
+public class TestUtf8R extends TestCase {
+
+	private static final String TEXT = "ASCII \u00e4\u00f6\u00fc \u20ac \ud83d\ude00 end";
+
+	public void testInMemory() throws IOException {
+		byte[] bytes = ("xx" + TEXT + "yy").getBytes(StandardCharsets.UTF_8);
+		Utf8R in = new Utf8R(bytes, 2, bytes.length - 4);
+		assertEquals(TEXT, readAll(in, 100));
+
+		in.reset(bytes, 0, 2);
+		assertEquals("xx", readAll(in, 100));
+		assertEquals(-1, in.read());
+	}
+
+	public void testSingleChars() throws IOException {
+		Utf8R in = new Utf8R(TEXT.getBytes(StandardCharsets.UTF_8));
+		StringBuilder result = new StringBuilder();
+		int ch;
+		while ((ch = in.read()) >= 0) {
+			result.append((char) ch);
+		}
+		assertEquals(TEXT, result.toString());
+	}
+
+	public void testChunked() throws IOException {
+		byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+		for (int chunkSize = 1; chunkSize < 8; chunkSize++) {
+			for (int readSize = 1; readSize < 8; readSize++) {
+				Utf8R in = new Utf8R(new ChunkedInputStream(bytes, chunkSize));
+				assertEquals(TEXT, readAll(in, readSize));
+			}
+		}
+	}
+
+	public void testMalformed() throws IOException {
+		byte[][] inputs = {
+			{ 'a', (byte) 0x80, 'b' },
+			{ 'a', (byte) 0xC0, (byte) 0x80, 'b' },
+			{ 'a', (byte) 0xE2, (byte) 0x82, 'b' },
+			{ 'a', (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'b' },
+			{ 'a', (byte) 0xF0, (byte) 0x9F, (byte) 0x98 },
+			{ 'a', (byte) 0xF8, (byte) 0x80, 'b' },
+			{ (byte) 0xE2 },
+		};
+		for (byte[] input : inputs) {
+			String expected = Utf8.decode(input, 0, input.length);
+			assertEquals(expected, readAll(new Utf8R(input), 100));
+			assertEquals(expected, readAll(new Utf8R(new ChunkedInputStream(input, 1)), 1));
+		}
+	}
+
+	public void testRandom() throws IOException {
+		Random rnd = new Random(42);
+		for (int n = 0; n < 1000; n++) {
+			byte[] input = new byte[rnd.nextInt(40)];
+			for (int i = 0; i < input.length; i++) {
+				input[i] = (byte) (rnd.nextBoolean() ? rnd.nextInt(128) : rnd.nextInt(256));
+			}
+			String expected = Utf8.decode(input, 0, input.length);
+			assertEquals(expected, readAll(new Utf8R(input), 1 + rnd.nextInt(10)));
+			assertEquals(expected,
+				readAll(new Utf8R(new ChunkedInputStream(input, 1 + rnd.nextInt(5))), 1 + rnd.nextInt(10)));
+		}
+	}
+
+	private static String readAll(Reader in, int readSize) throws IOException {
+		StringBuilder result = new StringBuilder();
+		char[] buffer = new char[readSize + 2];
+		int cnt;
+		while ((cnt = in.read(buffer, 1, readSize)) >= 0) {
+			assertTrue(cnt > 0);
+			result.append(buffer, 1, cnt);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * {@link ByteArrayInputStream} delivering its contents in small chunks.
+	 */
+	private static class ChunkedInputStream extends ByteArrayInputStream {
+
+		private final int _chunkSize;
+
+		public ChunkedInputStream(byte[] buf, int chunkSize) {
+			super(buf);
+			_chunkSize = chunkSize;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, _chunkSize));
+		}
+
+	}
+
+}
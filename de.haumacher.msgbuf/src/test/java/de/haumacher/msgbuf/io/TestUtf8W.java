@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link Utf8W}.
+ */
+@SuppressWarnings("javadoc")
+public class TestUtf8W extends TestCase {
+
+	private static final String TEXT = "ASCII \u00e4\u00f6\u00fc \u20ac \ud83d\ude00 end";
+
+	public void testInMemory() throws IOException {
+		Utf8W out = new Utf8W();
+		out.write(TEXT);
+		assertEquals(TEXT, new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+		out.reset();
+		assertEquals(0, out.size());
+		char[] chars = TEXT.toCharArray();
+		out.write(chars, 0, chars.length);
+		assertEquals(TEXT, new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	public void testSingleChars() throws IOException {
+		Utf8W out = new Utf8W();
+		for (int n = 0; n < TEXT.length(); n++) {
+			out.write(TEXT.charAt(n));
+		}
+		assertEquals(TEXT, new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	public void testChunked() throws IOException {
+		StringBuilder text = new StringBuilder();
+		for (int n = 0; n < 100; n++) {
+			text.append(TEXT);
+		}
+		String expected = text.toString();
+		for (int chunkSize = 4; chunkSize < 40; chunkSize++) {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Utf8W out = new Utf8W(buffer, chunkSize);
+			out.write(expected, 0, 7);
+			out.write(expected, 7, expected.length() - 7);
+			assertTrue(buffer.size() > 0);
+			out.flush();
+			assertEquals(expected, new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+		}
+	}
+
+	public void testUnpairedSurrogates() throws IOException {
+		Utf8W out = new Utf8W();
+		out.write("a\ud83db\ude00c");
+		out.write('\ud83d');
+		out.close();
+		assertEquals("a?b?c?", new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	public void testUnpairedSurrogateAtBufferEnd() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		Utf8W out = new Utf8W(buffer, 8);
+		out.write("ab");
+		out.write("\ud800");
+		out.write("\u4e00\u4e00");
+		out.flush();
+		assertEquals("ab?\u4e00\u4e00", new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+
+		for (int bufferSize = 4; bufferSize < 16; bufferSize++) {
+			for (int prefix = 0; prefix < 16; prefix++) {
+				String head = "abcdefghijklmnop".substring(0, prefix);
+				String expected = head + "?\u4e00\u4e00\u4e00";
+
+				ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+				Utf8W chunked = new Utf8W(chunks, bufferSize);
+				chunked.write(head);
+				chunked.write('\ud800');
+				chunked.write("\u4e00\u4e00\u4e00");
+				chunked.flush();
+				assertEquals(expected, new String(chunks.toByteArray(), StandardCharsets.UTF_8));
+
+				Utf8W inMemory = new Utf8W(null, bufferSize);
+				inMemory.write(head + "\ud800");
+				char[] chars = "\u4e00\u4e00\u4e00".toCharArray();
+				inMemory.write(chars, 0, chars.length);
+				assertEquals(expected, new String(inMemory.toByteArray(), StandardCharsets.UTF_8));
+			}
+		}
+	}
+
+}
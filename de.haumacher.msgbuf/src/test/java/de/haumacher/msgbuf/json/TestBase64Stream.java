@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.server.json.Utf8JsonReader;
+import de.haumacher.msgbuf.server.json.Utf8JsonWriter;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link JsonWriter#valueBinaryStream()}, {@link JsonReader#nextBinaryStream()}, and
+ * {@link JsonReader#nextBinary()}.
+ */
+@SuppressWarnings("javadoc")
+public class TestBase64Stream extends TestCase {
+
+	private static final int[] SIZES = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 1023, 1024, 1025, 3072, 3073, 10000 };
+
+	public void testCompatible() throws IOException {
+		for (int size : SIZES) {
+			byte[] data = data(size);
+			String expected = "[" + quoted(Base64Utils.toBase64(data)) + "]";
+			assertEquals(expected, writeChars(data, false));
+			assertEquals(expected, writeBytes(data, false));
+
+			assertTrue(Arrays.equals(data, readChars(expected)));
+			assertTrue(Arrays.equals(data, readBytes(expected)));
+		}
+	}
+
+	public void testHtmlSafe() throws IOException {
+		for (int size : SIZES) {
+			byte[] data = data(size);
+			String plain = "[" + quoted(Base64Utils.toBase64(data)) + "]";
+			String expected = plain.replace("=", "\\u003d");
+			assertEquals(expected, writeChars(data, true));
+			assertEquals(expected, writeBytes(data, true));
+
+			assertTrue(Arrays.equals(data, readChars(expected)));
+			assertTrue(Arrays.equals(data, readBytes(expected)));
+		}
+	}
+
+	public void testSingleBytes() throws IOException {
+		byte[] data = data(100);
+
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.beginArray();
+		try (OutputStream out = json.valueBinaryStream()) {
+			for (byte b : data) {
+				out.write(b);
+			}
+		}
+		json.endArray();
+
+		JsonReader in = new JsonReader(new StringR(buffer.toString()));
+		in.beginArray();
+		byte[] result = new byte[data.length];
+		try (InputStream stream = in.nextBinaryStream()) {
+			for (int n = 0; n < result.length; n++) {
+				result[n] = (byte) stream.read();
+			}
+			assertEquals(-1, stream.read());
+		}
+		in.endArray();
+		assertTrue(Arrays.equals(data, result));
+	}
+
+	public void testSkipRemainder() throws IOException {
+		String document = "[" + quoted(Base64Utils.toBase64(data(5000))) + ", 42]";
+		for (JsonReader in : new JsonReader[] { new JsonReader(new StringR(document)),
+			new Utf8JsonReader(document.getBytes(StandardCharsets.UTF_8)) }) {
+			in.beginArray();
+			try (InputStream stream = in.nextBinaryStream()) {
+				assertTrue(stream.read() >= 0);
+			}
+			assertEquals(42, in.nextInt());
+			in.endArray();
+		}
+	}
+
+	public void testIncomplete() throws IOException {
+		JsonReader in = new JsonReader(new StringR("[\"QUJ\"]"));
+		in.beginArray();
+		try (InputStream stream = in.nextBinaryStream()) {
+			stream.read(new byte[10], 0, 10);
+			fail("Incomplete Base64 value must be reported.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+	}
+
+	public void testNextBinary() throws IOException {
+		// Values within the buffer, with escapes, and with padding in the middle.
+		String document = "[\"QUJD\", \"QUI=\", \"QQ==\", \"\", \"QQ\\u003d\\u003d\", \"QQ==QUJD\"]";
+		String[] expected = { "ABC", "AB", "A", "", "A", "AABC" };
+		JsonReader in = new JsonReader(new StringR(document));
+		in.beginArray();
+		for (String value : expected) {
+			assertEquals(value, new String(in.nextBinary(), StandardCharsets.ISO_8859_1));
+		}
+		in.endArray();
+
+		JsonReader incomplete = new JsonReader(new StringR("[\"QUJ\"]"));
+		incomplete.beginArray();
+		try {
+			incomplete.nextBinary();
+			fail("Incomplete Base64 value must be reported.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+	}
+
+	public void testJsonUtil() throws IOException {
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.beginArray();
+		JsonUtil.writeBinaryOptional(json, data(17));
+		JsonUtil.writeBinaryOptional(json, null);
+		json.endArray();
+
+		JsonReader in = new JsonReader(new StringR(buffer.toString()));
+		in.beginArray();
+		assertTrue(Arrays.equals(data(17), JsonUtil.nextBinaryOptional(in)));
+		assertNull(JsonUtil.nextBinaryOptional(in));
+		in.endArray();
+	}
+
+	private static byte[] data(int size) {
+		byte[] result = new byte[size];
+		new Random(size).nextBytes(result);
+		return result;
+	}
+
+	private static String quoted(String value) {
+		return "\"" + value + "\"";
+	}
+
+	private static String writeChars(byte[] data, boolean htmlSafe) throws IOException {
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.setHtmlSafe(htmlSafe);
+		write(json, data);
+		return buffer.toString();
+	}
+
+	private static String writeBytes(byte[] data, boolean htmlSafe) throws IOException {
+		Utf8JsonWriter json = new Utf8JsonWriter();
+		json.setHtmlSafe(htmlSafe);
+		write(json, data);
+		return new String(json.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static void write(JsonWriter json, byte[] data) throws IOException {
+		json.beginArray();
+		try (OutputStream out = json.valueBinaryStream()) {
+			// Write in uneven chunks to cross group boundaries.
+			int pos = 0;
+			int chunk = 1;
+			while (pos < data.length) {
+				int length = Math.min(chunk, data.length - pos);
+				out.write(data, pos, length);
+				pos += length;
+				chunk = chunk * 2 + 1;
+			}
+		}
+		json.endArray();
+	}
+
+	private static byte[] readChars(String document) throws IOException {
+		return read(new JsonReader(new StringR(document)));
+	}
+
+	private static byte[] readBytes(String document) throws IOException {
+		return read(new Utf8JsonReader(document.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static byte[] read(JsonReader in) throws IOException {
+		in.beginArray();
+		byte[] result = JsonUtil.nextBinaryOptional(in);
+		in.endArray();
+		return result;
+	}
+
+}
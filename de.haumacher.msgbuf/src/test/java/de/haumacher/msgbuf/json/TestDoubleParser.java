@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import de.haumacher.msgbuf.io.StringR;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link DoubleParser}.
+ */
+@SuppressWarnings("javadoc")
+public class TestDoubleParser extends TestCase {
+
+	private static final String[] NUMBERS = {
+		"0", "-0", "0.0", "-0.0", "1", "-1", "0.1", "3.5", "-1.25e-7", "1E300", "1e-300", "1e22", "1e23",
+		"9007199254740993", "123456789012345678901234567890", "0.000000000000000000000000000001",
+		"4.9E-324", "2.2250738585072014E-308", "1.7976931348623157E308", "1e400", "-1e400", "1e-400",
+		"2.5e+3", "0.30000000000000004", "1.00000000000000000000001",
+	};
+
+	public void testNumbers() {
+		for (String number : NUMBERS) {
+			assertParse(number);
+		}
+	}
+
+	public void testRandom() {
+		Random rnd = new Random(42);
+		for (int n = 0; n < 100000; n++) {
+			double value = (n % 2 == 0) ? Double.longBitsToDouble(rnd.nextLong()) : rnd.nextInt(1000000) / 1000.0;
+			if (Double.isNaN(value) || Double.isInfinite(value)) {
+				continue;
+			}
+			assertParse(Double.toString(value));
+		}
+	}
+
+	public void testInvalid() {
+		for (String invalid : new String[] { "", "-", ".", "1e", "1e+", "1.2.3", "--1" }) {
+			try {
+				DoubleParser.parse(invalid.toCharArray(), 0, invalid.length());
+				fail("Invalid number accepted: " + invalid);
+			} catch (NumberFormatException ex) {
+				// Expected.
+			}
+		}
+	}
+
+	public void testReader() throws IOException {
+		JsonReader in = new JsonReader(new StringR("[0.1, -2.5e-3, 1e23, 7]"));
+		in.beginArray();
+		assertEquals(0.1, in.nextDouble());
+		assertEquals(-2.5e-3, in.nextDouble());
+		assertEquals(1e23, in.nextDouble());
+		assertEquals(7.0, in.nextDouble());
+		in.endArray();
+	}
+
+	public void testReaderInfinity() throws IOException {
+		JsonReader in = new JsonReader(new StringR("[1e400]"));
+		in.beginArray();
+		try {
+			in.nextDouble();
+			fail("Infinite value must be rejected.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+	}
+
+	private static void assertParse(String number) {
+		double expected = Double.parseDouble(number);
+		char[] chars = ("[" + number + "]").toCharArray();
+		byte[] bytes = ("[" + number + "]").getBytes(StandardCharsets.US_ASCII);
+		assertEquals(number, Double.doubleToRawLongBits(expected),
+			Double.doubleToRawLongBits(DoubleParser.parse(chars, 1, number.length())));
+		assertEquals(number, Double.doubleToRawLongBits(expected),
+			Double.doubleToRawLongBits(DoubleParser.parse(bytes, 1, number.length())));
+	}
+
+}
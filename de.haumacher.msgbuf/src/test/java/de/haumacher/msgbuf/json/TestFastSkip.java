@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.server.json.Utf8JsonReader;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link JsonReader#setFastSkip(boolean)} and {@link JsonProjection}.
+ */
+@SuppressWarnings("javadoc")
+public class TestFastSkip extends TestCase {
+
+	private static final String DOCUMENT = "{\"skip\": {\"a\": [1, {\"b\": \"]}\\\\\\\"}\"}, \"\\u005d\"],\n \"c\": null},"
+		+ " \"str\": \"x\\\"y\", \"keep\": [true, {\"d\": 2}]}";
+
+	public void testSkip() throws IOException {
+		for (boolean fast : new boolean[] { false, true }) {
+			assertSkip(fastSkip(new JsonReader(new StringR(DOCUMENT)), fast), fast);
+			assertSkip(fastSkip(new Utf8JsonReader(DOCUMENT.getBytes(StandardCharsets.UTF_8)), fast), fast);
+		}
+	}
+
+	public void testSkipLongValue() throws IOException {
+		StringBuilder buffer = new StringBuilder("[[");
+		for (int n = 0; n < 2000; n++) {
+			buffer.append("{\"v\": \"\\\\\\\"").append(n).append("\"},");
+		}
+		buffer.append("0], 42]");
+		String document = buffer.toString();
+
+		JsonReader in = new JsonReader(new StringR(document));
+		in.setFastSkip(true);
+		in.beginArray();
+		in.skipValue();
+		assertEquals(42, in.nextInt());
+		assertEquals("$[2]", in.getPath());
+		in.endArray();
+	}
+
+	public void testUnterminated() throws IOException {
+		JsonReader in = new JsonReader(new StringR("[[1, \"]\""));
+		in.setFastSkip(true);
+		in.beginArray();
+		try {
+			in.skipValue();
+			fail("Unterminated array must be reported.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+	}
+
+	public void testProjection() {
+		JsonProjection projection = JsonProjection.of("a.b", "a.c.d", "e", "e.f");
+		assertNull(projection.get("x"));
+		assertTrue(projection.get("e").isAll());
+		JsonProjection a = projection.get("a");
+		assertFalse(a.isAll());
+		assertTrue(a.get("b").isAll());
+		assertNull(a.get("d"));
+		assertTrue(a.get("c").get("d").isAll());
+		assertTrue(JsonProjection.ALL.get("x").isAll());
+	}
+
+	private static JsonReader fastSkip(JsonReader in, boolean fast) {
+		in.setFastSkip(fast);
+		return in;
+	}
+
+	private static void assertSkip(JsonReader in, boolean fast) throws IOException {
+		assertEquals(fast, in.isFastSkip());
+		in.beginObject();
+		assertEquals("skip", in.nextName());
+		in.skipValue();
+		assertEquals("str", in.nextName());
+		in.skipValue();
+		assertEquals("keep", in.nextName());
+		in.beginArray();
+		assertTrue(in.nextBoolean());
+		in.skipValue();
+		assertEquals("$.keep[2]", in.getPath());
+		in.endArray();
+		in.endObject();
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import java.io.IOException;
+
+import de.haumacher.msgbuf.io.StringW;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link JsonName} and {@link JsonWriter#name(JsonName)}.
+ */
+@SuppressWarnings("javadoc")
+public class TestJsonName extends TestCase {
+
+	private static final JsonName PLAIN = JsonName.of("x");
+
+	private static final JsonName SPECIAL = JsonName.of("a\"b<c>\u00e4");
+
+	public void testQuoted() {
+		assertEquals("x", PLAIN.getName());
+		assertEquals("\"x\"", PLAIN.quoted(false));
+		assertSame(PLAIN.quoted(false), PLAIN.quoted(true));
+		assertSame(PLAIN.utf8(false), PLAIN.utf8(true));
+
+		assertEquals("\"a\\\"b<c>\u00e4\"", SPECIAL.quoted(false));
+		assertEquals("\"a\\\"b\\u003cc\\u003e\u00e4\"", SPECIAL.quoted(true));
+		assertEquals(SPECIAL.quoted(true).length() + 1, SPECIAL.utf8(true).length);
+	}
+
+	public void testWriteCompatible() throws IOException {
+		for (boolean htmlSafe : new boolean[] { false, true }) {
+			StringW expected = new StringW();
+			JsonWriter plain = new JsonWriter(expected);
+			plain.setHtmlSafe(htmlSafe);
+			plain.beginObject();
+			plain.name(PLAIN.getName()).value(1);
+			plain.name(SPECIAL.getName()).value("v");
+			plain.endObject();
+
+			StringW actual = new StringW();
+			JsonWriter tokens = new JsonWriter(actual);
+			tokens.setHtmlSafe(htmlSafe);
+			tokens.beginObject();
+			tokens.name(PLAIN).value(1);
+			tokens.name(SPECIAL).value("v");
+			tokens.endObject();
+
+			assertEquals(expected.toString(), actual.toString());
+		}
+	}
+
+	public void testSkipNull() throws IOException {
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.setSerializeNulls(false);
+		json.beginObject();
+		json.name(SPECIAL).nullValue();
+		json.name(PLAIN).value(true);
+		json.endObject();
+		assertEquals("{\"x\":true}", buffer.toString());
+	}
+
+	public void testDanglingName() throws IOException {
+		JsonWriter json = new JsonWriter(new StringW());
+		json.beginObject();
+		json.name(PLAIN);
+		try {
+			json.name(PLAIN);
+			fail("Two names without value must be rejected.");
+		} catch (IllegalStateException ex) {
+			// Expected.
+		}
+	}
+
+}
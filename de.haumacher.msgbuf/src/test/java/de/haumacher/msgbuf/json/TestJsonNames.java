@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.json;
+
+import java.io.IOException;
+
+import de.haumacher.msgbuf.io.StringR;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link JsonNames} and {@link JsonReader#nextName(JsonNames)}.
+ */
+@SuppressWarnings("javadoc")
+public class TestJsonNames extends TestCase {
+
+	private static final JsonNames NAMES = JsonNames.of(
+		new String[] {"x", "y", "color", "shapes", "\u00e4\u00f6\u00fc"},
+		new int[] {1, 2, 3, 4, 7});
+
+	public void testId() {
+		assertEquals(5, NAMES.size());
+		assertEquals(1, NAMES.id("x"));
+		assertEquals(4, NAMES.id("shapes"));
+		assertEquals(7, NAMES.id("\u00e4\u00f6\u00fc"));
+		assertEquals(JsonNames.UNKNOWN, NAMES.id("z"));
+		assertEquals(JsonNames.UNKNOWN, NAMES.id(""));
+	}
+
+	public void testCanonicalName() {
+		JsonNames names = JsonNames.of(new String[] {"sender", "1", "priority", "2"}, new int[] {1, 1, 2, 2});
+		assertEquals(1, names.id("1"));
+		assertEquals("sender", names.canonicalName(1));
+		assertEquals("priority", names.canonicalName(2));
+		assertEquals(null, names.canonicalName(3));
+	}
+
+	public void testDuplicate() {
+		try {
+			JsonNames.of(new String[] {"a", "a"}, new int[] {1, 2});
+			fail("Duplicate names must be rejected.");
+		} catch (IllegalArgumentException ex) {
+			// Expected.
+		}
+	}
+
+	public void testNextName() throws IOException {
+		JsonReader in = reader("{\"x\": 1, \"unknown\": [1, 2], \"color\": \"red\", \"\\u0073hapes\": 2, \"\u00e4\u00f6\u00fc\": 3}");
+		in.beginObject();
+
+		assertEquals(1, in.nextName(NAMES));
+		assertEquals("$.x", in.getPath());
+		assertEquals(1, in.nextInt());
+
+		assertEquals(JsonNames.UNKNOWN, in.nextName(NAMES));
+		assertEquals("$.unknown", in.getPath());
+		assertEquals("unknown", in.getUnknownName());
+		in.skipValue();
+
+		assertEquals(3, in.nextName(NAMES));
+		assertEquals("red", in.nextString());
+
+		// Escaped name.
+		assertEquals(4, in.nextName(NAMES));
+		assertEquals(2, in.nextInt());
+
+		assertEquals(7, in.nextName(NAMES));
+		assertEquals(3, in.nextInt());
+
+		in.endObject();
+	}
+
+	public void testNameAtBufferBoundary() throws IOException {
+		for (int n = 1010; n < 1030; n++) {
+			StringBuilder json = new StringBuilder("{");
+			for (int k = 0; k < n; k++) {
+				json.append(' ');
+			}
+			json.append("\"shapes\": true}");
+
+			JsonReader in = reader(json.toString());
+			in.beginObject();
+			assertEquals(4, in.nextName(NAMES));
+			assertTrue(in.nextBoolean());
+			in.endObject();
+		}
+	}
+
+	public void testLenientNames() throws IOException {
+		JsonReader in = reader("{x: 1, 'y': 2}");
+		in.setLenient(true);
+		in.beginObject();
+		assertEquals(1, in.nextName(NAMES));
+		assertEquals(1, in.nextInt());
+		assertEquals(2, in.nextName(NAMES));
+		assertEquals(2, in.nextInt());
+		in.endObject();
+	}
+
+	private static JsonReader reader(String json) {
+		return new JsonReader(new StringR(json));
+	}
+
+}
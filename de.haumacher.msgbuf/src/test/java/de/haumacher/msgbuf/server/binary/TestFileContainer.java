@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.binary;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import de.haumacher.msgbuf.binary.ContainerWriter;
+import de.haumacher.msgbuf.binary.DataReader;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link FileContainer}.
+ */
+@SuppressWarnings("javadoc")
+public class TestFileContainer extends TestCase {
+
+	private static final int COUNT = 2500;
+
+	private File _file;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		_file = File.createTempFile("container", ".bin");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		_file.delete();
+		super.tearDown();
+	}
+
+	public void testRandomAccess() throws IOException {
+		doTestRandomAccess(true, 8192);
+		doTestRandomAccess(false, 8192);
+		doTestRandomAccess(true, 16);
+		doTestRandomAccess(false, 16);
+	}
+
+	private void doTestRandomAccess(boolean index, int bufferSize) throws IOException {
+		write(COUNT, 100, index);
+
+		try (FileContainer<String> container = open(bufferSize)) {
+			assertEquals(index, container.isIndexed());
+			assertEquals(COUNT, container.size());
+
+			for (int n : new int[] {0, 1, 99, 100, 101, 1234, COUNT - 1}) {
+				assertEquals(text(n), container.get(n));
+			}
+
+			try {
+				container.get(COUNT);
+				fail("Expecting failure.");
+			} catch (IndexOutOfBoundsException ex) {
+				// Expected.
+			}
+		}
+	}
+
+	public void testParallel() throws IOException {
+		write(COUNT, 7, true);
+
+		try (FileContainer<String> container = open(64)) {
+			List<String> all = container.parallelStream().collect(Collectors.toList());
+			assertEquals(COUNT, all.size());
+			for (int n = 0; n < COUNT; n++) {
+				assertEquals(text(n), all.get(n));
+			}
+		}
+	}
+
+	public void testEmpty() throws IOException {
+		write(0, 10, true);
+
+		try (FileContainer<String> container = open(8192)) {
+			assertEquals(0, container.size());
+			assertEquals(0, container.stream().count());
+		}
+	}
+
+	private FileContainer<String> open(int bufferSize) throws IOException {
+		return new FileContainer<>(FileChannel.open(_file.toPath()), TestFileContainer::readMessage, bufferSize);
+	}
+
+	private void write(int count, int syncInterval, boolean index) throws IOException {
+		try (ContainerWriter out = new ContainerWriter(new FileOutputStream(_file)).setSyncInterval(syncInterval).setIndex(index)) {
+			for (int n = 0; n < count; n++) {
+				String text = text(n);
+				out.write(writer -> {
+					writer.beginObject();
+					writer.name(1);
+					writer.value(text);
+					writer.endObject();
+				});
+			}
+		}
+	}
+
+	private static String readMessage(DataReader in) throws IOException {
+		in.beginObject();
+		assertEquals(1, in.nextName());
+		String result = in.nextString();
+		in.endObject();
+		return result;
+	}
+
+	private static String text(int n) {
+		return "Message " + n;
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import de.haumacher.msgbuf.json.JsonWriter;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link ChannelW}.
+ */
+@SuppressWarnings("javadoc")
+public class TestChannelW extends TestCase {
+
+	public void testWriteJson() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ChannelW out = new ChannelW(Channels.newChannel(buffer), 16);
+		JsonWriter json = new JsonWriter(out);
+		json.beginArray();
+		for (int n = 0; n < 10; n++) {
+			json.value("\u00e4-" + n);
+		}
+		json.endArray();
+		json.close();
+
+		StringBuilder expected = new StringBuilder("[");
+		for (int n = 0; n < 10; n++) {
+			if (n > 0) {
+				expected.append(',');
+			}
+			expected.append("\"\u00e4-").append(n).append('"');
+		}
+		expected.append(']');
+		assertEquals(expected.toString(), new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+}
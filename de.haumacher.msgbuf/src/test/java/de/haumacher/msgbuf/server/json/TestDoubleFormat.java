@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link DoubleFormat} and the number output of {@link Utf8JsonWriter}.
+ */
+@SuppressWarnings("javadoc")
+public class TestDoubleFormat extends TestCase {
+
+	public void testFormat() {
+		assertEquals("0.0", DoubleFormat.toString(0.0));
+		assertEquals("-0.0", DoubleFormat.toString(-0.0));
+		assertEquals("1.0", DoubleFormat.toString(1.0));
+		assertEquals("0.1", DoubleFormat.toString(0.1));
+		assertEquals("-3.5", DoubleFormat.toString(-3.5));
+		assertEquals("9999999.0", DoubleFormat.toString(9999999.0));
+		assertEquals("1.0E7", DoubleFormat.toString(1e7));
+		assertEquals("0.001", DoubleFormat.toString(0.001));
+		assertEquals("9.99E-4", DoubleFormat.toString(9.99e-4));
+		assertEquals("1.0E300", DoubleFormat.toString(1e300));
+		assertEquals("4.9E-324", DoubleFormat.toString(Double.MIN_VALUE));
+		assertEquals("1.7976931348623157E308", DoubleFormat.toString(Double.MAX_VALUE));
+		assertEquals("2.2250738585072014E-308", DoubleFormat.toString(Double.MIN_NORMAL));
+		assertEquals("NaN", DoubleFormat.toString(Double.NaN));
+		assertEquals("-Infinity", DoubleFormat.toString(Double.NEGATIVE_INFINITY));
+	}
+
+	public void testShortest() {
+		// Double.toString() before Java 19 produces 9.999999999999999E22.
+		assertEquals("1.0E23", DoubleFormat.toString(1e23));
+		assertEquals("6.666843278055655E16", DoubleFormat.toString(6.666843278055655E16));
+	}
+
+	public void testRoundTrip() {
+		Random rnd = new Random(42);
+		for (int n = 0; n < 200000; n++) {
+			double value = (n % 2 == 0) ? Double.longBitsToDouble(rnd.nextLong()) : rnd.nextInt(1000000) / 1000.0;
+			if (Double.isNaN(value) || Double.isInfinite(value)) {
+				continue;
+			}
+			String formatted = DoubleFormat.toString(value);
+			assertEquals(formatted, value, Double.parseDouble(formatted));
+			assertTrue(formatted, formatted.length() <= Double.toString(value).length());
+		}
+	}
+
+	public void testWriteNumbers() throws IOException {
+		long[] longs = { 0, 1, -1, 9, 10, 99, 100, -100, 12345, Integer.MAX_VALUE, Integer.MIN_VALUE, 999999999999999999L,
+			1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+		StringBuilder expected = new StringBuilder("[");
+		Utf8JsonWriter out = new Utf8JsonWriter();
+		out.beginArray();
+		for (long value : longs) {
+			out.value(value);
+			expected.append(value).append(',');
+		}
+		out.value(0.1);
+		out.value(1e23);
+		expected.append("0.1,1.0E23]");
+		out.endArray();
+
+		assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+}
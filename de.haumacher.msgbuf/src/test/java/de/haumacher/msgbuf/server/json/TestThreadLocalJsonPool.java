@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.json.JsonPool;
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.JsonWriter;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link ThreadLocalJsonPool} and resetting readers and writers.
+ */
+@SuppressWarnings("javadoc")
+public class TestThreadLocalJsonPool extends TestCase {
+
+	public void testReuseReader() throws IOException {
+		ThreadLocalJsonPool pool = new ThreadLocalJsonPool();
+
+		JsonReader first = pool.reader(new StringR("{\"a\": [1, 2"));
+		first.setLenient(true);
+		first.beginObject();
+		assertEquals("a", first.nextName());
+		first.beginArray();
+		assertEquals(1, first.nextInt());
+		pool.release(first);
+
+		JsonReader second = pool.reader(new StringR("[\"x\"]"));
+		assertSame(first, second);
+		assertFalse(second.isLenient());
+		assertEquals("$", second.getPath());
+		second.beginArray();
+		assertEquals("x", second.nextString());
+		assertEquals("$[1]", second.getPath());
+		second.endArray();
+		pool.release(second);
+	}
+
+	public void testNested() throws IOException {
+		ThreadLocalJsonPool pool = new ThreadLocalJsonPool();
+		JsonWriter outer = pool.writer(new StringW());
+		JsonWriter inner = pool.writer(new StringW());
+		assertNotSame(outer, inner);
+		pool.release(inner);
+		pool.release(outer);
+
+		assertSame(outer, pool.writer(new StringW()));
+	}
+
+	public void testReuseWriter() throws IOException {
+		ThreadLocalJsonPool pool = new ThreadLocalJsonPool();
+
+		StringW first = new StringW();
+		JsonWriter json = pool.writer(first);
+		json.setIndent("  ");
+		json.beginArray();
+		json.value(1);
+		pool.release(json);
+
+		StringW second = new StringW();
+		JsonWriter reused = pool.writer(second);
+		assertSame(json, reused);
+		reused.beginObject();
+		reused.name("a").value(true);
+		reused.endObject();
+		pool.release(reused);
+		assertEquals("{\"a\":true}", second.toString());
+	}
+
+	public void testReuseUtf8() throws IOException {
+		ThreadLocalJsonPool pool = new ThreadLocalJsonPool();
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		Utf8JsonWriter out = pool.utf8Writer(buffer);
+		out.beginArray();
+		pool.release(out);
+
+		buffer = new ByteArrayOutputStream();
+		Utf8JsonWriter reused = pool.utf8Writer(buffer);
+		assertSame(out, reused);
+		reused.beginArray();
+		reused.value("\u00e4");
+		reused.endArray();
+		reused.flush();
+		pool.release(reused);
+		byte[] bytes = buffer.toByteArray();
+		assertEquals("[\"\u00e4\"]", new String(bytes, StandardCharsets.UTF_8));
+
+		Utf8JsonReader in = pool.utf8Reader("[1, 2".getBytes(StandardCharsets.UTF_8), 0, 5);
+		in.beginArray();
+		assertEquals(1, in.nextInt());
+		pool.release(in);
+
+		Utf8JsonReader fromBytes = pool.utf8Reader(bytes, 0, bytes.length);
+		assertSame(in, fromBytes);
+		assertEquals("\u00e4", readString(fromBytes));
+		pool.release(fromBytes);
+
+		Utf8JsonReader fromStream = pool.utf8Reader(new ByteArrayInputStream(bytes));
+		assertSame(in, fromStream);
+		assertEquals("\u00e4", readString(fromStream));
+		pool.release(fromStream);
+	}
+
+	public void testResetInMemory() throws IOException {
+		Utf8JsonWriter out = new Utf8JsonWriter();
+		out.beginArray();
+		out.value(1);
+		out.reset();
+		out.beginObject();
+		out.endObject();
+		assertEquals("{}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	public void testNoPathTracking() throws IOException {
+		for (JsonReader in : new JsonReader[] { new JsonReader(new StringR("{\"a\": [1, x]}")),
+			new Utf8JsonReader("{\"a\": [1, x]}".getBytes(StandardCharsets.UTF_8)) }) {
+			in.setTrackPath(false);
+			in.beginObject();
+			assertEquals("a", in.nextName());
+			in.beginArray();
+			assertEquals(1, in.nextInt());
+			assertEquals("$", in.getPath());
+			try {
+				in.nextInt();
+				fail("Unquoted string must be rejected.");
+			} catch (IOException ex) {
+				assertTrue(ex.getMessage(), ex.getMessage().contains("line 1 column 11 path $"));
+			}
+		}
+	}
+
+	public void testDefaultPool() {
+		JsonPool before = JsonPool.getDefault();
+		assertSame(JsonPool.NONE, before);
+		try {
+			JsonPool.setDefault(new ThreadLocalJsonPool());
+			JsonWriter first = JsonPool.getDefault().writer(new StringW());
+			JsonPool.getDefault().release(first);
+			assertSame(first, JsonPool.getDefault().writer(new StringW()));
+		} finally {
+			JsonPool.setDefault(before);
+		}
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		in.beginArray();
+		String result = in.nextString();
+		in.endArray();
+		return result;
+	}
+
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import de.haumacher.msgbuf.io.StringR;
+import de.haumacher.msgbuf.io.StringW;
+import de.haumacher.msgbuf.json.JsonName;
+import de.haumacher.msgbuf.json.JsonNames;
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.JsonToken;
+import de.haumacher.msgbuf.json.JsonWriter;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link Utf8JsonReader} and {@link Utf8JsonWriter}.
+ */
+@SuppressWarnings("javadoc")
+public class TestUtf8Json extends TestCase {
+
+	private static final String[] STRINGS = {
+		"",
+		"a",
+		"Hello world!",
+		"A string longer than eight bytes without special characters.",
+		"quote \" backslash \\ slash / tab \t newline \n return \r",
+		"control \u0001\u001f and html <a href='x'>&amp;</a>",
+		"\u00e4\u00f6\u00fc\u00df",
+		"mixed ASCII and \u00e4\u00f6\u00fc in a longer string \u20ac",
+		"surrogates \ud83d\ude00 \ud83c\udf89",
+		"separators \u2028 \u2029",
+	};
+
+	public void testWriteCompatible() throws IOException {
+		assertEquals(writeChars(false), writeBytes(false));
+		assertEquals(writeChars(true), writeBytes(true));
+	}
+
+	public void testWriteToStream() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		Utf8JsonWriter json = new Utf8JsonWriter(buffer);
+		write(json);
+		json.close();
+		assertEquals(writeChars(false), new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	public void testWriteNameTokens() throws IOException {
+		JsonName name = JsonName.of("\u00e4<name>");
+		for (boolean htmlSafe : new boolean[] { false, true }) {
+			StringW expected = new StringW();
+			JsonWriter plain = new JsonWriter(expected);
+			plain.setHtmlSafe(htmlSafe);
+			plain.beginObject();
+			plain.name(name.getName()).value(1);
+			plain.endObject();
+
+			Utf8JsonWriter tokens = new Utf8JsonWriter();
+			tokens.setHtmlSafe(htmlSafe);
+			tokens.beginObject();
+			tokens.name(name).value(1);
+			tokens.endObject();
+
+			assertEquals(expected.toString(), new String(tokens.toByteArray(), StandardCharsets.UTF_8));
+		}
+	}
+
+	public void testReadCompatible() throws IOException {
+		String document = writeChars(false);
+		byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+
+		String expected = dump(new JsonReader(new StringR(document)));
+		assertEquals(expected, dump(new Utf8JsonReader(bytes)));
+		assertEquals(expected, dump(new Utf8JsonReader(ByteBuffer.wrap(bytes))));
+		assertEquals(expected, dump(new Utf8JsonReader(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip())));
+		assertEquals(expected, dump(new JsonReader(bytes, 0, bytes.length)));
+		assertEquals(expected, dump(new Utf8JsonReader(new ByteArrayInputStream(bytes))));
+		assertEquals(expected, dump(new Utf8JsonReader(new ChunkedInputStream(bytes, 3))));
+	}
+
+	public void testReadStrings() throws IOException {
+		for (String value : STRINGS) {
+			byte[] bytes = ("[" + quote(value) + "]").getBytes(StandardCharsets.UTF_8);
+			assertEquals(value, readString(new Utf8JsonReader(bytes)));
+			assertEquals(value, readString(new Utf8JsonReader(new ChunkedInputStream(bytes, 1))));
+		}
+	}
+
+	public void testByteOrderMark() throws IOException {
+		byte[] bytes = "\ufeff[\"\u00e4\"]".getBytes(StandardCharsets.UTF_8);
+		assertEquals("\u00e4", readString(new Utf8JsonReader(bytes)));
+		assertEquals("\u00e4", readString(new Utf8JsonReader(new ChunkedInputStream(bytes, 1))));
+	}
+
+	public void testScanString() {
+		byte[] bytes = "abcdefgh\u00e4ijklmnopqrstuvwxyz0123456789".getBytes(StandardCharsets.UTF_8);
+		Utf8JsonReader in = new Utf8JsonReader(bytes);
+		for (char special : new char[] { '"', '\'', '\\', '\n' }) {
+			for (int n = 0; n < bytes.length; n++) {
+				byte[] input = bytes.clone();
+				input[n] = (byte) special;
+				char quote = special == '\'' ? '\'' : '"';
+				for (int start = 0; start <= n; start++) {
+					assertEquals(n, in.scanString(input, start, input.length, quote));
+				}
+				assertEquals(n, in.scanString(input, 0, n + 1, quote));
+				assertEquals(n, in.scanString(input, 0, n, quote));
+			}
+		}
+		assertEquals(bytes.length, in.scanString(bytes, 0, bytes.length, '"'));
+	}
+
+	public void testReadEscapes() throws IOException {
+		byte[] bytes = "[\"\\u00e4\\ud83d\\ude00\\n\u00f6\\\"\"]".getBytes(StandardCharsets.UTF_8);
+		assertEquals("\u00e4\ud83d\ude00\n\u00f6\"", readString(new Utf8JsonReader(bytes)));
+	}
+
+	public void testReadRange() throws IOException {
+		byte[] bytes = "xx[1, \"a\"]yy".getBytes(StandardCharsets.UTF_8);
+		Utf8JsonReader in = new Utf8JsonReader(bytes, 2, 8);
+		in.beginArray();
+		assertEquals(1, in.nextInt());
+		assertEquals("a", in.nextString());
+		in.endArray();
+		assertEquals(JsonToken.END_DOCUMENT, in.peek());
+	}
+
+	public void testLongString() throws IOException {
+		StringBuilder buffer = new StringBuilder();
+		for (int n = 0; n < 5000; n++) {
+			buffer.append(n % 7 == 0 ? "\u00e4" : "x");
+		}
+		String value = buffer.toString();
+
+		Utf8JsonWriter out = new Utf8JsonWriter();
+		out.beginArray();
+		out.value(value);
+		out.endArray();
+		byte[] bytes = out.toByteArray();
+
+		assertEquals(value, readString(new Utf8JsonReader(bytes)));
+		assertEquals(value, readString(new Utf8JsonReader(new ByteArrayInputStream(bytes))));
+	}
+
+	public void testNextName() throws IOException {
+		JsonNames names = JsonNames.of(new String[] { "x", "color", "\u00e4" }, new int[] { 1, 2, 3 });
+		byte[] bytes = "{\"x\": 1, \"other\": [true], \"color\": \"red\", \"\u00e4\": 2}".getBytes(StandardCharsets.UTF_8);
+		Utf8JsonReader in = new Utf8JsonReader(bytes);
+		in.beginObject();
+		assertEquals(1, in.nextName(names));
+		assertEquals("$.x", in.getPath());
+		assertEquals(1, in.nextInt());
+		assertEquals(JsonNames.UNKNOWN, in.nextName(names));
+		in.skipValue();
+		assertEquals(2, in.nextName(names));
+		assertEquals("red", in.nextString());
+		assertEquals(3, in.nextName(names));
+		assertEquals(2, in.nextInt());
+		in.endObject();
+	}
+
+	public void testLenient() throws IOException {
+		byte[] bytes = ")]}'\n{a: 'b', // comment\n c = [1;2], d: unquoted}".getBytes(StandardCharsets.UTF_8);
+		Utf8JsonReader in = new Utf8JsonReader(bytes);
+		in.setLenient(true);
+		assertEquals(dump(lenient(new JsonReader(new StringR(new String(bytes, StandardCharsets.UTF_8))))), dump(in));
+	}
+
+	public void testSyntaxError() throws IOException {
+		Utf8JsonReader in = new Utf8JsonReader("{\"a\" 1}".getBytes(StandardCharsets.UTF_8));
+		in.beginObject();
+		in.nextName();
+		try {
+			in.nextInt();
+			fail("Missing colon must be reported.");
+		} catch (IOException ex) {
+			assertTrue(ex.getMessage(), ex.getMessage().contains("line 1 column 7"));
+		}
+	}
+
+	public void testResetToCharacters() throws IOException {
+		Utf8JsonWriter out = new Utf8JsonWriter();
+		StringW chars = new StringW();
+		out.reset(chars);
+		write(out);
+		assertEquals(writeChars(false), chars.toString());
+		assertEquals(0, out.size());
+
+		out.reset();
+		write(out);
+		byte[] bytes = out.toByteArray();
+		assertEquals(writeChars(false), new String(bytes, StandardCharsets.UTF_8));
+
+		Utf8JsonReader in = new Utf8JsonReader(bytes);
+		String expected = dump(in);
+		in.reset(new StringR(chars.toString()));
+		assertEquals(expected, dump(in));
+		in.reset(bytes);
+		assertEquals(expected, dump(in));
+	}
+
+	private static JsonReader lenient(JsonReader in) {
+		in.setLenient(true);
+		return in;
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		in.beginArray();
+		String result = in.nextString();
+		in.endArray();
+		return result;
+	}
+
+	private static String quote(String value) throws IOException {
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.beginArray();
+		json.value(value);
+		json.endArray();
+		String array = buffer.toString();
+		return array.substring(1, array.length() - 1);
+	}
+
+	private static String writeChars(boolean htmlSafe) throws IOException {
+		StringW buffer = new StringW();
+		JsonWriter json = new JsonWriter(buffer);
+		json.setHtmlSafe(htmlSafe);
+		write(json);
+		return buffer.toString();
+	}
+
+	private static String writeBytes(boolean htmlSafe) throws IOException {
+		Utf8JsonWriter json = new Utf8JsonWriter();
+		json.setHtmlSafe(htmlSafe);
+		write(json);
+		return new String(json.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static void write(JsonWriter json) throws IOException {
+		json.setIndent("  ");
+		json.beginObject();
+		json.name("strings");
+		json.beginArray();
+		for (String value : STRINGS) {
+			json.value(value);
+		}
+		json.endArray();
+		json.name("numbers");
+		json.beginArray();
+		json.value(0);
+		json.value(-42);
+		json.value(Long.MAX_VALUE);
+		json.value(Long.MIN_VALUE);
+		json.value(3.5);
+		json.value(-1.25e-7);
+		json.value(1e300);
+		json.endArray();
+		json.name("\u00e4\"name");
+		json.beginObject();
+		json.name("t");
+		json.value(true);
+		json.name("f");
+		json.value(false);
+		json.name("n");
+		json.nullValue();
+		json.endObject();
+		json.endObject();
+	}
+
+	/**
+	 * Canonical representation of all tokens of the given reader.
+	 */
+	private static String dump(JsonReader in) throws IOException {
+		StringBuilder result = new StringBuilder();
+		dumpValue(result, in);
+		return result.toString();
+	}
+
+	private static void dumpValue(StringBuilder result, JsonReader in) throws IOException {
+		switch (in.peek()) {
+			case BEGIN_ARRAY:
+				result.append('[');
+				in.beginArray();
+				while (in.hasNext()) {
+					dumpValue(result, in);
+					result.append(',');
+				}
+				in.endArray();
+				result.append(']');
+				break;
+			case BEGIN_OBJECT:
+				result.append('{');
+				in.beginObject();
+				while (in.hasNext()) {
+					result.append(in.nextName()).append(':');
+					dumpValue(result, in);
+					result.append(',');
+				}
+				in.endObject();
+				result.append('}');
+				break;
+			case BOOLEAN:
+				result.append(in.nextBoolean());
+				break;
+			case NULL:
+				in.nextNull();
+				result.append("null");
+				break;
+			case NUMBER:
+				result.append(in.nextDouble());
+				break;
+			case STRING:
+				result.append('<').append(in.nextString()).append('>');
+				break;
+			default:
+				throw new AssertionError("Unexpected token: " + in.peek());
+		}
+	}
+
+	/**
+	 * {@link ByteArrayInputStream} delivering its contents in small chunks.
+	 */
+	private static class ChunkedInputStream extends ByteArrayInputStream {
+
+		private final int _chunkSize;
+
+		public ChunkedInputStream(byte[] buf, int chunkSize) {
+			super(buf);
+			_chunkSize = chunkSize;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, _chunkSize));
+		}
+
+	}
+
+}
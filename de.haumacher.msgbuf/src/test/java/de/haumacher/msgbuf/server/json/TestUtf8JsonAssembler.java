@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.server.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.haumacher.msgbuf.json.JsonReader;
+import de.haumacher.msgbuf.json.MalformedJsonException;
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link Utf8JsonAssembler}.
+ */
+@SuppressWarnings("javadoc")
+public class TestUtf8JsonAssembler extends TestCase {
+
+	private static final String INPUT = " {\"a\": \"x}\\\"]\", \"b\": [1, {\"c\": []}]}\n"
+		+ "[\"\\\\\", \"\u00e4\"]\r\n{}[{\"d\": \"{\"}]  ";
+
+	private static final List<String> EXPECTED = Arrays.asList("x}\"]", "\\", "", "{");
+
+	public void testChunks() throws IOException {
+		byte[] bytes = INPUT.getBytes(StandardCharsets.UTF_8);
+		for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+			List<String> result = new ArrayList<>();
+			Utf8JsonAssembler<String> assembler = new Utf8JsonAssembler<>(TestUtf8JsonAssembler::firstString, result::add);
+			for (int n = 0; n < bytes.length; n += chunkSize) {
+				assembler.feed(bytes, n, Math.min(chunkSize, bytes.length - n));
+			}
+			assembler.end();
+			assertEquals("Chunk size " + chunkSize, EXPECTED, result);
+		}
+	}
+
+	public void testByteBuffer() throws IOException {
+		List<String> result = new ArrayList<>();
+		Utf8JsonAssembler<String> assembler = new Utf8JsonAssembler<>(TestUtf8JsonAssembler::firstString, result::add);
+		ByteBuffer direct = ByteBuffer.allocateDirect(100);
+		direct.put("[\"a\"] [\"b".getBytes(StandardCharsets.UTF_8));
+		direct.flip();
+		assembler.feed(direct);
+		assertEquals(0, direct.remaining());
+		assertEquals(Arrays.asList("a"), result);
+		assertTrue(assembler.isPending());
+
+		assembler.feed(ByteBuffer.wrap("\"]".getBytes(StandardCharsets.UTF_8)));
+		assertFalse(assembler.isPending());
+		assertEquals(Arrays.asList("a", "b"), result);
+	}
+
+	public void testIncomplete() throws IOException {
+		Utf8JsonAssembler<String> assembler = new Utf8JsonAssembler<>(TestUtf8JsonAssembler::firstString, x -> fail());
+		assembler.feed("[\"]\"".getBytes(StandardCharsets.UTF_8), 0, 4);
+		try {
+			assembler.end();
+			fail("Incomplete document must be reported.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+	}
+
+	public void testTopLevelScalar() throws IOException {
+		Utf8JsonAssembler<String> assembler = new Utf8JsonAssembler<>(TestUtf8JsonAssembler::firstString, x -> fail());
+		try {
+			assembler.feed("42".getBytes(StandardCharsets.UTF_8), 0, 2);
+			fail("Scalar document must be rejected.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+	}
+
+	public void testTopLevelString() throws IOException {
+		List<String> result = new ArrayList<>();
+		Utf8JsonAssembler<String> assembler = new Utf8JsonAssembler<>(TestUtf8JsonAssembler::firstString, result::add);
+		byte[] bytes = "[\"a\"] \"b\" [\"c\"]".getBytes(StandardCharsets.UTF_8);
+		try {
+			assembler.feed(bytes, 0, bytes.length);
+			fail("String document must be rejected.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+		assertEquals(Arrays.asList("a"), result);
+	}
+
+	public void testMaxDocumentSize() throws IOException {
+		List<String> result = new ArrayList<>();
+		Utf8JsonAssembler<String> assembler = new Utf8JsonAssembler<>(TestUtf8JsonAssembler::firstString, result::add)
+			.setMaxDocumentSize(16);
+		byte[] small = "[\"0123456789\"]".getBytes(StandardCharsets.UTF_8);
+		assembler.feed(small, 0, small.length);
+		assertEquals(Arrays.asList("0123456789"), result);
+
+		byte[] chunk = "[\"0123456789".getBytes(StandardCharsets.UTF_8);
+		assembler.feed(chunk, 0, chunk.length);
+		try {
+			assembler.feed(chunk, 0, chunk.length);
+			fail("Oversized document must be rejected.");
+		} catch (MalformedJsonException ex) {
+			// Expected.
+		}
+	}
+
+	/**
+	 * Decodes the first string in a document, or the empty string, if there is none.
+	 */
+	private static String firstString(JsonReader in) throws IOException {
+		String result = null;
+		int depth = 0;
+		do {
+			switch (in.peek()) {
+				case BEGIN_ARRAY:
+					in.beginArray();
+					depth++;
+					break;
+				case BEGIN_OBJECT:
+					in.beginObject();
+					depth++;
+					break;
+				case END_ARRAY:
+					in.endArray();
+					depth--;
+					break;
+				case END_OBJECT:
+					in.endObject();
+					depth--;
+					break;
+				case NAME:
+					in.nextName();
+					break;
+				case STRING:
+					String value = in.nextString();
+					if (result == null) {
+						result = value;
+					}
+					break;
+				default:
+					in.skipValue();
+					break;
+			}
+		} while (depth > 0);
+		return result == null ? "" : result;
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Bernhard Haumacher et al. All Rights Reserved.
+ */
+package de.haumacher.msgbuf.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for {@link IntMap}.
+ */
+@SuppressWarnings("javadoc")
+public class TestIntMap extends TestCase {
+
+	public void testBasic() {
+		IntMap<String> map = new IntMap<>();
+		assertTrue(map.isEmpty());
+		assertNull(map.put(1, "a"));
+		assertNull(map.put(0, "zero"));
+		assertNull(map.put(-7, "minus"));
+		assertEquals("a", map.put(1, "b"));
+		assertEquals(3, map.size());
+
+		assertEquals("b", map.get(1));
+		assertEquals("zero", map.get(0));
+		assertEquals("minus", map.get(-7));
+		assertNull(map.get(2));
+		assertTrue(map.containsKey(0));
+		assertFalse(map.containsKey(2));
+
+		assertEquals("zero", map.remove(0));
+		assertNull(map.remove(0));
+		assertNull(map.remove(2));
+		assertEquals(2, map.size());
+
+		int[] keys = map.keys();
+		Arrays.sort(keys);
+		assertTrue(Arrays.equals(new int[] {-7, 1}, keys));
+
+		List<String> values = new ArrayList<>();
+		map.forEachValue(values::add);
+		assertEquals(2, values.size());
+		assertTrue(values.contains("b"));
+		assertTrue(values.contains("minus"));
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(1));
+	}
+
+	public void testNullValue() {
+		try {
+			new IntMap<String>().put(1, null);
+			fail("Null values must be rejected.");
+		} catch (NullPointerException ex) {
+			// Expected.
+		}
+	}
+
+	public void testCollidingKeys() {
+		// Keys with a stride as used for IDs of multiple participants, all colliding in small tables.
+		IntMap<Integer> map = new IntMap<>();
+		for (int n = 1; n <= 1000; n++) {
+			map.put(n << 16, n);
+		}
+		for (int n = 1; n <= 1000; n += 2) {
+			assertEquals(Integer.valueOf(n), map.remove(n << 16));
+		}
+		assertEquals(500, map.size());
+		for (int n = 1; n <= 1000; n++) {
+			assertEquals(n % 2 == 0 ? Integer.valueOf(n) : null, map.get(n << 16));
+		}
+	}
+
+	public void testStride() {
+		// IDs created by one of two participants.
+		IntMap<Integer> map = new IntMap<>();
+		for (int n = 0; n < 10000; n++) {
+			map.put(2 * n + 1, n);
+		}
+		for (int n = 0; n < 10000; n += 3) {
+			assertEquals(Integer.valueOf(n), map.remove(2 * n + 1));
+		}
+		for (int n = 0; n < 10000; n++) {
+			assertEquals(n % 3 == 0 ? null : Integer.valueOf(n), map.get(2 * n + 1));
+			assertNull(map.get(2 * n + 2));
+		}
+	}
+
+	public void testRandom() {
+		Random rnd = new Random(42);
+		IntMap<Integer> map = new IntMap<>();
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int n = 0; n < 100000; n++) {
+			int key = rnd.nextInt(2000) - 100;
+			if (rnd.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), map.remove(key));
+			} else {
+				assertEquals(expected.put(key, n), map.put(key, n));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		for (int key = -100; key < 1900; key++) {
+			assertEquals(expected.get(key), map.get(key));
+		}
+	}
+
+	public void testMapView() {
+		IntMap<String> map = new IntMap<>();
+		Map<Object, String> view = map.asMap();
+		view.put(3, "c");
+		map.put(4, "d");
+		assertEquals("c", map.get(3));
+		assertEquals("d", view.get(4));
+		assertNull(view.get("4"));
+		assertTrue(view.containsKey(3));
+
+		Map<Object, String> copy = new HashMap<>(view);
+		assertEquals(2, copy.size());
+		assertEquals("d", copy.get(4));
+
+		assertEquals("c", view.remove(3));
+		assertEquals(1, map.size());
+	}
+
+}